@@ -2,8 +2,10 @@ package com.pdiosquez.flight_booking_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class FlightBookingApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,20 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retry policy applied to booking operations that lose an optimistic locking race.
+ *
+ * @param maxAttempts    Total attempts, including the first one.
+ * @param initialBackoff Upper bound of the random wait before the first retry.
+ * @param maxBackoff     Upper bound of the random wait for any retry.
+ */
+@ConfigurationProperties(prefix = "booking.retry")
+public record BookingRetryProperties(
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10ms") Duration initialBackoff,
+        @DefaultValue("200ms") Duration maxBackoff
+) {}
@@ -0,0 +1,22 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process flight lock used by booking operations.
+ *
+ * @param strategy {@code none} to rely on the database only, {@code striped} for {@link StripedFlightLockStrategy}.
+ * @param stripes  Number of locks shared by all flights, rounded up to a power of two.
+ * @param fair     Whether waiting callers get the lock in arrival order.
+ * @param timeout  Maximum wait for a lock before the booking is rejected.
+ */
+@ConfigurationProperties(prefix = "booking.lock")
+public record FlightLockProperties(
+        @DefaultValue("none") String strategy,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("false") boolean fair,
+        @DefaultValue("500ms") Duration timeout
+) {}
@@ -0,0 +1,18 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import java.util.function.Supplier;
+
+/**
+ * In-process mutual exclusion between booking operations on the same flight.
+ * Selected with {@code booking.lock.strategy}.
+ */
+public interface FlightLockStrategy {
+
+    /**
+     * Runs the action while holding the lock of the given flight.
+     *
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.FlightBusyException
+     *         if the lock could not be taken in time.
+     */
+    <T> T withLock(Long flightId, Supplier<T> action);
+}
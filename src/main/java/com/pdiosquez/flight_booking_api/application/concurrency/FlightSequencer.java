@@ -0,0 +1,293 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingCancelledEvent;
+import com.pdiosquez.flight_booking_api.application.service.BookingCreatedEvent;
+import com.pdiosquez.flight_booking_api.application.service.WaitlistService;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.DomainException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightBusyException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer execution of booking commands for hot flights.
+ * Flights are hashed to a fixed number of partitions. Each partition has one thread that
+ * drains its bounded ring buffer in batches, keeps the {@link Flight} state of its flights
+ * in memory and runs every batch in one transaction before completing the callers' futures.
+ * Since only the partition thread changes its flights, admission needs no lock;
+ * the guarded seat update still protects against writers outside the sequencer.
+ * Seats are still taken and given back through the shared {@link SeatInventory}, so holds and
+ * batch bookings on the same flight see the sequencer's changes.
+ * A command rejected after it has already written to the batch rolls the batch back; the
+ * other commands then run again in a new one.
+ * Enabled with {@code booking.sequencer.enabled}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.sequencer", name = "enabled", havingValue = "true")
+public class FlightSequencer {
+
+    private final PassengerRepository passengerRepository;
+    private final FlightRepository flightRepository;
+    private final BookingRepository bookingRepository;
+    private final SeatInventory seatInventory;
+    private final TransactionOperations transactionOperations;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Partition[] partitions;
+
+    public FlightSequencer(PassengerRepository passengerRepository,
+                           FlightRepository flightRepository,
+                           BookingRepository bookingRepository,
+                           SeatInventory seatInventory,
+                           TransactionOperations transactionOperations,
+                           WaitlistService waitlistService,
+                           ApplicationEventPublisher eventPublisher,
+                           FlightSequencerProperties properties,
+                           MeterRegistry meterRegistry) {
+        if (properties.partitions() < 1 || properties.ringSize() < 1 || properties.maxBatch() < 1) {
+            throw new IllegalArgumentException("Sequencer partitions, ring size and batch size must be at least 1.");
+        }
+
+        this.passengerRepository = passengerRepository;
+        this.flightRepository = flightRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatInventory = seatInventory;
+        this.transactionOperations = transactionOperations;
+        this.waitlistService = waitlistService;
+        this.eventPublisher = eventPublisher;
+        this.partitions = new Partition[properties.partitions()];
+
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, properties, meterRegistry);
+        }
+    }
+
+    public CompletableFuture<Booking> createBooking(Long passengerId, Long flightId, LocalDateTime currentTime) {
+        return submit(flightId, flights -> reserve(flights, passengerId, flightId, currentTime));
+    }
+
+    public CompletableFuture<Void> cancelBooking(Long bookingId, Long flightId, LocalDateTime currentTime) {
+        return submit(flightId, flights -> {
+            cancel(flights, bookingId, flightId, currentTime);
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Partition partition : partitions) {
+            partition.stop();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Long flightId, Function<Map<Long, Flight>, T> action) {
+        DomainValidation.notNull(flightId, "Flight ID is required to sequence a booking command.");
+
+        Command<T> command = new Command<>(flightId, action, new CompletableFuture<>());
+        if (!partitionOf(flightId).ring.offer(command)) {
+            command.result().completeExceptionally(new FlightBusyException(flightId));
+        }
+        return command.result();
+    }
+
+    private Partition partitionOf(Long flightId) {
+        int hash = flightId.hashCode();
+        return partitions[Math.floorMod(hash ^ (hash >>> 16), partitions.length)];
+    }
+
+    private Booking reserve(Map<Long, Flight> flights, Long passengerId, Long flightId, LocalDateTime currentTime) {
+        Passenger passenger = passengerRepository.findById(passengerId)
+                .orElseThrow(() -> new PassengerNotFoundException(passengerId));
+
+        Flight flight = cachedFlight(flights, flightId);
+        flight.reserveSeat(currentTime, seatInventory);
+        if (!flightRepository.reserveSeat(flightId, currentTime)) {
+            // A rejection only fails this command, so the batch will not roll the seat back.
+            seatInventory.invalidate(flightId);
+            flights.remove(flightId);
+            throw new FlightOverbookedException(flightId);
+        }
+
+        return afterWrite(() -> {
+            Booking booking = Booking.create(passenger, flight, currentTime);
+            booking.assignSeat(flightRepository.assignSeat(flightId, currentTime));
+            Booking created = bookingRepository.save(booking);
+            eventPublisher.publishEvent(new BookingCreatedEvent(created.getId(), flightId, currentTime));
+            return created;
+        });
+    }
+
+    private Flight cachedFlight(Map<Long, Flight> flights, Long flightId) {
+        Flight flight = flights.get(flightId);
+        if (flight == null) {
+            flight = flightRepository.findById(flightId)
+                    .orElseThrow(() -> new FlightNotFoundException(flightId));
+            flights.put(flightId, flight);
+        }
+        return flight;
+    }
+
+    private void cancel(Map<Long, Flight> flights, Long bookingId, Long flightId, LocalDateTime currentTime) {
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException(bookingId));
+
+        booking.cancel(currentTime, seatInventory);
+        afterWrite(() -> {
+            eventPublisher.publishEvent(new BookingCancelledEvent(bookingId, flightId, currentTime));
+            return waitlistService.promoteNext(booking.getFlight(), currentTime, seatInventory);
+        });
+        flights.remove(flightId);
+    }
+
+    /**
+     * Runs the rest of a command that has already changed state in the batch. A rejection from
+     * here on aborts the batch instead of failing only the command, so its writes are not committed.
+     */
+    private static <T> T afterWrite(Supplier<T> step) {
+        try {
+            return step.get();
+        } catch (DomainException rejection) {
+            throw new CommandAbortedException(rejection);
+        }
+    }
+
+    /**
+     * A command rejected after writing to the batch, carrying the rejection for its caller.
+     */
+    private static final class CommandAbortedException extends RuntimeException {
+        private CommandAbortedException(DomainException rejection) {
+            super(rejection);
+        }
+    }
+
+    private record Command<T>(Long flightId,
+                              Function<Map<Long, Flight>, T> action,
+                              CompletableFuture<T> result) {
+
+        /**
+         * Runs the command and returns how to complete its caller once the batch commits.
+         * Business rejections only fail this command; any other failure aborts the batch.
+         */
+        Runnable apply(Map<Long, Flight> flights) {
+            try {
+                T value = action.apply(flights);
+                return () -> result.complete(value);
+            } catch (DomainException rejection) {
+                return () -> result.completeExceptionally(rejection);
+            }
+        }
+    }
+
+    private final class Partition implements Runnable {
+        private final BlockingQueue<Command<?>> ring;
+        private final Map<Long, Flight> flights = new HashMap<>();
+        private final int maxBatch;
+        private final DistributionSummary batchSizes;
+        private final Thread thread;
+
+        private Partition(int index, FlightSequencerProperties properties, MeterRegistry meterRegistry) {
+            this.ring = new ArrayBlockingQueue<>(properties.ringSize());
+            this.maxBatch = properties.maxBatch();
+            this.batchSizes = DistributionSummary.builder("booking.sequencer.batch.size")
+                    .tag("partition", String.valueOf(index))
+                    .register(meterRegistry);
+            Gauge.builder("booking.sequencer.queue", ring, BlockingQueue::size)
+                    .tag("partition", String.valueOf(index))
+                    .register(meterRegistry);
+            this.thread = Thread.ofPlatform()
+                    .name("flight-sequencer-" + index)
+                    .daemon()
+                    .start(this);
+        }
+
+        @Override
+        public void run() {
+            List<Command<?>> batch = new ArrayList<>(maxBatch);
+
+            while (true) {
+                try {
+                    batch.add(ring.take());
+                } catch (InterruptedException e) {
+                    failPending();
+                    return;
+                }
+                ring.drainTo(batch, maxBatch - 1);
+
+                process(batch);
+                batch.clear();
+            }
+        }
+
+        private void process(List<Command<?>> batch) {
+            List<Runnable> completions = new ArrayList<>(batch.size());
+
+            try {
+                transactionOperations.executeWithoutResult(status -> {
+                    for (Command<?> command : batch) {
+                        completions.add(command.apply(flights));
+                    }
+                });
+            } catch (CommandAbortedException aborted) {
+                // Every command before the aborted one left a completion behind.
+                Command<?> rejected = batch.get(completions.size());
+                List<Command<?>> others = new ArrayList<>(batch);
+                others.remove(completions.size());
+
+                batch.forEach(command -> flights.remove(command.flightId()));
+                rejected.result().completeExceptionally(aborted.getCause());
+                if (!others.isEmpty()) {
+                    process(others);
+                }
+                return;
+            } catch (RuntimeException failure) {
+                for (Command<?> command : batch) {
+                    flights.remove(command.flightId());
+                    command.result().completeExceptionally(failure);
+                }
+                return;
+            }
+
+            batchSizes.record(batch.size());
+            completions.forEach(Runnable::run);
+        }
+
+        private void failPending() {
+            List<Command<?>> pending = new ArrayList<>();
+            ring.drainTo(pending);
+            pending.forEach(command -> command.result().completeExceptionally(
+                    new IllegalStateException("Flight sequencer stopped before handling the command.")));
+        }
+
+        private void stop() {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the single-writer booking mode.
+ *
+ * @param enabled    Whether booking commands go through {@link FlightSequencer}.
+ * @param partitions Number of event loops, each owning the flights hashed to it.
+ * @param ringSize   Capacity of each partition buffer; commands beyond it are rejected.
+ * @param maxBatch   Maximum number of commands handled in one transaction.
+ */
+@ConfigurationProperties(prefix = "booking.sequencer")
+public record FlightSequencerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int partitions,
+        @DefaultValue("1024") int ringSize,
+        @DefaultValue("64") int maxBatch
+) {}
@@ -0,0 +1,162 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for a large number of timeouts.
+ * Each timeout is hashed into a fixed ring of buckets by the tick of its deadline.
+ * Timeouts more than one revolution away keep a count of remaining rounds.
+ * Scheduling and cancelling are O(1). A tick only visits the bucket under the hand,
+ * so its cost does not depend on how many timeouts are outstanding elsewhere in the wheel.
+ * Any thread may schedule or cancel, but {@link #advance} must be driven by a single thread.
+ *
+ * @param <T> The payload handed back when a timeout fires.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final Queue<Timeout<T>>[] buckets;
+    private final int mask;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private long nextTick = -1;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Timing wheel tick and size must be at least 1.");
+        }
+
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new Queue[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Registers a payload to fire once the wheel is advanced past the deadline.
+     * Deadlines are rounded up to the next tick.
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, outstanding);
+        outstanding.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Moves the hand up to the given time, firing every timeout whose deadline has passed.
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        if (nextTick < 0) {
+            nextTick = targetTick;
+        }
+
+        while (nextTick <= targetTick) {
+            transferPending();
+            expire(buckets[(int) (nextTick & mask)], onExpired);
+            nextTick++;
+        }
+    }
+
+    /**
+     * Number of scheduled timeouts that have neither fired nor been cancelled.
+     */
+    public int size() {
+        return outstanding.get();
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long deadlineTick = Math.max(ceilDiv(timeout.deadlineMillis, tickMillis), nextTick);
+            timeout.remainingRounds = (deadlineTick - nextTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout<T>> bucket, Consumer<T> onExpired) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                if (timeout.fire()) {
+                    onExpired.accept(timeout.payload);
+                }
+            }
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    /**
+     * Handle of a scheduled payload, used to cancel it before it fires.
+     */
+    public static final class Timeout<T> {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int FIRED = 2;
+
+        private final T payload;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final AtomicInteger outstanding;
+        private long remainingRounds;
+
+        private Timeout(T payload, long deadlineMillis, AtomicInteger outstanding) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.outstanding = outstanding;
+        }
+
+        /**
+         * @return {@code true} if the timeout was cancelled, {@code false} if it had already fired.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            outstanding.decrementAndGet();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        private boolean fire() {
+            if (!state.compareAndSet(WAITING, FIRED)) {
+                return false;
+            }
+            outstanding.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Takes no in-process lock and leaves concurrent bookings to the database guards.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.lock", name = "strategy", havingValue = "none", matchIfMissing = true)
+public class NoFlightLockStrategy implements FlightLockStrategy {
+
+    @Override
+    public <T> T withLock(Long flightId, Supplier<T> action) {
+        return action.get();
+    }
+}
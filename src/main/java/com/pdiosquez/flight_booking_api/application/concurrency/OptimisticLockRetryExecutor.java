@@ -0,0 +1,92 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.domain.exception.BookingConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action in its own transaction and starts over in a new one when it
+ * fails with an optimistic locking conflict.
+ * Waits use full jitter exponential backoff, and after {@code maxAttempts}
+ * the conflict is reported as a {@link BookingConflictException}.
+ * Conflicts, retries and exhausted attempts are published as Micrometer counters
+ * tagged with the operation name.
+ */
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionOperations transactionOperations;
+    private final BookingRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryExecutor(TransactionOperations transactionOperations,
+                                       BookingRetryProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        return retry(operation, () -> transactionOperations.execute(status -> action.get()));
+    }
+
+    /**
+     * Runs like {@link #execute(String, Supplier)}, holding the lock of the flight around each
+     * attempt's transaction. The lock is given up while waiting to retry, so other callers
+     * of the flight are not held behind the backoff.
+     */
+    public <T> T execute(String operation, FlightLockStrategy flightLock, Long flightId, Supplier<T> action) {
+        return retry(operation, () -> flightLock.withLock(flightId,
+                () -> transactionOperations.execute(status -> action.get())));
+    }
+
+    public void execute(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T retry(String operation, Supplier<T> attempt) {
+        for (int number = 1; ; number++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException conflict) {
+                counter("booking.optimistic.conflicts", operation).increment();
+
+                if (number >= properties.maxAttempts()) {
+                    counter("booking.optimistic.exhausted", operation).increment();
+                    throw new BookingConflictException(number);
+                }
+
+                counter("booking.optimistic.retries", operation).increment();
+                backOff(number);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        long ceiling = Math.min(
+                properties.maxBackoff().toMillis(),
+                properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20)
+        );
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a booking operation.", e);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
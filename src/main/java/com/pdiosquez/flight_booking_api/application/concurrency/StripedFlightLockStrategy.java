@@ -0,0 +1,100 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.domain.exception.FlightBusyException;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link FlightLockStrategy} backed by a fixed array of {@link ReentrantLock} stripes.
+ * A flight always maps to the same stripe, so bookings on one flight run one at a time
+ * while bookings on flights of different stripes never wait for each other.
+ * Each stripe publishes a {@code booking.lock.wait} timer with a percentile histogram
+ * and a {@code booking.lock.queue} gauge with the number of waiting threads,
+ * both tagged with the stripe index.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.lock", name = "strategy", havingValue = "striped")
+public class StripedFlightLockStrategy implements FlightLockStrategy {
+
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final Counter timeouts;
+    private final long timeoutNanos;
+    private final int mask;
+
+    public StripedFlightLockStrategy(FlightLockProperties properties, MeterRegistry meterRegistry) {
+        if (properties.stripes() < 1) {
+            throw new IllegalArgumentException("Flight lock stripes must be at least 1.");
+        }
+
+        int size = properties.stripes() == 1 ? 1 : Integer.highestOneBit(properties.stripes() - 1) << 1;
+
+        this.stripes = new ReentrantLock[size];
+        this.waitTimers = new Timer[size];
+        this.mask = size - 1;
+        this.timeoutNanos = properties.timeout().toNanos();
+        this.timeouts = meterRegistry.counter("booking.lock.timeouts");
+
+        for (int i = 0; i < size; i++) {
+            ReentrantLock lock = new ReentrantLock(properties.fair());
+            String stripe = String.valueOf(i);
+
+            stripes[i] = lock;
+            waitTimers[i] = Timer.builder("booking.lock.wait")
+                    .tag("stripe", stripe)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            Gauge.builder("booking.lock.queue", lock, ReentrantLock::getQueueLength)
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public <T> T withLock(Long flightId, Supplier<T> action) {
+        DomainValidation.notNull(flightId, "Flight ID is required to take a flight lock.");
+
+        int stripe = stripeOf(flightId);
+        ReentrantLock lock = stripes[stripe];
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the lock of flight %d.".formatted(flightId), e);
+        } finally {
+            waitTimers[stripe].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            timeouts.increment();
+            throw new FlightBusyException(flightId);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    int stripeOf(Long flightId) {
+        int hash = flightId.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
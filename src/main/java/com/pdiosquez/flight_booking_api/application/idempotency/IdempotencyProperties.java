@@ -0,0 +1,25 @@
+package com.pdiosquez.flight_booking_api.application.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of idempotency keys.
+ *
+ * @param store        {@code memory} for a store local to this instance, {@code jpa} to keep keys in the database.
+ * @param ttl          How long a key is remembered after it was first used.
+ * @param maxKeys      Most keys the in-memory store keeps; the oldest are dropped first.
+ * @param waitTimeout  Longest a duplicate waits for the original request before it is rejected,
+ *                     and the lease of a claim in the database store.
+ * @param pollInterval Pause between reads while the database store waits for a result.
+ */
+@ConfigurationProperties(prefix = "booking.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("memory") String store,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("5s") Duration waitTimeout,
+        @DefaultValue("50ms") Duration pollInterval
+) {}
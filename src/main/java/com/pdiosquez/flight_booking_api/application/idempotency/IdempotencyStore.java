@@ -0,0 +1,42 @@
+package com.pdiosquez.flight_booking_api.application.idempotency;
+
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Remembers which request first used an idempotency key and what it produced,
+ * so a retried request gets the original result instead of running again.
+ * Keys are forgotten once their time to live has passed.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Tries to take the key for a new request.
+     *
+     * @param fingerprint Identifies the request, so a key cannot be replayed for a different one.
+     * @return {@code true} if the caller now owns the key and must run the request,
+     *         {@code false} if another request holds it.
+     */
+    boolean claim(String key, String fingerprint, LocalDateTime currentTime);
+
+    /**
+     * Waits for the request holding the key to finish.
+     *
+     * @return The ID of the result, or empty if the key was released or the request is still running after {@code timeout}.
+     * @throws IdempotencyKeyReusedException If the key belongs to a different request.
+     */
+    Optional<Long> awaitResult(String key, String fingerprint, LocalDateTime currentTime, Duration timeout);
+
+    /**
+     * Records the result of the request owning the key and wakes up its duplicates.
+     */
+    void complete(String key, Long resultId);
+
+    /**
+     * Forgets the key after its request failed, so the next attempt runs again.
+     */
+    void release(String key);
+}
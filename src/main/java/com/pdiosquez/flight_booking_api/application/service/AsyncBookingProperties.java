@@ -0,0 +1,22 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of asynchronous booking submission.
+ *
+ * @param queueCapacity Most attempts waiting to run; further submissions are rejected.
+ * @param workers       Number of threads draining the queue.
+ * @param maxWait       Longest a client can long-poll an attempt in one request.
+ * @param retention     How long a finished attempt can still be polled.
+ */
+@ConfigurationProperties(prefix = "booking.async")
+public record AsyncBookingProperties(
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("4") int workers,
+        @DefaultValue("30s") Duration maxWait,
+        @DefaultValue("10m") Duration retention
+) {}
@@ -0,0 +1,174 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.exception.BookingAttemptNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingQueueFullException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues bookings so HTTP requests do not wait on locks and the database.
+ * Submissions go into a bounded queue drained by a fixed set of worker threads, each calling
+ * {@link BookingService#createBooking}. A full queue rejects the submission right away.
+ * Finished attempts can be polled until their retention has passed.
+ * Publishes the {@code booking.async.queue} gauge, the {@code booking.async.wait} timer for the
+ * time spent queued, and the {@code booking.async.drained} timer, tagged with the outcome,
+ * whose count gives the drain rate.
+ */
+@Service
+public class AsyncBookingService {
+
+    private final BookingService bookingService;
+    private final AsyncBookingProperties properties;
+    private final BlockingQueue<BookingAttempt> queue;
+    private final Map<String, BookingAttempt> attempts = new ConcurrentHashMap<>();
+    private final Queue<BookingAttempt> finished = new ConcurrentLinkedQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Timer waitTimer;
+    private final MeterRegistry meterRegistry;
+
+    public AsyncBookingService(BookingService bookingService,
+                               AsyncBookingProperties properties,
+                               MeterRegistry meterRegistry) {
+        if (properties.queueCapacity() < 1 || properties.workers() < 1) {
+            throw new IllegalArgumentException("The booking queue needs room for one attempt and at least one worker.");
+        }
+
+        this.bookingService = bookingService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.waitTimer = Timer.builder("booking.async.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("booking.async.queue", queue, BlockingQueue::size).register(meterRegistry);
+
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.add(Thread.ofPlatform()
+                    .name("booking-async-" + i)
+                    .daemon()
+                    .start(this::drain));
+        }
+    }
+
+    /**
+     * @throws BookingQueueFullException If the queue has no room left.
+     */
+    public BookingAttempt submit(Long passengerId, Long flightId, LocalDateTime currentTime) {
+        DomainValidation.notNull(passengerId, "Passenger ID is required to create a booking.");
+        DomainValidation.notNull(flightId, "Flight ID is required to create a booking.");
+        DomainValidation.notNull(currentTime, "Current time is required to create a booking.");
+        purgeFinished(currentTime);
+
+        BookingAttempt attempt = new BookingAttempt(passengerId, flightId, currentTime);
+        attempts.put(attempt.getId(), attempt);
+
+        if (!queue.offer(attempt)) {
+            attempts.remove(attempt.getId());
+            throw new BookingQueueFullException(properties.queueCapacity());
+        }
+        return attempt;
+    }
+
+    public BookingAttempt findAttempt(String attemptId) {
+        return Optional.ofNullable(attempts.get(attemptId))
+                .orElseThrow(() -> new BookingAttemptNotFoundException(attemptId));
+    }
+
+    /**
+     * Completes with the attempt once it has finished, or after {@code wait} with the attempt still pending.
+     * The wait is capped at the configured maximum.
+     */
+    public CompletableFuture<BookingAttempt> awaitAttempt(String attemptId, Duration wait) {
+        BookingAttempt attempt = findAttempt(attemptId);
+        Duration bounded = wait.compareTo(properties.maxWait()) > 0 ? properties.maxWait() : wait;
+
+        return attempt.result()
+                .handle((booking, error) -> attempt)
+                .completeOnTimeout(attempt, Math.max(0, bounded.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    public int queuedAttempts() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            BookingAttempt attempt;
+            try {
+                attempt = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            waitTimer.record(System.nanoTime() - attempt.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            run(attempt);
+        }
+    }
+
+    /**
+     * The booking is made at the time the worker runs it, not when it was submitted, so an attempt
+     * that waited in the queue past departure is rejected.
+     * The drain is recorded before the attempt completes, so whoever waits on it sees the metric.
+     */
+    private void run(BookingAttempt attempt) {
+        long start = System.nanoTime();
+        Booking booking = null;
+        RuntimeException failure = null;
+
+        try {
+            booking = bookingService.createBooking(
+                    attempt.getPassengerId(), attempt.getFlightId(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        Timer.builder("booking.async.drained")
+                .tag("outcome", failure == null ? "succeeded" : "failed")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (failure == null) {
+            attempt.succeed(booking, LocalDateTime.now());
+        } else {
+            attempt.fail(failure, LocalDateTime.now());
+        }
+        finished.add(attempt);
+    }
+
+    /**
+     * Attempts finish roughly in completion order, so expired ones are found at the head of the queue.
+     */
+    private void purgeFinished(LocalDateTime currentTime) {
+        LocalDateTime cutoff = currentTime.minus(properties.retention());
+
+        BookingAttempt oldest;
+        while ((oldest = finished.peek()) != null && oldest.getCompletedAt().isBefore(cutoff)) {
+            if (finished.remove(oldest)) {
+                attempts.remove(oldest.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+/**
+ * One booking asked for in a batch.
+ */
+public record BatchBookingItem(
+        Long passengerId,
+        Long flightId
+) {}
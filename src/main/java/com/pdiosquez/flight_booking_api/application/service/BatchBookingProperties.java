@@ -0,0 +1,14 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of batch bookings.
+ *
+ * @param maxItems Largest number of bookings accepted in one batch.
+ */
+@ConfigurationProperties(prefix = "booking.batch")
+public record BatchBookingProperties(
+        @DefaultValue("500") int maxItems
+) {}
@@ -0,0 +1,29 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+
+/**
+ * Outcome of one item of a batch: either the created booking or the error that rejected it.
+ *
+ * @param index Position of the item in the batch.
+ */
+public record BatchBookingResult(
+        int index,
+        Long passengerId,
+        Long flightId,
+        Booking booking,
+        RuntimeException error
+) {
+
+    static BatchBookingResult created(int index, BatchBookingItem item, Booking booking) {
+        return new BatchBookingResult(index, item.passengerId(), item.flightId(), booking, null);
+    }
+
+    static BatchBookingResult failed(int index, BatchBookingItem item, RuntimeException error) {
+        return new BatchBookingResult(index, item.passengerId(), item.flightId(), null, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
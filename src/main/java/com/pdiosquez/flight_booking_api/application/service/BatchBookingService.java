@@ -0,0 +1,198 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightLockStrategy;
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightSequencer;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.DomainException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many bookings in one call and reports the outcome of every item.
+ * Items are grouped by flight and each group runs in its own transaction, so a failed group
+ * never undoes the others. Passengers and flights are loaded in bulk up front, each group
+ * takes all its seats with one guarded update and saves its bookings as one batch.
+ * An item rejected by the domain, such as one for a full flight, fails on its own.
+ */
+@Service
+public class BatchBookingService {
+
+    private final BookingRepository bookingRepository;
+    private final PassengerRepository passengerRepository;
+    private final FlightRepository flightRepository;
+    private final SeatInventory seatInventory;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final FlightLockStrategy flightLock;
+    private final FlightSequencer sequencer;
+    private final BatchBookingProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BatchBookingService(BookingRepository bookingRepository,
+                               PassengerRepository passengerRepository,
+                               FlightRepository flightRepository,
+                               SeatInventory seatInventory,
+                               OptimisticLockRetryExecutor retryExecutor,
+                               FlightLockStrategy flightLock,
+                               ObjectProvider<FlightSequencer> sequencer,
+                               BatchBookingProperties properties,
+                               ApplicationEventPublisher eventPublisher) {
+        this.bookingRepository = bookingRepository;
+        this.passengerRepository = passengerRepository;
+        this.flightRepository = flightRepository;
+        this.seatInventory = seatInventory;
+        this.retryExecutor = retryExecutor;
+        this.flightLock = flightLock;
+        this.sequencer = sequencer.getIfAvailable();
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @return One result per item, in the order the items were given.
+     */
+    public List<BatchBookingResult> createBookings(List<BatchBookingItem> items, LocalDateTime currentTime) {
+        validate(items, currentTime);
+
+        BatchBookingResult[] results = new BatchBookingResult[items.size()];
+        if (sequencer != null) {
+            sequence(items, currentTime, results);
+            return Arrays.asList(results);
+        }
+
+        Map<Long, List<Integer>> itemsByFlight = new LinkedHashMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            itemsByFlight.computeIfAbsent(items.get(index).flightId(), id -> new ArrayList<>()).add(index);
+        }
+
+        Map<Long, Passenger> passengers = byId(
+                passengerRepository.findAllById(items.stream().map(BatchBookingItem::passengerId).distinct().toList()),
+                Passenger::getId);
+        Map<Long, Flight> flights = byId(flightRepository.findAllById(itemsByFlight.keySet()), Flight::getId);
+
+        itemsByFlight.forEach((flightId, indexes) -> {
+            try {
+                Flight flight = Optional.ofNullable(flights.get(flightId))
+                        .orElseThrow(() -> new FlightNotFoundException(flightId));
+
+                List<BatchBookingResult> booked = bookFlight(flight, indexes, items, passengers, currentTime);
+                booked.forEach(result -> results[result.index()] = result);
+            } catch (RuntimeException groupFailure) {
+                indexes.forEach(index -> results[index] = BatchBookingResult.failed(index, items.get(index), groupFailure));
+            }
+        });
+
+        return Arrays.asList(results);
+    }
+
+    private List<BatchBookingResult> bookFlight(Flight prefetched,
+                                                List<Integer> indexes,
+                                                List<BatchBookingItem> items,
+                                                Map<Long, Passenger> passengers,
+                                                LocalDateTime currentTime) {
+        Long flightId = prefetched.getId();
+        // The bulk-loaded copy serves the first attempt; a retry re-reads the flight
+        // because the attempt that failed has already changed the copy.
+        AtomicReference<Flight> snapshot = new AtomicReference<>(prefetched);
+
+        return retryExecutor.execute("createBookings", flightLock, flightId, () -> {
+            Flight flight = Optional.ofNullable(snapshot.getAndSet(null))
+                    .or(() -> flightRepository.findById(flightId))
+                    .orElseThrow(() -> new FlightNotFoundException(flightId));
+
+            List<BatchBookingResult> results = new ArrayList<>();
+            List<Integer> granted = new ArrayList<>();
+
+            for (int index : indexes) {
+                BatchBookingItem item = items.get(index);
+                try {
+                    if (!passengers.containsKey(item.passengerId())) {
+                        throw new PassengerNotFoundException(item.passengerId());
+                    }
+                    flight.reserveSeat(currentTime, seatInventory);
+                    granted.add(index);
+                } catch (DomainException rejected) {
+                    results.add(BatchBookingResult.failed(index, item, rejected));
+                }
+            }
+
+            if (granted.isEmpty()) {
+                return results;
+            }
+            if (!flightRepository.reserveSeats(flightId, granted.size(), currentTime)) {
+                seatInventory.invalidate(flightId);
+                throw new OptimisticLockingFailureException(
+                        "Flight %d changed while booking a batch of %d seats.".formatted(flightId, granted.size()));
+            }
+
+            List<Booking> saved = bookingRepository.saveAll(granted.stream()
+                    .map(index -> Booking.create(passengers.get(items.get(index).passengerId()), flight, currentTime))
+                    .toList());
+
+            for (int i = 0; i < granted.size(); i++) {
+                int index = granted.get(i);
+                results.add(BatchBookingResult.created(index, items.get(index), saved.get(i)));
+                eventPublisher.publishEvent(new BookingCreatedEvent(saved.get(i).getId(), flightId, currentTime));
+            }
+            return results;
+        });
+    }
+
+    private void sequence(List<BatchBookingItem> items, LocalDateTime currentTime, BatchBookingResult[] results) {
+        List<CompletableFuture<Booking>> pending = items.stream()
+                .map(item -> sequencer.createBooking(item.passengerId(), item.flightId(), currentTime))
+                .toList();
+
+        for (int index = 0; index < items.size(); index++) {
+            try {
+                results[index] = BatchBookingResult.created(index, items.get(index), pending.get(index).join());
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime ? runtime : e;
+                results[index] = BatchBookingResult.failed(index, items.get(index), cause);
+            }
+        }
+    }
+
+    private void validate(List<BatchBookingItem> items, LocalDateTime currentTime) {
+        DomainValidation.notEmpty(items, "At least one booking is required in a batch.");
+        DomainValidation.notNull(currentTime, "Current time is required to create bookings.");
+
+        if (items.size() > properties.maxItems()) {
+            throw new IllegalArgumentException(
+                    "A batch cannot hold more than %d bookings.".formatted(properties.maxItems()));
+        }
+        for (BatchBookingItem item : items) {
+            DomainValidation.notNull(item, "Batch items cannot be null.");
+            DomainValidation.notNull(item.passengerId(), "Passenger ID is required to create a booking.");
+            DomainValidation.notNull(item.flightId(), "Flight ID is required to create a booking.");
+        }
+    }
+
+    private static <T> Map<Long, T> byId(List<T> aggregates, Function<T, Long> id) {
+        return aggregates.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A booking submitted for asynchronous processing, and its outcome once a worker has run it.
+ */
+public class BookingAttempt {
+    private final String id;
+    private final Long passengerId;
+    private final Long flightId;
+    private final LocalDateTime submittedAt;
+    private final long enqueuedNanos;
+    private final CompletableFuture<Booking> result = new CompletableFuture<>();
+    private volatile LocalDateTime completedAt;
+
+    public BookingAttempt(Long passengerId, Long flightId, LocalDateTime submittedAt) {
+        this.id = UUID.randomUUID().toString();
+        this.passengerId = passengerId;
+        this.flightId = flightId;
+        this.submittedAt = submittedAt;
+        this.enqueuedNanos = System.nanoTime();
+    }
+
+    void succeed(Booking booking, LocalDateTime currentTime) {
+        completedAt = currentTime;
+        result.complete(booking);
+    }
+
+    void fail(RuntimeException error, LocalDateTime currentTime) {
+        completedAt = currentTime;
+        result.completeExceptionally(error);
+    }
+
+    CompletableFuture<Booking> result() {
+        return result;
+    }
+
+    long enqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    public BookingAttemptStatus getStatus() {
+        if (!result.isDone()) {
+            return BookingAttemptStatus.PENDING;
+        }
+        return result.isCompletedExceptionally() ? BookingAttemptStatus.FAILED : BookingAttemptStatus.SUCCEEDED;
+    }
+
+    public Booking getBooking() {
+        return getStatus() == BookingAttemptStatus.SUCCEEDED ? result.join() : null;
+    }
+
+    public RuntimeException getError() {
+        if (getStatus() != BookingAttemptStatus.FAILED) {
+            return null;
+        }
+        return (RuntimeException) result.exceptionNow();
+    }
+
+    public String getId() { return id; }
+    public Long getPassengerId() { return passengerId; }
+    public Long getFlightId() { return flightId; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
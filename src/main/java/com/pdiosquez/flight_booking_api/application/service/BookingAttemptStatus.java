@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+public enum BookingAttemptStatus {
+    PENDING,
+    SUCCEEDED,
+    FAILED
+}
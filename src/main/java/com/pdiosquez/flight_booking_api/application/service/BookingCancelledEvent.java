@@ -0,0 +1,12 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published in the transaction that cancels a booking.
+ */
+public record BookingCancelledEvent(
+        Long bookingId,
+        Long flightId,
+        LocalDateTime cancelledAt
+) {}
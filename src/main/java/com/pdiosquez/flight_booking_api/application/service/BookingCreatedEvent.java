@@ -0,0 +1,12 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published in the transaction that creates a booking, whichever path created it.
+ */
+public record BookingCreatedEvent(
+        Long bookingId,
+        Long flightId,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,11 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+
+import java.util.List;
+
+/**
+ * One page of bookings. {@code nextCursor} is the value to pass as {@code after}
+ * for the following page, or {@code null} on the last page.
+ */
+public record BookingPage(List<Booking> bookings, Long nextCursor) {}
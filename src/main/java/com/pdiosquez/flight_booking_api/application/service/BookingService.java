@@ -1,71 +1,211 @@
 package com.pdiosquez.flight_booking_api.application.service;
 
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightLockStrategy;
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightSequencer;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
 import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
 import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 @Service
 public class BookingService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final BookingRepository bookingRepository;
     private final PassengerRepository passengerRepository;
     private final FlightRepository flightRepository;
+    private final SeatInventory seatInventory;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final FlightLockStrategy flightLock;
+    private final FlightSequencer sequencer;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookingService(BookingRepository bookingRepository,
                          PassengerRepository passengerRepository,
-                         FlightRepository flightRepository) {
+                         FlightRepository flightRepository,
+                         SeatInventory seatInventory,
+                         OptimisticLockRetryExecutor retryExecutor,
+                         FlightLockStrategy flightLock,
+                         ObjectProvider<FlightSequencer> sequencer,
+                         WaitlistService waitlistService,
+                         ApplicationEventPublisher eventPublisher) {
         this.bookingRepository = bookingRepository;
         this.flightRepository = flightRepository;
         this.passengerRepository = passengerRepository;
+        this.seatInventory = seatInventory;
+        this.retryExecutor = retryExecutor;
+        this.flightLock = flightLock;
+        this.sequencer = sequencer.getIfAvailable();
+        this.waitlistService = waitlistService;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
     public Booking createBooking(Long passengerId, Long flightId, LocalDateTime currentTime) {
         DomainValidation.notNull(passengerId, "Passenger ID is required to create a booking.");
         DomainValidation.notNull(flightId, "Flight ID is required to create a booking.");
         DomainValidation.notNull(currentTime, "Current time is required to create a booking.");
 
+        if (sequencer != null) {
+            return await(sequencer.createBooking(passengerId, flightId, currentTime));
+        }
+
+        return retryExecutor.execute("createBooking", flightLock, flightId,
+                () -> doCreateBooking(passengerId, flightId, currentTime));
+    }
+
+    /**
+     * Cancels the booking. If the flight has a waitlist, the freed seat goes to its next entry
+     * in the same transaction.
+     */
+    public void cancelBooking(Long bookingId, LocalDateTime currentTime) {
+        DomainValidation.notNull(currentTime, "Current time is required to cancel a booking.");
+
+        if (sequencer != null) {
+            Long flightId = findById(bookingId).getFlight().getId();
+            await(sequencer.cancelBooking(bookingId, flightId, currentTime));
+            return;
+        }
+
+        retryExecutor.execute("cancelBooking",
+                () -> doCancelBooking(bookingId, currentTime));
+    }
+
+    /**
+     * Gives the seat of the booking back to the seat map of its flight, keeping the booking itself.
+     */
+    public void releaseSeat(Long bookingId) {
+        DomainValidation.notNull(bookingId, "Booking ID is required to release its seat.");
+
+        retryExecutor.execute("releaseSeat",
+                () -> findById(bookingId).releaseSeatAssignment());
+    }
+
+    private Booking doCreateBooking(Long passengerId, Long flightId, LocalDateTime currentTime) {
         Passenger passenger = passengerRepository.findById(passengerId)
                 .orElseThrow(() -> new PassengerNotFoundException(passengerId));
 
         Flight flight = flightRepository.findById(flightId)
                 .orElseThrow(() -> new FlightNotFoundException(flightId));
 
-        flight.reserveSeat(currentTime);
+        flight.reserveSeat(currentTime, seatInventory);
+        if (!flightRepository.reserveSeat(flightId, currentTime)) {
+            seatInventory.invalidate(flightId);
+            throw new FlightOverbookedException(flightId);
+        }
 
-        Booking createdBooking = Booking.create(passenger, flight, currentTime);
+        Booking booking = Booking.create(passenger, flight, currentTime);
+        booking.assignSeat(flightRepository.assignSeat(flightId, currentTime));
+        Booking createdBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingCreatedEvent(createdBooking.getId(), flightId, currentTime));
 
-        return bookingRepository.save(createdBooking);
+        return createdBooking;
     }
 
-    @Transactional
-    public void cancelBooking(Long bookingId, LocalDateTime currentTime) {
-        DomainValidation.notNull(currentTime, "Current time is required to cancel a booking.");
-
+    private void doCancelBooking(Long bookingId, LocalDateTime currentTime) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException(bookingId));
 
-        booking.cancel(currentTime);
+        booking.cancel(currentTime, seatInventory);
+        eventPublisher.publishEvent(new BookingCancelledEvent(bookingId, booking.getFlight().getId(), currentTime));
+        waitlistService.promoteNext(booking.getFlight(), currentTime, seatInventory);
+    }
+
+    /**
+     * Lists one page of the bookings matching the filter, in ID order.
+     * One booking more than the limit is read to tell whether another page follows.
+     *
+     * @param after The cursor of the previous page, or {@code null} for the first page.
+     */
+    public BookingPage findBookings(BookingFilter filter, Long after, int limit) {
+        DomainValidation.notNull(filter, "Booking filter cannot be null.");
+        validatePageLimit(limit);
+
+        return toPage(bookingRepository.findPage(filter, after, limit + 1), limit);
+    }
+
+    /**
+     * Lists one page of the booking history of the passenger, in ID order.
+     *
+     * @param after The cursor of the previous page, or {@code null} for the first page.
+     */
+    public BookingPage findPassengerBookings(Long passengerId, Long after, int limit) {
+        DomainValidation.notNull(passengerId, "Passenger ID is required to list its bookings.");
+        validatePageLimit(limit);
+        if (passengerRepository.findById(passengerId).isEmpty()) {
+            throw new PassengerNotFoundException(passengerId);
+        }
+
+        return toPage(bookingRepository.findByPassengerId(passengerId, after, limit + 1), limit);
+    }
+
+    private static void validatePageLimit(int limit) {
+        DomainValidation.isPositive(limit, "Page limit must be positive.");
+        DomainValidation.isGreaterOrEqualThan(MAX_PAGE_SIZE, limit,
+                "Page limit cannot exceed %d bookings.".formatted(MAX_PAGE_SIZE));
+    }
+
+    private static BookingPage toPage(List<Booking> bookings, int limit) {
+        if (bookings.size() <= limit) {
+            return new BookingPage(bookings, null);
+        }
+
+        List<Booking> page = bookings.subList(0, limit);
+        return new BookingPage(page, page.getLast().getId());
     }
 
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    /**
+     * Hands every booking after the given ID to the action, in ID order, as it is read.
+     *
+     * @param after The ID of the last booking already exported, or {@code null} to start from the first.
+     */
+    public void exportBookings(Long after, Consumer<Booking> action) {
+        DomainValidation.notNull(action, "Export action cannot be null.");
+        bookingRepository.forEachAfter(after, action);
+    }
+
+    /**
+     * Hands the confirmed bookings of the flight to the action, in booking order, as they are read.
+     */
+    public void forEachOnManifest(Long flightId, Consumer<Booking> action) {
+        DomainValidation.notNull(flightId, "Flight ID is required to read its manifest.");
+        DomainValidation.notNull(action, "Manifest action cannot be null.");
+        bookingRepository.forEachConfirmedOnFlight(flightId, action);
     }
 
     public Booking findById(Long bookingId) {
         return bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException(bookingId));
     }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -1,19 +1,32 @@
 package com.pdiosquez.flight_booking_api.application.service;
 
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailability;
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailabilityView;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+import com.pdiosquez.flight_booking_api.domain.search.FlightRouteIndex;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class FlightService {
 
     private final FlightRepository flightRepository;
+    private final FlightRouteIndex routeIndex;
+    private final FlightAvailabilityView availabilityView;
 
-    public FlightService(FlightRepository flightRepository) {
+    public FlightService(FlightRepository flightRepository,
+                         FlightRouteIndex routeIndex,
+                         FlightAvailabilityView availabilityView) {
         this.flightRepository = flightRepository;
+        this.routeIndex = routeIndex;
+        this.availabilityView = availabilityView;
     }
 
     public Flight create(String origin,
@@ -36,4 +49,36 @@ public class FlightService {
                 .findById(flightId)
                 .orElseThrow(() -> new FlightNotFoundException(flightId));
     }
+
+    /**
+     * Reads the availability of the flight from the read model, without loading the flight.
+     * It may trail the latest bookings by {@link #availabilityLag()}.
+     */
+    public FlightAvailability findAvailability(Long flightId) {
+        DomainValidation.notNull(flightId, "Flight ID is required to read its availability.");
+        return availabilityView.find(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+    }
+
+    public Duration availabilityLag() {
+        return availabilityView.lag();
+    }
+
+    /**
+     * Finds the flights of a route departing in the given window, served from the route index
+     * once it is loaded and from the store before that.
+     */
+    public List<Flight> search(FlightSearchCriteria criteria) {
+        DomainValidation.notNull(criteria, "Flight search criteria cannot be null.");
+        DomainValidation.notBlank(criteria.origin(), "Origin is required to search flights.");
+        DomainValidation.notBlank(criteria.destination(), "Destination is required to search flights.");
+        DomainValidation.isGreaterOrEqualThan(criteria.minSeats(), 0, "Minimum seats cannot be negative.");
+        if (criteria.from() != null && criteria.to() != null && criteria.from().isAfter(criteria.to())) {
+            throw new IllegalArgumentException("Departure window must not end before it starts.");
+        }
+
+        return routeIndex.isReady()
+                ? routeIndex.search(criteria)
+                : flightRepository.search(criteria);
+    }
 }
@@ -0,0 +1,82 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyStore;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyInProgressException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Creates bookings at most once per idempotency key.
+ * The first request with a key creates the booking; a duplicate waits for it and returns the same booking.
+ * A failed booking releases its key, so the client can retry it.
+ */
+@Service
+public class IdempotentBookingService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final BookingService bookingService;
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+
+    public IdempotentBookingService(BookingService bookingService,
+                                    IdempotencyStore idempotencyStore,
+                                    IdempotencyProperties properties) {
+        this.bookingService = bookingService;
+        this.idempotencyStore = idempotencyStore;
+        this.properties = properties;
+    }
+
+    /**
+     * @throws IdempotencyKeyInProgressException If the original request is still running after the wait timeout.
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException If the key was used for another passenger or flight.
+     */
+    public Booking createBooking(String idempotencyKey, Long passengerId, Long flightId, LocalDateTime currentTime) {
+        DomainValidation.notBlank(idempotencyKey, "Idempotency key cannot be blank.");
+        DomainValidation.notNull(passengerId, "Passenger ID is required to create a booking.");
+        DomainValidation.notNull(flightId, "Flight ID is required to create a booking.");
+        DomainValidation.notNull(currentTime, "Current time is required to create a booking.");
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency key cannot be longer than %d characters.".formatted(MAX_KEY_LENGTH));
+        }
+
+        String fingerprint = "%d:%d".formatted(passengerId, flightId);
+        long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+
+        while (true) {
+            if (idempotencyStore.claim(idempotencyKey, fingerprint, currentTime)) {
+                return createClaimed(idempotencyKey, passengerId, flightId, currentTime);
+            }
+
+            Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new IdempotencyKeyInProgressException(idempotencyKey);
+            }
+
+            Optional<Long> bookingId = idempotencyStore.awaitResult(idempotencyKey, fingerprint, currentTime, remaining);
+            if (bookingId.isPresent()) {
+                return bookingService.findById(bookingId.get());
+            }
+        }
+    }
+
+    private Booking createClaimed(String idempotencyKey, Long passengerId, Long flightId, LocalDateTime currentTime) {
+        Booking booking;
+        try {
+            booking = bookingService.createBooking(passengerId, flightId, currentTime);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(idempotencyKey);
+            throw e;
+        }
+
+        idempotencyStore.complete(idempotencyKey, booking.getId());
+        return booking;
+    }
+}
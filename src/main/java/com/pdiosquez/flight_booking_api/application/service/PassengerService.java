@@ -1,5 +1,6 @@
 package com.pdiosquez.flight_booking_api.application.service;
 
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
@@ -14,7 +15,15 @@ public class PassengerService {
         this.passengerRepository = passengerRepository;
     }
 
+    /**
+     * Registers a passenger, rejecting an email that is already taken before anything is written.
+     * The store still enforces the uniqueness for two registrations racing on the same email.
+     */
     public Passenger create(String name, String email) {
+        if (passengerRepository.findByEmail(email).isPresent()) {
+            throw new PassengerEmailAlreadyExistsException(Passenger.normalizeEmail(email));
+        }
+
         return passengerRepository.save(
                 Passenger.create(name, email)
         );
@@ -0,0 +1,22 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of timed seat holds.
+ *
+ * @param maxDuration      Longest hold a passenger can ask for.
+ * @param tick             Resolution of the expiration wheel; holds expire at most one tick late.
+ * @param wheelSize        Number of buckets of the expiration wheel, rounded up to a power of two.
+ * @param maxExpireBackoff Longest wait before trying again to expire a hold whose expiration keeps failing.
+ */
+@ConfigurationProperties(prefix = "booking.holds")
+public record SeatHoldProperties(
+        @DefaultValue("30m") Duration maxDuration,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("512") int wheelSize,
+        @DefaultValue("1m") Duration maxExpireBackoff
+) {}
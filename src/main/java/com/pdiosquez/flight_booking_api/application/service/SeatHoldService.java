@@ -0,0 +1,221 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.HashedTimingWheel;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.NoHeldSeatException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.SeatHoldRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two-phase booking: a seat is held for a few minutes and later confirmed into a {@link Booking}.
+ * Unconfirmed holds are expired by a {@link HashedTimingWheel} that the caller advances
+ * through {@link #expireDueHolds(LocalDateTime)}.
+ * An expiration that fails is logged, counted in {@code booking.holds.expire.failures}
+ * and put back on the wheel with an exponential backoff capped at {@code maxExpireBackoff},
+ * so a held seat is never left behind. When the flight has no held seat left to release,
+ * the seat counter is seeded again from the store and the hold is expired on its own.
+ */
+@Service
+public class SeatHoldService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldService.class);
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final PassengerRepository passengerRepository;
+    private final FlightRepository flightRepository;
+    private final BookingRepository bookingRepository;
+    private final SeatInventory seatInventory;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final SeatHoldProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel<Long> expirations;
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> failedExpirations = new ConcurrentHashMap<>();
+    private final Counter expireFailures;
+
+    public SeatHoldService(SeatHoldRepository seatHoldRepository,
+                           PassengerRepository passengerRepository,
+                           FlightRepository flightRepository,
+                           BookingRepository bookingRepository,
+                           SeatInventory seatInventory,
+                           OptimisticLockRetryExecutor retryExecutor,
+                           SeatHoldProperties properties,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.passengerRepository = passengerRepository;
+        this.flightRepository = flightRepository;
+        this.bookingRepository = bookingRepository;
+        this.seatInventory = seatInventory;
+        this.retryExecutor = retryExecutor;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.expirations = new HashedTimingWheel<>(properties.tick().toMillis(), properties.wheelSize());
+        this.expireFailures = meterRegistry.counter("booking.holds.expire.failures");
+    }
+
+    public SeatHold holdSeat(Long passengerId, Long flightId, Duration duration, LocalDateTime currentTime) {
+        DomainValidation.notNull(passengerId, "Passenger ID is required to hold a seat.");
+        DomainValidation.notNull(flightId, "Flight ID is required to hold a seat.");
+        DomainValidation.notNull(duration, "Hold duration is required to hold a seat.");
+        DomainValidation.notNull(currentTime, "Current time is required to hold a seat.");
+        DomainValidation.isGreaterOrEqualThan(properties.maxDuration().toMillis(), duration.toMillis(),
+                "Hold duration cannot exceed %d minutes.".formatted(properties.maxDuration().toMinutes()));
+
+        SeatHold seatHold = retryExecutor.execute("holdSeat",
+                () -> doHoldSeat(passengerId, flightId, duration, currentTime));
+
+        scheduleExpiration(seatHold);
+        return seatHold;
+    }
+
+    public Booking confirmHold(Long seatHoldId, LocalDateTime currentTime) {
+        DomainValidation.notNull(seatHoldId, "Seat hold ID is required to confirm a hold.");
+        DomainValidation.notNull(currentTime, "Current time is required to confirm a hold.");
+
+        Booking booking = retryExecutor.execute("confirmHold",
+                () -> doConfirmHold(seatHoldId, currentTime));
+
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(seatHoldId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        failedExpirations.remove(seatHoldId);
+        return booking;
+    }
+
+    /**
+     * Expires every hold whose deadline has passed. Meant to be called once per tick
+     * by a single thread.
+     */
+    public void expireDueHolds(LocalDateTime currentTime) {
+        expirations.advance(toMillis(currentTime), seatHoldId -> expire(seatHoldId, currentTime));
+    }
+
+    /**
+     * Puts the holds that are still active back on the wheel, e.g. after a restart.
+     */
+    public void scheduleActiveHolds() {
+        seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD)
+                .forEach(this::scheduleExpiration);
+    }
+
+    public int pendingExpirations() {
+        return expirations.size();
+    }
+
+    private SeatHold doHoldSeat(Long passengerId, Long flightId, Duration duration, LocalDateTime currentTime) {
+        Passenger passenger = passengerRepository.findById(passengerId)
+                .orElseThrow(() -> new PassengerNotFoundException(passengerId));
+
+        Flight flight = flightRepository.findById(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+
+        SeatHold seatHold = SeatHold.create(passenger, flight, currentTime, duration, seatInventory);
+        if (!flightRepository.holdSeat(flightId, currentTime)) {
+            seatInventory.invalidate(flightId);
+            throw new FlightOverbookedException(flightId);
+        }
+
+        return seatHoldRepository.save(seatHold);
+    }
+
+    private Booking doConfirmHold(Long seatHoldId, LocalDateTime currentTime) {
+        SeatHold seatHold = seatHoldRepository.findById(seatHoldId)
+                .orElseThrow(() -> new SeatHoldNotFoundException(seatHoldId));
+
+        Booking booking = seatHold.confirm(currentTime);
+        Long flightId = seatHold.getFlight().getId();
+        if (!flightRepository.confirmHeldSeat(flightId)) {
+            seatInventory.invalidate(flightId);
+            throw new NoHeldSeatException(flightId);
+        }
+        booking.assignSeat(flightRepository.assignSeat(flightId, currentTime));
+
+        seatHoldRepository.save(seatHold);
+        Booking created = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingCreatedEvent(created.getId(), flightId, currentTime));
+        return created;
+    }
+
+    private void expire(Long seatHoldId, LocalDateTime currentTime) {
+        timeouts.remove(seatHoldId);
+
+        try {
+            try {
+                retryExecutor.execute("expireHold", () -> doExpire(seatHoldId));
+            } catch (NoHeldSeatException noHeldSeat) {
+                retryExecutor.execute("expireHold", () -> doExpireWithoutRelease(seatHoldId));
+            }
+            failedExpirations.remove(seatHoldId);
+        } catch (RuntimeException failure) {
+            expireFailures.increment();
+            int failures = failedExpirations.merge(seatHoldId, 1, Integer::sum);
+            long backoff = Math.min(
+                    properties.maxExpireBackoff().toMillis(),
+                    properties.tick().toMillis() << Math.min(failures - 1, 20)
+            );
+            log.warn("Could not expire seat hold {}, retrying in {} ms.", seatHoldId, backoff, failure);
+            timeouts.put(seatHoldId, expirations.schedule(seatHoldId, toMillis(currentTime) + backoff));
+        }
+    }
+
+    private void doExpire(Long seatHoldId) {
+        seatHoldRepository.findById(seatHoldId).ifPresent(seatHold -> {
+            if (!seatHold.expire(seatInventory)) {
+                return;
+            }
+            Long flightId = seatHold.getFlight().getId();
+            if (!flightRepository.releaseHeldSeat(flightId)) {
+                seatInventory.invalidate(flightId);
+                throw new NoHeldSeatException(flightId);
+            }
+            seatHoldRepository.save(seatHold);
+        });
+    }
+
+    /**
+     * Expires a hold whose seat the flight no longer counts as held, e.g. after the store was
+     * changed outside this service. The seat counter was already dropped by {@link #doExpire}.
+     */
+    private void doExpireWithoutRelease(Long seatHoldId) {
+        seatHoldRepository.findById(seatHoldId).ifPresent(seatHold -> {
+            if (seatHold.expireWithoutRelease()) {
+                seatHoldRepository.save(seatHold);
+            }
+        });
+    }
+
+    private void scheduleExpiration(SeatHold seatHold) {
+        timeouts.put(seatHold.getId(), expirations.schedule(seatHold.getId(), toMillis(seatHold.getExpiresAt())));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
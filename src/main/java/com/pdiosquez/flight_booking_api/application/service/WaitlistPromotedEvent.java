@@ -0,0 +1,14 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a cancelled seat goes to the head of a flight's waitlist.
+ */
+public record WaitlistPromotedEvent(
+        Long entryId,
+        Long passengerId,
+        Long flightId,
+        Long bookingId,
+        LocalDateTime promotedAt
+) {}
@@ -0,0 +1,123 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.WaitlistRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Lets passengers wait for a seat on a full flight instead of retrying the booking.
+ * A cancellation calls {@link #promoteNext} in the same transaction that freed the seat, so the
+ * seat goes straight to the next entry and is never offered to other bookings in between.
+ * Each promotion publishes a {@link WaitlistPromotedEvent}.
+ */
+@Service
+public class WaitlistService {
+
+    private final WaitlistRepository waitlistRepository;
+    private final PassengerRepository passengerRepository;
+    private final FlightRepository flightRepository;
+    private final BookingRepository bookingRepository;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public WaitlistService(WaitlistRepository waitlistRepository,
+                           PassengerRepository passengerRepository,
+                           FlightRepository flightRepository,
+                           BookingRepository bookingRepository,
+                           OptimisticLockRetryExecutor retryExecutor,
+                           ApplicationEventPublisher eventPublisher) {
+        this.waitlistRepository = waitlistRepository;
+        this.passengerRepository = passengerRepository;
+        this.flightRepository = flightRepository;
+        this.bookingRepository = bookingRepository;
+        this.retryExecutor = retryExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public WaitlistEntry join(Long passengerId, Long flightId, int priority, LocalDateTime currentTime) {
+        DomainValidation.notNull(passengerId, "Passenger ID is required to join a waitlist.");
+        DomainValidation.notNull(flightId, "Flight ID is required to join a waitlist.");
+        DomainValidation.notNull(currentTime, "Current time is required to join a waitlist.");
+
+        Passenger passenger = passengerRepository.findById(passengerId)
+                .orElseThrow(() -> new PassengerNotFoundException(passengerId));
+        Flight flight = flightRepository.findById(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+
+        return waitlistRepository.save(WaitlistEntry.create(passenger, flight, priority, currentTime));
+    }
+
+    public void leave(Long entryId) {
+        DomainValidation.notNull(entryId, "Waitlist entry ID is required to leave a waitlist.");
+
+        retryExecutor.execute("leaveWaitlist", () -> {
+            WaitlistEntry entry = findById(entryId);
+            entry.withdraw();
+            waitlistRepository.save(entry);
+        });
+    }
+
+    public WaitlistEntry findById(Long entryId) {
+        return waitlistRepository.findById(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(entryId));
+    }
+
+    /**
+     * Gives a seat just freed on the flight to the next waiting entry, if there is one,
+     * together with the lowest free seat number of the flight.
+     * Must run in the transaction that freed the seat.
+     *
+     * @return The booking of the promoted entry.
+     */
+    public Optional<Booking> promoteNext(Flight flight, LocalDateTime currentTime) {
+        return promoteNext(flight, currentTime, entry -> entry.promote(flight, currentTime));
+    }
+
+    /**
+     * Promotes like {@link #promoteNext(Flight, LocalDateTime)}, taking the seat through the
+     * shared {@link SeatInventory}.
+     */
+    public Optional<Booking> promoteNext(Flight flight, LocalDateTime currentTime, SeatInventory seatInventory) {
+        return promoteNext(flight, currentTime, entry -> entry.promote(flight, currentTime, seatInventory));
+    }
+
+    private Optional<Booking> promoteNext(Flight flight,
+                                          LocalDateTime currentTime,
+                                          Function<WaitlistEntry, Booking> promotion) {
+        DomainValidation.notNull(flight, "Flight is required to promote a waitlist entry.");
+
+        return waitlistRepository.findNextWaiting(flight.getId()).map(entry -> {
+            Booking promoted = promotion.apply(entry);
+            promoted.assignSeat(flight.assignSeats(1, currentTime)[0]);
+            Booking booking = bookingRepository.save(promoted);
+            waitlistRepository.save(entry);
+
+            eventPublisher.publishEvent(new BookingCreatedEvent(booking.getId(), flight.getId(), currentTime));
+            eventPublisher.publishEvent(new WaitlistPromotedEvent(
+                    entry.getId(),
+                    entry.getPassenger().getId(),
+                    flight.getId(),
+                    booking.getId(),
+                    currentTime
+            ));
+            return booking;
+        });
+    }
+}
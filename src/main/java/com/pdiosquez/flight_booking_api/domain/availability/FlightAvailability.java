@@ -0,0 +1,21 @@
+package com.pdiosquez.flight_booking_api.domain.availability;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized availability of one flight. Seats left are the seats not sold yet;
+ * seats on hold still count as left until the hold is confirmed.
+ */
+public record FlightAvailability(
+        Long flightId,
+        String origin,
+        String destination,
+        LocalDateTime departureTime,
+        int capacity,
+        int seatsLeft
+) {
+
+    public FlightAvailability withSeatsLeft(int seatsLeft) {
+        return new FlightAvailability(flightId, origin, destination, departureTime, capacity, seatsLeft);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pdiosquez.flight_booking_api.domain.availability;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read model of flight availability, kept apart from the flight aggregates and
+ * updated after the bookings that change it have committed.
+ */
+public interface FlightAvailabilityView {
+
+    Optional<FlightAvailability> find(Long flightId);
+
+    /**
+     * @return How long the oldest change not yet reflected in the view has been waiting,
+     *         or {@link Duration#ZERO} when the view is up to date.
+     */
+    Duration lag();
+}
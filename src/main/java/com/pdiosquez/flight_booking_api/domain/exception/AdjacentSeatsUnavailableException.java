@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class AdjacentSeatsUnavailableException extends DomainException {
+    public AdjacentSeatsUnavailableException(Long flightId, int seats) {
+        super("Flight %d has no %d adjacent free seats.".formatted(flightId, seats));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class BookingAttemptNotFoundException extends ResourceNotFoundException {
+    public BookingAttemptNotFoundException(String attemptId) {
+        super("Booking attempt with ID %s not found.".formatted(attemptId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class BookingConflictException extends DomainException {
+    public BookingConflictException(int attempts) {
+        super("Booking operation could not be completed after %d attempts because the flight was modified concurrently. Please retry.".formatted(attempts));
+    }
+}
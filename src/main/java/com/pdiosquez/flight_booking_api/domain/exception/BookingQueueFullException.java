@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class BookingQueueFullException extends DomainException {
+    public BookingQueueFullException(int capacity) {
+        super("The booking queue is full (%d pending attempts). Please retry later.".formatted(capacity));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class BookingSeatNotAssignedException extends DomainException {
+    public BookingSeatNotAssignedException(Long bookingId) {
+        super("Booking %d has no seat assigned.".formatted(bookingId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class FlightBusyException extends DomainException {
+    public FlightBusyException(Long flightId) {
+        super("Flight %d is handling too many bookings at the moment. Please retry.".formatted(flightId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class FlightHasAvailableSeatsException extends DomainException {
+    public FlightHasAvailableSeatsException(Long flightId) {
+        super("Flight %d still has available seats and can be booked directly.".formatted(flightId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class IdempotencyKeyInProgressException extends DomainException {
+    public IdempotencyKeyInProgressException(String idempotencyKey) {
+        super("A request with idempotency key '%s' is still being processed. Please retry.".formatted(idempotencyKey));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class IdempotencyKeyReusedException extends DomainException {
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Idempotency key '%s' was already used for a different request.".formatted(idempotencyKey));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class NoHeldSeatException extends DomainException {
+    public NoHeldSeatException(Long flightId) {
+        super("Flight %d has no held seats to release or confirm.".formatted(flightId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class PassengerEmailAlreadyExistsException extends DomainException {
+    public PassengerEmailAlreadyExistsException(String email) {
+        super("A passenger with email %s already exists.".formatted(email));
+    }
+}
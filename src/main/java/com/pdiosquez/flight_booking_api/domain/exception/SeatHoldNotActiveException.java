@@ -0,0 +1,9 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+
+public class SeatHoldNotActiveException extends DomainException {
+    public SeatHoldNotActiveException(Long holdId, SeatHoldStatus status) {
+        super("Seat hold %d cannot be confirmed because it is %s.".formatted(holdId, status));
+    }
+}
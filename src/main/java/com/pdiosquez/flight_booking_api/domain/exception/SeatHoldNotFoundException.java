@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class SeatHoldNotFoundException extends ResourceNotFoundException {
+    public SeatHoldNotFoundException(Long id) {
+        super("Seat hold with ID %d not found.".formatted(id));
+    }
+}
@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class SeatNotAssignedException extends DomainException {
+    public SeatNotAssignedException(Long flightId, int seatNumber) {
+        super("Seat %d of flight %d is not assigned.".formatted(seatNumber, flightId));
+    }
+}
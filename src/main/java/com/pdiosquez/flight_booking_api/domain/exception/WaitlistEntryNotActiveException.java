@@ -0,0 +1,9 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+
+public class WaitlistEntryNotActiveException extends DomainException {
+    public WaitlistEntryNotActiveException(Long entryId, WaitlistStatus status) {
+        super("Waitlist entry %d is no longer waiting because it is %s.".formatted(entryId, status));
+    }
+}
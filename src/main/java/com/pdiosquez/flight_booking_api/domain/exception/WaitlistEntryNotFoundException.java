@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.exception;
+
+public class WaitlistEntryNotFoundException extends ResourceNotFoundException {
+    public WaitlistEntryNotFoundException(Long id) {
+        super("Waitlist entry with ID %d not found.".formatted(id));
+    }
+}
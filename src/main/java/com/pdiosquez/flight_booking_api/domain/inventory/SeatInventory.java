@@ -0,0 +1,33 @@
+package com.pdiosquez.flight_booking_api.domain.inventory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+
+/**
+ * Shared seat counter per flight, used to coordinate concurrent reservations
+ * that work on different copies of the same {@link Flight}.
+ * A seat counts as taken while it is occupied or on hold.
+ * Implementations must never let the number of taken seats exceed the flight capacity.
+ */
+public interface SeatInventory {
+
+    /**
+     * Tries to take one seat of the given flight.
+     *
+     * @return {@code true} if a seat was taken, {@code false} if the flight is full.
+     */
+    boolean tryReserve(Flight flight);
+
+    /**
+     * Tries to give back one seat of the given flight.
+     *
+     * @return {@code true} if a seat was released, {@code false} if no seat was taken.
+     */
+    boolean tryRelease(Flight flight);
+
+    /**
+     * Forgets what is known about the seats of the flight, e.g. after the store rejected a seat
+     * change the inventory allowed. The next call seeds it again from the flight copy it is given.
+     */
+    default void invalidate(Long flightId) {
+    }
+}
@@ -2,6 +2,8 @@ package com.pdiosquez.flight_booking_api.domain.model;
 
 import com.pdiosquez.flight_booking_api.domain.exception.BookingAlreadyCancelledException;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingCancellationWindowClosedException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingSeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
 
 import java.time.LocalDateTime;
@@ -13,8 +15,9 @@ public class Booking {
     private final Flight flight;
     private BookingStatus status;
     private final LocalDateTime createdAt;
+    private Integer seatNumber;
 
-    private Booking(Long id, Passenger passenger, Flight flight, BookingStatus status, LocalDateTime createdAt) {
+    private Booking(Long id, Passenger passenger, Flight flight, BookingStatus status, LocalDateTime createdAt, Integer seatNumber) {
         DomainValidation.notNull(passenger, "Passenger is required for a booking.");
         DomainValidation.notNull(flight, "Flight is required for a booking.");
         DomainValidation.notNull(status, "Booking status cannot be null.");
@@ -25,15 +28,50 @@ public class Booking {
         this.flight = flight;
         this.status = status;
         this.createdAt = createdAt;
+        this.seatNumber = seatNumber;
     }
 
     public static Booking create(Passenger passenger, Flight flight, LocalDateTime currentTime) {
-        return new Booking(null, passenger, flight, BookingStatus.CONFIRMED, currentTime);
+        return new Booking(null, passenger, flight, BookingStatus.CONFIRMED, currentTime, null);
     }
 
     public static Booking fromPersistence(Long id, Passenger passenger, Flight flight, BookingStatus status, LocalDateTime createdAt) {
+        return fromPersistence(id, passenger, flight, status, createdAt, null);
+    }
+
+    /**
+     * Restores a persisted booking including its seat. A {@code null} seat number means no seat is assigned.
+     */
+    public static Booking fromPersistence(Long id, Passenger passenger, Flight flight, BookingStatus status, LocalDateTime createdAt, Integer seatNumber) {
         DomainValidation.notNull(id, "Booking ID is required for persistence reconstruction.");
-        return new Booking(id, passenger, flight, status, createdAt);
+        return new Booking(id, passenger, flight, status, createdAt, seatNumber);
+    }
+
+    /**
+     * Records the seat the flight assigned to this booking in its seat map.
+     */
+    public void assignSeat(int seatNumber) {
+        validateBookingIsActive();
+        if (this.seatNumber != null) {
+            throw new IllegalStateException("Booking %d already has seat %d.".formatted(id, this.seatNumber));
+        }
+
+        this.seatNumber = seatNumber;
+    }
+
+    /**
+     * Gives the seat of the booking back to the seat map of the flight. The booking keeps its place
+     * on the flight, only without a seat number.
+     *
+     * @throws BookingSeatNotAssignedException If the booking has no seat.
+     */
+    public void releaseSeatAssignment() {
+        if (seatNumber == null) {
+            throw new BookingSeatNotAssignedException(id);
+        }
+
+        flight.releaseSeatAssignment(seatNumber);
+        seatNumber = null;
     }
 
     /**
@@ -43,7 +81,7 @@ public class Booking {
      * 2. The flight must not have departed yet.
      * Side effects:
      * - Changes booking status to CANCELLED.
-     * - Releases the seat in the associated Flight.
+     * - Releases the seat in the associated Flight, and its seat number if it has one.
      *
      * @param currentTime The time at which the cancellation is requested.
      * @throws BookingAlreadyCancelledException If booking is already canceled.
@@ -55,9 +93,33 @@ public class Booking {
         validateBookingIsActive();
         validateFlightHasNotDeparted(currentTime);
         flight.releaseSeat(currentTime);
+        releaseAssignedSeat();
+        this.status = BookingStatus.CANCELLED;
+    }
+
+    /**
+     * Cancels the booking like {@link #cancel(LocalDateTime)}, releasing the seat
+     * through the shared {@link SeatInventory}.
+     *
+     * @param currentTime The time at which the cancellation is requested.
+     * @param seatInventory The inventory that tracks the flight seats.
+     */
+    public void cancel(LocalDateTime currentTime, SeatInventory seatInventory) {
+        DomainValidation.notNull(currentTime, "Current time is required for cancellation.");
+
+        validateBookingIsActive();
+        validateFlightHasNotDeparted(currentTime);
+        flight.releaseSeat(currentTime, seatInventory);
+        releaseAssignedSeat();
         this.status = BookingStatus.CANCELLED;
     }
 
+    private void releaseAssignedSeat() {
+        if (seatNumber != null) {
+            releaseSeatAssignment();
+        }
+    }
+
     private void validateBookingIsActive() {
         if (this.status == BookingStatus.CANCELLED) {
             throw new BookingAlreadyCancelledException(this.id);
@@ -75,6 +137,7 @@ public class Booking {
     public Flight getFlight() { return flight; }
     public BookingStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public Integer getSeatNumber() { return seatNumber; }
 
     @Override
     public boolean equals(Object o) {
@@ -96,6 +159,7 @@ public class Booking {
                 ", flight=" + flight +
                 ", status=" + status +
                 ", createdAt=" + createdAt +
+                ", seatNumber=" + seatNumber +
                 '}';
     }
 }
\ No newline at end of file
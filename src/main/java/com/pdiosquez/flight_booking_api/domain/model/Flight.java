@@ -1,12 +1,18 @@
 package com.pdiosquez.flight_booking_api.domain.model;
 
+import com.pdiosquez.flight_booking_api.domain.exception.AdjacentSeatsUnavailableException;
 import com.pdiosquez.flight_booking_api.domain.exception.EmptyFlightSeatReleaseException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightAlreadyDepartedException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.NoHeldSeatException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
 
 public class Flight {
     private final Long id;
@@ -14,29 +20,62 @@ public class Flight {
     private final String destination;
     private final int capacity;
     private int occupiedSeats;
+    private int heldSeats;
     private final LocalDateTime departureTime;
+    private final Long version;
+    private final SeatMap seatMap;
 
-    private Flight(Long id, String origin, String destination, int capacity, int occupiedSeats, LocalDateTime departureTime) {
+    private Flight(Long id, String origin, String destination, int capacity, int occupiedSeats, int heldSeats, LocalDateTime departureTime, Long version, SeatMap seatMap) {
         DomainValidation.notBlank(origin, "Origin cannot be blank");
         DomainValidation.notBlank(destination, "Destination cannot be blank");
         DomainValidation.isPositive(capacity, "Capacity must be positive");
         DomainValidation.notNull(departureTime, "Departure time cannot be null");
         DomainValidation.isGreaterOrEqualThan(capacity, occupiedSeats, "Occupied seats cannot exceed capacity");
+        DomainValidation.isGreaterOrEqualThan(heldSeats, 0, "Held seats cannot be negative");
+        DomainValidation.isGreaterOrEqualThan(capacity, occupiedSeats + heldSeats, "Occupied and held seats cannot exceed capacity");
         this.id = id;
         this.origin = origin;
         this.destination = destination;
         this.capacity = capacity;
         this.occupiedSeats = occupiedSeats;
+        this.heldSeats = heldSeats;
         this.departureTime = departureTime;
+        this.version = version;
+        this.seatMap = seatMap == null ? SeatMap.empty(capacity) : seatMap;
+        if (this.seatMap.getCapacity() != capacity) {
+            throw new IllegalArgumentException("Seat map must match the capacity");
+        }
     }
 
     public static Flight create(String origin, String destination, int capacity, LocalDateTime departureTime) {
-        return new Flight(null, origin, destination, capacity, 0, departureTime);
+        return new Flight(null, origin, destination, capacity, 0, 0, departureTime, null, null);
     }
 
     public static Flight fromPersistence(Long id, String origin, String destination, int capacity, int occupiedSeats, LocalDateTime departureTime) {
+        return fromPersistence(id, origin, destination, capacity, occupiedSeats, departureTime, null);
+    }
+
+    /**
+     * Restores a persisted flight together with the version it was read at,
+     * so the persistence layer can detect concurrent modifications when it is saved back.
+     */
+    public static Flight fromPersistence(Long id, String origin, String destination, int capacity, int occupiedSeats, LocalDateTime departureTime, Long version) {
+        return fromPersistence(id, origin, destination, capacity, occupiedSeats, 0, departureTime, version);
+    }
+
+    /**
+     * Restores a persisted flight including the seats currently on hold.
+     */
+    public static Flight fromPersistence(Long id, String origin, String destination, int capacity, int occupiedSeats, int heldSeats, LocalDateTime departureTime, Long version) {
+        return fromPersistence(id, origin, destination, capacity, occupiedSeats, heldSeats, departureTime, version, null);
+    }
+
+    /**
+     * Restores a persisted flight including its seat map. A {@code null} seat map means no seat is assigned.
+     */
+    public static Flight fromPersistence(Long id, String origin, String destination, int capacity, int occupiedSeats, int heldSeats, LocalDateTime departureTime, Long version, SeatMap seatMap) {
         DomainValidation.notNull(id, "ID is required for persisted flight");
-        return new Flight(id, origin, destination, capacity, occupiedSeats, departureTime);
+        return new Flight(id, origin, destination, capacity, occupiedSeats, heldSeats, departureTime, version, seatMap);
     }
 
     public void reserveSeat(LocalDateTime currentTime) {
@@ -55,8 +94,113 @@ public class Flight {
         occupiedSeats--;
     }
 
+    /**
+     * Reserves a seat checking capacity against the shared {@link SeatInventory},
+     * so concurrent callers holding other copies of this flight cannot oversell it.
+     */
+    public void reserveSeat(LocalDateTime currentTime, SeatInventory seatInventory) {
+        DomainValidation.notNull(currentTime, "Current time is required");
+        DomainValidation.notNull(seatInventory, "Seat inventory is required");
+        validateDepartureTime(currentTime);
+        validateCapacity();
+
+        if (!seatInventory.tryReserve(this)) {
+            throw new FlightOverbookedException(this.id);
+        }
+        occupiedSeats++;
+    }
+
+    /**
+     * Releases a seat and gives it back to the shared {@link SeatInventory}.
+     */
+    public void releaseSeat(LocalDateTime currentTime, SeatInventory seatInventory) {
+        DomainValidation.notNull(currentTime, "Current time is required");
+        DomainValidation.notNull(seatInventory, "Seat inventory is required");
+        validateDepartureTime(currentTime);
+        validateOccupiedSeats();
+
+        if (!seatInventory.tryRelease(this)) {
+            throw new EmptyFlightSeatReleaseException(this.id);
+        }
+        occupiedSeats--;
+    }
+
+    /**
+     * Puts one seat on hold. A held seat is not occupied yet, but it is no longer available
+     * until the hold is confirmed or released.
+     */
+    public void holdSeat(LocalDateTime currentTime, SeatInventory seatInventory) {
+        DomainValidation.notNull(currentTime, "Current time is required");
+        DomainValidation.notNull(seatInventory, "Seat inventory is required");
+        validateDepartureTime(currentTime);
+        validateCapacity();
+
+        if (!seatInventory.tryReserve(this)) {
+            throw new FlightOverbookedException(this.id);
+        }
+        heldSeats++;
+    }
+
+    /**
+     * Gives a held seat back, e.g. when its hold expires.
+     */
+    public void releaseHeldSeat(SeatInventory seatInventory) {
+        DomainValidation.notNull(seatInventory, "Seat inventory is required");
+        validateHeldSeats();
+
+        if (!seatInventory.tryRelease(this)) {
+            throw new EmptyFlightSeatReleaseException(this.id);
+        }
+        heldSeats--;
+    }
+
+    /**
+     * Turns a held seat into an occupied one. The seat was already taken from the
+     * {@link SeatInventory} when it was held.
+     */
+    public void confirmHeldSeat() {
+        validateHeldSeats();
+
+        heldSeats--;
+        occupiedSeats++;
+    }
+
+    /**
+     * Assigns the lowest run of {@code count} adjacent free seats in the seat map.
+     * The seat map only records which seats are assigned; the occupancy counters still decide
+     * whether the flight has room.
+     *
+     * @return The numbers of the assigned seats, in order.
+     * @throws AdjacentSeatsUnavailableException If no run of that many free seats is left.
+     */
+    public int[] assignSeats(int count, LocalDateTime currentTime) {
+        DomainValidation.notNull(currentTime, "Current time is required");
+        DomainValidation.isPositive(count, "Number of seats must be positive");
+        validateDepartureTime(currentTime);
+
+        OptionalInt first;
+        while ((first = seatMap.firstFreeSeats(count)).isPresent()) {
+            int firstSeat = first.getAsInt();
+            if (seatMap.tryAssign(firstSeat, count)) {
+                return IntStream.range(firstSeat, firstSeat + count).toArray();
+            }
+        }
+        throw new AdjacentSeatsUnavailableException(this.id, count);
+    }
+
+    /**
+     * Frees an assigned seat in the seat map.
+     *
+     * @throws SeatNotAssignedException If the seat is not assigned.
+     */
+    public void releaseSeatAssignment(int seatNumber) {
+        if (!seatMap.release(seatNumber)) {
+            throw new SeatNotAssignedException(this.id, seatNumber);
+        }
+    }
+
     public int availableSeats() {
-        return capacity - occupiedSeats;
+        return capacity - occupiedSeats - heldSeats;
     }
 
     private void validateDepartureTime(LocalDateTime currentTime) {
@@ -66,11 +210,17 @@ public class Flight {
     }
 
     private void validateCapacity() {
-        if (occupiedSeats >= capacity) {
+        if (occupiedSeats + heldSeats >= capacity) {
             throw new FlightOverbookedException(this.id);
         }
     }
 
+    private void validateHeldSeats() {
+        if (heldSeats <= 0) {
+            throw new NoHeldSeatException(this.id);
+        }
+    }
+
     private void validateOccupiedSeats() {
         if (occupiedSeats <= 0) {
             throw new EmptyFlightSeatReleaseException(this.id);
@@ -82,7 +232,10 @@ public class Flight {
     public String getDestination() { return destination; }
     public int getCapacity() { return capacity; }
     public int getOccupiedSeats() { return occupiedSeats; }
+    public int getHeldSeats() { return heldSeats; }
     public LocalDateTime getDepartureTime() { return departureTime; }
+    public Long getVersion() { return version; }
+    public SeatMap getSeatMap() { return seatMap; }
 
     @Override
     public boolean equals(Object o) {
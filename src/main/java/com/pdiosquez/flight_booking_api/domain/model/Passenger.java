@@ -1,6 +1,7 @@
 package com.pdiosquez.flight_booking_api.domain.model;
 
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import java.util.Locale;
 import java.util.Objects;
 
 public class Passenger {
@@ -21,7 +22,7 @@ public class Passenger {
     }
 
     public static Passenger create(String name, String email) {
-        return new Passenger(null, name, email);
+        return new Passenger(null, name, normalizeEmail(email));
     }
 
     public static Passenger fromPersistence(Long id, String name, String email) {
@@ -29,6 +30,13 @@ public class Passenger {
         return new Passenger(id, name, email);
     }
 
+    /**
+     * Brings an email to the form passengers are stored and looked up by: trimmed and lower case.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
+    }
+
     public Long getId() {
         return id;
     }
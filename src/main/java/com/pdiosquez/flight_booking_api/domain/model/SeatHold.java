@@ -0,0 +1,139 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A seat kept aside for a passenger for a limited time.
+ * The hold either becomes a {@link Booking} when confirmed before it expires,
+ * or gives its seat back to the flight when it expires.
+ */
+public class SeatHold {
+    private final Long id;
+    private final Passenger passenger;
+    private final Flight flight;
+    private SeatHoldStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime expiresAt;
+    private final Long version;
+
+    private SeatHold(Long id, Passenger passenger, Flight flight, SeatHoldStatus status, LocalDateTime createdAt, LocalDateTime expiresAt, Long version) {
+        DomainValidation.notNull(passenger, "Passenger is required for a seat hold.");
+        DomainValidation.notNull(flight, "Flight is required for a seat hold.");
+        DomainValidation.notNull(status, "Seat hold status cannot be null.");
+        DomainValidation.notNull(createdAt, "Created date cannot be null.");
+        DomainValidation.notNull(expiresAt, "Expiration date cannot be null.");
+
+        this.id = id;
+        this.passenger = passenger;
+        this.flight = flight;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.version = version;
+    }
+
+    /**
+     * Holds a seat of the flight for the given duration.
+     *
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException If no seat is available.
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.FlightAlreadyDepartedException If the flight has departed.
+     */
+    public static SeatHold create(Passenger passenger, Flight flight, LocalDateTime currentTime, Duration duration, SeatInventory seatInventory) {
+        DomainValidation.notNull(flight, "Flight is required for a seat hold.");
+        DomainValidation.notNull(currentTime, "Current time is required to hold a seat.");
+        DomainValidation.notNull(duration, "Hold duration is required.");
+        DomainValidation.isGreaterThan(duration.toMillis(), 0, "Hold duration must be positive.");
+
+        flight.holdSeat(currentTime, seatInventory);
+        return new SeatHold(null, passenger, flight, SeatHoldStatus.HELD, currentTime, currentTime.plus(duration), null);
+    }
+
+    /**
+     * Restores a persisted hold together with the version it was read at, so a confirmation
+     * and an expiration racing on the same hold cannot both be saved.
+     */
+    public static SeatHold fromPersistence(Long id, Passenger passenger, Flight flight, SeatHoldStatus status, LocalDateTime createdAt, LocalDateTime expiresAt, Long version) {
+        DomainValidation.notNull(id, "Seat hold ID is required for persistence reconstruction.");
+        return new SeatHold(id, passenger, flight, status, createdAt, expiresAt, version);
+    }
+
+    /**
+     * Turns the hold into a confirmed booking.
+     *
+     * @throws SeatHoldNotActiveException If the hold was already confirmed, or has expired.
+     */
+    public Booking confirm(LocalDateTime currentTime) {
+        DomainValidation.notNull(currentTime, "Current time is required to confirm a seat hold.");
+
+        if (status != SeatHoldStatus.HELD) {
+            throw new SeatHoldNotActiveException(id, status);
+        }
+        if (isExpired(currentTime)) {
+            throw new SeatHoldNotActiveException(id, SeatHoldStatus.EXPIRED);
+        }
+
+        flight.confirmHeldSeat();
+        status = SeatHoldStatus.CONFIRMED;
+        return Booking.create(passenger, flight, currentTime);
+    }
+
+    /**
+     * Releases the held seat if the hold is still active.
+     *
+     * @return {@code true} if the hold expired now, {@code false} if it was already confirmed or expired.
+     */
+    public boolean expire(SeatInventory seatInventory) {
+        if (status != SeatHoldStatus.HELD) {
+            return false;
+        }
+
+        flight.releaseHeldSeat(seatInventory);
+        status = SeatHoldStatus.EXPIRED;
+        return true;
+    }
+
+    /**
+     * Expires the hold without giving a seat back, for a hold whose flight no longer
+     * counts a held seat for it.
+     *
+     * @return {@code true} if the hold expired now, {@code false} if it was already confirmed or expired.
+     */
+    public boolean expireWithoutRelease() {
+        if (status != SeatHoldStatus.HELD) {
+            return false;
+        }
+
+        status = SeatHoldStatus.EXPIRED;
+        return true;
+    }
+
+    public boolean isExpired(LocalDateTime currentTime) {
+        return !currentTime.isBefore(expiresAt);
+    }
+
+    public Long getId() { return id; }
+    public Passenger getPassenger() { return passenger; }
+    public Flight getFlight() { return flight; }
+    public SeatHoldStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public Long getVersion() { return version; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SeatHold seatHold)) return false;
+        return Objects.equals(id, seatHold.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,269 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Which seats of a flight are assigned, one bit per seat packed in words of 64 seats.
+ * Seats are numbered from 1 to the capacity. Every change is a compare-and-set of the words involved,
+ * so callers sharing one map never assign the same seat twice. Searches scan a whole word at a time.
+ */
+public final class SeatMap {
+
+    private static final int SEATS_PER_WORD = Long.SIZE;
+
+    private final int capacity;
+    private final AtomicLongArray words;
+
+    private SeatMap(int capacity, long[] words) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray(words);
+    }
+
+    public static SeatMap empty(int capacity) {
+        DomainValidation.isPositive(capacity, "Capacity must be positive");
+        return new SeatMap(capacity, new long[wordsFor(capacity)]);
+    }
+
+    /**
+     * Restores a map written by {@link #toBytes()}. A missing map means no seat is assigned.
+     */
+    public static SeatMap fromBytes(int capacity, byte[] bytes) {
+        SeatMap seatMap = empty(capacity);
+        if (bytes == null) {
+            return seatMap;
+        }
+        DomainValidation.isGreaterOrEqualThan(bytesFor(capacity), bytes.length, "Seat map is larger than the capacity");
+
+        ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOf(bytes, seatMap.words.length() * Long.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < seatMap.words.length(); i++) {
+            seatMap.words.set(i, buffer.getLong() & seatMap.validSeats(i));
+        }
+        return seatMap;
+    }
+
+    /**
+     * @return One bit per seat, seat 1 being the lowest bit of the first byte.
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length() * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < words.length(); i++) {
+            buffer.putLong(words.get(i));
+        }
+        return Arrays.copyOf(buffer.array(), bytesFor(capacity));
+    }
+
+    public boolean isAssigned(int seatNumber) {
+        int seat = indexOf(seatNumber);
+        return (words.get(seat / SEATS_PER_WORD) & bit(seat)) != 0;
+    }
+
+    /**
+     * @return {@code true} if the seat was free and is now assigned, {@code false} if it was already assigned.
+     */
+    public boolean tryAssign(int seatNumber) {
+        return tryAssign(seatNumber, 1);
+    }
+
+    /**
+     * Assigns {@code count} adjacent seats starting at {@code firstSeatNumber}, all of them or none.
+     *
+     * @return {@code true} if every seat was free and is now assigned.
+     */
+    public boolean tryAssign(int firstSeatNumber, int count) {
+        DomainValidation.isPositive(count, "Number of seats must be positive");
+        int first = indexOf(firstSeatNumber);
+        indexOf(firstSeatNumber + count - 1);
+
+        int seat = first;
+        while (seat < first + count) {
+            int word = seat / SEATS_PER_WORD;
+            long mask = mask(seat, first + count);
+
+            if (!setBits(word, mask)) {
+                release(first, seat - first);
+                return false;
+            }
+            seat = (word + 1) * SEATS_PER_WORD;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the seat was assigned and is now free, {@code false} if it was already free.
+     */
+    public boolean release(int seatNumber) {
+        int seat = indexOf(seatNumber);
+        int word = seat / SEATS_PER_WORD;
+        long bit = bit(seat);
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & bit) == 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current & ~bit));
+        return true;
+    }
+
+    public OptionalInt firstFreeSeat() {
+        for (int word = 0; word < words.length(); word++) {
+            long free = ~words.get(word) & validSeats(word);
+            if (free != 0) {
+                return OptionalInt.of(word * SEATS_PER_WORD + Long.numberOfTrailingZeros(free) + 1);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Finds the lowest run of {@code count} adjacent free seats, which may cross word boundaries.
+     * Each step of the scan skips a whole run of assigned or free seats within a word.
+     *
+     * @return The number of the first seat of the run.
+     */
+    public OptionalInt firstFreeSeats(int count) {
+        DomainValidation.isPositive(count, "Number of seats must be positive");
+        if (count > capacity) {
+            return OptionalInt.empty();
+        }
+
+        int runStart = 0;
+        int runLength = 0;
+        for (int word = 0; word < words.length(); word++) {
+            long free = ~words.get(word) & validSeats(word);
+            int bit = 0;
+
+            while (bit < SEATS_PER_WORD) {
+                long remaining = free >>> bit;
+                if (remaining == 0) {
+                    runLength = 0;
+                    break;
+                }
+
+                int taken = Long.numberOfTrailingZeros(remaining);
+                if (taken > 0) {
+                    runLength = 0;
+                    bit += taken;
+                    remaining >>>= taken;
+                }
+
+                int available = Long.numberOfTrailingZeros(~remaining);
+                if (runLength == 0) {
+                    runStart = word * SEATS_PER_WORD + bit;
+                }
+                runLength += available;
+                bit += available;
+
+                if (runLength >= count) {
+                    return OptionalInt.of(runStart + 1);
+                }
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    public int assignedSeats() {
+        int assigned = 0;
+        for (int word = 0; word < words.length(); word++) {
+            assigned += Long.bitCount(words.get(word));
+        }
+        return assigned;
+    }
+
+    public int[] assignedSeatNumbers() {
+        return IntStream.rangeClosed(1, capacity)
+                .filter(this::isAssigned)
+                .toArray();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public SeatMap copy() {
+        long[] copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i);
+        }
+        return new SeatMap(capacity, copy);
+    }
+
+    private boolean setBits(int word, long mask) {
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    /**
+     * Clears seats this map has just set, when a multi-word assignment fails halfway.
+     */
+    private void release(int first, int count) {
+        int seat = first;
+        while (seat < first + count) {
+            int word = seat / SEATS_PER_WORD;
+            long mask = mask(seat, first + count);
+            words.getAndUpdate(word, current -> current & ~mask);
+            seat = (word + 1) * SEATS_PER_WORD;
+        }
+    }
+
+    /**
+     * Bits of the word holding {@code seat} from that seat up to, but not including, {@code end}.
+     */
+    private static long mask(int seat, int end) {
+        int from = seat % SEATS_PER_WORD;
+        int to = Math.min(SEATS_PER_WORD, end - (seat - from));
+        long upTo = to == SEATS_PER_WORD ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private long validSeats(int word) {
+        int seatsInWord = Math.min(SEATS_PER_WORD, capacity - word * SEATS_PER_WORD);
+        return seatsInWord == SEATS_PER_WORD ? -1L : (1L << seatsInWord) - 1;
+    }
+
+    private int indexOf(int seatNumber) {
+        if (seatNumber < 1 || seatNumber > capacity) {
+            throw new IllegalArgumentException("Seat number must be between 1 and %d".formatted(capacity));
+        }
+        return seatNumber - 1;
+    }
+
+    private static long bit(int seat) {
+        return 1L << (seat % SEATS_PER_WORD);
+    }
+
+    private static int wordsFor(int capacity) {
+        return (capacity + SEATS_PER_WORD - 1) / SEATS_PER_WORD;
+    }
+
+    private static int bytesFor(int capacity) {
+        return (capacity + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SeatMap other)) return false;
+        return capacity == other.capacity && Arrays.equals(toBytes(), other.toBytes());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toBytes());
+    }
+}
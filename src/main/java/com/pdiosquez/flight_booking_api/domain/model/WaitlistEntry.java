@@ -0,0 +1,151 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import com.pdiosquez.flight_booking_api.domain.exception.FlightAlreadyDepartedException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightHasAvailableSeatsException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A passenger waiting for a seat on a full flight.
+ * When a seat of the flight is freed, the entry first in {@link #PROMOTION_ORDER}
+ * takes it and becomes a {@link Booking}.
+ */
+public class WaitlistEntry {
+
+    /**
+     * Higher priority tiers first, then earlier joins, then lower IDs.
+     */
+    public static final Comparator<WaitlistEntry> PROMOTION_ORDER = Comparator
+            .comparingInt(WaitlistEntry::getPriority).reversed()
+            .thenComparing(WaitlistEntry::getJoinedAt)
+            .thenComparing(WaitlistEntry::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Long id;
+    private final Passenger passenger;
+    private final Long flightId;
+    private final int priority;
+    private WaitlistStatus status;
+    private final LocalDateTime joinedAt;
+    private final Long version;
+
+    private WaitlistEntry(Long id, Passenger passenger, Long flightId, int priority, WaitlistStatus status, LocalDateTime joinedAt, Long version) {
+        DomainValidation.notNull(passenger, "Passenger is required to join a waitlist.");
+        DomainValidation.notNull(flightId, "Flight ID is required to join a waitlist.");
+        DomainValidation.isGreaterOrEqualThan(priority, 0, "Waitlist priority cannot be negative.");
+        DomainValidation.notNull(status, "Waitlist status cannot be null.");
+        DomainValidation.notNull(joinedAt, "Join date cannot be null.");
+
+        this.id = id;
+        this.passenger = passenger;
+        this.flightId = flightId;
+        this.priority = priority;
+        this.status = status;
+        this.joinedAt = joinedAt;
+        this.version = version;
+    }
+
+    /**
+     * Puts the passenger on the waitlist of a full flight.
+     *
+     * @throws FlightHasAvailableSeatsException If the flight can still be booked directly.
+     * @throws FlightAlreadyDepartedException If the flight has departed.
+     */
+    public static WaitlistEntry create(Passenger passenger, Flight flight, int priority, LocalDateTime currentTime) {
+        DomainValidation.notNull(flight, "Flight is required to join a waitlist.");
+        DomainValidation.notNull(currentTime, "Current time is required to join a waitlist.");
+
+        if (currentTime.isAfter(flight.getDepartureTime())) {
+            throw new FlightAlreadyDepartedException(flight.getId());
+        }
+        if (flight.availableSeats() > 0) {
+            throw new FlightHasAvailableSeatsException(flight.getId());
+        }
+        return new WaitlistEntry(null, passenger, flight.getId(), priority, WaitlistStatus.WAITING, currentTime, null);
+    }
+
+    /**
+     * Restores a persisted entry together with the version it was read at, so two cancellations
+     * cannot promote the same entry.
+     */
+    public static WaitlistEntry fromPersistence(Long id, Passenger passenger, Long flightId, int priority, WaitlistStatus status, LocalDateTime joinedAt, Long version) {
+        DomainValidation.notNull(id, "Waitlist entry ID is required for persistence reconstruction.");
+        return new WaitlistEntry(id, passenger, flightId, priority, status, joinedAt, version);
+    }
+
+    /**
+     * Gives the seat just freed on the flight to this entry.
+     *
+     * @throws WaitlistEntryNotActiveException If the entry is no longer waiting.
+     */
+    public Booking promote(Flight flight, LocalDateTime currentTime) {
+        validatePromotion(flight, currentTime);
+
+        flight.reserveSeat(currentTime);
+        status = WaitlistStatus.PROMOTED;
+        return Booking.create(passenger, flight, currentTime);
+    }
+
+    /**
+     * Promotes the entry like {@link #promote(Flight, LocalDateTime)}, taking the seat
+     * through the shared {@link SeatInventory}.
+     */
+    public Booking promote(Flight flight, LocalDateTime currentTime, SeatInventory seatInventory) {
+        validatePromotion(flight, currentTime);
+
+        flight.reserveSeat(currentTime, seatInventory);
+        status = WaitlistStatus.PROMOTED;
+        return Booking.create(passenger, flight, currentTime);
+    }
+
+    /**
+     * Takes the passenger off the waitlist.
+     *
+     * @throws WaitlistEntryNotActiveException If the entry is no longer waiting.
+     */
+    public void withdraw() {
+        validateIsWaiting();
+        status = WaitlistStatus.WITHDRAWN;
+    }
+
+    private void validatePromotion(Flight flight, LocalDateTime currentTime) {
+        DomainValidation.notNull(flight, "Flight is required to promote a waitlist entry.");
+        DomainValidation.notNull(currentTime, "Current time is required to promote a waitlist entry.");
+        validateIsWaiting();
+
+        if (!flightId.equals(flight.getId())) {
+            throw new IllegalArgumentException(
+                    "Waitlist entry %d is for flight %d, not %d.".formatted(id, flightId, flight.getId()));
+        }
+    }
+
+    private void validateIsWaiting() {
+        if (status != WaitlistStatus.WAITING) {
+            throw new WaitlistEntryNotActiveException(id, status);
+        }
+    }
+
+    public Long getId() { return id; }
+    public Passenger getPassenger() { return passenger; }
+    public Long getFlightId() { return flightId; }
+    public int getPriority() { return priority; }
+    public WaitlistStatus getStatus() { return status; }
+    public LocalDateTime getJoinedAt() { return joinedAt; }
+    public Long getVersion() { return version; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WaitlistEntry entry)) return false;
+        return Objects.equals(id, entry.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
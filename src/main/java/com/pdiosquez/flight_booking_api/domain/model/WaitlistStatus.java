@@ -0,0 +1,7 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+public enum WaitlistStatus {
+    WAITING,
+    PROMOTED,
+    WITHDRAWN
+}
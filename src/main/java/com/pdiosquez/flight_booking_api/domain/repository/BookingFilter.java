@@ -0,0 +1,20 @@
+package com.pdiosquez.flight_booking_api.domain.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+
+/**
+ * Criteria for listing bookings. A {@code null} criterion matches every booking.
+ */
+public record BookingFilter(BookingStatus status, Long flightId, Long passengerId) {
+
+    public static BookingFilter none() {
+        return new BookingFilter(null, null, null);
+    }
+
+    public boolean matches(Booking booking) {
+        return (status == null || booking.getStatus() == status)
+                && (flightId == null || flightId.equals(booking.getFlight().getId()))
+                && (passengerId == null || passengerId.equals(booking.getPassenger().getId()));
+    }
+}
@@ -4,11 +4,42 @@ import com.pdiosquez.flight_booking_api.domain.model.Booking;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookingRepository {
     Booking save(Booking booking);
 
+    /**
+     * Saves all the given bookings, letting the store write them as one batch.
+     *
+     * @return The saved bookings, in the same order.
+     */
+    List<Booking> saveAll(List<Booking> bookings);
+
     Optional<Booking> findById(Long bookingId);
 
-    List<Booking> findAll();
+    /**
+     * Finds, in ID order, up to {@code limit} bookings matching the filter whose ID is above {@code afterId}.
+     * Passing the ID of the last booking of a page as {@code afterId} returns the next page,
+     * and a {@code null} {@code afterId} returns the first one.
+     */
+    List<Booking> findPage(BookingFilter filter, Long afterId, int limit);
+
+    /**
+     * Finds, in ID order, up to {@code limit} bookings of the passenger whose ID is above {@code afterId},
+     * reading only the bookings of that passenger.
+     */
+    List<Booking> findByPassengerId(Long passengerId, Long afterId, int limit);
+
+    /**
+     * Hands every booking whose ID is above {@code afterId} to the action, in ID order,
+     * without holding them all in memory at once.
+     */
+    void forEachAfter(Long afterId, Consumer<Booking> action);
+
+    /**
+     * Hands every confirmed booking of the flight to the action, in ID order,
+     * reading only the bookings of that flight.
+     */
+    void forEachConfirmedOnFlight(Long flightId, Consumer<Booking> action);
 }
@@ -2,10 +2,72 @@ package com.pdiosquez.flight_booking_api.domain.repository;
 
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FlightRepository {
     Flight save(Flight flight);
 
     Optional<Flight> findById(Long flightId);
+
+    /**
+     * Loads all the given flights in one round trip. Unknown IDs are left out of the result.
+     */
+    List<Flight> findAllById(Collection<Long> flightIds);
+
+    List<Flight> findAll();
+
+    /**
+     * Reads the flights matching the criteria straight from the store.
+     *
+     * @return The matching flights ordered by departure time and ID.
+     */
+    List<Flight> search(FlightSearchCriteria criteria);
+
+    /**
+     * Atomically takes one seat of the flight if it has not departed and is not full.
+     *
+     * @return {@code true} if the seat was taken, {@code false} otherwise.
+     */
+    boolean reserveSeat(Long flightId, LocalDateTime currentTime);
+
+    /**
+     * Atomically takes the given number of seats of the flight if it has not departed
+     * and has room for all of them.
+     *
+     * @return {@code true} if every seat was taken, {@code false} if none was.
+     */
+    boolean reserveSeats(Long flightId, int seats, LocalDateTime currentTime);
+
+    /**
+     * Atomically puts one seat of the flight on hold if it has not departed and is not full.
+     *
+     * @return {@code true} if the seat was held, {@code false} otherwise.
+     */
+    boolean holdSeat(Long flightId, LocalDateTime currentTime);
+
+    /**
+     * Atomically gives one held seat back to the flight.
+     *
+     * @return {@code true} if a held seat was released, {@code false} if the flight has none.
+     */
+    boolean releaseHeldSeat(Long flightId);
+
+    /**
+     * Atomically turns one held seat into an occupied seat.
+     *
+     * @return {@code true} if a held seat was confirmed, {@code false} if the flight has none.
+     */
+    boolean confirmHeldSeat(Long flightId);
+
+    /**
+     * Atomically assigns the lowest free seat in the seat map of the flight.
+     *
+     * @return The number of the assigned seat.
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException If the flight does not exist.
+     * @throws com.pdiosquez.flight_booking_api.domain.exception.AdjacentSeatsUnavailableException If every seat is assigned.
+     */
+    int assignSeat(Long flightId, LocalDateTime currentTime);
 }
@@ -0,0 +1,24 @@
+package com.pdiosquez.flight_booking_api.domain.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flights of one route departing inside a window with at least {@code minSeats} seats available.
+ * A {@code null} bound leaves that side of the window open.
+ */
+public record FlightSearchCriteria(String origin,
+                                   String destination,
+                                   LocalDateTime from,
+                                   LocalDateTime to,
+                                   int minSeats) {
+
+    public boolean matches(Flight flight) {
+        return flight.getOrigin().equals(origin)
+                && flight.getDestination().equals(destination)
+                && (from == null || !flight.getDepartureTime().isBefore(from))
+                && (to == null || !flight.getDepartureTime().isAfter(to))
+                && flight.availableSeats() >= minSeats;
+    }
+}
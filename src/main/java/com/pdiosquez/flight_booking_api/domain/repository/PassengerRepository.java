@@ -2,10 +2,24 @@ package com.pdiosquez.flight_booking_api.domain.repository;
 
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PassengerRepository {
     Passenger save(Passenger passenger);
 
     Optional<Passenger> findById(Long passengerId);
+
+    /**
+     * Finds the passenger registered with the email, compared in its normalized form.
+     *
+     * @see Passenger#normalizeEmail(String)
+     */
+    Optional<Passenger> findByEmail(String email);
+
+    /**
+     * Loads all the given passengers in one round trip. Unknown IDs are left out of the result.
+     */
+    List<Passenger> findAllById(Collection<Long> passengerIds);
 }
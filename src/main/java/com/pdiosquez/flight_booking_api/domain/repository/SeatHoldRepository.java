@@ -0,0 +1,15 @@
+package com.pdiosquez.flight_booking_api.domain.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SeatHoldRepository {
+    SeatHold save(SeatHold seatHold);
+
+    Optional<SeatHold> findById(Long seatHoldId);
+
+    List<SeatHold> findAllByStatus(SeatHoldStatus status);
+}
@@ -0,0 +1,17 @@
+package com.pdiosquez.flight_booking_api.domain.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+
+import java.util.Optional;
+
+public interface WaitlistRepository {
+    WaitlistEntry save(WaitlistEntry entry);
+
+    Optional<WaitlistEntry> findById(Long entryId);
+
+    /**
+     * Finds the waiting entry of the flight that comes first in {@link WaitlistEntry#PROMOTION_ORDER},
+     * without going through the rest of the waitlist.
+     */
+    Optional<WaitlistEntry> findNextWaiting(Long flightId);
+}
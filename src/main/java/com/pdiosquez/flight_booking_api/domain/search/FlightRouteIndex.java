@@ -0,0 +1,24 @@
+package com.pdiosquez.flight_booking_api.domain.search;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Copy of the flights ordered by route and departure time, kept up to date as flights
+ * are written so route searches do not need to reach the store.
+ * It may trail the store by the transactions that are committing right now.
+ */
+public interface FlightRouteIndex {
+
+    /**
+     * @return {@code false} until the index has been loaded with every flight of the store.
+     */
+    boolean isReady();
+
+    /**
+     * @return The matching flights ordered by departure time and ID.
+     */
+    List<Flight> search(FlightSearchCriteria criteria);
+}
@@ -0,0 +1,20 @@
+package com.pdiosquez.flight_booking_api.infrastructure.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the virtual thread pinning monitor.
+ *
+ * @param enabled   Whether to record pinned virtual threads with JFR.
+ * @param threshold Shortest pin worth reporting.
+ * @param maxFrames Number of stack frames written to the log for each pin.
+ */
+@ConfigurationProperties(prefix = "booking.diagnostics.pinning")
+public record PinningMonitorProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("16") int maxFrames
+) {}
@@ -0,0 +1,100 @@
+package com.pdiosquez.flight_booking_api.infrastructure.diagnostics;
+
+import com.pdiosquez.flight_booking_api.FlightBookingApiApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, such as a JDBC call
+ * made inside a {@code synchronized} block. A pinned virtual thread holds a carrier for the whole
+ * wait, so enough of them starve every other virtual thread.
+ * Pins are read from the {@code jdk.VirtualThreadPinned} JFR event and published as the
+ * {@code booking.virtual.pinned} timer, tagged with the first application frame on the stack.
+ * Each pin is also logged with its stack.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.diagnostics.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String APPLICATION_PACKAGE = FlightBookingApiApplication.class.getPackageName();
+
+    private final MeterRegistry meterRegistry;
+    private final PinningMonitorProperties properties;
+    private final Counter pins;
+    private final RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, PinningMonitorProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.pins = meterRegistry.counter("booking.virtual.pinned.total");
+
+        this.recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(properties.threshold())
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onEvent);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recording.close();
+    }
+
+    public long pinCount() {
+        return (long) pins.count();
+    }
+
+    private void onEvent(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace == null
+                ? List.of()
+                : stackTrace.getFrames().stream().map(VirtualThreadPinningMonitor::describe).toList();
+
+        onPinned(event.getDuration(), frames);
+    }
+
+    void onPinned(Duration duration, List<String> frames) {
+        String site = frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.getFirst());
+
+        pins.increment();
+        Timer.builder("booking.virtual.pinned")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(duration);
+
+        log.warn("Virtual thread pinned to its carrier for {} ms at {}{}",
+                duration.toMillis(),
+                site,
+                frames.stream()
+                        .limit(properties.maxFrames())
+                        .collect(Collectors.joining("\n\tat ", "\n\tat ", "")));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return "%s.%s:%d".formatted(
+                frame.getMethod().getType().getName(),
+                frame.getMethod().getName(),
+                frame.getLineNumber());
+    }
+}
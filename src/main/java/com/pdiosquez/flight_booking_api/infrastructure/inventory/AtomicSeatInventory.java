@@ -0,0 +1,144 @@
+package com.pdiosquez.flight_booking_api.infrastructure.inventory;
+
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free {@link SeatInventory} keeping one compare-and-set counter per flight ID.
+ * A counter is seeded from the occupied and held seats of the first {@link Flight} copy seen for that ID.
+ * When called inside a transaction, the change is undone if the transaction rolls back.
+ * A counter is dropped, and seeded again on next use, when it is invalidated after a rejected
+ * guarded update or when a committed write of the flight disagrees with it.
+ */
+@Component
+public class AtomicSeatInventory implements SeatInventory {
+
+    private final Map<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryReserve(Flight flight) {
+        SeatCounter counter = counterFor(flight);
+
+        if (!counter.tryAcquire()) {
+            return false;
+        }
+        onRollback(counter::forceRelease);
+        return true;
+    }
+
+    @Override
+    public boolean tryRelease(Flight flight) {
+        SeatCounter counter = counterFor(flight);
+
+        if (!counter.tryRelease()) {
+            return false;
+        }
+        onRollback(counter::forceAcquire);
+        return true;
+    }
+
+    @Override
+    public void invalidate(Long flightId) {
+        DomainValidation.notNull(flightId, "Flight ID is required to invalidate the seat inventory.");
+        counters.remove(flightId);
+    }
+
+    /**
+     * Drops the counter when the committed state of the flight no longer matches it, e.g. after
+     * a write that did not go through the inventory.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightWritten(FlightWrittenEvent event) {
+        Flight flight = event.flight();
+        counters.computeIfPresent(flight.getId(), (id, counter) ->
+                counter.matches(flight.getCapacity(), flight.getOccupiedSeats() + flight.getHeldSeats()) ? counter : null);
+    }
+
+    public int occupiedSeats(Long flightId) {
+        SeatCounter counter = counters.get(flightId);
+        return counter == null ? 0 : counter.occupied();
+    }
+
+    private SeatCounter counterFor(Flight flight) {
+        DomainValidation.notNull(flight, "Flight is required to update the seat inventory.");
+        DomainValidation.notNull(flight.getId(), "Only persisted flights can use the seat inventory.");
+
+        return counters.computeIfAbsent(
+                flight.getId(),
+                id -> new SeatCounter(flight.getCapacity(), flight.getOccupiedSeats() + flight.getHeldSeats())
+        );
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
+    static final class SeatCounter {
+        private final int capacity;
+        private final AtomicInteger occupied;
+
+        SeatCounter(int capacity, int occupiedSeats) {
+            this.capacity = capacity;
+            this.occupied = new AtomicInteger(occupiedSeats);
+        }
+
+        boolean tryAcquire() {
+            int current;
+            do {
+                current = occupied.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!occupied.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        boolean tryRelease() {
+            int current;
+            do {
+                current = occupied.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!occupied.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void forceAcquire() {
+            occupied.incrementAndGet();
+        }
+
+        void forceRelease() {
+            occupied.decrementAndGet();
+        }
+
+        int occupied() {
+            return occupied.get();
+        }
+
+        boolean matches(int capacity, int occupiedSeats) {
+            return this.capacity == capacity && occupied.get() == occupiedSeats;
+        }
+    }
+}
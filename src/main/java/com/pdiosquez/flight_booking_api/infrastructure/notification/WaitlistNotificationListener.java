@@ -0,0 +1,33 @@
+package com.pdiosquez.flight_booking_api.infrastructure.notification;
+
+import com.pdiosquez.flight_booking_api.application.service.WaitlistPromotedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Notifies passengers promoted from a waitlist once the promotion has committed,
+ * so a rolled back cancellation never tells anyone they got a seat.
+ * Notifications are logged and counted in {@code booking.waitlist.promoted}.
+ */
+@Component
+public class WaitlistNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistNotificationListener.class);
+
+    private final Counter promotions;
+
+    public WaitlistNotificationListener(MeterRegistry meterRegistry) {
+        this.promotions = meterRegistry.counter("booking.waitlist.promoted");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromoted(WaitlistPromotedEvent event) {
+        promotions.increment();
+        log.info("Passenger {} was promoted from the waitlist of flight {} with booking {}.",
+                event.passengerId(), event.flightId(), event.bookingId());
+    }
+}
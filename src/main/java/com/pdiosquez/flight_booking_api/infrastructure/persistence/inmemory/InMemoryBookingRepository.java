@@ -1,21 +1,46 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
 
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
 import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.AggregateWriter;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
 import org.springframework.stereotype.Repository;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Repository
-public class InMemoryBookingRepository implements BookingRepository {
+public class InMemoryBookingRepository implements BookingRepository, AggregateWriter<Booking> {
 
-    private final Map<Long, Booking> database = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Booking> database = new ConcurrentSkipListMap<>();
+    private final Map<BookingStatus, NavigableSet<Long>> idsByStatus = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> idsByFlight = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> idsByPassenger = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator      = new AtomicLong(1);
+    private final List<Consumer<Booking>> writeListeners = new CopyOnWriteArrayList<>();
+    private final InMemoryFlightRepository flightRepository;
+    private final UnitOfWork unitOfWork;
+
+    public InMemoryBookingRepository(InMemoryFlightRepository flightRepository, UnitOfWork unitOfWork) {
+        this.flightRepository = flightRepository;
+        this.unitOfWork = unitOfWork;
+    }
 
     @Override
     public Booking save(Booking booking) {
@@ -29,21 +54,195 @@ public class InMemoryBookingRepository implements BookingRepository {
                     booking.getPassenger(),
                     booking.getFlight(),
                     booking.getStatus(),
-                    booking.getCreatedAt()
+                    booking.getCreatedAt(),
+                    booking.getSeatNumber()
             );
         }
-        database.put(bookingToSave.getId(), bookingToSave);
+        store(bookingToSave);
+        unitOfWork.evict(this, bookingToSave.getId());
+        written(bookingToSave);
         return bookingToSave;
     }
 
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        DomainValidation.notNull(bookings, "Cannot save a null list of bookings.");
+        return bookings.stream()
+                .map(this::save)
+                .toList();
+    }
+
     @Override
     public Optional<Booking> findById(Long bookingId) {
         DomainValidation.notNull(bookingId, "Booking ID cannot be null when searching.");
-        return Optional.ofNullable(database.get(bookingId));
+        return Optional.ofNullable(database.get(bookingId))
+                .map(this::withCurrentFlight)
+                .map(booking -> unitOfWork.track(booking, this));
     }
 
-    @Override
+    /**
+     * @return Every stored booking in ID order.
+     */
     public List<Booking> findAll() {
         return database.values().stream().toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Walks the most selective ID set matching the filter from just after the cursor,
+     * checking the remaining criteria against the stored booking.
+     */
+    @Override
+    public List<Booking> findPage(BookingFilter filter, Long afterId, int limit) {
+        DomainValidation.notNull(filter, "Booking filter cannot be null.");
+        NavigableSet<Long> candidates = candidateIds(filter);
+        NavigableSet<Long> remaining = afterId == null ? candidates : candidates.tailSet(afterId, false);
+
+        return remaining.stream()
+                .map(database::get)
+                .filter(booking -> booking != null && filter.matches(booking))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Walks the passenger index from just after the cursor, without touching other bookings.
+     */
+    @Override
+    public List<Booking> findByPassengerId(Long passengerId, Long afterId, int limit) {
+        DomainValidation.notNull(passengerId, "Passenger ID cannot be null when searching.");
+        NavigableSet<Long> ids = idsByPassenger.getOrDefault(passengerId, Collections.emptyNavigableSet());
+        NavigableSet<Long> remaining = afterId == null ? ids : ids.tailSet(afterId, false);
+
+        return remaining.stream()
+                .map(database::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void forEachAfter(Long afterId, Consumer<Booking> action) {
+        Map<Long, Booking> remaining = afterId == null ? database : database.tailMap(afterId, false);
+        remaining.values().forEach(action);
+    }
+
+    /**
+     * Walks the flight index, which holds at most the capacity of the flight plus its cancelled bookings.
+     */
+    @Override
+    public void forEachConfirmedOnFlight(Long flightId, Consumer<Booking> action) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when searching.");
+        idsByFlight.getOrDefault(flightId, Collections.emptyNavigableSet()).stream()
+                .map(database::get)
+                .filter(booking -> booking != null && booking.getStatus() == BookingStatus.CONFIRMED)
+                .forEach(action);
+    }
+
+    /**
+     * Registers a listener called with the stored copy of a booking after every write to it.
+     */
+    public void onWrite(Consumer<Booking> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Puts bookings read from another store in as they are, without notifying the write listeners,
+     * and moves the ID generator past them.
+     */
+    public void load(Collection<Booking> bookings) {
+        bookings.forEach(booking -> {
+            store(booking);
+            idGenerator.accumulateAndGet(booking.getId() + 1, Math::max);
+        });
+    }
+
+    /**
+     * @return The ID the next new booking will get.
+     */
+    public long nextId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Makes sure no new booking gets an ID below the given one, e.g. one handed out before a restart.
+     */
+    public void reserveIdsBelow(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    /**
+     * Replaces the stored booking and keeps the secondary indexes in step with it. Flight and
+     * passenger never change for a booking, so only the status index loses the old entry.
+     */
+    private void store(Booking booking) {
+        Long id = booking.getId();
+        database.compute(id, (key, previous) -> {
+            if (previous != null && previous.getStatus() != booking.getStatus()) {
+                idsOf(idsByStatus, previous.getStatus()).remove(id);
+            }
+            idsOf(idsByStatus, booking.getStatus()).add(id);
+            idsOf(idsByFlight, booking.getFlight().getId()).add(id);
+            idsOf(idsByPassenger, booking.getPassenger().getId()).add(id);
+            return booking;
+        });
+    }
+
+    /**
+     * Picks the index most likely to be small: a passenger has few bookings, a flight has at
+     * most its capacity in live ones, and a status covers a large share of all bookings.
+     */
+    private NavigableSet<Long> candidateIds(BookingFilter filter) {
+        if (filter.passengerId() != null) {
+            return idsByPassenger.getOrDefault(filter.passengerId(), Collections.emptyNavigableSet());
+        }
+        if (filter.flightId() != null) {
+            return idsByFlight.getOrDefault(filter.flightId(), Collections.emptyNavigableSet());
+        }
+        if (filter.status() != null) {
+            return idsByStatus.getOrDefault(filter.status(), Collections.emptyNavigableSet());
+        }
+        return database.navigableKeySet();
+    }
+
+    private static <K> NavigableSet<Long> idsOf(Map<K, NavigableSet<Long>> index, K key) {
+        return index.computeIfAbsent(key, ignored -> new ConcurrentSkipListSet<>());
+    }
+
+    private void written(Booking stored) {
+        writeListeners.forEach(listener -> listener.accept(stored));
+    }
+
+    /**
+     * Rebuilds the stored booking around the current copy of its flight,
+     * the same way the JPA adapter joins the flight row on every read.
+     */
+    private Booking withCurrentFlight(Booking stored) {
+        Flight flight = flightRepository
+                .findById(stored.getFlight().getId())
+                .orElse(stored.getFlight());
+
+        return Booking.fromPersistence(
+                stored.getId(),
+                stored.getPassenger(),
+                flight,
+                stored.getStatus(),
+                stored.getCreatedAt(),
+                stored.getSeatNumber()
+        );
+    }
+
+    @Override
+    public Long idOf(Booking booking) {
+        return booking.getId();
+    }
+
+    @Override
+    public Object stateOf(Booking booking) {
+        return Arrays.asList(booking.getStatus(), booking.getSeatNumber());
+    }
+
+    @Override
+    public void writeAll(List<Booking> bookings) {
+        bookings.forEach(this::save);
+    }
+}
@@ -1,44 +1,263 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
 
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.AggregateWriter;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Repository
-public class InMemoryFlightRepository implements FlightRepository {
+public class InMemoryFlightRepository implements FlightRepository, AggregateWriter<Flight> {
 
     private final Map<Long, Flight> database = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator     = new AtomicLong(1);
+    private final List<Consumer<Flight>> writeListeners = new CopyOnWriteArrayList<>();
+    private final UnitOfWork unitOfWork;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InMemoryFlightRepository(UnitOfWork unitOfWork) {
+        this(unitOfWork, event -> {});
+    }
+
+    @Autowired
+    public InMemoryFlightRepository(UnitOfWork unitOfWork, ApplicationEventPublisher eventPublisher) {
+        this.unitOfWork = unitOfWork;
+        this.eventPublisher = eventPublisher;
+    }
 
     @Override
     public Flight save(Flight flight) {
         DomainValidation.notNull(flight, "Cannot save a null flight.");
-        Flight flightToSave = flight;
-
-        if (flightToSave.getId() == null) {
-            Long newGeneratedId = idGenerator.getAndIncrement();
-            flightToSave = Flight.fromPersistence(
-                    newGeneratedId,
-                    flight.getOrigin(),
-                    flight.getDestination(),
-                    flight.getCapacity(),
-                    flight.getOccupiedSeats(),
-                    flight.getDepartureTime()
-            );
+
+        if (flight.getId() == null) {
+            Flight flightToSave = withVersion(flight, idGenerator.getAndIncrement(), 0L);
+            database.put(flightToSave.getId(), flightToSave);
+            written(flightToSave);
+            return flightToSave;
         }
-        database.put(flightToSave.getId(), flightToSave);
-        return flightToSave;
+
+        Flight saved = database.compute(flight.getId(), (id, stored) -> {
+            if (stored != null && !Objects.equals(stored.getVersion(), flight.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "Flight %d was modified concurrently.".formatted(id));
+            }
+            long nextVersion = flight.getVersion() == null ? 0L : flight.getVersion() + 1;
+            return withVersion(flight, id, nextVersion);
+        });
+        unitOfWork.evict(this, saved.getId());
+        written(saved);
+        return saved;
     }
 
     @Override
     public Optional<Flight> findById(Long flightId) {
         DomainValidation.notNull(flightId, "Flight ID cannot be null when searching.");
-        return Optional.ofNullable(database.get(flightId));
+        return Optional.ofNullable(database.get(flightId))
+                .map(stored -> withVersion(stored, stored.getId(), stored.getVersion()))
+                .map(this::track);
+    }
+
+    @Override
+    public List<Flight> findAllById(Collection<Long> flightIds) {
+        DomainValidation.notNull(flightIds, "Flight IDs cannot be null when searching.");
+        return flightIds.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public boolean reserveSeat(Long flightId, LocalDateTime currentTime) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when reserving a seat.");
+        DomainValidation.notNull(currentTime, "Current time cannot be null when reserving a seat.");
+
+        return update(flightId,
+                stored -> stored.availableSeats() > 0 && !currentTime.isAfter(stored.getDepartureTime()),
+                1, 0);
+    }
+
+    @Override
+    public boolean reserveSeats(Long flightId, int seats, LocalDateTime currentTime) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when reserving seats.");
+        DomainValidation.notNull(currentTime, "Current time cannot be null when reserving seats.");
+        DomainValidation.isPositive(seats, "Number of seats to reserve must be positive.");
+
+        return update(flightId,
+                stored -> stored.availableSeats() >= seats && !currentTime.isAfter(stored.getDepartureTime()),
+                seats, 0);
+    }
+
+    @Override
+    public boolean holdSeat(Long flightId, LocalDateTime currentTime) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when holding a seat.");
+        DomainValidation.notNull(currentTime, "Current time cannot be null when holding a seat.");
+
+        return update(flightId,
+                stored -> stored.availableSeats() > 0 && !currentTime.isAfter(stored.getDepartureTime()),
+                0, 1);
+    }
+
+    @Override
+    public boolean releaseHeldSeat(Long flightId) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when releasing a held seat.");
+        return update(flightId, stored -> stored.getHeldSeats() > 0, 0, -1);
+    }
+
+    @Override
+    public boolean confirmHeldSeat(Long flightId) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when confirming a held seat.");
+        return update(flightId, stored -> stored.getHeldSeats() > 0, 1, -1);
+    }
+
+    @Override
+    public int assignSeat(Long flightId, LocalDateTime currentTime) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when assigning a seat.");
+        DomainValidation.notNull(currentTime, "Current time cannot be null when assigning a seat.");
+        AtomicInteger seatNumber = new AtomicInteger();
+
+        Flight current = database.computeIfPresent(flightId, (id, stored) -> {
+            Flight assigned = restore(stored, id, stored.getOccupiedSeats(), stored.getHeldSeats(), stored.getVersion() + 1);
+            seatNumber.set(assigned.assignSeats(1, currentTime)[0]);
+            return assigned;
+        });
+        if (current == null) {
+            throw new FlightNotFoundException(flightId);
+        }
+        unitOfWork.evict(this, flightId);
+        written(current);
+        return seatNumber.get();
+    }
+
+    private boolean update(Long flightId, Predicate<Flight> guard, int occupiedDelta, int heldDelta) {
+        AtomicBoolean updated = new AtomicBoolean(false);
+
+        Flight current = database.computeIfPresent(flightId, (id, stored) -> {
+            if (!guard.test(stored)) {
+                return stored;
+            }
+            updated.set(true);
+            return restore(stored, id,
+                    stored.getOccupiedSeats() + occupiedDelta,
+                    stored.getHeldSeats() + heldDelta,
+                    stored.getVersion() + 1);
+        });
+        if (updated.get()) {
+            unitOfWork.evict(this, flightId);
+            written(current);
+        }
+        return updated.get();
+    }
+
+    /**
+     * Registers a listener called with the stored copy of a flight after every write to it.
+     */
+    public void onWrite(Consumer<Flight> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Puts flights read from another store in as they are, without notifying the write listeners,
+     * and moves the ID generator past them.
+     */
+    public void load(Collection<Flight> flights) {
+        flights.forEach(flight -> {
+            database.put(flight.getId(), flight);
+            idGenerator.accumulateAndGet(flight.getId() + 1, Math::max);
+        });
+    }
+
+    @Override
+    public List<Flight> findAll() {
+        return database.values().stream()
+                .map(stored -> withVersion(stored, stored.getId(), stored.getVersion()))
+                .toList();
+    }
+
+    @Override
+    public List<Flight> search(FlightSearchCriteria criteria) {
+        DomainValidation.notNull(criteria, "Flight search criteria cannot be null.");
+        return database.values().stream()
+                .filter(criteria::matches)
+                .sorted(Comparator.comparing(Flight::getDepartureTime).thenComparing(Flight::getId))
+                .map(stored -> withVersion(stored, stored.getId(), stored.getVersion()))
+                .toList();
+    }
+
+    /**
+     * @return The ID the next new flight will get.
+     */
+    public long nextId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Makes sure no new flight gets an ID below the given one, e.g. one handed out before a restart.
+     */
+    public void reserveIdsBelow(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    private void written(Flight stored) {
+        writeListeners.forEach(listener -> listener.accept(stored));
+        eventPublisher.publishEvent(new FlightWrittenEvent(stored));
+    }
+
+    Flight track(Flight flight) {
+        return unitOfWork.track(flight, this);
+    }
+
+    @Override
+    public Long idOf(Flight flight) {
+        return flight.getId();
+    }
+
+    @Override
+    public Object stateOf(Flight flight) {
+        return List.of(flight.getOccupiedSeats(), flight.getHeldSeats(), flight.getSeatMap().copy());
+    }
+
+    @Override
+    public void writeAll(List<Flight> flights) {
+        flights.forEach(this::save);
+    }
+
+    private Flight withVersion(Flight flight, Long id, Long version) {
+        return restore(flight, id, flight.getOccupiedSeats(), flight.getHeldSeats(), version);
+    }
+
+    private Flight restore(Flight flight, Long id, int occupiedSeats, int heldSeats, Long version) {
+        return Flight.fromPersistence(
+                id,
+                flight.getOrigin(),
+                flight.getDestination(),
+                flight.getCapacity(),
+                occupiedSeats,
+                heldSeats,
+                flight.getDepartureTime(),
+                version,
+                flight.getSeatMap().copy()
+        );
     }
 }
\ No newline at end of file
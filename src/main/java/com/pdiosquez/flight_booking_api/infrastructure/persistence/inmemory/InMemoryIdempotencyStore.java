@@ -0,0 +1,134 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyStore;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link IdempotencyStore} local to this instance.
+ * Every key holds a future that duplicates wait on until the original request completes or releases it.
+ * Keys are queued in arrival order; since they all live for the same time, the oldest key is always
+ * the next to expire, and it is also the one dropped when the store is full.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "booking.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> arrivalOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final IdempotencyProperties properties;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        if (properties.maxKeys() < 1) {
+            throw new IllegalArgumentException("The idempotency store must keep at least one key.");
+        }
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean claim(String key, String fingerprint, LocalDateTime currentTime) {
+        evict(currentTime);
+
+        Entry candidate = new Entry(key, fingerprint, currentTime.plus(properties.ttl()));
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(currentTime) ? candidate : existing);
+
+        if (current != candidate) {
+            return false;
+        }
+        arrivalOrder.add(candidate);
+        queued.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public Optional<Long> awaitResult(String key, String fingerprint, LocalDateTime currentTime, Duration timeout) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(currentTime)) {
+            return Optional.empty();
+        }
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+
+        try {
+            return Optional.ofNullable(entry.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException | ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotency key '%s'.".formatted(key), e);
+        }
+    }
+
+    @Override
+    public void complete(String key, Long resultId) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.result.complete(resultId);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            entry.result.complete(null);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops keys from the head of the queue while they are expired or the store is full.
+     * A request still running on a dropped key loses its protection against duplicates,
+     * which only happens when more than {@code maxKeys} keys arrive within one time to live.
+     */
+    private void evict(LocalDateTime currentTime) {
+        Entry oldest;
+        while ((oldest = arrivalOrder.peek()) != null
+                && (oldest.isExpired(currentTime) || queued.get() >= properties.maxKeys())) {
+            if (arrivalOrder.remove(oldest)) {
+                queued.decrementAndGet();
+                if (entries.remove(oldest.key, oldest)) {
+                    oldest.result.complete(null);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final LocalDateTime expiresAt;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private Entry(String key, String fingerprint, LocalDateTime expiresAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(LocalDateTime currentTime) {
+            return currentTime.isAfter(expiresAt);
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
 
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
 import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Repository
 public class InMemoryPassengerRepository implements PassengerRepository {
 
     private final Map<Long, Passenger> database = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByEmail  = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator        = new AtomicLong(1);
+    private final List<Consumer<Passenger>> writeListeners = new CopyOnWriteArrayList<>();
 
     @Override
     public Passenger save(Passenger passenger) {
@@ -29,7 +37,8 @@ public class InMemoryPassengerRepository implements PassengerRepository {
                     passenger.getEmail()
             );
         }
-        database.put(passengerToSave.getId(), passengerToSave);
+        store(passengerToSave);
+        written(passengerToSave);
         return passengerToSave;
     }
 
@@ -38,4 +47,82 @@ public class InMemoryPassengerRepository implements PassengerRepository {
         DomainValidation.notNull(passengerId, "Passenger ID cannot be null when searching.");
         return Optional.ofNullable(database.get(passengerId));
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Passenger> findByEmail(String email) {
+        DomainValidation.notNull(email, "Passenger email cannot be null when searching.");
+        return Optional.ofNullable(idsByEmail.get(Passenger.normalizeEmail(email)))
+                .map(database::get);
+    }
+
+    @Override
+    public List<Passenger> findAllById(Collection<Long> passengerIds) {
+        DomainValidation.notNull(passengerIds, "Passenger IDs cannot be null when searching.");
+        return passengerIds.stream()
+                .map(database::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Registers a listener called with the stored copy of a passenger after every write to it.
+     */
+    public void onWrite(Consumer<Passenger> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Puts passengers read from another store in as they are, without notifying the write listeners,
+     * and moves the ID generator past them.
+     */
+    public void load(Collection<Passenger> passengers) {
+        passengers.forEach(passenger -> {
+            store(passenger);
+            idGenerator.accumulateAndGet(passenger.getId() + 1, Math::max);
+        });
+    }
+
+    public List<Passenger> findAll() {
+        return database.values().stream().toList();
+    }
+
+    /**
+     * @return The ID the next new passenger will get.
+     */
+    public long nextId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Makes sure no new passenger gets an ID below the given one, e.g. one handed out before a restart.
+     */
+    public void reserveIdsBelow(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    /**
+     * Claims the normalized email for the passenger before storing it, the same way the unique
+     * column does in the database, and frees the old email if the passenger changed it.
+     *
+     * @throws PassengerEmailAlreadyExistsException If another passenger holds the email.
+     */
+    private void store(Passenger passenger) {
+        String email = Passenger.normalizeEmail(passenger.getEmail());
+        Long owner = idsByEmail.putIfAbsent(email, passenger.getId());
+        if (owner != null && !owner.equals(passenger.getId())) {
+            throw new PassengerEmailAlreadyExistsException(email);
+        }
+
+        Passenger previous = database.put(passenger.getId(), passenger);
+        if (previous != null) {
+            String previousEmail = Passenger.normalizeEmail(previous.getEmail());
+            if (!previousEmail.equals(email)) {
+                idsByEmail.remove(previousEmail, passenger.getId());
+            }
+        }
+    }
+
+    private void written(Passenger stored) {
+        writeListeners.forEach(listener -> listener.accept(stored));
+    }
+}
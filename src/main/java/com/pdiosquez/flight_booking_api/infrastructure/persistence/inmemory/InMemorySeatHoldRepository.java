@@ -0,0 +1,130 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.SeatHoldRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Repository
+public class InMemorySeatHoldRepository implements SeatHoldRepository {
+
+    private final Map<Long, SeatHold> database = new ConcurrentHashMap<>();
+    private final AtomicLong idGenerator       = new AtomicLong(1);
+    private final InMemoryFlightRepository flightRepository;
+    private final List<Consumer<SeatHold>> writeListeners = new CopyOnWriteArrayList<>();
+
+    public InMemorySeatHoldRepository(InMemoryFlightRepository flightRepository) {
+        this.flightRepository = flightRepository;
+    }
+
+    @Override
+    public SeatHold save(SeatHold seatHold) {
+        DomainValidation.notNull(seatHold, "Cannot save a null seat hold.");
+
+        if (seatHold.getId() == null) {
+            SeatHold seatHoldToSave = withVersion(seatHold, idGenerator.getAndIncrement(), seatHold.getFlight(), 0L);
+            database.put(seatHoldToSave.getId(), seatHoldToSave);
+            written(seatHoldToSave);
+            return seatHoldToSave;
+        }
+
+        SeatHold saved = database.compute(seatHold.getId(), (id, stored) -> {
+            if (stored != null && !Objects.equals(stored.getVersion(), seatHold.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "Seat hold %d was modified concurrently.".formatted(id));
+            }
+            long nextVersion = seatHold.getVersion() == null ? 0L : seatHold.getVersion() + 1;
+            return withVersion(seatHold, id, seatHold.getFlight(), nextVersion);
+        });
+        written(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<SeatHold> findById(Long seatHoldId) {
+        DomainValidation.notNull(seatHoldId, "Seat hold ID cannot be null when searching.");
+        return Optional.ofNullable(database.get(seatHoldId))
+                .map(this::withCurrentFlight);
+    }
+
+    @Override
+    public List<SeatHold> findAllByStatus(SeatHoldStatus status) {
+        return database.values().stream()
+                .filter(seatHold -> seatHold.getStatus() == status)
+                .map(this::withCurrentFlight)
+                .toList();
+    }
+
+    public List<SeatHold> findAll() {
+        return List.copyOf(database.values());
+    }
+
+    /**
+     * Registers a listener called with the stored copy of a hold after every write to it.
+     */
+    public void onWrite(Consumer<SeatHold> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Puts holds read from another store in as they are, without notifying the write listeners,
+     * and moves the ID generator past them.
+     */
+    public void load(Collection<SeatHold> seatHolds) {
+        seatHolds.forEach(seatHold -> {
+            database.put(seatHold.getId(), seatHold);
+            idGenerator.accumulateAndGet(seatHold.getId() + 1, Math::max);
+        });
+    }
+
+    /**
+     * @return The ID the next new hold will get.
+     */
+    public long nextId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Makes sure no new hold gets an ID below the given one, e.g. one handed out before a restart.
+     */
+    public void reserveIdsBelow(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    private void written(SeatHold stored) {
+        writeListeners.forEach(listener -> listener.accept(stored));
+    }
+
+    private SeatHold withCurrentFlight(SeatHold stored) {
+        Flight flight = flightRepository
+                .findById(stored.getFlight().getId())
+                .orElse(stored.getFlight());
+
+        return withVersion(stored, stored.getId(), flight, stored.getVersion());
+    }
+
+    private SeatHold withVersion(SeatHold seatHold, Long id, Flight flight, Long version) {
+        return SeatHold.fromPersistence(
+                id,
+                seatHold.getPassenger(),
+                flight,
+                seatHold.getStatus(),
+                seatHold.getCreatedAt(),
+                seatHold.getExpiresAt(),
+                version
+        );
+    }
+}
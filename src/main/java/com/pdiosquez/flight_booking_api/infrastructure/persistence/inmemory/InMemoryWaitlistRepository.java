@@ -0,0 +1,137 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.WaitlistRepository;
+import com.pdiosquez.flight_booking_api.domain.util.DomainValidation;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the waiting entries of every flight in a skip list sorted by
+ * {@link WaitlistEntry#PROMOTION_ORDER}, so joining, leaving and finding the next entry
+ * take logarithmic time whatever the length of the waitlist.
+ */
+@Repository
+public class InMemoryWaitlistRepository implements WaitlistRepository {
+
+    private final Map<Long, WaitlistEntry> database = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<WaitlistEntry>> waitingByFlight = new ConcurrentHashMap<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+    private final List<Consumer<WaitlistEntry>> writeListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public WaitlistEntry save(WaitlistEntry entry) {
+        DomainValidation.notNull(entry, "Cannot save a null waitlist entry.");
+
+        Long id = entry.getId() == null ? idGenerator.getAndIncrement() : entry.getId();
+        WaitlistEntry saved = database.compute(id, (key, stored) -> {
+            if (stored != null && !Objects.equals(stored.getVersion(), entry.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "Waitlist entry %d was modified concurrently.".formatted(key));
+            }
+            long nextVersion = entry.getVersion() == null ? 0L : entry.getVersion() + 1;
+            return index(withVersion(entry, key, nextVersion));
+        });
+        writeListeners.forEach(listener -> listener.accept(saved));
+        return saved;
+    }
+
+    @Override
+    public Optional<WaitlistEntry> findById(Long entryId) {
+        DomainValidation.notNull(entryId, "Waitlist entry ID cannot be null when searching.");
+        return Optional.ofNullable(database.get(entryId))
+                .map(this::copy);
+    }
+
+    @Override
+    public Optional<WaitlistEntry> findNextWaiting(Long flightId) {
+        DomainValidation.notNull(flightId, "Flight ID cannot be null when searching.");
+
+        NavigableSet<WaitlistEntry> waiting = waitingByFlight.get(flightId);
+        if (waiting == null) {
+            return Optional.empty();
+        }
+        return waiting.stream()
+                .findFirst()
+                .map(this::copy);
+    }
+
+    public List<WaitlistEntry> findAll() {
+        return List.copyOf(database.values());
+    }
+
+    /**
+     * Registers a listener called with the stored copy of an entry after every write to it.
+     */
+    public void onWrite(Consumer<WaitlistEntry> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Puts entries read from another store in as they are, without notifying the write listeners,
+     * and moves the ID generator past them.
+     */
+    public void load(Collection<WaitlistEntry> entries) {
+        entries.forEach(entry -> {
+            database.put(entry.getId(), index(entry));
+            idGenerator.accumulateAndGet(entry.getId() + 1, Math::max);
+        });
+    }
+
+    /**
+     * @return The ID the next new entry will get.
+     */
+    public long nextId() {
+        return idGenerator.get();
+    }
+
+    /**
+     * Makes sure no new entry gets an ID below the given one, e.g. one handed out before a restart.
+     */
+    public void reserveIdsBelow(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    /**
+     * Keeps the entry in the waiting set of its flight only while it is waiting.
+     */
+    private WaitlistEntry index(WaitlistEntry entry) {
+        NavigableSet<WaitlistEntry> waiting = waitingByFlight.computeIfAbsent(
+                entry.getFlightId(), flightId -> new ConcurrentSkipListSet<>(WaitlistEntry.PROMOTION_ORDER));
+        if (entry.getStatus() == WaitlistStatus.WAITING) {
+            waiting.add(entry);
+        } else {
+            waiting.remove(entry);
+        }
+        return entry;
+    }
+
+    private WaitlistEntry copy(WaitlistEntry stored) {
+        return withVersion(stored, stored.getId(), stored.getVersion());
+    }
+
+    private WaitlistEntry withVersion(WaitlistEntry entry, Long id, Long version) {
+        return WaitlistEntry.fromPersistence(
+                id,
+                entry.getPassenger(),
+                entry.getFlightId(),
+                entry.getPriority(),
+                entry.getStatus(),
+                entry.getJoinedAt(),
+                version
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+/**
+ * When appended journal records are forced to disk.
+ */
+public enum FsyncPolicy {
+    /** Before every append returns. Nothing acknowledged is lost, at the cost of one sync per write. */
+    PER_WRITE,
+    /** Once per group commit interval. A crash loses at most the writes of the last interval. */
+    GROUP,
+    /** Whenever the operating system writes the mapped pages back. Survives a process crash, not a power loss. */
+    OS
+}
@@ -0,0 +1,33 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The periodic fsync of {@link FsyncPolicy#GROUP}. A periodic task that throws is never run
+ * again, so a failed force is logged and counted here and the next run simply tries again:
+ * the records it did not sync are still ahead of the synced position.
+ */
+final class GroupCommit implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommit.class);
+
+    private final Runnable force;
+    private final Counter failures;
+
+    GroupCommit(Runnable force, Counter failures) {
+        this.force = force;
+        this.failures = failures;
+    }
+
+    @Override
+    public void run() {
+        try {
+            force.run();
+        } catch (RuntimeException failure) {
+            failures.increment();
+            log.error("Could not force the journal to disk; records appended since the last sync are not durable yet.", failure);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.model.SeatMap;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binary form of the journal records: a type byte followed by the fields of the aggregate.
+ * Strings are written as a short length and their UTF-8 bytes, times as epoch seconds and nanos,
+ * the seat map of a flight as an int length and its bytes, and a booking without a seat as seat number -1.
+ * Waitlist entries and seat holds keep their version, so the last state of one wins however its writes were ordered.
+ */
+final class JournalCodec {
+
+    private static final byte PASSENGER = 1;
+    private static final byte FLIGHT = 2;
+    private static final byte BOOKING = 3;
+    private static final byte WAITLIST_ENTRY = 4;
+    private static final byte SEAT_HOLD = 5;
+    private static final int NO_SEAT = -1;
+    private static final int TIME_BYTES = Long.BYTES + Integer.BYTES;
+
+    private JournalCodec() {
+    }
+
+    static byte[] encode(Passenger passenger) {
+        byte[] name = utf8(passenger.getName());
+        byte[] email = utf8(passenger.getEmail());
+
+        return ByteBuffer.allocate(1 + Long.BYTES + sizeOf(name) + sizeOf(email))
+                .put(PASSENGER)
+                .putLong(passenger.getId())
+                .put(withLength(name))
+                .put(withLength(email))
+                .array();
+    }
+
+    static byte[] encode(Flight flight) {
+        byte[] origin = utf8(flight.getOrigin());
+        byte[] destination = utf8(flight.getDestination());
+        byte[] seatMap = flight.getSeatMap().toBytes();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + sizeOf(origin) + sizeOf(destination)
+                        + 3 * Integer.BYTES + TIME_BYTES + Long.BYTES + Integer.BYTES + seatMap.length)
+                .put(FLIGHT)
+                .putLong(flight.getId())
+                .put(withLength(origin))
+                .put(withLength(destination))
+                .putInt(flight.getCapacity())
+                .putInt(flight.getOccupiedSeats())
+                .putInt(flight.getHeldSeats());
+        putTime(buffer, flight.getDepartureTime());
+        return buffer.putLong(flight.getVersion())
+                .putInt(seatMap.length)
+                .put(seatMap)
+                .array();
+    }
+
+    static byte[] encode(Booking booking) {
+        byte[] status = utf8(booking.getStatus().name());
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * Long.BYTES + sizeOf(status) + TIME_BYTES + Integer.BYTES)
+                .put(BOOKING)
+                .putLong(booking.getId())
+                .putLong(booking.getPassenger().getId())
+                .putLong(booking.getFlight().getId())
+                .put(withLength(status));
+        putTime(buffer, booking.getCreatedAt());
+        return buffer.putInt(booking.getSeatNumber() == null ? NO_SEAT : booking.getSeatNumber()).array();
+    }
+
+    static byte[] encode(WaitlistEntry entry) {
+        byte[] status = utf8(entry.getStatus().name());
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * Long.BYTES + Integer.BYTES + sizeOf(status) + TIME_BYTES + Long.BYTES)
+                .put(WAITLIST_ENTRY)
+                .putLong(entry.getId())
+                .putLong(entry.getPassenger().getId())
+                .putLong(entry.getFlightId())
+                .putInt(entry.getPriority())
+                .put(withLength(status));
+        putTime(buffer, entry.getJoinedAt());
+        return buffer.putLong(entry.getVersion()).array();
+    }
+
+    static byte[] encode(SeatHold seatHold) {
+        byte[] status = utf8(seatHold.getStatus().name());
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * Long.BYTES + sizeOf(status) + 2 * TIME_BYTES + Long.BYTES)
+                .put(SEAT_HOLD)
+                .putLong(seatHold.getId())
+                .putLong(seatHold.getPassenger().getId())
+                .putLong(seatHold.getFlight().getId())
+                .put(withLength(status));
+        putTime(buffer, seatHold.getCreatedAt());
+        putTime(buffer, seatHold.getExpiresAt());
+        return buffer.putLong(seatHold.getVersion()).array();
+    }
+
+    /**
+     * Applies one record to the state being recovered.
+     */
+    static void decode(ByteBuffer record, Recovered recovered) {
+        byte type = record.get();
+        long id = record.getLong();
+
+        switch (type) {
+            case PASSENGER -> recovered.passengers.put(id, Passenger.fromPersistence(id, getString(record), getString(record)));
+            case FLIGHT -> {
+                String origin = getString(record);
+                String destination = getString(record);
+                int capacity = record.getInt();
+                Flight flight = Flight.fromPersistence(id, origin, destination, capacity,
+                        record.getInt(), record.getInt(), getTime(record), record.getLong(),
+                        SeatMap.fromBytes(capacity, getBytes(record)));
+                // Concurrent writes to a flight may reach the journal out of order, so the highest version wins.
+                recovered.flights.merge(id, flight,
+                        (stored, replayed) -> replayed.getVersion() >= stored.getVersion() ? replayed : stored);
+            }
+            case BOOKING -> {
+                BookingRecord booking = new BookingRecord(id, record.getLong(), record.getLong(),
+                        BookingStatus.valueOf(getString(record)), getTime(record), record.getInt());
+                recovered.bookings.put(id, booking);
+            }
+            case WAITLIST_ENTRY -> {
+                WaitlistRecord entry = new WaitlistRecord(id, record.getLong(), record.getLong(), record.getInt(),
+                        WaitlistStatus.valueOf(getString(record)), getTime(record), record.getLong());
+                recovered.waitlistEntries.merge(id, entry,
+                        (stored, replayed) -> replayed.version() >= stored.version() ? replayed : stored);
+            }
+            case SEAT_HOLD -> {
+                SeatHoldRecord seatHold = new SeatHoldRecord(id, record.getLong(), record.getLong(),
+                        SeatHoldStatus.valueOf(getString(record)), getTime(record), getTime(record), record.getLong());
+                recovered.seatHolds.merge(id, seatHold,
+                        (stored, replayed) -> replayed.version() >= stored.version() ? replayed : stored);
+            }
+            default -> throw new IllegalStateException("Unknown journal record type %d.".formatted(type));
+        }
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC)).putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("A journal string cannot be longer than %d bytes.".formatted(Short.MAX_VALUE));
+        }
+        return bytes;
+    }
+
+    private static int sizeOf(byte[] string) {
+        return Short.BYTES + string.length;
+    }
+
+    private static byte[] withLength(byte[] string) {
+        return ByteBuffer.allocate(sizeOf(string)).putShort((short) string.length).put(string).array();
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record BookingRecord(Long id, Long passengerId, Long flightId, BookingStatus status, LocalDateTime createdAt,
+                                 int seatNumber) {}
+
+    private record WaitlistRecord(Long id, Long passengerId, Long flightId, int priority, WaitlistStatus status,
+                                  LocalDateTime joinedAt, long version) {}
+
+    private record SeatHoldRecord(Long id, Long passengerId, Long flightId, SeatHoldStatus status,
+                                  LocalDateTime createdAt, LocalDateTime expiresAt, long version) {}
+
+    /**
+     * State rebuilt from the journal, keeping the last record of each aggregate.
+     */
+    static final class Recovered {
+        private final Map<Long, Passenger> passengers = new LinkedHashMap<>();
+        private final Map<Long, Flight> flights = new LinkedHashMap<>();
+        private final Map<Long, BookingRecord> bookings = new LinkedHashMap<>();
+        private final Map<Long, WaitlistRecord> waitlistEntries = new LinkedHashMap<>();
+        private final Map<Long, SeatHoldRecord> seatHolds = new LinkedHashMap<>();
+
+        List<Passenger> passengers() {
+            return List.copyOf(passengers.values());
+        }
+
+        List<Flight> flights() {
+            return List.copyOf(flights.values());
+        }
+
+        List<Booking> bookings() {
+            return bookings.values().stream()
+                    .map(record -> Booking.fromPersistence(
+                            record.id(),
+                            find(passengers, record.passengerId(), "booking", "passenger"),
+                            find(flights, record.flightId(), "booking", "flight"),
+                            record.status(),
+                            record.createdAt(),
+                            record.seatNumber() == NO_SEAT ? null : record.seatNumber()))
+                    .toList();
+        }
+
+        List<WaitlistEntry> waitlistEntries() {
+            return waitlistEntries.values().stream()
+                    .map(record -> WaitlistEntry.fromPersistence(
+                            record.id(),
+                            find(passengers, record.passengerId(), "waitlist entry", "passenger"),
+                            record.flightId(),
+                            record.priority(),
+                            record.status(),
+                            record.joinedAt(),
+                            record.version()))
+                    .toList();
+        }
+
+        List<SeatHold> seatHolds() {
+            return seatHolds.values().stream()
+                    .map(record -> SeatHold.fromPersistence(
+                            record.id(),
+                            find(passengers, record.passengerId(), "seat hold", "passenger"),
+                            find(flights, record.flightId(), "seat hold", "flight"),
+                            record.status(),
+                            record.createdAt(),
+                            record.expiresAt(),
+                            record.version()))
+                    .toList();
+        }
+
+        private static <T> T find(Map<Long, T> aggregates, Long id, String owner, String kind) {
+            return Optional.ofNullable(aggregates.get(id))
+                    .orElseThrow(() -> new IllegalStateException(
+                            "The journal has a %s for %s %d but no record of it.".formatted(owner, kind, id)));
+        }
+    }
+}
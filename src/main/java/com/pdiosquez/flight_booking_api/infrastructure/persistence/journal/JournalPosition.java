@@ -0,0 +1,9 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+/**
+ * Place of a record in the {@link MappedJournal}: the number of its segment and its offset within it.
+ */
+public record JournalPosition(long segment, int offset) {
+
+    public static final JournalPosition START = new JournalPosition(0, 0);
+}
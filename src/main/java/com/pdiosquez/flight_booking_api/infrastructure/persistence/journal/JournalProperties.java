@@ -0,0 +1,26 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the journal kept by the in-memory repositories in the {@code journal} persistence mode.
+ *
+ * @param directory           Where the segment files are kept.
+ * @param segmentSize         Size of each memory-mapped segment file; no record can be larger.
+ * @param fsync               When appended records are forced to disk.
+ * @param groupCommitInterval How often records are forced to disk with {@link FsyncPolicy#GROUP}.
+ * @param snapshotInterval    How often the stores are written to a snapshot, after which older segments are deleted.
+ */
+@ConfigurationProperties(prefix = "booking.persistence.journal")
+public record JournalProperties(
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("GROUP") FsyncPolicy fsync,
+        @DefaultValue("10ms") Duration groupCommitInterval,
+        @DefaultValue("5m") Duration snapshotInterval
+) {}
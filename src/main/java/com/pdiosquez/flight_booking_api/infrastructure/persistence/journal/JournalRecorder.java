@@ -0,0 +1,180 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemorySeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Makes the in-memory passenger, flight, booking, waitlist and seat hold repositories durable without a database
+ * when {@code booking.persistence.mode} is {@code journal}. Every write appends the stored copy
+ * of the aggregate to a {@link MappedJournal} before the save returns.
+ * Records are forced to disk as the {@link FsyncPolicy} says; with {@link FsyncPolicy#GROUP}
+ * a background thread does it once per {@code group-commit-interval}.
+ * Another background thread writes a {@link JournalSnapshot} of the stores every {@code snapshot-interval}
+ * and deletes the segments it makes redundant. On startup the stores are rebuilt from the latest snapshot
+ * plus the records appended after it, keeping the last record of each aggregate.
+ * Publishes the {@code booking.journal.append} timer, which includes the sync with {@link FsyncPolicy#PER_WRITE},
+ * the {@code booking.journal.snapshot} timer, and the {@code booking.journal.fsync.failures} and
+ * {@code booking.journal.snapshot.failures} counters for failed background syncs and snapshots.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "journal")
+public class JournalRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalRecorder.class);
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final InMemoryPassengerRepository passengers;
+    private final InMemoryFlightRepository flights;
+    private final InMemoryBookingRepository bookings;
+    private final InMemoryWaitlistRepository waitlist;
+    private final InMemorySeatHoldRepository seatHolds;
+    private final MappedJournal journal;
+    private final JournalProperties properties;
+    private final Path snapshotFile;
+    private final Timer appendTimer;
+    private final Timer snapshotTimer;
+    private final Counter snapshotFailures;
+    private final ScheduledExecutorService groupCommit = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("journal-group-commit").daemon().factory());
+    private final ScheduledExecutorService snapshots = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("journal-snapshot").daemon().factory());
+
+    public JournalRecorder(InMemoryPassengerRepository passengers,
+                           InMemoryFlightRepository flights,
+                           InMemoryBookingRepository bookings,
+                           InMemoryWaitlistRepository waitlist,
+                           InMemorySeatHoldRepository seatHolds,
+                           JournalProperties properties,
+                           MeterRegistry meterRegistry) {
+        if (properties.fsync() == FsyncPolicy.GROUP && !properties.groupCommitInterval().isPositive()) {
+            throw new IllegalArgumentException("Group commit needs a positive interval.");
+        }
+        if (!properties.snapshotInterval().isPositive()) {
+            throw new IllegalArgumentException("Snapshots need a positive interval.");
+        }
+
+        this.passengers = passengers;
+        this.flights = flights;
+        this.bookings = bookings;
+        this.waitlist = waitlist;
+        this.seatHolds = seatHolds;
+        this.properties = properties;
+        this.snapshotFile = properties.directory().resolve(SNAPSHOT_FILE);
+        this.appendTimer = Timer.builder("booking.journal.append")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.snapshotTimer = Timer.builder("booking.journal.snapshot").register(meterRegistry);
+        this.snapshotFailures = meterRegistry.counter("booking.journal.snapshot.failures");
+
+        JournalCodec.Recovered recovered = new JournalCodec.Recovered();
+        JournalPosition replayFrom = JournalPosition.START;
+        JournalSnapshot.Header snapshot = JournalSnapshot
+                .read(snapshotFile, record -> JournalCodec.decode(record, recovered))
+                .orElse(null);
+        if (snapshot != null) {
+            replayFrom = snapshot.position();
+            passengers.reserveIdsBelow(snapshot.nextPassengerId());
+            flights.reserveIdsBelow(snapshot.nextFlightId());
+            bookings.reserveIdsBelow(snapshot.nextBookingId());
+            waitlist.reserveIdsBelow(snapshot.nextWaitlistEntryId());
+            seatHolds.reserveIdsBelow(snapshot.nextSeatHoldId());
+        }
+
+        this.journal = MappedJournal.open(
+                properties.directory(),
+                Math.toIntExact(properties.segmentSize().toBytes()),
+                replayFrom,
+                record -> JournalCodec.decode(record, recovered));
+
+        passengers.load(recovered.passengers());
+        flights.load(recovered.flights());
+        bookings.load(recovered.bookings());
+        waitlist.load(recovered.waitlistEntries());
+        seatHolds.load(recovered.seatHolds());
+
+        passengers.onWrite(passenger -> append(JournalCodec.encode(passenger)));
+        flights.onWrite(flight -> append(JournalCodec.encode(flight)));
+        bookings.onWrite(booking -> append(JournalCodec.encode(booking)));
+        waitlist.onWrite(entry -> append(JournalCodec.encode(entry)));
+        seatHolds.onWrite(seatHold -> append(JournalCodec.encode(seatHold)));
+
+        if (properties.fsync() == FsyncPolicy.GROUP) {
+            long intervalMillis = Math.max(1, properties.groupCommitInterval().toMillis());
+            GroupCommit task = new GroupCommit(journal::force, meterRegistry.counter("booking.journal.fsync.failures"));
+            groupCommit.scheduleWithFixedDelay(task, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        long snapshotMillis = Math.max(1, properties.snapshotInterval().toMillis());
+        snapshots.scheduleWithFixedDelay(this::snapshotQuietly, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the current state of the stores to the snapshot file and deletes the journal segments
+     * older than the one the snapshot starts replaying from.
+     * The position is taken first: every record before it was appended after its write to the store,
+     * so the snapshot holds that state or a newer one, and replaying the records after it again is harmless.
+     */
+    public synchronized void snapshot() {
+        snapshotTimer.record(() -> {
+            JournalPosition position = journal.position();
+            JournalSnapshot.Header header = new JournalSnapshot.Header(
+                    position, passengers.nextId(), flights.nextId(), bookings.nextId(), waitlist.nextId(),
+                    seatHolds.nextId());
+
+            Iterator<byte[]> records = Stream.of(
+                            passengers.findAll().stream().map(JournalCodec::encode),
+                            flights.findAll().stream().map(JournalCodec::encode),
+                            bookings.findAll().stream().map(JournalCodec::encode),
+                            waitlist.findAll().stream().map(JournalCodec::encode),
+                            seatHolds.findAll().stream().map(JournalCodec::encode))
+                    .flatMap(encoded -> encoded)
+                    .iterator();
+
+            JournalSnapshot.write(snapshotFile, header, records);
+            journal.deleteSegmentsBefore(position.segment());
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        groupCommit.shutdownNow();
+        snapshots.shutdownNow();
+        journal.close();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException failure) {
+            // The journal still holds every record; the next snapshot tries again.
+            snapshotFailures.increment();
+            log.warn("Could not write a journal snapshot.", failure);
+        }
+    }
+
+    private void append(byte[] record) {
+        appendTimer.record(() -> {
+            journal.append(record);
+            if (properties.fsync() == FsyncPolicy.PER_WRITE) {
+                journal.force();
+            }
+        });
+    }
+}
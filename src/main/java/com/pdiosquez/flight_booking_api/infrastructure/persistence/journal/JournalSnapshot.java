@@ -0,0 +1,144 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Binary snapshot of the in-memory stores, so startup only replays the journal written after it.
+ * The file holds the journal position the snapshot covers, the next ID of each store and one
+ * length-prefixed journal record per aggregate, closed by an end marker. Both ways it goes through
+ * a 1 MB buffer with sequential channel reads and writes. It is written to a temporary file that is
+ * moved over the previous snapshot, so a crash never leaves a partial snapshot behind.
+ */
+final class JournalSnapshot {
+
+    private static final int MAGIC = 0x464C4253;
+    private static final int FORMAT = 5;
+    private static final int END = -1;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES + 5 * Long.BYTES;
+
+    private JournalSnapshot() {
+    }
+
+    /**
+     * @param position Journal position up to which every record is reflected in the snapshot.
+     */
+    record Header(JournalPosition position, long nextPassengerId, long nextFlightId, long nextBookingId,
+                  long nextWaitlistEntryId, long nextSeatHoldId) {}
+
+    static void write(Path file, Header header, Iterator<byte[]> records) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT)
+                    .putLong(header.position().segment())
+                    .putInt(header.position().offset())
+                    .putLong(header.nextPassengerId())
+                    .putLong(header.nextFlightId())
+                    .putLong(header.nextBookingId())
+                    .putLong(header.nextWaitlistEntryId())
+                    .putLong(header.nextSeatHoldId());
+
+            while (records.hasNext()) {
+                byte[] record = records.next();
+                if (buffer.remaining() < Integer.BYTES + record.length) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(record.length).put(record);
+            }
+            if (buffer.remaining() < Integer.BYTES) {
+                drain(buffer, channel);
+            }
+            buffer.putInt(END);
+            drain(buffer, channel);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the snapshot %s.".formatted(file), e);
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replace the snapshot %s.".formatted(file), e);
+        }
+    }
+
+    /**
+     * Hands every record of the snapshot to {@code replay}, in the order they were written.
+     *
+     * @return The header of the snapshot, or empty if there is none yet.
+     */
+    static Optional<Header> read(Path file, Consumer<ByteBuffer> replay) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).flip();
+
+            require(buffer, channel, HEADER_BYTES, file);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IllegalStateException("%s is not a snapshot this version can read.".formatted(file));
+            }
+            Header header = new Header(
+                    new JournalPosition(buffer.getLong(), buffer.getInt()),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong());
+
+            while (true) {
+                require(buffer, channel, Integer.BYTES, file);
+                int length = buffer.getInt();
+                if (length == END) {
+                    return Optional.of(header);
+                }
+
+                require(buffer, channel, length, file);
+                replay.accept(buffer.slice(buffer.position(), length));
+                buffer.position(buffer.position() + length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the snapshot %s.".formatted(file), e);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Reads ahead until the buffer holds at least {@code bytes} unread bytes.
+     */
+    private static void require(ByteBuffer buffer, FileChannel channel, int bytes, Path file) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new IllegalStateException("The snapshot %s is truncated.".formatted(file));
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,221 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records, split into fixed-size memory-mapped segment files.
+ * Each record is written as its length, a CRC32C of its payload and the payload itself.
+ * A segment ends at the first zero length, or at the first record whose checksum does not match,
+ * which is where a write torn by a crash stops; when a record does not fit in the rest of a segment
+ * it goes to a new one. Appends are serialized; forcing them to disk is left to the caller.
+ */
+public class MappedJournal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int CLEAR_CHUNK_BYTES = 64 * 1024;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentNumber;
+    private int syncedUpTo;
+
+    private MappedJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the journal in the given directory, handing every valid record to {@code replay} in the order
+     * they were appended, and leaves it ready to append after the last of them.
+     */
+    public static MappedJournal open(Path directory, int segmentSize, Consumer<ByteBuffer> replay) {
+        return open(directory, segmentSize, JournalPosition.START, replay);
+    }
+
+    /**
+     * Opens the journal like {@link #open(Path, int, Consumer)}, replaying only the records appended
+     * at or after the given position.
+     */
+    public static MappedJournal open(Path directory, int segmentSize, JournalPosition from, Consumer<ByteBuffer> replay) {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("A journal segment must be larger than %d bytes.".formatted(HEADER_BYTES));
+        }
+
+        MappedJournal journal = new MappedJournal(directory, segmentSize);
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = journal.segments().stream()
+                    .filter(path -> numberOf(path) >= from.segment())
+                    .toList();
+
+            for (Path path : segments) {
+                journal.map(path);
+                if (journal.segmentNumber == from.segment()) {
+                    journal.segment.position(from.offset());
+                }
+                journal.replay(replay);
+            }
+            if (segments.isEmpty()) {
+                journal.segmentNumber = Math.max(0, from.segment() - 1);
+                journal.roll();
+            } else {
+                journal.clearTail();
+            }
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the journal in %s.".formatted(directory), e);
+        }
+    }
+
+    /**
+     * @return Where the next record will be appended.
+     */
+    public synchronized JournalPosition position() {
+        return new JournalPosition(segmentNumber, segment.position());
+    }
+
+    /**
+     * Deletes the segment files older than the given one, once their records are kept elsewhere.
+     */
+    public void deleteSegmentsBefore(long segmentNumber) {
+        try {
+            for (Path path : segments()) {
+                if (numberOf(path) < segmentNumber) {
+                    Files.delete(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete old journal segments in %s.".formatted(directory), e);
+        }
+    }
+
+    public synchronized void append(byte[] payload) {
+        if (payload.length > segmentSize - HEADER_BYTES) {
+            throw new IllegalArgumentException("A journal record of %d bytes does not fit in a segment.".formatted(payload.length));
+        }
+
+        try {
+            if (segment.remaining() < HEADER_BYTES + payload.length) {
+                force();
+                roll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start a new journal segment in %s.".formatted(directory), e);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        int start = segment.position();
+
+        // The length goes in last, so a record is never visible before its payload and checksum are.
+        segment.position(start + Integer.BYTES);
+        segment.putInt((int) crc.getValue());
+        segment.put(payload);
+        segment.putInt(start, payload.length);
+    }
+
+    /**
+     * Forces every record appended so far to disk.
+     */
+    public synchronized void force() {
+        int position = segment.position();
+        if (position > syncedUpTo) {
+            segment.force(syncedUpTo, position - syncedUpTo);
+            syncedUpTo = position;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close the journal in %s.".formatted(directory), e);
+        }
+    }
+
+    private void replay(Consumer<ByteBuffer> replay) {
+        while (segment.remaining() >= HEADER_BYTES) {
+            int start = segment.position();
+            int length = segment.getInt();
+            int checksum = segment.getInt();
+
+            if (length <= 0 || length > segment.remaining()) {
+                segment.position(start);
+                return;
+            }
+
+            ByteBuffer payload = segment.slice(segment.position(), length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                segment.position(start);
+                return;
+            }
+
+            replay.accept(payload.asReadOnlyBuffer());
+            segment.position(segment.position() + length);
+        }
+    }
+
+    /**
+     * Zeroes whatever follows the last valid record of the current segment, such as a torn write,
+     * so records appended from here on are never followed by leftovers that look valid.
+     */
+    private void clearTail() {
+        int position = segment.position();
+        byte[] zeros = new byte[CLEAR_CHUNK_BYTES];
+
+        for (int i = position; i < segment.capacity(); i += zeros.length) {
+            segment.put(i, zeros, 0, Math.min(zeros.length, segment.capacity() - i));
+        }
+        segment.force();
+        syncedUpTo = position;
+    }
+
+    private void roll() throws IOException {
+        map(directory.resolve("%s%016d%s".formatted(SEGMENT_PREFIX, segmentNumber + 1, SEGMENT_SUFFIX)));
+    }
+
+    private void map(Path path) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // A segment written with a larger size setting keeps its own size, so none of its records are cut off.
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, channel.size()));
+        segmentNumber = numberOf(path);
+        syncedUpTo = 0;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long numberOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
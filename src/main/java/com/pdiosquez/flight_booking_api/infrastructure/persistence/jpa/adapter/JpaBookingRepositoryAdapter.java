@@ -1,48 +1,188 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
 
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
 import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.BookingEntity;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.AggregateWriter;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @Primary
-public class JpaBookingRepositoryAdapter implements BookingRepository {
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaBookingRepositoryAdapter implements BookingRepository, AggregateWriter<Booking> {
+
+    static final int EXPORT_CLEAR_INTERVAL = 500;
 
     private final SpringDataBookingRepository springDataRepository;
     private final BookingMapper bookingMapper;
+    private final JpaFlightRepositoryAdapter flightAdapter;
+    private final UnitOfWork unitOfWork;
+    private final EntityManager entityManager;
 
-    public JpaBookingRepositoryAdapter(SpringDataBookingRepository springDataRepository, BookingMapper bookingMapper) {
+    public JpaBookingRepositoryAdapter(SpringDataBookingRepository springDataRepository,
+                                       BookingMapper bookingMapper,
+                                       JpaFlightRepositoryAdapter flightAdapter,
+                                       UnitOfWork unitOfWork,
+                                       EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
         this.bookingMapper = bookingMapper;
+        this.flightAdapter = flightAdapter;
+        this.unitOfWork = unitOfWork;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Booking save(Booking booking) {
         BookingEntity bookingEntity =
                 springDataRepository.save(bookingMapper.toEntity(booking));
+        unitOfWork.evict(this, booking.getId());
         return bookingMapper.toDomain(bookingEntity);
     }
 
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        List<BookingEntity> saved = springDataRepository.saveAll(
+                bookings.stream()
+                        .map(bookingMapper::toEntity)
+                        .toList()
+        );
+        bookings.forEach(booking -> unitOfWork.evict(this, booking.getId()));
+
+        return saved.stream()
+                .map(bookingMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Booking> findById(Long bookingId) {
         return springDataRepository
                 .findById(bookingId)
-                .map(bookingMapper::toDomain);
+                .map(bookingMapper::toDomain)
+                .map(this::track);
+    }
+
+    /**
+     * Each criterion has an index ending in the booking ID, so the page is read as a range
+     * of one index starting right after the cursor. Passenger and flight come in the same select
+     * through a fetch graph.
+     */
+    @Override
+    public List<Booking> findPage(BookingFilter filter, Long afterId, int limit) {
+        List<Specification<BookingEntity>> criteria = new ArrayList<>();
+        if (afterId != null) {
+            criteria.add((booking, query, builder) -> builder.greaterThan(booking.get("id"), afterId));
+        }
+        if (filter.status() != null) {
+            criteria.add((booking, query, builder) -> builder.equal(booking.get("status"), filter.status()));
+        }
+        if (filter.flightId() != null) {
+            criteria.add((booking, query, builder) ->
+                    builder.equal(booking.get("flightEntity").get("id"), filter.flightId()));
+        }
+        if (filter.passengerId() != null) {
+            criteria.add((booking, query, builder) ->
+                    builder.equal(booking.get("passengerEntity").get("id"), filter.passengerId()));
+        }
+
+        return springDataRepository
+                .findBy(Specification.allOf(criteria), page -> page
+                        .project("passengerEntity", "flightEntity")
+                        .sortBy(Sort.by("id"))
+                        .limit(limit)
+                        .all())
+                .stream()
+                .map(bookingMapper::toDomain)
+                .toList();
     }
 
     @Override
-    public List<Booking> findAll() {
+    public List<Booking> findByPassengerId(Long passengerId, Long afterId, int limit) {
         return springDataRepository
-                .findAll()
+                .findPassengerPage(passengerId, afterId == null ? 0L : afterId, Limit.of(limit))
                 .stream()
                 .map(bookingMapper::toDomain)
                 .toList();
     }
+
+    /**
+     * Reads the rows through a cursor instead of a list, and clears the persistence context every
+     * {@value #EXPORT_CLEAR_INTERVAL} bookings so the loaded entities do not pile up in it.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachAfter(Long afterId, Consumer<Booking> action) {
+        try (Stream<BookingEntity> bookings = springDataRepository.streamAfter(afterId == null ? 0L : afterId)) {
+            int sinceClear = 0;
+            for (BookingEntity entity : (Iterable<BookingEntity>) bookings::iterator) {
+                action.accept(bookingMapper.toDomain(entity));
+                if (++sinceClear == EXPORT_CLEAR_INTERVAL) {
+                    entityManager.clear();
+                    sinceClear = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachConfirmedOnFlight(Long flightId, Consumer<Booking> action) {
+        try (Stream<BookingEntity> bookings = springDataRepository.streamByFlight(flightId, BookingStatus.CONFIRMED)) {
+            bookings.map(bookingMapper::toDomain).forEach(action);
+        }
+    }
+
+    private Booking track(Booking booking) {
+        Flight flight = flightAdapter.track(booking.getFlight());
+
+        Booking withTrackedFlight = flight == booking.getFlight()
+                ? booking
+                : Booking.fromPersistence(
+                        booking.getId(),
+                        booking.getPassenger(),
+                        flight,
+                        booking.getStatus(),
+                        booking.getCreatedAt(),
+                        booking.getSeatNumber());
+
+        return unitOfWork.track(withTrackedFlight, this);
+    }
+
+    @Override
+    public Long idOf(Booking booking) {
+        return booking.getId();
+    }
+
+    @Override
+    public Object stateOf(Booking booking) {
+        return Arrays.asList(booking.getStatus(), booking.getSeatNumber());
+    }
+
+    @Override
+    public void writeAll(List<Booking> bookings) {
+        springDataRepository.saveAll(
+                bookings.stream()
+                        .map(bookingMapper::toEntity)
+                        .toList()
+        );
+    }
 }
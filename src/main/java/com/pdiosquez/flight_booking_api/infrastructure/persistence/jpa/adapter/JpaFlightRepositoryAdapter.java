@@ -1,38 +1,210 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
 
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.FlightEntity;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataFlightRepository;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.AggregateWriter;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightSeatsChangedEvent;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository("flightAdapter")
 @Primary
-public class JpaFlightRepositoryAdapter implements FlightRepository {
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaFlightRepositoryAdapter implements FlightRepository, AggregateWriter<Flight> {
 
     private final SpringDataFlightRepository springDataRepository;
     private final FlightMapper flightMapper;
+    private final UnitOfWork unitOfWork;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    public JpaFlightRepositoryAdapter(SpringDataFlightRepository springDataRepository, FlightMapper flightMapper) {
+    public JpaFlightRepositoryAdapter(SpringDataFlightRepository springDataRepository,
+                                      FlightMapper flightMapper,
+                                      UnitOfWork unitOfWork,
+                                      ApplicationEventPublisher eventPublisher,
+                                      EntityManager entityManager) {
         this.springDataRepository = springDataRepository;
         this.flightMapper = flightMapper;
+        this.unitOfWork = unitOfWork;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Flight save(Flight flight) {
         FlightEntity flightEntity = springDataRepository.save(flightMapper.toEntity(flight));
+        unitOfWork.evict(this, flight.getId());
 
-        return flightMapper.toDomain(flightEntity);
+        Flight saved = flightMapper.toDomain(flightEntity);
+        eventPublisher.publishEvent(new FlightWrittenEvent(saved));
+        return saved;
     }
 
     @Override
     public Optional<Flight> findById(Long flightId) {
         return springDataRepository.findById(flightId)
-                .map(flightMapper::toDomain);
+                .map(flightMapper::toDomain)
+                .map(this::track);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Flight> findAllById(Collection<Long> flightIds) {
+        return springDataRepository.findAllById(flightIds)
+                .stream()
+                .map(flightMapper::toDomain)
+                .map(this::track)
+                .toList();
+    }
+
+    @Override
+    public List<Flight> findAll() {
+        return springDataRepository.findAll()
+                .stream()
+                .map(flightMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Both route columns are matched by equality, so the departure window is a range scan
+     * of the {@code idx_flights_route_departure} index.
+     */
+    @Override
+    public List<Flight> search(FlightSearchCriteria criteria) {
+        List<Specification<FlightEntity>> conditions = new ArrayList<>();
+        conditions.add((flight, query, builder) -> builder.equal(flight.get("origin"), criteria.origin()));
+        conditions.add((flight, query, builder) -> builder.equal(flight.get("destination"), criteria.destination()));
+        if (criteria.from() != null) {
+            conditions.add((flight, query, builder) ->
+                    builder.greaterThanOrEqualTo(flight.get("departureTime"), criteria.from()));
+        }
+        if (criteria.to() != null) {
+            conditions.add((flight, query, builder) ->
+                    builder.lessThanOrEqualTo(flight.get("departureTime"), criteria.to()));
+        }
+        conditions.add((flight, query, builder) -> builder.greaterThanOrEqualTo(
+                builder.diff(builder.diff(flight.<Integer>get("capacity"), flight.<Integer>get("occupiedSeats")),
+                        flight.<Integer>get("heldSeats")),
+                criteria.minSeats()));
+
+        return springDataRepository
+                .findAll(Specification.allOf(conditions), Sort.by("departureTime", "id"))
+                .stream()
+                .map(flightMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public boolean reserveSeat(Long flightId, LocalDateTime currentTime) {
+        return updated(flightId, springDataRepository.reserveSeat(flightId, currentTime), 1, 0);
+    }
+
+    @Override
+    public boolean reserveSeats(Long flightId, int seats, LocalDateTime currentTime) {
+        return updated(flightId, springDataRepository.reserveSeats(flightId, seats, currentTime), seats, 0);
+    }
+
+    @Override
+    public boolean holdSeat(Long flightId, LocalDateTime currentTime) {
+        return updated(flightId, springDataRepository.holdSeat(flightId, currentTime), 0, 1);
+    }
+
+    @Override
+    public boolean releaseHeldSeat(Long flightId) {
+        return updated(flightId, springDataRepository.releaseHeldSeat(flightId), 0, -1);
+    }
+
+    @Override
+    public boolean confirmHeldSeat(Long flightId) {
+        return updated(flightId, springDataRepository.confirmHeldSeat(flightId), 1, -1);
+    }
+
+    /**
+     * Locks the row and reads it again, since a seat counter update earlier in the transaction
+     * leaves the loaded entity stale. The seat map is written before returning, so the next
+     * load in the transaction sees the seat taken.
+     */
+    @Override
+    public int assignSeat(Long flightId, LocalDateTime currentTime) {
+        FlightEntity flightEntity = springDataRepository.findById(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+        entityManager.refresh(flightEntity, LockModeType.PESSIMISTIC_WRITE);
+
+        Flight flight = flightMapper.toDomain(flightEntity);
+        int seatNumber = flight.assignSeats(1, currentTime)[0];
+        flightEntity.setSeatMap(flight.getSeatMap().toBytes());
+        springDataRepository.flush();
+
+        unitOfWork.evict(this, flightId);
+        eventPublisher.publishEvent(new FlightWrittenEvent(flightMapper.toDomain(flightEntity)));
+        return seatNumber;
+    }
+
+    /**
+     * The updated row stays locked until the transaction ends, so the version read back
+     * is the one this update gave it.
+     */
+    private boolean updated(Long flightId, int rows, int occupiedDelta, int heldDelta) {
+        if (rows != 1) {
+            return false;
+        }
+        unitOfWork.evict(this, flightId);
+        eventPublisher.publishEvent(new FlightSeatsChangedEvent(
+                flightId, occupiedDelta, heldDelta, springDataRepository.findVersionById(flightId)));
+        return true;
+    }
+
+    Flight track(Flight flight) {
+        return unitOfWork.track(flight, this);
+    }
+
+    @Override
+    public Long idOf(Flight flight) {
+        return flight.getId();
+    }
+
+    @Override
+    public Object stateOf(Flight flight) {
+        return List.of(flight.getOccupiedSeats(), flight.getHeldSeats(), flight.getSeatMap().copy());
+    }
+
+    /**
+     * Publishes each flight with the version the write gives it.
+     */
+    @Override
+    public void writeAll(List<Flight> flights) {
+        springDataRepository.saveAll(
+                flights.stream()
+                        .map(flightMapper::toEntity)
+                        .toList()
+        );
+        flights.forEach(flight -> eventPublisher.publishEvent(new FlightWrittenEvent(Flight.fromPersistence(
+                flight.getId(),
+                flight.getOrigin(),
+                flight.getDestination(),
+                flight.getCapacity(),
+                flight.getOccupiedSeats(),
+                flight.getHeldSeats(),
+                flight.getDepartureTime(),
+                flight.getVersion() + 1,
+                flight.getSeatMap().copy()))));
+    }
+}
@@ -0,0 +1,108 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyStore;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.IdempotencyKeyEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataIdempotencyKeyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link IdempotencyStore} keeping keys in the database, so they survive restarts and are shared by every instance.
+ * A key is claimed by inserting its row; the primary key turns a concurrent duplicate into a failed insert.
+ * Duplicates poll the row until the original request records its result or deletes the row.
+ * The claim is a lease of {@code waitTimeout}: a row still without a result after it, e.g. because
+ * its request died before completing or releasing the key, is taken over by the next claim.
+ * Expired rows are purged at most once a minute.
+ */
+@Repository("idempotencyStoreAdapter")
+@ConditionalOnProperty(prefix = "booking.idempotency", name = "store", havingValue = "jpa")
+public class JpaIdempotencyStoreAdapter implements IdempotencyStore {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final SpringDataIdempotencyKeyRepository springDataRepository;
+    private final IdempotencyProperties properties;
+    private final AtomicReference<LocalDateTime> nextPurge = new AtomicReference<>(LocalDateTime.MIN);
+
+    public JpaIdempotencyStoreAdapter(SpringDataIdempotencyKeyRepository springDataRepository,
+                                      IdempotencyProperties properties) {
+        this.springDataRepository = springDataRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean claim(String key, String fingerprint, LocalDateTime currentTime) {
+        purgeExpired(currentTime);
+        springDataRepository.deleteIfExpired(key, currentTime);
+
+        try {
+            springDataRepository.saveAndFlush(
+                    new IdempotencyKeyEntity(key, fingerprint, null,
+                            currentTime.plus(properties.ttl()), currentTime.plus(properties.waitTimeout())));
+            return true;
+        } catch (DataIntegrityViolationException duplicate) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<Long> awaitResult(String key, String fingerprint, LocalDateTime currentTime, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            Optional<IdempotencyKeyEntity> found = springDataRepository.findById(key)
+                    .filter(entity -> !entity.getExpiresAt().isBefore(currentTime))
+                    .filter(entity -> entity.getResultId() != null || !entity.getLeaseExpiresAt().isBefore(currentTime));
+
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!found.get().getFingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            if (found.get().getResultId() != null) {
+                return Optional.of(found.get().getResultId());
+            }
+            if (System.nanoTime() >= deadline) {
+                return Optional.empty();
+            }
+            pause();
+        }
+    }
+
+    @Override
+    public void complete(String key, Long resultId) {
+        springDataRepository.complete(key, resultId);
+    }
+
+    @Override
+    public void release(String key) {
+        springDataRepository.release(key);
+    }
+
+    private void purgeExpired(LocalDateTime currentTime) {
+        LocalDateTime scheduled = nextPurge.get();
+        if (currentTime.isBefore(scheduled)
+                || !nextPurge.compareAndSet(scheduled, currentTime.plus(PURGE_INTERVAL))) {
+            return;
+        }
+        springDataRepository.deleteAllExpired(currentTime);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.pollInterval());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an idempotent request.", e);
+        }
+    }
+}
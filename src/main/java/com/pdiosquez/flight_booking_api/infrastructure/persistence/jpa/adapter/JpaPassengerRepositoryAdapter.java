@@ -1,17 +1,25 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
 
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.PassengerEntity;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataPassengerRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Repository("passengerAdapter")
 @Primary
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "jpa", matchIfMissing = true)
 public class JpaPassengerRepositoryAdapter implements PassengerRepository {
 
     private final SpringDataPassengerRepository springDataRepository;
@@ -22,18 +30,58 @@ public class JpaPassengerRepositoryAdapter implements PassengerRepository {
         this.mapper = mapper;
     }
 
+    /**
+     * @throws PassengerEmailAlreadyExistsException If the insert hits the unique email constraint,
+     * e.g. when another registration with the same email got in first. Any other integrity violation
+     * is rethrown as it is.
+     */
     @Override
     public Passenger save(Passenger passenger) {
         PassengerEntity entity = mapper.toEntity(passenger);
 
-        PassengerEntity savedEntity = springDataRepository.save(entity);
+        PassengerEntity savedEntity;
+        try {
+            savedEntity = springDataRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesEmailConstraint(e)) {
+                throw new PassengerEmailAlreadyExistsException(passenger.getEmail());
+            }
+            throw e;
+        }
 
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * The database may report the constraint with a schema prefix or an index suffix,
+     * e.g. {@code PUBLIC.UK_PASSENGERS_EMAIL_INDEX_4} on H2, so the name is matched loosely.
+     */
+    private static boolean violatesEmailConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(PassengerEntity.EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Passenger> findByEmail(String email) {
+        return springDataRepository.findByEmail(Passenger.normalizeEmail(email))
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Optional<Passenger> findById(Long passengerId) {
         return springDataRepository.findById(passengerId)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<Passenger> findAllById(Collection<Long> passengerIds) {
+        return springDataRepository.findAllById(passengerIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 }
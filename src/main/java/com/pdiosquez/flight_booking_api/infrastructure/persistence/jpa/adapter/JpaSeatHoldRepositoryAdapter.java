@@ -0,0 +1,49 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.SeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.SeatHoldEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.SeatHoldMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataSeatHoldRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository("seatHoldAdapter")
+@Primary
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaSeatHoldRepositoryAdapter implements SeatHoldRepository {
+
+    private final SpringDataSeatHoldRepository springDataRepository;
+    private final SeatHoldMapper seatHoldMapper;
+
+    public JpaSeatHoldRepositoryAdapter(SpringDataSeatHoldRepository springDataRepository,
+                                        SeatHoldMapper seatHoldMapper) {
+        this.springDataRepository = springDataRepository;
+        this.seatHoldMapper = seatHoldMapper;
+    }
+
+    @Override
+    public SeatHold save(SeatHold seatHold) {
+        SeatHoldEntity seatHoldEntity = springDataRepository.save(seatHoldMapper.toEntity(seatHold));
+        return seatHoldMapper.toDomain(seatHoldEntity);
+    }
+
+    @Override
+    public Optional<SeatHold> findById(Long seatHoldId) {
+        return springDataRepository.findById(seatHoldId)
+                .map(seatHoldMapper::toDomain);
+    }
+
+    @Override
+    public List<SeatHold> findAllByStatus(SeatHoldStatus status) {
+        return springDataRepository.findAllByStatus(status)
+                .stream()
+                .map(seatHoldMapper::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.WaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.WaitlistEntryEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.WaitlistEntryMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataWaitlistRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository("waitlistAdapter")
+@Primary
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "jpa", matchIfMissing = true)
+public class JpaWaitlistRepositoryAdapter implements WaitlistRepository {
+
+    private final SpringDataWaitlistRepository springDataRepository;
+    private final WaitlistEntryMapper waitlistEntryMapper;
+
+    public JpaWaitlistRepositoryAdapter(SpringDataWaitlistRepository springDataRepository,
+                                        WaitlistEntryMapper waitlistEntryMapper) {
+        this.springDataRepository = springDataRepository;
+        this.waitlistEntryMapper = waitlistEntryMapper;
+    }
+
+    @Override
+    public WaitlistEntry save(WaitlistEntry entry) {
+        WaitlistEntryEntity entryEntity = springDataRepository.save(waitlistEntryMapper.toEntity(entry));
+        return waitlistEntryMapper.toDomain(entryEntity);
+    }
+
+    @Override
+    public Optional<WaitlistEntry> findById(Long entryId) {
+        return springDataRepository.findById(entryId)
+                .map(waitlistEntryMapper::toDomain);
+    }
+
+    @Override
+    public Optional<WaitlistEntry> findNextWaiting(Long flightId) {
+        return springDataRepository
+                .findFirstByFlightIdAndStatusOrderByPriorityDescJoinedAtAscIdAsc(flightId, WaitlistStatus.WAITING)
+                .map(waitlistEntryMapper::toDomain);
+    }
+}
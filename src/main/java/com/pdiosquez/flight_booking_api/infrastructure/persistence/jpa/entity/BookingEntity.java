@@ -7,7 +7,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_status", columnList = "status, id"),
+        @Index(name = "idx_bookings_flight", columnList = "flight_id, id"),
+        @Index(name = "idx_bookings_passenger", columnList = "passenger_id, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -15,7 +19,8 @@ import java.time.LocalDateTime;
 public class BookingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -33,6 +38,9 @@ public class BookingEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "seat_number")
+    private Integer seatNumber;
+
     public static BookingEntity of(
             PassengerEntity passengerEntity,
             FlightEntity flightEntity,
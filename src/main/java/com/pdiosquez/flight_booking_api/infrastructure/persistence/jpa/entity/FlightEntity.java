@@ -10,7 +10,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "flights")
+@Table(name = "flights", indexes = {
+        @Index(name = "idx_flights_route_departure", columnList = "origin, destination, departure_time")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -33,9 +35,23 @@ public class FlightEntity {
     @Column(name = "occupied_seats", nullable = false)
     private int occupiedSeats;
 
+    @Column(name = "held_seats", nullable = false)
+    private int heldSeats;
+
     @Column(name = "departure_time", nullable = false)
     private LocalDateTime departureTime;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * One bit per seat, see {@link com.pdiosquez.flight_booking_api.domain.model.SeatMap#toBytes()}.
+     */
+    @Lob
+    @Column(name = "seat_map")
+    private byte[] seatMap;
+
     public static FlightEntity of(String origin, String destination, int capacity, int occupiedSeats, LocalDateTime departureTime) {
         FlightEntity entity  = new FlightEntity();
         entity.origin        = origin;
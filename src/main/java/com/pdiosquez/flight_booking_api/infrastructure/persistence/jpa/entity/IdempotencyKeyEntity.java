@@ -0,0 +1,49 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false)
+    private String fingerprint;
+
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Until when the request that claimed the key owns it; a key still without a result
+     * after this can be claimed again.
+     */
+    @Column(name = "lease_expires_at", nullable = false)
+    private LocalDateTime leaseExpiresAt;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    /**
+     * Keys are only ever inserted, so saving one must fail on a duplicate instead of merging over it.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -4,12 +4,17 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "passengers")
+@Table(name = "passengers", uniqueConstraints = @UniqueConstraint(
+        name = PassengerEntity.EMAIL_CONSTRAINT,
+        columnNames = "email_address"))
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PassengerEntity {
+
+    public static final String EMAIL_CONSTRAINT = "uk_passengers_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -17,7 +22,7 @@ public class PassengerEntity {
     @Column(name = "full_name", nullable = false)
     private String name;
 
-    @Column(name = "email_address", nullable = false, unique = true)
+    @Column(name = "email_address", nullable = false)
     private String email;
 
     public static PassengerEntity of(String name, String email) {
@@ -0,0 +1,47 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The index follows the promotion order, so the next entry of a flight is the first row
+ * of an index range instead of a scan of the waitlist.
+ */
+@Entity
+@Table(name = "waitlist_entries", indexes = @Index(
+        name = "idx_waitlist_entries_next",
+        columnList = "flight_id, status, priority DESC, joined_at, id"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "passenger_id", nullable = false)
+    private PassengerEntity passengerEntity;
+
+    @Column(name = "flight_id", nullable = false)
+    private Long flightId;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private WaitlistStatus status;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+}
@@ -4,7 +4,7 @@ import com.pdiosquez.flight_booking_api.domain.model.Booking;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.BookingEntity;
 import org.springframework.stereotype.Component;
 
-@Component
+@Component("bookingEntityMapper")
 public class BookingMapper {
 
     private final PassengerMapper passengerMapper;
@@ -23,7 +23,8 @@ public class BookingMapper {
                 passengerMapper.toEntity(booking.getPassenger()),
                 flightMapper.toEntity(booking.getFlight()),
                 booking.getStatus(),
-                booking.getCreatedAt()
+                booking.getCreatedAt(),
+                booking.getSeatNumber()
         );
     }
 
@@ -35,7 +36,8 @@ public class BookingMapper {
                 passengerMapper.toDomain(bookingEntity.getPassengerEntity()),
                 flightMapper.toDomain(bookingEntity.getFlightEntity()),
                 bookingEntity.getStatus(),
-                bookingEntity.getCreatedAt()
+                bookingEntity.getCreatedAt(),
+                bookingEntity.getSeatNumber()
         );
     }
 
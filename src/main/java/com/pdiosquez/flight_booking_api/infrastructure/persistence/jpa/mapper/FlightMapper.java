@@ -1,10 +1,11 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper;
 
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.SeatMap;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.FlightEntity;
 import org.springframework.stereotype.Component;
 
-@Component
+@Component("flightEntityMapper")
 public class FlightMapper {
 
     public FlightEntity toEntity(Flight flight) {
@@ -16,7 +17,10 @@ public class FlightMapper {
                 flight.getDestination(),
                 flight.getCapacity(),
                 flight.getOccupiedSeats(),
-                flight.getDepartureTime()
+                flight.getHeldSeats(),
+                flight.getDepartureTime(),
+                flight.getVersion(),
+                flight.getSeatMap().toBytes()
         );
     }
 
@@ -29,7 +33,10 @@ public class FlightMapper {
                 flightEntity.getDestination(),
                 flightEntity.getCapacity(),
                 flightEntity.getOccupiedSeats(),
-                flightEntity.getDepartureTime()
+                flightEntity.getHeldSeats(),
+                flightEntity.getDepartureTime(),
+                flightEntity.getVersion(),
+                SeatMap.fromBytes(flightEntity.getCapacity(), flightEntity.getSeatMap())
         );
     }
 }
@@ -4,7 +4,7 @@ import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.PassengerEntity;
 import org.springframework.stereotype.Component;
 
-@Component
+@Component("passengerEntityMapper")
 public class PassengerMapper {
 
     public PassengerEntity toEntity(Passenger passenger) {
@@ -0,0 +1,45 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.SeatHoldEntity;
+import org.springframework.stereotype.Component;
+
+@Component("seatHoldEntityMapper")
+public class SeatHoldMapper {
+
+    private final PassengerMapper passengerMapper;
+    private final FlightMapper flightMapper;
+
+    public SeatHoldMapper(PassengerMapper passengerMapper, FlightMapper flightMapper) {
+        this.passengerMapper = passengerMapper;
+        this.flightMapper    = flightMapper;
+    }
+
+    public SeatHoldEntity toEntity(SeatHold seatHold) {
+        if (seatHold == null) return null;
+
+        return new SeatHoldEntity(
+                seatHold.getId(),
+                passengerMapper.toEntity(seatHold.getPassenger()),
+                flightMapper.toEntity(seatHold.getFlight()),
+                seatHold.getStatus(),
+                seatHold.getCreatedAt(),
+                seatHold.getExpiresAt(),
+                seatHold.getVersion()
+        );
+    }
+
+    public SeatHold toDomain(SeatHoldEntity seatHoldEntity) {
+        if (seatHoldEntity == null) return null;
+
+        return SeatHold.fromPersistence(
+                seatHoldEntity.getId(),
+                passengerMapper.toDomain(seatHoldEntity.getPassengerEntity()),
+                flightMapper.toDomain(seatHoldEntity.getFlightEntity()),
+                seatHoldEntity.getStatus(),
+                seatHoldEntity.getCreatedAt(),
+                seatHoldEntity.getExpiresAt(),
+                seatHoldEntity.getVersion()
+        );
+    }
+}
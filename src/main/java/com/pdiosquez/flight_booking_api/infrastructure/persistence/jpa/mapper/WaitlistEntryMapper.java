@@ -0,0 +1,43 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.WaitlistEntryEntity;
+import org.springframework.stereotype.Component;
+
+@Component("waitlistEntryEntityMapper")
+public class WaitlistEntryMapper {
+
+    private final PassengerMapper passengerMapper;
+
+    public WaitlistEntryMapper(PassengerMapper passengerMapper) {
+        this.passengerMapper = passengerMapper;
+    }
+
+    public WaitlistEntryEntity toEntity(WaitlistEntry entry) {
+        if (entry == null) return null;
+
+        return new WaitlistEntryEntity(
+                entry.getId(),
+                passengerMapper.toEntity(entry.getPassenger()),
+                entry.getFlightId(),
+                entry.getPriority(),
+                entry.getStatus(),
+                entry.getJoinedAt(),
+                entry.getVersion()
+        );
+    }
+
+    public WaitlistEntry toDomain(WaitlistEntryEntity entryEntity) {
+        if (entryEntity == null) return null;
+
+        return WaitlistEntry.fromPersistence(
+                entryEntity.getId(),
+                passengerMapper.toDomain(entryEntity.getPassengerEntity()),
+                entryEntity.getFlightId(),
+                entryEntity.getPriority(),
+                entryEntity.getStatus(),
+                entryEntity.getJoinedAt(),
+                entryEntity.getVersion()
+        );
+    }
+}
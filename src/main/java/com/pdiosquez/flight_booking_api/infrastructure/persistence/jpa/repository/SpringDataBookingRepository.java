@@ -1,7 +1,94 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository;
 
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.BookingEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface SpringDataBookingRepository extends JpaRepository<BookingEntity, Long> {
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface SpringDataBookingRepository extends JpaRepository<BookingEntity, Long>, JpaSpecificationExecutor<BookingEntity> {
+
+    /**
+     * Loads the booking with its passenger and flight in the same select, since mapping it to the
+     * domain touches both.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"passengerEntity", "flightEntity"})
+    Optional<BookingEntity> findById(Long id);
+
+    /**
+     * Inserts or overwrites the row of the booking keeping the ID it already has,
+     * for stores that hand out IDs before the booking reaches the database.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO bookings (id, passenger_id, flight_id, status, created_at, seat_number)
+            KEY (id)
+            VALUES (:#{#booking.id},
+                    :#{#booking.passengerEntity.id},
+                    :#{#booking.flightEntity.id},
+                    :#{#booking.status.name()},
+                    :#{#booking.createdAt},
+                    :#{#booking.seatNumber})
+            """)
+    int upsert(@Param("booking") BookingEntity booking);
+
+    /**
+     * Streams the bookings above the given ID with their passenger and flight, letting the
+     * driver fetch rows in batches. Must be consumed and closed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT b FROM BookingEntity b
+            JOIN FETCH b.passengerEntity
+            JOIN FETCH b.flightEntity
+            WHERE b.id > :afterId
+            ORDER BY b.id
+            """)
+    Stream<BookingEntity> streamAfter(@Param("afterId") long afterId);
+
+    /**
+     * Reads one page of the bookings of the passenger above the given ID with their passenger and
+     * flight, walking the {@code idx_bookings_passenger} index in ID order.
+     */
+    @Query("""
+            SELECT b FROM BookingEntity b
+            JOIN FETCH b.passengerEntity
+            JOIN FETCH b.flightEntity
+            WHERE b.passengerEntity.id = :passengerId
+              AND b.id > :afterId
+            ORDER BY b.id
+            """)
+    List<BookingEntity> findPassengerPage(@Param("passengerId") long passengerId,
+                                          @Param("afterId") long afterId,
+                                          Limit limit);
+
+    /**
+     * Streams the confirmed bookings of the flight with their passenger and flight,
+     * walking the {@code idx_bookings_flight} index in ID order. Must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            SELECT b FROM BookingEntity b
+            JOIN FETCH b.passengerEntity
+            JOIN FETCH b.flightEntity
+            WHERE b.flightEntity.id = :flightId
+              AND b.status = :status
+            ORDER BY b.id
+            """)
+    Stream<BookingEntity> streamByFlight(@Param("flightId") long flightId, @Param("status") BookingStatus status);
 }
@@ -2,8 +2,97 @@ package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.reposito
 
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.FlightEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
-public interface SpringDataFlightRepository extends JpaRepository<FlightEntity, Long> {
+public interface SpringDataFlightRepository extends JpaRepository<FlightEntity, Long>, JpaSpecificationExecutor<FlightEntity> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlightEntity f
+               SET f.occupiedSeats = f.occupiedSeats + 1,
+                   f.version = f.version + 1
+             WHERE f.id = :flightId
+               AND f.occupiedSeats + f.heldSeats < f.capacity
+               AND f.departureTime >= :currentTime
+            """)
+    int reserveSeat(@Param("flightId") Long flightId, @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlightEntity f
+               SET f.occupiedSeats = f.occupiedSeats + :seats,
+                   f.version = f.version + 1
+             WHERE f.id = :flightId
+               AND f.occupiedSeats + f.heldSeats + :seats <= f.capacity
+               AND f.departureTime >= :currentTime
+            """)
+    int reserveSeats(@Param("flightId") Long flightId,
+                     @Param("seats") int seats,
+                     @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlightEntity f
+               SET f.heldSeats = f.heldSeats + 1,
+                   f.version = f.version + 1
+             WHERE f.id = :flightId
+               AND f.occupiedSeats + f.heldSeats < f.capacity
+               AND f.departureTime >= :currentTime
+            """)
+    int holdSeat(@Param("flightId") Long flightId, @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlightEntity f
+               SET f.heldSeats = f.heldSeats - 1,
+                   f.version = f.version + 1
+             WHERE f.id = :flightId
+               AND f.heldSeats > 0
+            """)
+    int releaseHeldSeat(@Param("flightId") Long flightId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE FlightEntity f
+               SET f.heldSeats = f.heldSeats - 1,
+                   f.occupiedSeats = f.occupiedSeats + 1,
+                   f.version = f.version + 1
+             WHERE f.id = :flightId
+               AND f.heldSeats > 0
+            """)
+    int confirmHeldSeat(@Param("flightId") Long flightId);
+
+    /**
+     * Reads the version straight from the row, e.g. right after a guarded update, which
+     * bumps it without going through the persistence context.
+     */
+    @Query("SELECT f.version FROM FlightEntity f WHERE f.id = :flightId")
+    long findVersionById(@Param("flightId") Long flightId);
+
+    /**
+     * Inserts or overwrites the row of the flight keeping the ID and version it already has,
+     * for stores that hand out IDs before the flight reaches the database.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO flights (id, origin, destination, capacity, occupied_seats, held_seats, departure_time, version, seat_map)
+            KEY (id)
+            VALUES (:#{#flight.id},
+                    :#{#flight.origin},
+                    :#{#flight.destination},
+                    :#{#flight.capacity},
+                    :#{#flight.occupiedSeats},
+                    :#{#flight.heldSeats},
+                    :#{#flight.departureTime},
+                    :#{#flight.version},
+                    :#{#flight.seatMap})
+            """)
+    int upsert(@Param("flight") FlightEntity flight);
 }
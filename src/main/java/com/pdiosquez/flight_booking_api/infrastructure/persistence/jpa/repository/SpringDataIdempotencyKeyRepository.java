@@ -0,0 +1,38 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository;
+
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SpringDataIdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.resultId = :resultId WHERE k.key = :key")
+    int complete(@Param("key") String key, @Param("resultId") Long resultId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.key = :key")
+    int release(@Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM IdempotencyKeyEntity k
+             WHERE k.key = :key
+               AND (k.expiresAt < :currentTime
+                    OR (k.resultId IS NULL AND k.leaseExpiresAt < :currentTime))
+            """)
+    int deleteIfExpired(@Param("key") String key, @Param("currentTime") LocalDateTime currentTime);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :currentTime")
+    int deleteAllExpired(@Param("currentTime") LocalDateTime currentTime);
+}
@@ -2,6 +2,28 @@ package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.reposito
 
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.PassengerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface SpringDataPassengerRepository extends JpaRepository<PassengerEntity, Long> {
+
+    /**
+     * Looks the passenger up through the unique index on {@code email_address}.
+     */
+    Optional<PassengerEntity> findByEmail(String email);
+
+    /**
+     * Inserts or overwrites the row of the passenger keeping the ID it already has,
+     * for stores that hand out IDs before the passenger reaches the database.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO passengers (id, full_name, email_address)
+            KEY (id)
+            VALUES (:#{#passenger.id}, :#{#passenger.name}, :#{#passenger.email})
+            """)
+    int upsert(@Param("passenger") PassengerEntity passenger);
 }
@@ -0,0 +1,41 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.SeatHoldEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SpringDataSeatHoldRepository extends JpaRepository<SeatHoldEntity, Long> {
+
+    List<SeatHoldEntity> findAllByStatus(SeatHoldStatus status);
+
+    /**
+     * Loads every hold with its passenger and flight in the same select, since mapping it to the domain touches both.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"passengerEntity", "flightEntity"})
+    List<SeatHoldEntity> findAll();
+
+    /**
+     * Inserts or overwrites the row of the hold keeping the ID and version it already has,
+     * for stores that hand out IDs before the hold reaches the database.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO seat_holds (id, passenger_id, flight_id, status, created_at, expires_at, version)
+            KEY (id)
+            VALUES (:#{#seatHold.id},
+                    :#{#seatHold.passengerEntity.id},
+                    :#{#seatHold.flightEntity.id},
+                    :#{#seatHold.status.name()},
+                    :#{#seatHold.createdAt},
+                    :#{#seatHold.expiresAt},
+                    :#{#seatHold.version})
+            """)
+    int upsert(@Param("seatHold") SeatHoldEntity seatHold);
+}
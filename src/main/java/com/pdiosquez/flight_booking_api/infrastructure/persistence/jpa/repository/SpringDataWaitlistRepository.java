@@ -0,0 +1,42 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.WaitlistEntryEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SpringDataWaitlistRepository extends JpaRepository<WaitlistEntryEntity, Long> {
+
+    Optional<WaitlistEntryEntity> findFirstByFlightIdAndStatusOrderByPriorityDescJoinedAtAscIdAsc(Long flightId, WaitlistStatus status);
+
+    /**
+     * Loads every entry with its passenger in the same select, since mapping it to the domain touches it.
+     */
+    @Override
+    @EntityGraph(attributePaths = "passengerEntity")
+    List<WaitlistEntryEntity> findAll();
+
+    /**
+     * Inserts or overwrites the row of the entry keeping the ID and version it already has,
+     * for stores that hand out IDs before the entry reaches the database.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            MERGE INTO waitlist_entries (id, passenger_id, flight_id, priority, status, joined_at, version)
+            KEY (id)
+            VALUES (:#{#entry.id},
+                    :#{#entry.passengerEntity.id},
+                    :#{#entry.flightId},
+                    :#{#entry.priority},
+                    :#{#entry.status.name()},
+                    :#{#entry.joinedAt},
+                    :#{#entry.version})
+            """)
+    int upsert(@Param("entry") WaitlistEntryEntity entry);
+}
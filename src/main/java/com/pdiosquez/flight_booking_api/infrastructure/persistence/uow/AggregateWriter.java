@@ -0,0 +1,19 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.uow;
+
+import java.util.List;
+
+/**
+ * Describes how a repository snapshots and writes back the aggregates it hands out,
+ * so the {@link UnitOfWork} can detect changes and flush them.
+ */
+public interface AggregateWriter<T> {
+
+    Long idOf(T aggregate);
+
+    /**
+     * Captures the mutable state of the aggregate. Two snapshots are compared with {@code equals}.
+     */
+    Object stateOf(T aggregate);
+
+    void writeAll(List<T> aggregates);
+}
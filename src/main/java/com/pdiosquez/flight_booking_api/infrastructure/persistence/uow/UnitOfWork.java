@@ -0,0 +1,127 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.uow;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Transaction-scoped identity map of the aggregates loaded through the repositories.
+ * Each aggregate is tracked with a snapshot of its state. Right before commit,
+ * only the aggregates whose state changed are handed back to their
+ * {@link AggregateWriter}, in one call per writer.
+ * Outside a transaction nothing is tracked and callers have to save explicitly.
+ */
+@Component
+public class UnitOfWork {
+
+    /**
+     * Starts tracking the aggregate in the current transaction.
+     *
+     * @return the instance already tracked for the same ID, or the given aggregate.
+     */
+    public <T> T track(T aggregate, AggregateWriter<T> writer) {
+        if (aggregate == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return aggregate;
+        }
+        return currentScope().track(aggregate, writer);
+    }
+
+    /**
+     * Stops tracking an aggregate that was persisted another way,
+     * e.g. through an explicit save or a direct update in the store.
+     * The next load in the same transaction reads the stored state again.
+     */
+    public <T> void evict(AggregateWriter<T> writer, Long id) {
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        currentScope().evict(writer, id);
+    }
+
+    private Scope currentScope() {
+        Scope scope = (Scope) TransactionSynchronizationManager.getResource(this);
+        if (scope != null) {
+            return scope;
+        }
+
+        Scope newScope = new Scope();
+        TransactionSynchronizationManager.bindResource(this, newScope);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!readOnly) {
+                    newScope.flush();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UnitOfWork.this);
+            }
+        });
+        return newScope;
+    }
+
+    private static final class Scope {
+        private final Map<AggregateWriter<?>, Map<Long, Entry<?>>> entries = new LinkedHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        <T> T track(T aggregate, AggregateWriter<T> writer) {
+            Long id = writer.idOf(aggregate);
+            if (id == null) {
+                return aggregate;
+            }
+
+            Map<Long, Entry<?>> tracked = entries.computeIfAbsent(writer, key -> new LinkedHashMap<>());
+            Entry<T> entry = (Entry<T>) tracked.computeIfAbsent(
+                    id, key -> new Entry<>(aggregate, writer.stateOf(aggregate)));
+            return entry.aggregate;
+        }
+
+        <T> void evict(AggregateWriter<T> writer, Long id) {
+            Map<Long, Entry<?>> tracked = entries.get(writer);
+            if (tracked != null && id != null) {
+                tracked.remove(id);
+            }
+        }
+
+        void flush() {
+            entries.forEach(this::flush);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> void flush(AggregateWriter<T> writer, Map<Long, Entry<?>> tracked) {
+            List<Entry<T>> dirty = new ArrayList<>();
+
+            for (Entry<?> candidate : tracked.values()) {
+                Entry<T> entry = (Entry<T>) candidate;
+                if (!Objects.equals(entry.snapshot, writer.stateOf(entry.aggregate))) {
+                    dirty.add(entry);
+                }
+            }
+
+            if (dirty.isEmpty()) {
+                return;
+            }
+
+            writer.writeAll(dirty.stream().map(entry -> entry.aggregate).toList());
+            dirty.forEach(entry -> entry.snapshot = writer.stateOf(entry.aggregate));
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T aggregate;
+        private Object snapshot;
+
+        private Entry(T aggregate, Object snapshot) {
+            this.aggregate = aggregate;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.writebehind;
+
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemorySeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.SeatHoldMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.WaitlistEntryMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataSeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataWaitlistRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Makes the in-memory passenger, flight, booking, waitlist and seat hold repositories durable when
+ * {@code booking.persistence.mode} is {@code write-behind}. The in-memory stores then serve every read
+ * and write, and a write only marks the ID of the aggregate as pending, so any number of changes to
+ * one aggregate end up as a single row write of its latest state.
+ * A background thread writes the pending aggregates to the database at least every {@code max-lag},
+ * or sooner once {@code max-batch} bookings are pending. Whatever is left is written on shutdown.
+ * The stores are loaded from the database on startup, so the holds still active are put back
+ * on the expiration wheel and release their seats like before the restart.
+ * Publishes the {@code booking.writebehind.backlog} gauge, the {@code booking.writebehind.flush}
+ * timer for each transaction written and the {@code booking.writebehind.failures} counter for each
+ * transaction that failed, batched or single row.
+ */
+@Component
+@ConditionalOnProperty(prefix = "booking.persistence", name = "mode", havingValue = "write-behind")
+public class WriteBehindFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindFlusher.class);
+
+    private final Set<Long> pendingPassengers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingFlights = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingBookings = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingWaitlistEntries = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingSeatHolds = ConcurrentHashMap.newKeySet();
+    private final List<Pending> writeOrder;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final InMemoryPassengerRepository passengers;
+    private final InMemoryFlightRepository flights;
+    private final InMemoryBookingRepository bookings;
+    private final InMemoryWaitlistRepository waitlist;
+    private final InMemorySeatHoldRepository seatHolds;
+    private final SpringDataPassengerRepository passengerRepository;
+    private final SpringDataFlightRepository flightRepository;
+    private final SpringDataBookingRepository bookingRepository;
+    private final SpringDataWaitlistRepository waitlistRepository;
+    private final SpringDataSeatHoldRepository seatHoldRepository;
+    private final PassengerMapper passengerMapper;
+    private final FlightMapper flightMapper;
+    private final BookingMapper bookingMapper;
+    private final WaitlistEntryMapper waitlistEntryMapper;
+    private final SeatHoldMapper seatHoldMapper;
+    private final TransactionOperations transactionOperations;
+    private final WriteBehindProperties properties;
+    private final Timer flushTimer;
+    private final Counter failures;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("write-behind-flush").daemon().factory());
+
+    public WriteBehindFlusher(InMemoryPassengerRepository passengers,
+                              InMemoryFlightRepository flights,
+                              InMemoryBookingRepository bookings,
+                              InMemoryWaitlistRepository waitlist,
+                              InMemorySeatHoldRepository seatHolds,
+                              SpringDataPassengerRepository passengerRepository,
+                              SpringDataFlightRepository flightRepository,
+                              SpringDataBookingRepository bookingRepository,
+                              SpringDataWaitlistRepository waitlistRepository,
+                              SpringDataSeatHoldRepository seatHoldRepository,
+                              PassengerMapper passengerMapper,
+                              FlightMapper flightMapper,
+                              BookingMapper bookingMapper,
+                              WaitlistEntryMapper waitlistEntryMapper,
+                              SeatHoldMapper seatHoldMapper,
+                              TransactionOperations transactionOperations,
+                              WriteBehindProperties properties,
+                              MeterRegistry meterRegistry) {
+        if (properties.maxBatch() < 1 || !properties.maxLag().isPositive()) {
+            throw new IllegalArgumentException("Write-behind needs a positive maximum lag and batch size.");
+        }
+
+        this.passengers = passengers;
+        this.flights = flights;
+        this.bookings = bookings;
+        this.waitlist = waitlist;
+        this.seatHolds = seatHolds;
+        this.passengerRepository = passengerRepository;
+        this.flightRepository = flightRepository;
+        this.bookingRepository = bookingRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.seatHoldRepository = seatHoldRepository;
+        this.passengerMapper = passengerMapper;
+        this.flightMapper = flightMapper;
+        this.bookingMapper = bookingMapper;
+        this.waitlistEntryMapper = waitlistEntryMapper;
+        this.seatHoldMapper = seatHoldMapper;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.writeOrder = List.of(
+                new Pending("passenger", pendingPassengers, Integer.MAX_VALUE, this::writePassengers),
+                new Pending("flight", pendingFlights, Integer.MAX_VALUE, this::writeFlights),
+                new Pending("booking", pendingBookings, properties.maxBatch(), this::writeBookings),
+                new Pending("waitlist entry", pendingWaitlistEntries, Integer.MAX_VALUE, this::writeWaitlistEntries),
+                new Pending("seat hold", pendingSeatHolds, Integer.MAX_VALUE, this::writeSeatHolds));
+        this.flushTimer = Timer.builder("booking.writebehind.flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failures = Counter.builder("booking.writebehind.failures").register(meterRegistry);
+        Gauge.builder("booking.writebehind.backlog", this, WriteBehindFlusher::backlog).register(meterRegistry);
+
+        load();
+        passengers.onWrite(passenger -> pendingPassengers.add(passenger.getId()));
+        flights.onWrite(flight -> pendingFlights.add(flight.getId()));
+        waitlist.onWrite(entry -> pendingWaitlistEntries.add(entry.getId()));
+        seatHolds.onWrite(seatHold -> pendingSeatHolds.add(seatHold.getId()));
+        bookings.onWrite(booking -> {
+            pendingBookings.add(booking.getId());
+            if (pendingBookings.size() >= properties.maxBatch() && flushRequested.compareAndSet(false, true)) {
+                flusher.execute(this::flushQuietly);
+            }
+        });
+
+        long lagMillis = Math.max(1, properties.maxLag().toMillis());
+        flusher.scheduleWithFixedDelay(this::flushQuietly, lagMillis, lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes every aggregate pending at the time of the call. When a transaction fails, its rows are
+     * written again one per transaction, so a single bad aggregate does not hold back the rest.
+     * The current state is read when it is written rather than when it changed,
+     * so a change recorded while a flush is running is picked up by the next one.
+     *
+     * @return The number of rows written.
+     * @throws RuntimeException If a row cannot be written on its own; it stays pending for the next flush.
+     */
+    public synchronized int flush() {
+        int written = 0;
+
+        while (backlog() > 0) {
+            // Taken in reverse write order: a row is taken before the rows it references, so those are
+            // either in the database already or taken in this round.
+            // Only bookings are taken in batches; the rest change far less often, so each round takes all of them.
+            List<List<Long>> taken = new ArrayList<>(Collections.nCopies(writeOrder.size(), List.<Long>of()));
+            for (int i = writeOrder.size() - 1; i >= 0; i--) {
+                taken.set(i, take(writeOrder.get(i).ids(), writeOrder.get(i).batchSize()));
+            }
+            int size = taken.stream().mapToInt(List::size).sum();
+
+            try {
+                flushTimer.record(() -> transactionOperations.executeWithoutResult(status -> {
+                    for (int i = 0; i < writeOrder.size(); i++) {
+                        writeOrder.get(i).writer().accept(taken.get(i));
+                    }
+                }));
+                written += size;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Write-behind transaction failed for {}; writing its rows one by one.", describe(taken), e);
+
+                int failed = 0;
+                for (int i = 0; i < writeOrder.size(); i++) {
+                    List<Long> failedIds = writeSeparately(writeOrder.get(i), taken.get(i));
+                    writeOrder.get(i).ids().addAll(failedIds);
+                    failed += failedIds.size();
+                }
+                written += size - failed;
+                if (failed > 0) {
+                    throw e;
+                }
+            }
+        }
+        return written;
+    }
+
+    public int backlog() {
+        return writeOrder.stream().mapToInt(pending -> pending.ids().size()).sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    private void flushQuietly() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (RuntimeException ignored) {
+            // flush already logged the rows it could not write; they are pending again for the next run.
+        }
+    }
+
+    /**
+     * Writes each aggregate in a transaction of its own.
+     *
+     * @return The IDs that still failed.
+     */
+    private List<Long> writeSeparately(Pending pending, List<Long> ids) {
+        List<Long> failed = new ArrayList<>();
+        for (Long id : ids) {
+            try {
+                transactionOperations.executeWithoutResult(status -> pending.writer().accept(List.of(id)));
+            } catch (RuntimeException e) {
+                failures.increment();
+                failed.add(id);
+                log.error("Write-behind could not write {} {}; it stays pending.", pending.kind(), id, e);
+            }
+        }
+        return failed;
+    }
+
+    private void writePassengers(List<Long> passengerIds) {
+        current(passengerIds, passengers::findById)
+                .forEach(passenger -> passengerRepository.upsert(passengerMapper.toEntity(passenger)));
+    }
+
+    private void writeFlights(List<Long> flightIds) {
+        current(flightIds, flights::findById)
+                .forEach(flight -> flightRepository.upsert(flightMapper.toEntity(flight)));
+    }
+
+    private void writeBookings(List<Long> bookingIds) {
+        current(bookingIds, bookings::findById)
+                .forEach(booking -> bookingRepository.upsert(bookingMapper.toEntity(booking)));
+    }
+
+    private void writeWaitlistEntries(List<Long> waitlistEntryIds) {
+        current(waitlistEntryIds, waitlist::findById)
+                .forEach(entry -> waitlistRepository.upsert(waitlistEntryMapper.toEntity(entry)));
+    }
+
+    private void writeSeatHolds(List<Long> seatHoldIds) {
+        current(seatHoldIds, seatHolds::findById)
+                .forEach(seatHold -> seatHoldRepository.upsert(seatHoldMapper.toEntity(seatHold)));
+    }
+
+    private String describe(List<List<Long>> taken) {
+        StringJoiner description = new StringJoiner(", ");
+        for (int i = 0; i < writeOrder.size(); i++) {
+            if (!taken.get(i).isEmpty()) {
+                description.add(writeOrder.get(i).kind() + " " + taken.get(i));
+            }
+        }
+        return description.toString();
+    }
+
+    private void load() {
+        transactionOperations.executeWithoutResult(status -> {
+            passengers.load(passengerRepository.findAll().stream().map(passengerMapper::toDomain).toList());
+            flights.load(flightRepository.findAll().stream().map(flightMapper::toDomain).toList());
+            bookings.load(bookingRepository.findAll().stream().map(bookingMapper::toDomain).toList());
+            waitlist.load(waitlistRepository.findAll().stream().map(waitlistEntryMapper::toDomain).toList());
+            seatHolds.load(seatHoldRepository.findAll().stream().map(seatHoldMapper::toDomain).toList());
+        });
+    }
+
+    private static List<Long> take(Set<Long> pending, int limit) {
+        List<Long> taken = new ArrayList<>();
+        Iterator<Long> ids = pending.iterator();
+
+        while (ids.hasNext() && taken.size() < limit) {
+            taken.add(ids.next());
+            ids.remove();
+        }
+        return taken;
+    }
+
+    private static <T> List<T> current(List<Long> ids, Function<Long, Optional<T>> finder) {
+        return ids.stream()
+                .map(finder)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * The pending IDs of one kind of aggregate and how to write them. The kinds are kept in write
+     * order, so a row is written after the rows it references.
+     */
+    private record Pending(String kind, Set<Long> ids, int batchSize, Consumer<List<Long>> writer) {}
+}
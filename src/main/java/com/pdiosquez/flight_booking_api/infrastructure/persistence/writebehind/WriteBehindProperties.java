@@ -0,0 +1,19 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.writebehind;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the write-behind persistence mode.
+ *
+ * @param maxLag   Longest time a change stays in memory only before it is written to the database.
+ * @param maxBatch Number of pending bookings that triggers a flush before {@code maxLag} has passed,
+ *                 and the most bookings written in one transaction.
+ */
+@ConfigurationProperties(prefix = "booking.persistence.write-behind")
+public record WriteBehindProperties(
+        @DefaultValue("200ms") Duration maxLag,
+        @DefaultValue("500") int maxBatch
+) {}
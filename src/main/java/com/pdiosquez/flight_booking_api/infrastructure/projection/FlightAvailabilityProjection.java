@@ -0,0 +1,150 @@
+package com.pdiosquez.flight_booking_api.infrastructure.projection;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingCancelledEvent;
+import com.pdiosquez.flight_booking_api.application.service.BookingCreatedEvent;
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailability;
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailabilityView;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link FlightAvailabilityView} projected from booking events.
+ * Events are queued once their transaction commits and applied in order by a single thread,
+ * which replaces the immutable {@link FlightAvailability} of the flight; reads never lock
+ * and never touch the flight rows.
+ * Flights are loaded from the store when the application is ready and added as they are
+ * created; booking events for a flight the view does not know yet are already part of the
+ * state it loads for it.
+ * The lag is published as the {@code booking.availability.lag} gauge in seconds and the
+ * number of changes not applied yet as {@code booking.availability.pending}.
+ */
+@Component
+public class FlightAvailabilityProjection implements FlightAvailabilityView {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightAvailabilityProjection.class);
+
+    private final Map<Long, FlightAvailability> availability = new ConcurrentHashMap<>();
+    private final BlockingQueue<Change> changes = new LinkedBlockingQueue<>();
+    private final FlightRepository flightRepository;
+    private final Thread worker;
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();
+    private volatile Change applying;
+
+    public FlightAvailabilityProjection(FlightRepository flightRepository, MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        Gauge.builder("booking.availability.pending", this, FlightAvailabilityProjection::pending).register(meterRegistry);
+        Gauge.builder("booking.availability.lag", this, projection -> projection.lag().toNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.worker = Thread.ofPlatform()
+                .name("availability-projection")
+                .daemon()
+                .start(this::drain);
+    }
+
+    @Override
+    public Optional<FlightAvailability> find(Long flightId) {
+        return Optional.ofNullable(availability.get(flightId));
+    }
+
+    @Override
+    public Duration lag() {
+        Change oldest = applying;
+        if (oldest == null) {
+            oldest = changes.peek();
+        }
+        return oldest == null ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - oldest.queuedNanos());
+    }
+
+    /**
+     * @return The number of changes queued but not applied yet.
+     */
+    public long pending() {
+        return queued.get() - applied.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        enqueue(() -> flightRepository.findAll().forEach(this::addIfAbsent));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightWritten(FlightWrittenEvent event) {
+        enqueue(() -> addIfAbsent(event.flight()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCreated(BookingCreatedEvent event) {
+        enqueue(() -> adjust(event.flightId(), -1));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCancelled(BookingCancelledEvent event) {
+        enqueue(() -> adjust(event.flightId(), 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.interrupt();
+    }
+
+    private void enqueue(Runnable change) {
+        queued.incrementAndGet();
+        changes.add(new Change(System.nanoTime(), change));
+    }
+
+    private void addIfAbsent(Flight flight) {
+        availability.putIfAbsent(flight.getId(), new FlightAvailability(
+                flight.getId(),
+                flight.getOrigin(),
+                flight.getDestination(),
+                flight.getDepartureTime(),
+                flight.getCapacity(),
+                flight.getCapacity() - flight.getOccupiedSeats()
+        ));
+    }
+
+    private void adjust(Long flightId, int seats) {
+        availability.computeIfPresent(flightId, (id, current) -> current.withSeatsLeft(current.seatsLeft() + seats));
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                applying = changes.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                applying.apply().run();
+            } catch (RuntimeException failure) {
+                log.warn("Could not apply a change to the flight availability view.", failure);
+            } finally {
+                applying = null;
+                applied.incrementAndGet();
+            }
+        }
+    }
+
+    private record Change(long queuedNanos, Runnable apply) {}
+}
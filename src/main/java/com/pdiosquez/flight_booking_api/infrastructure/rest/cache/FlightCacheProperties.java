@@ -0,0 +1,18 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the flight detail cache.
+ *
+ * @param maxEntries Flights kept at most; the oldest entry is dropped to make room for a new one.
+ * @param ttl        Time an entry is served for after it was loaded, as a backstop to invalidation.
+ */
+@ConfigurationProperties(prefix = "booking.flight-cache")
+public record FlightCacheProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("30s") Duration ttl
+) {}
@@ -0,0 +1,133 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.cache;
+
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightSeatsChangedEvent;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of flight details as they are returned by the API.
+ * An entry is dropped once a write to its flight commits, so seat counts are never served
+ * stale past the end of the writing transaction. A load that raced with such a write is
+ * returned but not cached. Races are told apart by a generation counter kept per flight once it
+ * has been read, so writes to other flights do not stop a load from being cached.
+ * Entries are queued in load order; since they all live for the same time, the oldest entry is
+ * always the next to expire, and it is also the one dropped when the cache is full.
+ * Lookups are counted in {@code booking.flight.cache} tagged with {@code result=hit|miss},
+ * dropped entries in {@code booking.flight.cache.evictions}, and the size is the
+ * {@code booking.flight.cache.size} gauge.
+ */
+@Component
+public class FlightResponseCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> loadOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final FlightCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public FlightResponseCache(FlightCacheProperties properties, MeterRegistry meterRegistry) {
+        if (properties.maxEntries() < 1) {
+            throw new IllegalArgumentException("The flight cache must keep at least one entry.");
+        }
+        this.properties = properties;
+        this.hits = meterRegistry.counter("booking.flight.cache", "result", "hit");
+        this.misses = meterRegistry.counter("booking.flight.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("booking.flight.cache.evictions");
+        meterRegistry.gauge("booking.flight.cache.size", entries, Map::size);
+    }
+
+    /**
+     * @return The cached response of the flight, or the one the loader returns if there is none.
+     */
+    public FlightResponse get(Long flightId, LocalDateTime currentTime, Supplier<FlightResponse> loader) {
+        Entry cached = entries.get(flightId);
+        if (cached != null && !cached.isExpired(currentTime)) {
+            hits.increment();
+            return cached.response;
+        }
+        misses.increment();
+
+        AtomicLong generation = generations.computeIfAbsent(flightId, id -> new AtomicLong());
+        long generationBefore = generation.get();
+        FlightResponse loaded = loader.get();
+        if (generation.get() == generationBefore) {
+            Entry entry = new Entry(flightId, loaded, currentTime.plus(properties.ttl()));
+            put(entry, currentTime);
+            if (generation.get() != generationBefore) {
+                entries.remove(flightId, entry);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long flightId) {
+        // A flight without a counter has never been read, so no load of it can be racing.
+        AtomicLong generation = generations.get(flightId);
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+        entries.remove(flightId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWritten(FlightWrittenEvent event) {
+        invalidate(event.flight().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        invalidate(event.flightId());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(Entry entry, LocalDateTime currentTime) {
+        evict(currentTime);
+        entries.put(entry.flightId, entry);
+        loadOrder.add(entry);
+        queued.incrementAndGet();
+    }
+
+    /**
+     * Drops entries from the head of the queue while they are expired or the cache is full.
+     * Queued entries that were already replaced or invalidated only count towards the bound
+     * until they reach the head.
+     */
+    private void evict(LocalDateTime currentTime) {
+        Entry oldest;
+        while ((oldest = loadOrder.peek()) != null
+                && (oldest.isExpired(currentTime) || queued.get() >= properties.maxEntries())) {
+            if (loadOrder.remove(oldest)) {
+                queued.decrementAndGet();
+                if (entries.remove(oldest.flightId, oldest)) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private record Entry(Long flightId, FlightResponse response, LocalDateTime expiresAt) {
+
+        private boolean isExpired(LocalDateTime currentTime) {
+            return currentTime.isAfter(expiresAt);
+        }
+    }
+}
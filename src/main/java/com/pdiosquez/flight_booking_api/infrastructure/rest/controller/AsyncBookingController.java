@@ -0,0 +1,58 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.AsyncBookingService;
+import com.pdiosquez.flight_booking_api.application.service.BookingAttempt;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BookingRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingAttemptResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingAttemptMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/bookings")
+public class AsyncBookingController {
+
+    private final AsyncBookingService asyncBookingService;
+    private final BookingAttemptMapper bookingAttemptMapper;
+
+    public AsyncBookingController(AsyncBookingService asyncBookingService,
+                                  BookingAttemptMapper bookingAttemptMapper) {
+        this.asyncBookingService = asyncBookingService;
+        this.bookingAttemptMapper = bookingAttemptMapper;
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<BookingAttemptResponse> submit(@RequestBody @Valid BookingRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        BookingAttempt attempt = asyncBookingService.submit(
+                request.passengerId(),
+                request.flightId(),
+                now
+        );
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/bookings/attempts/" + attempt.getId()))
+                .body(bookingAttemptMapper.toResponse(attempt));
+    }
+
+    /**
+     * Returns the attempt right away, or long-polls for up to {@code waitSeconds} while it is still pending.
+     * The request thread is released while waiting.
+     */
+    @GetMapping("/attempts/{attemptId}")
+    public CompletableFuture<ResponseEntity<BookingAttemptResponse>> findAttempt(
+            @PathVariable String attemptId,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+        return asyncBookingService
+                .awaitAttempt(attemptId, Duration.ofSeconds(waitSeconds))
+                .thenApply(attempt -> ResponseEntity.ok(bookingAttemptMapper.toResponse(attempt)));
+    }
+}
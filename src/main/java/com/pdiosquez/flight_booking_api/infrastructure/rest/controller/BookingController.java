@@ -1,46 +1,94 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingResult;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingService;
+import com.pdiosquez.flight_booking_api.application.service.BookingPage;
 import com.pdiosquez.flight_booking_api.application.service.BookingService;
+import com.pdiosquez.flight_booking_api.application.service.IdempotentBookingService;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingNotFoundException;
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BatchBookingRequest;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BookingRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BatchBookingResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingPageResponse;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BatchBookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.NdjsonWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/bookings")
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BatchBookingService batchBookingService;
+    private final IdempotentBookingService idempotentBookingService;
     private final BookingMapper bookingMapper;
-
-    public BookingController(BookingService bookingService, BookingMapper bookingMapper) {
+    private final BatchBookingMapper batchBookingMapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final BookingExportProperties exportProperties;
+
+    public BookingController(BookingService bookingService,
+                             BatchBookingService batchBookingService,
+                             IdempotentBookingService idempotentBookingService,
+                             BookingMapper bookingMapper,
+                             BatchBookingMapper batchBookingMapper,
+                             NdjsonWriter ndjsonWriter,
+                             BookingExportProperties exportProperties) {
         this.bookingService = bookingService;
+        this.batchBookingService = batchBookingService;
+        this.idempotentBookingService = idempotentBookingService;
         this.bookingMapper = bookingMapper;
+        this.batchBookingMapper = batchBookingMapper;
+        this.ndjsonWriter = ndjsonWriter;
+        this.exportProperties = exportProperties;
     }
 
     @PostMapping
-    public ResponseEntity<BookingResponse> create(@RequestBody @Valid BookingRequest request) {
+    public ResponseEntity<BookingResponse> create(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody @Valid BookingRequest request) {
         LocalDateTime now = LocalDateTime.now();
 
-        Booking created = bookingService.createBooking(
-                request.passengerId(),
-                request.flightId(),
-                now
-        );
+        Booking created = idempotencyKey == null
+                ? bookingService.createBooking(request.passengerId(), request.flightId(), now)
+                : idempotentBookingService.createBooking(idempotencyKey, request.passengerId(), request.flightId(), now);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(bookingMapper.toResponse(created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchBookingResponse> createBatch(@RequestBody @Valid BatchBookingRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BatchBookingResult> results = batchBookingService.createBookings(
+                batchBookingMapper.toItems(request),
+                now
+        );
+
+        return ResponseEntity.ok().body(batchBookingMapper.toResponse(results));
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<BookingResponse> findById(@PathVariable Long bookingId) {
         Booking found = bookingService.findById(bookingId);
@@ -51,14 +99,89 @@ public class BookingController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BookingResponse>> findAll() {
-        List<Booking> bookings = bookingService.getAllBookings();
+    public ResponseEntity<BookingPageResponse> findAll(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) Long flightId,
+            @RequestParam(required = false) Long passengerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        BookingPage page = bookingService.findBookings(
+                new BookingFilter(status, flightId, passengerId),
+                after,
+                limit
+        );
 
-        List<BookingResponse> response = bookings.stream()
-                            .map(bookingMapper::toResponse)
-                            .toList();
+        return ResponseEntity.ok().body(bookingMapper.toPageResponse(page));
+    }
+
+    /**
+     * Streams every booking after {@code after} as one JSON object per line, written as it is read
+     * from the store. The body is gzipped on the fly when the client accepts it.
+     * The stream runs under {@code booking.export.timeout} rather than the default async timeout.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(required = false) Long after,
+            HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(exportProperties.timeout().toMillis());
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            try (OutputStream out = new BufferedOutputStream(gzip ? new GZIPOutputStream(outputStream) : outputStream)) {
+                bookingService.exportBookings(after, booking -> ndjsonWriter.writeLine(out, bookingMapper.toResponse(booking)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
 
-        return ResponseEntity.ok().body(response);
+    /**
+     * Reads the q-values of an {@code Accept-Encoding} header: an explicit {@code gzip} entry
+     * decides, otherwise a {@code *} entry does. A q-value of zero means not acceptable.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean wildcard = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            boolean accepted = qualityOf(parts) > 0;
+
+            if (coding.equals("gzip")) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 
     @PatchMapping("/{bookingId}/cancel")
@@ -71,4 +194,16 @@ public class BookingController {
                 .noContent()
                 .build();
     }
+
+    /**
+     * Gives the seat of the booking back to its flight. The booking stays confirmed.
+     */
+    @DeleteMapping("/{bookingId}/seat")
+    public ResponseEntity<Void> releaseSeat(@PathVariable Long bookingId) {
+        bookingService.releaseSeat(bookingId);
+
+        return ResponseEntity
+                .noContent()
+                .build();
+    }
 }
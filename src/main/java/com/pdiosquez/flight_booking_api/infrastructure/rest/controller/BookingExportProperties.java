@@ -0,0 +1,17 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the booking export stream.
+ *
+ * @param timeout Longest time the export may keep streaming before the request is timed out,
+ *                used instead of the container's default async timeout.
+ */
+@ConfigurationProperties(prefix = "booking.export")
+public record BookingExportProperties(
+        @DefaultValue("10m") Duration timeout
+) {}
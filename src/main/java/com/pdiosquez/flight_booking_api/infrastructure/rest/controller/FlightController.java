@@ -1,14 +1,30 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
 import com.pdiosquez.flight_booking_api.application.service.FlightService;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.cache.FlightResponseCache;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.FlightRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightAvailabilityResponse;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.SeatMapResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.NdjsonWriter;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/flights")
@@ -16,10 +32,23 @@ public class FlightController {
 
     private final FlightService flightService;
     private final FlightMapper flightMapper;
+    private final FlightResponseCache flightCache;
+    private final BookingService bookingService;
+    private final BookingMapper bookingMapper;
+    private final NdjsonWriter ndjsonWriter;
 
-    public FlightController(FlightService flightService, FlightMapper flightMapper) {
+    public FlightController(FlightService flightService,
+                            FlightMapper flightMapper,
+                            FlightResponseCache flightCache,
+                            BookingService bookingService,
+                            BookingMapper bookingMapper,
+                            NdjsonWriter ndjsonWriter) {
         this.flightService = flightService;
         this.flightMapper = flightMapper;
+        this.flightCache = flightCache;
+        this.bookingService = bookingService;
+        this.bookingMapper = bookingMapper;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @PostMapping
@@ -38,11 +67,66 @@ public class FlightController {
                 .body(response);
     }
 
+    @GetMapping
+    public ResponseEntity<List<FlightResponse>> search(
+            @RequestParam String origin,
+            @RequestParam String destination,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1") int minSeats) {
+        List<Flight> found = flightService.search(
+                new FlightSearchCriteria(origin, destination, from, to, minSeats)
+        );
+
+        return ResponseEntity.ok(found.stream()
+                .map(flightMapper::toResponse)
+                .toList());
+    }
+
     @GetMapping("/{flightId}")
     public ResponseEntity<FlightResponse> findById(@PathVariable Long flightId) {
-        Flight found = flightService.findById(flightId);
-        FlightResponse response = flightMapper.toResponse(found);
+        FlightResponse response = flightCache.get(flightId, LocalDateTime.now(),
+                () -> flightMapper.toResponse(flightService.findById(flightId)));
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{flightId}/availability")
+    public ResponseEntity<FlightAvailabilityResponse> findAvailability(@PathVariable Long flightId) {
+        FlightAvailabilityResponse response = flightMapper.toAvailabilityResponse(
+                flightService.findAvailability(flightId),
+                flightService.availabilityLag()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams the confirmed bookings of the flight in booking order, one JSON object per line.
+     * The flight is checked through the response cache first, so an unknown ID still gets a 404.
+     */
+    @GetMapping(value = "/{flightId}/manifest", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> findManifest(@PathVariable Long flightId) {
+        flightCache.get(flightId, LocalDateTime.now(),
+                () -> flightMapper.toResponse(flightService.findById(flightId)));
+
+        StreamingResponseBody body = outputStream -> {
+            try (OutputStream out = new BufferedOutputStream(outputStream)) {
+                bookingService.forEachOnManifest(flightId, booking -> ndjsonWriter.writeLine(out, bookingMapper.toManifestEntry(booking)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/{flightId}/seats")
+    public ResponseEntity<SeatMapResponse> findSeatMap(@PathVariable Long flightId) {
+        Flight found = flightService.findById(flightId);
+
+        return ResponseEntity.ok(flightMapper.toSeatMapResponse(found));
+    }
 }
@@ -1,9 +1,13 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
+import com.pdiosquez.flight_booking_api.application.service.BookingPage;
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
 import com.pdiosquez.flight_booking_api.application.service.PassengerService;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.PassengerRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingPageResponse;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.PassengerResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -16,10 +20,17 @@ public class PassengerController {
 
     private final PassengerService passengerService;
     private final PassengerMapper passengerMapper;
+    private final BookingService bookingService;
+    private final BookingMapper bookingMapper;
 
-    public PassengerController(PassengerService passengerService, PassengerMapper passengerMapper) {
+    public PassengerController(PassengerService passengerService,
+                               PassengerMapper passengerMapper,
+                               BookingService bookingService,
+                               BookingMapper bookingMapper) {
         this.passengerService = passengerService;
         this.passengerMapper  = passengerMapper;
+        this.bookingService   = bookingService;
+        this.bookingMapper    = bookingMapper;
     }
 
     @PostMapping
@@ -46,4 +57,15 @@ public class PassengerController {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{passengerId}/bookings")
+    public ResponseEntity<BookingPageResponse> findBookings(
+            @PathVariable Long passengerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        BookingPage page =
+                bookingService.findPassengerBookings(passengerId, after, limit);
+
+        return ResponseEntity.ok(bookingMapper.toPageResponse(page));
+    }
 }
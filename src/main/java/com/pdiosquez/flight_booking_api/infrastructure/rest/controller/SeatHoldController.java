@@ -0,0 +1,61 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldService;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.SeatHoldRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.SeatHoldResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.SeatHoldMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/bookings/holds")
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+    private final SeatHoldMapper seatHoldMapper;
+    private final BookingMapper bookingMapper;
+
+    public SeatHoldController(SeatHoldService seatHoldService,
+                              SeatHoldMapper seatHoldMapper,
+                              BookingMapper bookingMapper) {
+        this.seatHoldService = seatHoldService;
+        this.seatHoldMapper = seatHoldMapper;
+        this.bookingMapper = bookingMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<SeatHoldResponse> hold(@RequestBody @Valid SeatHoldRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        SeatHold held = seatHoldService.holdSeat(
+                request.passengerId(),
+                request.flightId(),
+                Duration.ofMinutes(request.minutes()),
+                now
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(seatHoldMapper.toResponse(held));
+    }
+
+    @PostMapping("/{holdId}/confirm")
+    public ResponseEntity<BookingResponse> confirm(@PathVariable Long holdId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Booking confirmed = seatHoldService.confirmHold(holdId, now);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(bookingMapper.toResponse(confirmed));
+    }
+}
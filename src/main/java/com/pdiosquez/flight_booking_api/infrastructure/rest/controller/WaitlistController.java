@@ -0,0 +1,54 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.WaitlistService;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.WaitlistRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.WaitlistEntryResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.WaitlistEntryMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+    private final WaitlistEntryMapper waitlistEntryMapper;
+
+    public WaitlistController(WaitlistService waitlistService, WaitlistEntryMapper waitlistEntryMapper) {
+        this.waitlistService = waitlistService;
+        this.waitlistEntryMapper = waitlistEntryMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntryResponse> join(@RequestBody @Valid WaitlistRequest request) {
+        WaitlistEntry joined = waitlistService.join(
+                request.passengerId(),
+                request.flightId(),
+                request.priority(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(waitlistEntryMapper.toResponse(joined));
+    }
+
+    @GetMapping("/{entryId}")
+    public ResponseEntity<WaitlistEntryResponse> findById(@PathVariable Long entryId) {
+        WaitlistEntry found = waitlistService.findById(entryId);
+
+        return ResponseEntity.ok(waitlistEntryMapper.toResponse(found));
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> leave(@PathVariable Long entryId) {
+        waitlistService.leave(entryId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
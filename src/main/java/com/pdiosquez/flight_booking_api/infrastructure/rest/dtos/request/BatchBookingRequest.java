@@ -0,0 +1,12 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BatchBookingRequest(
+        @NotEmpty(message = "At least one booking is required")
+        List<@NotNull(message = "Bookings cannot be null") @Valid BookingRequest> bookings
+) {}
@@ -0,0 +1,10 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record SeatHoldRequest(
+        @NotNull(message = "Passenger ID is required") Long passengerId,
+        @NotNull(message = "Flight ID is required") Long flightId,
+        @Positive(message = "Hold minutes should be positive") int minutes
+) {}
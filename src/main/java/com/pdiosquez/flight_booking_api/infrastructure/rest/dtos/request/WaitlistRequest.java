@@ -0,0 +1,10 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record WaitlistRequest(
+        @NotNull(message = "Passenger ID is required") Long passengerId,
+        @NotNull(message = "Flight ID is required") Long flightId,
+        @PositiveOrZero(message = "Priority cannot be negative") int priority
+) {}
@@ -0,0 +1,11 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.ApiError;
+
+public record BatchBookingItemResponse(
+        int index,
+        Long passengerId,
+        Long flightId,
+        BookingResponse booking,
+        ApiError error
+) {}
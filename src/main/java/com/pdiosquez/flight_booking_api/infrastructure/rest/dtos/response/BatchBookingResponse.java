@@ -0,0 +1,9 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import java.util.List;
+
+public record BatchBookingResponse(
+        int succeeded,
+        int failed,
+        List<BatchBookingItemResponse> results
+) {}
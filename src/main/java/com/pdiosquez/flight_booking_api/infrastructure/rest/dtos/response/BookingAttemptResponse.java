@@ -0,0 +1,15 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingAttemptStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.ApiError;
+
+import java.time.LocalDateTime;
+
+public record BookingAttemptResponse(
+        String attemptId,
+        BookingAttemptStatus status,
+        LocalDateTime submittedAt,
+        LocalDateTime completedAt,
+        BookingResponse booking,
+        ApiError error
+) {}
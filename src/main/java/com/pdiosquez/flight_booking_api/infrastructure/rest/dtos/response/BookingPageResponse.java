@@ -0,0 +1,8 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import java.util.List;
+
+public record BookingPageResponse(
+        List<BookingResponse> bookings,
+        Long nextCursor
+) {}
@@ -6,5 +6,6 @@ public record BookingResponse(
         Long bookingId,
         BookingStatus status,
         PassengerResponse passenger,
-        FlightResponse flight
+        FlightResponse flight,
+        Integer seatNumber
 ) {}
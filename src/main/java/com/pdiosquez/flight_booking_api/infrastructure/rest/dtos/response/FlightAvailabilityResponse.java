@@ -0,0 +1,13 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import java.time.LocalDateTime;
+
+public record FlightAvailabilityResponse(
+        Long flightId,
+        String origin,
+        String destination,
+        LocalDateTime departureTime,
+        int capacity,
+        int seatsLeft,
+        long lagMillis
+) {}
@@ -8,5 +8,7 @@ public record FlightResponse(
         String destination,
         int capacity,
         int occupiedSeats,
+        int heldSeats,
+        int availableSeats,
         LocalDateTime departureTime
 ) {}
@@ -0,0 +1,10 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import java.time.LocalDateTime;
+
+public record ManifestEntryResponse(
+        Long bookingId,
+        PassengerResponse passenger,
+        LocalDateTime bookedAt,
+        Integer seatNumber
+) {}
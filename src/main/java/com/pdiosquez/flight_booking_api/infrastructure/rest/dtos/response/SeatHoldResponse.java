@@ -0,0 +1,13 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldResponse(
+        Long holdId,
+        SeatHoldStatus status,
+        LocalDateTime expiresAt,
+        PassengerResponse passenger,
+        FlightResponse flight
+) {}
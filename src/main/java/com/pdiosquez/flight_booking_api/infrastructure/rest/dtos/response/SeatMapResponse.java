@@ -0,0 +1,8 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+public record SeatMapResponse(
+        Long flightId,
+        int capacity,
+        int[] assignedSeats,
+        Integer firstFreeSeat
+) {}
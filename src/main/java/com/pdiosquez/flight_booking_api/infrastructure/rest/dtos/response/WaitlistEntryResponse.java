@@ -0,0 +1,14 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+public record WaitlistEntryResponse(
+        Long entryId,
+        WaitlistStatus status,
+        int priority,
+        LocalDateTime joinedAt,
+        Long flightId,
+        PassengerResponse passenger
+) {}
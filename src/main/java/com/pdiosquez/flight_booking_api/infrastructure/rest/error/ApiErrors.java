@@ -0,0 +1,30 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.error;
+
+import com.pdiosquez.flight_booking_api.domain.exception.DomainException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Builds the {@link ApiError} of a failure reported inside a response body rather than as the response itself.
+ */
+public final class ApiErrors {
+
+    private ApiErrors() {
+    }
+
+    /**
+     * Names domain errors after their exception, so {@code FlightOverbookedException}
+     * is reported as {@code FLIGHT_OVERBOOKED}, matching the codes of the error handler.
+     */
+    public static ApiError from(RuntimeException error) {
+        if (error instanceof DomainException) {
+            String name = error.getClass().getSimpleName().replaceFirst("Exception$", "");
+            String code = name.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+            return new ApiError(code, error.getMessage(), LocalDateTime.now());
+        }
+        if (error instanceof IllegalArgumentException) {
+            return new ApiError("VALIDATION_ERROR", error.getMessage(), LocalDateTime.now());
+        }
+        return new ApiError("INTERNAL_SERVER_ERROR", "Unexpected error occurred", LocalDateTime.now());
+    }
+}
@@ -1,13 +1,30 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.error;
 
+import com.pdiosquez.flight_booking_api.domain.exception.AdjacentSeatsUnavailableException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingAttemptNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingConflictException;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingSeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingQueueFullException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightBusyException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightHasAvailableSeatsException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyInProgressException;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 
@@ -22,6 +39,14 @@ public class GlobalExceptionHandler {
                 HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PassengerEmailAlreadyExistsException.class)
+    public ResponseEntity<ApiError> handlePassengerEmailAlreadyExists(PassengerEmailAlreadyExistsException exception) {
+        return buildError(
+                "PASSENGER_EMAIL_ALREADY_EXISTS",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(FlightNotFoundException.class)
     public ResponseEntity<ApiError> handleFlightNotFound(FlightNotFoundException exception) {
         return buildError(
@@ -38,6 +63,118 @@ public class GlobalExceptionHandler {
                 HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(BookingAttemptNotFoundException.class)
+    public ResponseEntity<ApiError> handleBookingAttemptNotFound(BookingAttemptNotFoundException exception) {
+        return buildError(
+                "BOOKING_ATTEMPT_NOT_FOUND",
+                exception.getMessage(),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(SeatHoldNotFoundException.class)
+    public ResponseEntity<ApiError> handleSeatHoldNotFound(SeatHoldNotFoundException exception) {
+        return buildError(
+                "SEAT_HOLD_NOT_FOUND",
+                exception.getMessage(),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(SeatHoldNotActiveException.class)
+    public ResponseEntity<ApiError> handleSeatHoldNotActive(SeatHoldNotActiveException exception) {
+        return buildError(
+                "SEAT_HOLD_NOT_ACTIVE",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BookingConflictException.class)
+    public ResponseEntity<ApiError> handleBookingConflict(BookingConflictException exception) {
+        return buildError(
+                "BOOKING_CONFLICT",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(FlightBusyException.class)
+    public ResponseEntity<ApiError> handleFlightBusy(FlightBusyException exception) {
+        return buildError(
+                "FLIGHT_BUSY",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BookingQueueFullException.class)
+    public ResponseEntity<ApiError> handleBookingQueueFull(BookingQueueFullException exception) {
+        return buildError(
+                "BOOKING_QUEUE_FULL",
+                exception.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException exception) {
+        return buildError(
+                "IDEMPOTENCY_KEY_IN_PROGRESS",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyReused(IdempotencyKeyReusedException exception) {
+        return buildError(
+                "IDEMPOTENCY_KEY_REUSED",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(AdjacentSeatsUnavailableException.class)
+    public ResponseEntity<ApiError> handleAdjacentSeatsUnavailable(AdjacentSeatsUnavailableException exception) {
+        return buildError(
+                "ADJACENT_SEATS_UNAVAILABLE",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(SeatNotAssignedException.class)
+    public ResponseEntity<ApiError> handleSeatNotAssigned(SeatNotAssignedException exception) {
+        return buildError(
+                "SEAT_NOT_ASSIGNED",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BookingSeatNotAssignedException.class)
+    public ResponseEntity<ApiError> handleBookingSeatNotAssigned(BookingSeatNotAssignedException exception) {
+        return buildError(
+                "SEAT_NOT_ASSIGNED",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ApiError> handleWaitlistEntryNotFound(WaitlistEntryNotFoundException exception) {
+        return buildError(
+                "WAITLIST_ENTRY_NOT_FOUND",
+                exception.getMessage(),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(WaitlistEntryNotActiveException.class)
+    public ResponseEntity<ApiError> handleWaitlistEntryNotActive(WaitlistEntryNotActiveException exception) {
+        return buildError(
+                "WAITLIST_ENTRY_NOT_ACTIVE",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(FlightHasAvailableSeatsException.class)
+    public ResponseEntity<ApiError> handleFlightHasAvailableSeats(FlightHasAvailableSeatsException exception) {
+        return buildError(
+                "FLIGHT_HAS_AVAILABLE_SEATS",
+                exception.getMessage(),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiError> handleIllegalArgument(IllegalArgumentException ex) {
         return buildError(
@@ -56,6 +193,22 @@ public class GlobalExceptionHandler {
                 HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ApiError> handleMissingParameter(MissingServletRequestParameterException ex) {
+        return buildError(
+                "VALIDATION_ERROR",
+                "Parameter '%s' is required.".formatted(ex.getParameterName()),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiError> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return buildError(
+                "VALIDATION_ERROR",
+                "Invalid value for parameter '%s'.".formatted(ex.getName()),
+                HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGenericException(Exception exception) {
         return buildError(
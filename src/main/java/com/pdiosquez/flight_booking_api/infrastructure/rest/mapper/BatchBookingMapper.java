@@ -0,0 +1,47 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
+
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingItem;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingResult;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BatchBookingRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BatchBookingItemResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BatchBookingResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.ApiErrors;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class BatchBookingMapper {
+
+    private final BookingMapper bookingMapper;
+
+    public BatchBookingMapper(BookingMapper bookingMapper) {
+        this.bookingMapper = bookingMapper;
+    }
+
+    public List<BatchBookingItem> toItems(BatchBookingRequest request) {
+        return request.bookings()
+                .stream()
+                .map(booking -> new BatchBookingItem(booking.passengerId(), booking.flightId()))
+                .toList();
+    }
+
+    public BatchBookingResponse toResponse(List<BatchBookingResult> results) {
+        List<BatchBookingItemResponse> items = results.stream()
+                .map(this::toItemResponse)
+                .toList();
+        int succeeded = (int) results.stream().filter(BatchBookingResult::succeeded).count();
+
+        return new BatchBookingResponse(succeeded, results.size() - succeeded, items);
+    }
+
+    private BatchBookingItemResponse toItemResponse(BatchBookingResult result) {
+        return new BatchBookingItemResponse(
+                result.index(),
+                result.passengerId(),
+                result.flightId(),
+                bookingMapper.toResponse(result.booking()),
+                result.succeeded() ? null : ApiErrors.from(result.error())
+        );
+    }
+}
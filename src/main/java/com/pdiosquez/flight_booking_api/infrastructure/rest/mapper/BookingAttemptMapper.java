@@ -0,0 +1,31 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingAttempt;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingAttemptResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.ApiErrors;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingAttemptMapper {
+
+    private final BookingMapper bookingMapper;
+
+    public BookingAttemptMapper(BookingMapper bookingMapper) {
+        this.bookingMapper = bookingMapper;
+    }
+
+    public BookingAttemptResponse toResponse(BookingAttempt attempt) {
+        if (attempt == null) {
+            return null;
+        }
+
+        return new BookingAttemptResponse(
+                attempt.getId(),
+                attempt.getStatus(),
+                attempt.getSubmittedAt(),
+                attempt.getCompletedAt(),
+                bookingMapper.toResponse(attempt.getBooking()),
+                attempt.getError() == null ? null : ApiErrors.from(attempt.getError())
+        );
+    }
+}
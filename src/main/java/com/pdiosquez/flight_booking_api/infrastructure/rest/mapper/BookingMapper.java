@@ -1,7 +1,10 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
 
+import com.pdiosquez.flight_booking_api.application.service.BookingPage;
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingPageResponse;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.BookingResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.ManifestEntryResponse;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,7 +27,24 @@ public class BookingMapper {
                 booking.getId(),
                 booking.getStatus(),
                 passengerMapper.toResponse(booking.getPassenger()),
-                flightMapper.toResponse(booking.getFlight())
+                flightMapper.toResponse(booking.getFlight()),
+                booking.getSeatNumber()
+        );
+    }
+
+    public ManifestEntryResponse toManifestEntry(Booking booking) {
+        return new ManifestEntryResponse(
+                booking.getId(),
+                passengerMapper.toResponse(booking.getPassenger()),
+                booking.getCreatedAt(),
+                booking.getSeatNumber()
+        );
+    }
+
+    public BookingPageResponse toPageResponse(BookingPage page) {
+        return new BookingPageResponse(
+                page.bookings().stream().map(this::toResponse).toList(),
+                page.nextCursor()
         );
     }
 }
@@ -1,9 +1,15 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
 
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailability;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.SeatMap;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightAvailabilityResponse;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.SeatMapResponse;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class FlightMapper {
 
@@ -18,7 +24,35 @@ public class FlightMapper {
                 flight.getDestination(),
                 flight.getCapacity(),
                 flight.getOccupiedSeats(),
+                flight.getHeldSeats(),
+                flight.availableSeats(),
                 flight.getDepartureTime()
         );
     }
+
+    public FlightAvailabilityResponse toAvailabilityResponse(FlightAvailability availability, Duration lag) {
+        return new FlightAvailabilityResponse(
+                availability.flightId(),
+                availability.origin(),
+                availability.destination(),
+                availability.departureTime(),
+                availability.capacity(),
+                availability.seatsLeft(),
+                lag.toMillis()
+        );
+    }
+
+    public SeatMapResponse toSeatMapResponse(Flight flight) {
+        if (flight == null) {
+            return null;
+        }
+
+        SeatMap seatMap = flight.getSeatMap();
+        return new SeatMapResponse(
+                flight.getId(),
+                flight.getCapacity(),
+                seatMap.assignedSeatNumbers(),
+                seatMap.firstFreeSeat().stream().boxed().findFirst().orElse(null)
+        );
+    }
 }
@@ -0,0 +1,33 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
+
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes responses as newline-delimited JSON, one object per line, for the streamed endpoints.
+ */
+@Component
+public class NdjsonWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @throws UncheckedIOException If the stream fails, so it can be thrown from a callback.
+     */
+    public void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
+
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.SeatHoldResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SeatHoldMapper {
+
+    private final PassengerMapper passengerMapper;
+    private final FlightMapper flightMapper;
+
+    public SeatHoldMapper(PassengerMapper passengerMapper, FlightMapper flightMapper) {
+        this.passengerMapper = passengerMapper;
+        this.flightMapper = flightMapper;
+    }
+
+    public SeatHoldResponse toResponse(SeatHold seatHold) {
+        if (seatHold == null) {
+            return null;
+        }
+
+        return new SeatHoldResponse(
+                seatHold.getId(),
+                seatHold.getStatus(),
+                seatHold.getExpiresAt(),
+                passengerMapper.toResponse(seatHold.getPassenger()),
+                flightMapper.toResponse(seatHold.getFlight())
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.mapper;
+
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.WaitlistEntryResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WaitlistEntryMapper {
+
+    private final PassengerMapper passengerMapper;
+
+    public WaitlistEntryMapper(PassengerMapper passengerMapper) {
+        this.passengerMapper = passengerMapper;
+    }
+
+    public WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        if (entry == null) {
+            return null;
+        }
+
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getStatus(),
+                entry.getPriority(),
+                entry.getJoinedAt(),
+                entry.getFlightId(),
+                passengerMapper.toResponse(entry.getPassenger())
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.pdiosquez.flight_booking_api.infrastructure.scheduling;
+
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldProperties;
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the seat hold expiration wheel from a single thread, one call per tick.
+ * Active holds are put back on the wheel when the application starts.
+ */
+@Component
+public class SeatHoldExpiryTicker {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldExpiryTicker.class);
+
+    private final SeatHoldService seatHoldService;
+    private final SeatHoldProperties properties;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("seat-hold-expiry").daemon().factory());
+
+    public SeatHoldExpiryTicker(SeatHoldService seatHoldService,
+                                SeatHoldProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.seatHoldService = seatHoldService;
+        this.properties = properties;
+
+        Gauge.builder("booking.holds.pending", seatHoldService, SeatHoldService::pendingExpirations)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        seatHoldService.scheduleActiveHolds();
+
+        long tickMillis = properties.tick().toMillis();
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            seatHoldService.expireDueHolds(LocalDateTime.now());
+        } catch (RuntimeException failure) {
+            // A failed tick must not cancel the schedule; the holds left on the wheel fire on the next one.
+            log.error("Seat hold expiry tick failed.", failure);
+        }
+    }
+}
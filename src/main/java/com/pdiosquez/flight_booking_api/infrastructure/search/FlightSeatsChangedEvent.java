@@ -0,0 +1,8 @@
+package com.pdiosquez.flight_booking_api.infrastructure.search;
+
+/**
+ * Published by the flight stores after a guarded seat update, which changes the counters
+ * of the flight without reading it back. {@code version} is the one the row has after the update,
+ * so a listener can tell whether the change follows the copy it holds.
+ */
+public record FlightSeatsChangedEvent(Long flightId, int occupiedDelta, int heldDelta, long version) {}
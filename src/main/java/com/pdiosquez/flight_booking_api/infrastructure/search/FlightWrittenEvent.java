@@ -0,0 +1,8 @@
+package com.pdiosquez.flight_booking_api.infrastructure.search;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+
+/**
+ * Published by the flight stores with the full state of a flight they have just written.
+ */
+public record FlightWrittenEvent(Flight flight) {}
@@ -0,0 +1,201 @@
+package com.pdiosquez.flight_booking_api.infrastructure.search;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+import com.pdiosquez.flight_booking_api.domain.search.FlightRouteIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps one {@link NavigableMap} per route keyed by departure time, so a search is a range
+ * lookup plus a walk over the flights in the window.
+ * Writes reach it through {@link FlightWrittenEvent} and {@link FlightSeatsChangedEvent} once
+ * their transaction has committed, so rolled back changes never show up in searches.
+ * It is loaded with every flight of the store when the application is ready.
+ */
+@Component
+public class InMemoryFlightRouteIndex implements FlightRouteIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryFlightRouteIndex.class);
+
+    private final Map<Route, NavigableMap<Departure, Flight>> routes = new ConcurrentHashMap<>();
+    private final Map<Long, Flight> flights = new ConcurrentHashMap<>();
+    private final FlightRepository flightRepository;
+    private volatile boolean ready;
+
+    public InMemoryFlightRouteIndex(FlightRepository flightRepository) {
+        this.flightRepository = flightRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        load(flightRepository.findAll());
+    }
+
+    /**
+     * Adds the given flights, keeping any the index got from a write in the meantime, and marks it as ready.
+     */
+    public void load(Collection<Flight> stored) {
+        stored.forEach(flight -> flights.computeIfAbsent(flight.getId(), id -> {
+            departures(flight).put(Departure.of(flight), flight);
+            return flight;
+        }));
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public List<Flight> search(FlightSearchCriteria criteria) {
+        NavigableMap<Departure, Flight> departures = routes.get(new Route(criteria.origin(), criteria.destination()));
+        if (departures == null) {
+            return List.of();
+        }
+
+        NavigableMap<Departure, Flight> window = departures;
+        if (criteria.from() != null) {
+            window = window.tailMap(new Departure(criteria.from(), Long.MIN_VALUE), true);
+        }
+        if (criteria.to() != null) {
+            window = window.headMap(new Departure(criteria.to(), Long.MAX_VALUE), true);
+        }
+
+        return window.values().stream()
+                .filter(flight -> flight.availableSeats() >= criteria.minSeats())
+                .map(InMemoryFlightRouteIndex::copy)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWritten(FlightWrittenEvent event) {
+        put(copy(event.flight()));
+    }
+
+    /**
+     * Applies the change to the copy the index already has when that copy is the version right
+     * before it. A change the copy already includes is dropped; after a gap, or a change that
+     * does not fit the copy, the flight is read again from the store.
+     * A flight it does not know yet is picked up in full by the next write or by the initial load.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        AtomicBoolean stale = new AtomicBoolean(false);
+        flights.computeIfPresent(event.flightId(), (id, indexed) -> {
+            if (indexed.getVersion() == null || indexed.getVersion() >= event.version()) {
+                return indexed;
+            }
+            if (indexed.getVersion() != event.version() - 1) {
+                stale.set(true);
+                return indexed;
+            }
+
+            int occupied = indexed.getOccupiedSeats() + event.occupiedDelta();
+            int held = indexed.getHeldSeats() + event.heldDelta();
+            if (occupied < 0 || held < 0 || occupied + held > indexed.getCapacity()) {
+                log.warn("Seat change {} does not fit indexed flight {} with {} occupied and {} held seats.",
+                        event, id, indexed.getOccupiedSeats(), indexed.getHeldSeats());
+                stale.set(true);
+                return indexed;
+            }
+            return replace(indexed, Flight.fromPersistence(
+                    id,
+                    indexed.getOrigin(),
+                    indexed.getDestination(),
+                    indexed.getCapacity(),
+                    occupied,
+                    held,
+                    indexed.getDepartureTime(),
+                    event.version(),
+                    indexed.getSeatMap()));
+        });
+
+        if (stale.get()) {
+            flightRepository.findById(event.flightId())
+                    .map(InMemoryFlightRouteIndex::copy)
+                    .ifPresent(this::put);
+        }
+    }
+
+    /**
+     * Keeps the copy with the highest version, so a write whose event is handled late
+     * does not overwrite a newer one.
+     */
+    private void put(Flight flight) {
+        flights.compute(flight.getId(), (id, previous) -> {
+            if (previous == null) {
+                departures(flight).put(Departure.of(flight), flight);
+                return flight;
+            }
+            if (previous.getVersion() != null && flight.getVersion() != null
+                    && previous.getVersion() > flight.getVersion()) {
+                return previous;
+            }
+            return replace(previous, flight);
+        });
+    }
+
+    private Flight replace(Flight previous, Flight flight) {
+        departures(previous).remove(Departure.of(previous));
+        departures(flight).put(Departure.of(flight), flight);
+        return flight;
+    }
+
+    private NavigableMap<Departure, Flight> departures(Flight flight) {
+        return routes.computeIfAbsent(
+                new Route(flight.getOrigin(), flight.getDestination()),
+                route -> new ConcurrentSkipListMap<>());
+    }
+
+    private static Flight copy(Flight flight) {
+        return Flight.fromPersistence(
+                flight.getId(),
+                flight.getOrigin(),
+                flight.getDestination(),
+                flight.getCapacity(),
+                flight.getOccupiedSeats(),
+                flight.getHeldSeats(),
+                flight.getDepartureTime(),
+                flight.getVersion(),
+                flight.getSeatMap().copy());
+    }
+
+    private record Route(String origin, String destination) {}
+
+    /**
+     * Departure time with the flight ID as tie breaker, so flights leaving at the same time
+     * get their own entries.
+     */
+    private record Departure(LocalDateTime time, Long flightId) implements Comparable<Departure> {
+
+        private static final Comparator<Departure> ORDER = Comparator
+                .comparing(Departure::time)
+                .thenComparing(Departure::flightId);
+
+        static Departure of(Flight flight) {
+            return new Departure(flight.getDepartureTime(), flight.getId());
+        }
+
+        @Override
+        public int compareTo(Departure other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.pdiosquez.flight_booking_api;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares {@code POST /api/v1/bookings} served by the Tomcat thread pool and by virtual threads.
+ * Both modes run with the same small pool so the gap shows what the pool size costs under load.
+ * Not part of the regular test run, execute it with {@code ./mvnw test -Pbenchmark}.
+ */
+@DisplayName("Platform vs Virtual Thread Request Benchmark")
+class VirtualThreadBenchmark {
+
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int FLIGHTS = 32;
+    private static final String TOMCAT_THREADS = "20";
+
+    @Test
+    @DisplayName("Requests per second and p99 latency of booking requests at 50, 200 and 800 concurrent clients")
+    void measureThroughputAndLatency() throws Exception {
+        System.out.printf("%-10s %-8s %-12s %-10s%n", "mode", "clients", "req/s", "p99 (ms)");
+
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                Fixture fixture = Fixture.create(context);
+
+                run(fixture, 50);
+                for (int clients : new int[]{50, 200, 800}) {
+                    Result result = run(fixture, clients);
+                    System.out.printf("%-10s %-8d %-12d %-10.1f%n",
+                            virtualThreads ? "virtual" : "platform", clients, result.requestsPerSecond(), result.p99Millis());
+                }
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        return new SpringApplicationBuilder(FlightBookingApiApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--booking.diagnostics.pinning.enabled=" + virtualThreads,
+                "--booking.lock.timeout=30s",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+    }
+
+    private static Result run(Fixture fixture, int clients) throws Exception {
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long begin = System.nanoTime();
+                        int status = fixture.book(client + i);
+                        latencies[client * REQUESTS_PER_CLIENT + i] = System.nanoTime() - begin;
+                        assertThat(status).as("booking response status").isEqualTo(201);
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            Arrays.sort(latencies);
+            long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+            return new Result(latencies.length * TimeUnit.SECONDS.toNanos(1) / elapsed, p99 / 1_000_000.0);
+        }
+    }
+
+    private record Result(long requestsPerSecond, double p99Millis) {}
+
+    private record Fixture(HttpClient client, URI bookings, Long passengerId, Long[] flightIds) {
+
+        static Fixture create(ConfigurableApplicationContext context) {
+            LocalDateTime departure = LocalDateTime.now().plusDays(30);
+            FlightRepository flightRepository = context.getBean(FlightRepository.class);
+
+            Long passengerId = context.getBean(PassengerRepository.class)
+                    .save(Passenger.create("Bench Mark", "bench@example.com"))
+                    .getId();
+            Long[] flightIds = new Long[FLIGHTS];
+            for (int i = 0; i < FLIGHTS; i++) {
+                flightIds[i] = flightRepository.save(Flight.create("BUE", "MAD", 1_000_000, departure)).getId();
+            }
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            return new Fixture(
+                    HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build(),
+                    URI.create("http://localhost:" + port + "/api/v1/bookings"),
+                    passengerId,
+                    flightIds);
+        }
+
+        int book(int sequence) throws Exception {
+            String body = "{\"passengerId\":%d,\"flightId\":%d}".formatted(passengerId, flightIds[sequence % FLIGHTS]);
+            HttpRequest request = HttpRequest.newBuilder(bookings)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
+import com.pdiosquez.flight_booking_api.application.service.WaitlistService;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the plain {@link BookingService#createBooking} path with {@link FlightSequencer}
+ * when every client books the same flight.
+ * Not part of the regular test run, execute it with {@code ./mvnw test -Pbenchmark}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("Flight Sequencer Hot Flight Benchmark")
+class FlightSequencerBenchmark {
+
+    private static final int BOOKINGS_PER_RUN = 2_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private SeatInventory seatInventory;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Test
+    @DisplayName("Bookings per second on one flight at 1, 8 and 64 concurrent clients")
+    void measureThroughput() throws Exception {
+        Long passengerId = passengerRepository.save(Passenger.create("Bench Mark", "bench@example.com")).getId();
+        FlightSequencer sequencer = new FlightSequencer(
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                seatInventory,
+                transactionOperations,
+                waitlistService,
+                event -> { },
+                new FlightSequencerProperties(true, 4, 1024, 64),
+                new SimpleMeterRegistry()
+        );
+
+        try {
+            System.out.printf("%-8s %-22s %-22s%n", "clients", "createBooking (ops/s)", "sequencer (ops/s)");
+            for (int clients : new int[]{1, 8, 64}) {
+                long plain = run(clients, (flightId, ignored) ->
+                        bookingService.createBooking(passengerId, flightId, NOW));
+                long sequenced = run(clients, (flightId, ignored) ->
+                        sequencer.createBooking(passengerId, flightId, NOW).join());
+
+                System.out.printf("%-8d %-22d %-22d%n", clients, plain, sequenced);
+            }
+        } finally {
+            sequencer.shutdown();
+        }
+    }
+
+    private long run(int clients, BiConsumer<Long, Integer> book) throws Exception {
+        Long flightId = flightRepository.save(Flight.create("BUE", "MAD", BOOKINGS_PER_RUN, NOW.plusDays(5))).getId();
+        int perClient = BOOKINGS_PER_RUN / clients;
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int c = 0; c < clients; c++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perClient; i++) {
+                    book.accept(flightId, i);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        assertThat(flightRepository.findById(flightId).orElseThrow().getOccupiedSeats())
+                .isEqualTo(perClient * clients);
+        return (long) perClient * clients * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+}
@@ -0,0 +1,280 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingItem;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingProperties;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingResult;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingService;
+import com.pdiosquez.flight_booking_api.application.service.BookingCancelledEvent;
+import com.pdiosquez.flight_booking_api.application.service.BookingCreatedEvent;
+import com.pdiosquez.flight_booking_api.application.service.WaitlistPromotedEvent;
+import com.pdiosquez.flight_booking_api.application.service.WaitlistService;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Flight Sequencer Tests")
+class FlightSequencerTest {
+
+    private InMemoryFlightRepository flightRepository;
+    private InMemoryBookingRepository bookingRepository;
+    private InMemoryPassengerRepository passengerRepository;
+    private WaitlistService waitlistService;
+    private SeatInventory seatInventory;
+    private List<Object> events;
+    private FlightSequencer sequencer;
+    private Passenger passenger;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        passengerRepository = new InMemoryPassengerRepository();
+        flightRepository = new InMemoryFlightRepository(unitOfWork);
+        bookingRepository = new InMemoryBookingRepository(flightRepository, unitOfWork);
+        events = new ArrayList<>();
+        waitlistService = new WaitlistService(
+                new InMemoryWaitlistRepository(),
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                events::add
+        );
+
+        seatInventory = new AtomicSeatInventory();
+        sequencer = new FlightSequencer(
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                seatInventory,
+                new SynchronizedTransactionOperations(),
+                waitlistService,
+                events::add,
+                new FlightSequencerProperties(true, 2, 256, 16),
+                new SimpleMeterRegistry()
+        );
+
+        passenger = passengerRepository.save(Passenger.create("John Doe", "john.doe@example.com"));
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("createBooking should sell exactly the capacity when many callers book the same flight")
+    void createBooking_shouldNeverOversell_whenCallersShareOneFlight() {
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 10, now.plusDays(5)));
+
+        List<CompletableFuture<Booking>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(sequencer.createBooking(passenger.getId(), flight.getId(), now));
+        }
+
+        long booked = results.stream().filter(result -> outcome(result) == null).count();
+        long overbooked = results.stream().filter(result -> outcome(result) instanceof FlightOverbookedException).count();
+
+        assertThat(booked).isEqualTo(10);
+        assertThat(overbooked).isEqualTo(40);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(10);
+        assertThat(bookingRepository.findAll()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("cancelBooking should release the seat so the next booking on a full flight succeeds")
+    void cancelBooking_shouldReleaseSeat_forNextBooking() throws Exception {
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 1, now.plusDays(5)));
+        Booking booking = sequencer.createBooking(passenger.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+
+        sequencer.cancelBooking(booking.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+        Booking rebooked = sequencer.createBooking(passenger.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(rebooked.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cancelBooking should hand the seat to the head of the waitlist instead of freeing it")
+    void cancelBooking_shouldPromoteWaitlistHead_whenFlightHasWaitlist() throws Exception {
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 1, now.plusDays(5)));
+        Booking booking = sequencer.createBooking(passenger.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+        Passenger waiting = passengerRepository.save(Passenger.create("Jane Roe", "jane.roe@example.com"));
+        WaitlistEntry entry = waitlistService.join(waiting.getId(), flight.getId(), 0, now);
+
+        sequencer.cancelBooking(booking.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+
+        assertThat(waitlistService.findById(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(1);
+        assertThat(bookingRepository.findAll())
+                .filteredOn(promoted -> promoted.getStatus() == BookingStatus.CONFIRMED)
+                .singleElement()
+                .satisfies(promoted -> assertThat(promoted.getPassenger().getId()).isEqualTo(waiting.getId()));
+        assertThat(events).extracting(Object::getClass).containsExactly(
+                BookingCreatedEvent.class,
+                BookingCancelledEvent.class,
+                BookingCreatedEvent.class,
+                WaitlistPromotedEvent.class
+        );
+        assertThatThrownBy(sequencer.createBooking(passenger.getId(), flight.getId(), now)::join)
+                .hasCauseInstanceOf(FlightOverbookedException.class);
+    }
+
+    @Test
+    @DisplayName("sequenced bookings and cancellations should keep the shared seat inventory in step for batch bookings")
+    @SuppressWarnings("unchecked")
+    void sequencedChanges_shouldBeSeenByBatchBookings_onTheSameFlight() throws Exception {
+        BatchBookingService batchBookingService = new BatchBookingService(
+                bookingRepository,
+                passengerRepository,
+                flightRepository,
+                seatInventory,
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                new NoFlightLockStrategy(),
+                mock(ObjectProvider.class),
+                new BatchBookingProperties(10),
+                events::add
+        );
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 1, now.plusDays(5)));
+        BatchBookingItem item = new BatchBookingItem(passenger.getId(), flight.getId());
+
+        Booking booking = sequencer.createBooking(passenger.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+        assertThat(batchBookingService.createBookings(List.of(item), now).getFirst().error())
+                .isInstanceOf(FlightOverbookedException.class);
+
+        sequencer.cancelBooking(booking.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+
+        assertThat(batchBookingService.createBookings(List.of(item), now)).allMatch(BatchBookingResult::succeeded);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(1);
+        assertThat(seatInventory.tryReserve(flight)).isFalse();
+    }
+
+    @Test
+    @DisplayName("createBooking should fail only the rejected command when the passenger does not exist")
+    void createBooking_shouldFailFuture_whenPassengerDoesNotExist() throws Exception {
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 10, now.plusDays(5)));
+
+        CompletableFuture<Booking> rejected = sequencer.createBooking(999L, flight.getId(), now);
+        CompletableFuture<Booking> accepted = sequencer.createBooking(passenger.getId(), flight.getId(), now);
+
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PassengerNotFoundException.class);
+        assertThat(accepted.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("cancelBooking should roll back the cancellation and keep the rest of the batch when the promotion is rejected")
+    void cancelBooking_shouldRollBackCancellation_whenPromotionIsRejected() throws Exception {
+        WaitlistService failingWaitlist = mock(WaitlistService.class);
+        FlightSequencer failingSequencer = new FlightSequencer(
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                seatInventory,
+                new SynchronizedTransactionOperations(),
+                failingWaitlist,
+                events::add,
+                new FlightSequencerProperties(true, 1, 256, 16),
+                new SimpleMeterRegistry()
+        );
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 2, now.plusDays(5)));
+        when(failingWaitlist.promoteNext(any(Flight.class), eq(now), eq(seatInventory)))
+                .thenThrow(new FlightOverbookedException(flight.getId()));
+
+        try {
+            Booking booking = failingSequencer.createBooking(passenger.getId(), flight.getId(), now).get(5, TimeUnit.SECONDS);
+
+            CompletableFuture<Void> cancelled = failingSequencer.cancelBooking(booking.getId(), flight.getId(), now);
+            CompletableFuture<Booking> booked = failingSequencer.createBooking(passenger.getId(), flight.getId(), now);
+
+            assertThatThrownBy(cancelled::join).hasCauseInstanceOf(FlightOverbookedException.class);
+            assertThat(booked.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+            assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(2);
+            assertThat(seatInventory.tryReserve(flight)).isFalse();
+        } finally {
+            failingSequencer.shutdown();
+        }
+    }
+
+    private static Throwable outcome(CompletableFuture<Booking> result) {
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            return null;
+        } catch (Exception e) {
+            return e.getCause();
+        }
+    }
+
+    /**
+     * Runs the callback with transaction synchronization active, so the unit of work
+     * flushes the in-memory repositories at commit like a real transaction would.
+     */
+    private static final class SynchronizedTransactionOperations implements TransactionOperations {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                T result = action.doInTransaction(null);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                return result;
+            } catch (RuntimeException e) {
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+                throw e;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+}
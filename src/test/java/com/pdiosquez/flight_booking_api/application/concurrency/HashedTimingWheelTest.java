@@ -0,0 +1,79 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hashed Timing Wheel Tests")
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private HashedTimingWheel<String> wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(100, 8);
+        fired = new ArrayList<>();
+        wheel.advance(START, fired::add);
+    }
+
+    @Test
+    @DisplayName("advance should fire a timeout once its deadline has passed and not before")
+    void advance_shouldFireTimeout_onlyAfterDeadline() {
+        wheel.schedule("hold-1", START + 250);
+
+        wheel.advance(START + 200, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(START + 300, fired::add);
+        assertThat(fired).containsExactly("hold-1");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance should keep timeouts further than one revolution for the right number of rounds")
+    void advance_shouldWaitExtraRounds_whenDeadlineIsBeyondOneRevolution() {
+        wheel.schedule("far", START + 2_500);
+        wheel.schedule("near", START + 500);
+
+        wheel.advance(START + 1_000, fired::add);
+        assertThat(fired).containsExactly("near");
+
+        wheel.advance(START + 2_400, fired::add);
+        assertThat(fired).containsExactly("near");
+
+        wheel.advance(START + 2_500, fired::add);
+        assertThat(fired).containsExactly("near", "far");
+    }
+
+    @Test
+    @DisplayName("advance should not fire cancelled timeouts")
+    void advance_shouldSkipTimeout_whenCancelled() {
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("hold-1", START + 100);
+        wheel.schedule("hold-2", START + 100);
+
+        assertThat(timeout.cancel()).isTrue();
+        wheel.advance(START + 100, fired::add);
+
+        assertThat(fired).containsExactly("hold-2");
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance should fire timeouts whose deadline was already in the past on the next tick")
+    void advance_shouldFireImmediately_whenDeadlineIsInThePast() {
+        wheel.schedule("late", START - 5_000);
+
+        wheel.advance(START + 100, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+}
@@ -0,0 +1,121 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.domain.exception.BookingConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Optimistic Lock Retry Executor Tests")
+class OptimisticLockRetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new OptimisticLockRetryExecutor(
+                TransactionOperations.withoutTransaction(),
+                new BookingRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(2)),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("execute should retry conflicting attempts and return the first successful result")
+    void execute_shouldReturnResult_whenConflictIsResolvedBeforeLastAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retryExecutor.execute("createBooking", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "booked";
+        });
+
+        assertThat(result).isEqualTo("booked");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("booking.optimistic.conflicts")).isEqualTo(2);
+        assertThat(count("booking.optimistic.retries")).isEqualTo(2);
+        assertThat(count("booking.optimistic.exhausted")).isZero();
+    }
+
+    @Test
+    @DisplayName("execute should throw BookingConflictException when every attempt conflicts")
+    void execute_shouldThrowBookingConflictException_whenAttemptsAreExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("cancelBooking", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }))
+                .isInstanceOf(BookingConflictException.class)
+                .hasMessageContaining("3 attempts");
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("booking.optimistic.conflicts")).isEqualTo(3);
+        assertThat(count("booking.optimistic.retries")).isEqualTo(2);
+        assertThat(count("booking.optimistic.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute should not retry failures that are not optimistic locking conflicts")
+    void execute_shouldPropagateImmediately_whenFailureIsNotAConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryExecutor.execute("createBooking", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute with a flight lock should take the lock per attempt and give it up between attempts")
+    void execute_shouldReleaseFlightLock_whileWaitingToRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger locks = new AtomicInteger();
+        AtomicBoolean held = new AtomicBoolean();
+        FlightLockStrategy flightLock = new FlightLockStrategy() {
+            @Override
+            public <T> T withLock(Long flightId, Supplier<T> action) {
+                locks.incrementAndGet();
+                held.set(true);
+                try {
+                    return action.get();
+                } finally {
+                    held.set(false);
+                }
+            }
+        };
+
+        String result = retryExecutor.execute("createBooking", flightLock, 1L, () -> {
+            assertThat(held).isTrue();
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "booked";
+        });
+
+        assertThat(result).isEqualTo("booked");
+        assertThat(locks.get()).isEqualTo(3);
+        assertThat(held).isFalse();
+    }
+
+    private double count(String name) {
+        var counter = meterRegistry.find(name).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
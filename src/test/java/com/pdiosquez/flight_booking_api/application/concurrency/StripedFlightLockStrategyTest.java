@@ -0,0 +1,155 @@
+package com.pdiosquez.flight_booking_api.application.concurrency;
+
+import com.pdiosquez.flight_booking_api.domain.exception.FlightBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Striped Flight Lock Strategy Tests")
+class StripedFlightLockStrategyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedFlightLockStrategy flightLock;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flightLock = new StripedFlightLockStrategy(
+                new FlightLockProperties("striped", 8, false, Duration.ofMillis(50)),
+                meterRegistry
+        );
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("constructor should round the stripe count up to a power of two")
+    void constructor_shouldRoundStripesUpToPowerOfTwo() {
+        StripedFlightLockStrategy rounded = new StripedFlightLockStrategy(
+                new FlightLockProperties("striped", 100, true, Duration.ofMillis(50)),
+                new SimpleMeterRegistry()
+        );
+
+        assertThat(rounded.stripeCount()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("withLock should run actions on the same flight one at a time")
+    void withLock_shouldSerializeActions_whenFlightIsTheSame() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        FlightLockStrategy patientLock = new StripedFlightLockStrategy(
+                new FlightLockProperties("striped", 8, false, Duration.ofSeconds(5)),
+                meterRegistry
+        );
+
+        Future<?>[] results = new Future<?>[8];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = executor.submit(() -> {
+                start.await();
+                return patientLock.withLock(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(5);
+                    return running.decrementAndGet();
+                });
+            });
+        }
+
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("withLock should not block flights mapped to different stripes")
+    void withLock_shouldNotBlock_whenFlightsUseDifferentStripes() throws Exception {
+        Long firstFlight = 1L;
+        Long otherFlight = 2L;
+        assertThat(flightLock.stripeOf(firstFlight)).isNotEqualTo(flightLock.stripeOf(otherFlight));
+
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> flightLock.withLock(firstFlight, () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holding.await();
+
+        String result = flightLock.withLock(otherFlight, () -> "booked");
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(result).isEqualTo("booked");
+    }
+
+    @Test
+    @DisplayName("withLock should throw FlightBusyException and count a timeout when the stripe stays taken")
+    void withLock_shouldThrowFlightBusyException_whenLockIsNotAcquiredInTime() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> flightLock.withLock(1L, () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holding.await();
+
+        assertThatThrownBy(() -> flightLock.withLock(1L, () -> "booked"))
+                .isInstanceOf(FlightBusyException.class)
+                .hasMessageContaining("Flight 1");
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("booking.lock.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("withLock should record the wait time on the stripe of the flight")
+    void withLock_shouldRecordWaitTime_onFlightStripe() {
+        flightLock.withLock(3L, () -> "booked");
+
+        String stripe = String.valueOf(flightLock.stripeOf(3L));
+
+        assertThat(meterRegistry.get("booking.lock.wait").tag("stripe", stripe).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.lock.queue").tag("stripe", stripe).gauge().value()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.exception.BookingAttemptNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingQueueFullException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Async Booking Service Application Tests")
+class AsyncBookingServiceTest {
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+
+    @Mock
+    private BookingService bookingService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncBookingService asyncBookingService;
+    private LocalDateTime now;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        Passenger passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+        Flight flight = Flight.fromPersistence(FLIGHT_ID, "BUE", "MAD", 100, 1, now.plusDays(5));
+        booking = Booking.fromPersistence(1L, passenger, flight, BookingStatus.CONFIRMED, now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncBookingService.shutdown();
+    }
+
+    private void start(int queueCapacity, int workers) {
+        asyncBookingService = new AsyncBookingService(
+                bookingService,
+                new AsyncBookingProperties(queueCapacity, workers, Duration.ofSeconds(5), Duration.ofMinutes(10)),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("Should run a submitted booking on a worker and report it as succeeded")
+    void shouldSucceed_whenBookingIsCreated() throws Exception {
+        // Given
+        start(10, 1);
+        when(bookingService.createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class))).thenReturn(booking);
+
+        // When
+        BookingAttempt submitted = asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now);
+        BookingAttempt finished = asyncBookingService
+                .awaitAttempt(submitted.getId(), Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(BookingAttemptStatus.SUCCEEDED, finished.getStatus());
+        assertEquals(1L, finished.getBooking().getId());
+        assertNotNull(finished.getCompletedAt());
+        assertEquals(1, meterRegistry.get("booking.async.drained").tag("outcome", "succeeded").timer().count());
+        assertEquals(1, meterRegistry.get("booking.async.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should book at the time the worker runs the attempt, not at the time it was submitted")
+    void shouldBookAtProcessingTime() throws Exception {
+        // Given
+        start(10, 1);
+        when(bookingService.createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class))).thenReturn(booking);
+        LocalDateTime beforeSubmit = LocalDateTime.now();
+
+        // When
+        BookingAttempt submitted = asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, beforeSubmit.minusHours(1));
+        asyncBookingService.awaitAttempt(submitted.getId(), Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<LocalDateTime> bookedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bookingService).createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), bookedAt.capture());
+        assertFalse(bookedAt.getValue().isBefore(beforeSubmit));
+    }
+
+    @Test
+    @DisplayName("Should keep the domain error of a failed booking on the attempt")
+    void shouldFail_whenBookingIsRejected() throws Exception {
+        // Given
+        start(10, 1);
+        when(bookingService.createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class)))
+                .thenThrow(new FlightOverbookedException(FLIGHT_ID));
+
+        // When
+        BookingAttempt submitted = asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now);
+        BookingAttempt finished = asyncBookingService
+                .awaitAttempt(submitted.getId(), Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(BookingAttemptStatus.FAILED, finished.getStatus());
+        assertInstanceOf(FlightOverbookedException.class, finished.getError());
+        assertNull(finished.getBooking());
+    }
+
+    @Test
+    @DisplayName("Should return a still pending attempt when the long-poll times out")
+    void shouldReturnPending_whenWaitEndsFirst() throws Exception {
+        // Given
+        start(10, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return booking;
+        });
+
+        // When
+        BookingAttempt submitted = asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now);
+        BookingAttempt polled = asyncBookingService
+                .awaitAttempt(submitted.getId(), Duration.ofMillis(50))
+                .get(5, TimeUnit.SECONDS);
+        BookingAttemptStatus status = polled.getStatus();
+        release.countDown();
+
+        // Then
+        assertEquals(BookingAttemptStatus.PENDING, status);
+    }
+
+    @Test
+    @DisplayName("Should reject a submission when the queue is full")
+    void shouldThrowQueueFull_whenQueueHasNoRoom() throws Exception {
+        // Given
+        start(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.createBooking(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return booking;
+        });
+
+        asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now);
+
+        // When / Then
+        assertThrows(BookingQueueFullException.class,
+                () -> asyncBookingService.submit(PASSENGER_ID, FLIGHT_ID, now));
+        assertEquals(1, asyncBookingService.queuedAttempts());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should throw when the attempt does not exist")
+    void shouldThrowNotFound_whenAttemptIsUnknown() {
+        start(10, 1);
+
+        assertThrows(BookingAttemptNotFoundException.class,
+                () -> asyncBookingService.findAttempt("missing"));
+    }
+}
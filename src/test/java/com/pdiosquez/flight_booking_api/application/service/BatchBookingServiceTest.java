@@ -0,0 +1,134 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightSequencer;
+import com.pdiosquez.flight_booking_api.application.concurrency.NoFlightLockStrategy;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Batch Booking Service Application Tests")
+class BatchBookingServiceTest {
+
+    private InMemoryFlightRepository flightRepository;
+    private InMemoryBookingRepository bookingRepository;
+    private BatchBookingService batchBookingService;
+    private Passenger passenger;
+    private LocalDateTime now;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        InMemoryPassengerRepository passengerRepository = new InMemoryPassengerRepository();
+        flightRepository = new InMemoryFlightRepository(unitOfWork);
+        bookingRepository = new InMemoryBookingRepository(flightRepository, unitOfWork);
+
+        batchBookingService = new BatchBookingService(
+                bookingRepository,
+                passengerRepository,
+                flightRepository,
+                new AtomicSeatInventory(),
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                new NoFlightLockStrategy(),
+                mock(ObjectProvider.class),
+                new BatchBookingProperties(10),
+                event -> { }
+        );
+
+        passenger = passengerRepository.save(Passenger.create("John Doe", "john.doe@example.com"));
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    private Flight flight(int capacity) {
+        return flightRepository.save(Flight.create("BUE", "MAD", capacity, now.plusDays(5)));
+    }
+
+    @Test
+    @DisplayName("Should book every item across flights and report the results in request order")
+    void shouldBookEveryItem_inRequestOrder() {
+        Flight madrid = flight(10);
+        Flight rome = flight(10);
+
+        List<BatchBookingResult> results = batchBookingService.createBookings(List.of(
+                new BatchBookingItem(passenger.getId(), madrid.getId()),
+                new BatchBookingItem(passenger.getId(), rome.getId()),
+                new BatchBookingItem(passenger.getId(), madrid.getId())
+        ), now);
+
+        assertThat(results).extracting(BatchBookingResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BatchBookingResult::flightId)
+                .containsExactly(madrid.getId(), rome.getId(), madrid.getId());
+        assertThat(results).allMatch(BatchBookingResult::succeeded);
+        assertThat(flightRepository.findById(madrid.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(2);
+        assertThat(flightRepository.findById(rome.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(1);
+        assertThat(bookingRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should fail only the items that do not fit, keeping the seats of the rest of the group")
+    void shouldFailOnlyOverflowingItems_whenFlightRunsOutOfSeats() {
+        Flight flight = flight(2);
+        BatchBookingItem item = new BatchBookingItem(passenger.getId(), flight.getId());
+
+        List<BatchBookingResult> results = batchBookingService.createBookings(List.of(item, item, item), now);
+
+        assertThat(results).filteredOn(BatchBookingResult::succeeded).hasSize(2);
+        assertThat(results.get(2).error()).isInstanceOf(FlightOverbookedException.class);
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail an unknown passenger on its own and an unknown flight for its whole group")
+    void shouldFailUnknownPassengerAndFlight_withoutFailingOtherItems() {
+        Flight flight = flight(10);
+
+        List<BatchBookingResult> results = batchBookingService.createBookings(List.of(
+                new BatchBookingItem(999L, flight.getId()),
+                new BatchBookingItem(passenger.getId(), 404L),
+                new BatchBookingItem(passenger.getId(), flight.getId())
+        ), now);
+
+        assertThat(results.get(0).error()).isInstanceOf(PassengerNotFoundException.class);
+        assertThat(results.get(1).error()).isInstanceOf(FlightNotFoundException.class);
+        assertThat(results.get(2).succeeded()).isTrue();
+        assertThat(flightRepository.findById(flight.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured maximum")
+    void shouldRejectBatch_whenItExceedsMaxItems() {
+        List<BatchBookingItem> items = Collections.nCopies(11, new BatchBookingItem(passenger.getId(), 1L));
+
+        assertThatThrownBy(() -> batchBookingService.createBookings(items, now))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10");
+    }
+}
@@ -1,22 +1,40 @@
 package com.pdiosquez.flight_booking_api.application.service;
 
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightLockStrategy;
+import com.pdiosquez.flight_booking_api.application.concurrency.FlightSequencer;
+import com.pdiosquez.flight_booking_api.application.concurrency.NoFlightLockStrategy;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
 import com.pdiosquez.flight_booking_api.domain.exception.*;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
 import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
 import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +49,22 @@ class BookingServiceTest {
     private PassengerRepository passengerRepository;
     @Mock
     private FlightRepository flightRepository;
+    @Spy
+    private SeatInventory seatInventory = new AtomicSeatInventory();
+    @Spy
+    private OptimisticLockRetryExecutor retryExecutor = new OptimisticLockRetryExecutor(
+            TransactionOperations.withoutTransaction(),
+            new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+            new SimpleMeterRegistry()
+    );
+    @Spy
+    private FlightLockStrategy flightLock = new NoFlightLockStrategy();
+    @Mock
+    private ObjectProvider<FlightSequencer> sequencerProvider;
+    @Mock
+    private WaitlistService waitlistService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookingService bookingService;
@@ -64,6 +98,12 @@ class BookingServiceTest {
         when(flightRepository.findById(flightId))
                 .thenReturn(Optional.of(flight));
 
+        when(flightRepository.reserveSeat(flightId, fixedNow))
+                .thenReturn(true);
+
+        when(flightRepository.assignSeat(flightId, fixedNow))
+                .thenReturn(12);
+
         when(bookingRepository.save(any(Booking.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -74,12 +114,139 @@ class BookingServiceTest {
         assertAll(
                 () -> assertNotNull(result),
                 () -> assertEquals(passenger, result.getPassenger()),
-                () -> assertEquals(flight, result.getFlight())
+                () -> assertEquals(flight, result.getFlight()),
+                () -> assertEquals(12, result.getSeatNumber())
         );
 
         verify(passengerRepository).findById(passengerId);
         verify(flightRepository).findById(flightId);
+        verify(flightRepository).reserveSeat(flightId, fixedNow);
+        verify(flightRepository).assignSeat(flightId, fixedNow);
+        verify(flightRepository, never()).save(any());
         verify(bookingRepository).save(any(Booking.class));
+        verify(eventPublisher).publishEvent(any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should hand the booking to the sequencer and rethrow its rejection when single-writer mode is enabled")
+    void shouldDelegateToSequencer_whenSequencerIsAvailable() {
+        // Given
+        Long passengerId = 101L;
+        Long flightId = 467L;
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+        FlightSequencer sequencer = mock(FlightSequencer.class);
+
+        when(sequencerProvider.getIfAvailable()).thenReturn(sequencer);
+        when(sequencer.createBooking(passengerId, flightId, fixedNow))
+                .thenReturn(CompletableFuture.failedFuture(new FlightOverbookedException(flightId)));
+
+        BookingService sequencedService = new BookingService(
+                bookingRepository,
+                passengerRepository,
+                flightRepository,
+                seatInventory,
+                retryExecutor,
+                flightLock,
+                sequencerProvider,
+                waitlistService,
+                eventPublisher
+        );
+
+        // When / Then
+        assertThrows(FlightOverbookedException.class,
+                () -> sequencedService.createBooking(passengerId, flightId, fixedNow));
+
+        verifyNoInteractions(passengerRepository, flightRepository, bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw FlightOverbookedException when the guarded seat update affects no row")
+    void shouldThrowFlightOverbookedException_whenGuardedSeatUpdateFails() {
+        // Given
+        Long passengerId = 101L;
+        Long flightId = 467L;
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        Passenger passenger = Passenger.fromPersistence(
+                passengerId,
+                "John Doe",
+                "john.doe@example.com"
+        );
+
+        Flight flight = Flight.fromPersistence(
+                flightId,
+                "BUE",
+                "MAD",
+                100,
+                99,
+                fixedNow.plusDays(5)
+        );
+
+        when(passengerRepository.findById(passengerId))
+                .thenReturn(Optional.of(passenger));
+
+        when(flightRepository.findById(flightId))
+                .thenReturn(Optional.of(flight));
+
+        when(flightRepository.reserveSeat(flightId, fixedNow))
+                .thenReturn(false);
+
+        // When / Then
+        assertThrows(
+                FlightOverbookedException.class,
+                () -> bookingService.createBooking(passengerId, flightId, fixedNow)
+        );
+
+        verify(flightRepository).reserveSeat(flightId, fixedNow);
+        verify(seatInventory).invalidate(flightId);
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should retry and finally throw BookingConflictException when every commit hits a concurrent modification")
+    void shouldThrowBookingConflictException_whenOptimisticLockConflictPersists() {
+        // Given
+        BookingService conflictingService = new BookingService(
+                bookingRepository,
+                passengerRepository,
+                flightRepository,
+                seatInventory,
+                new OptimisticLockRetryExecutor(
+                        new CommitConflictTransactionOperations(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                flightLock,
+                sequencerProvider,
+                waitlistService,
+                eventPublisher
+        );
+        Long bookingId = 23L;
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        Passenger passenger = Passenger.fromPersistence(
+                467L,
+                "John Doe",
+                "john.doe@example.com"
+        );
+
+        when(bookingRepository.findById(bookingId))
+                .thenAnswer(invocation -> Optional.of(Booking.fromPersistence(
+                        bookingId,
+                        passenger,
+                        Flight.fromPersistence(101L, "BUE", "MAD", 100, 5, fixedNow.plusDays(5), 0L),
+                        BookingStatus.CONFIRMED,
+                        fixedNow
+                )));
+
+        // When / Then
+        assertThrows(
+                BookingConflictException.class,
+                () -> conflictingService.cancelBooking(bookingId, fixedNow)
+        );
+
+        verify(bookingRepository, times(3)).findById(bookingId);
+        verifyNoMoreInteractions(bookingRepository);
     }
 
     @Test
@@ -211,6 +378,8 @@ class BookingServiceTest {
 
         verify(bookingRepository).findById(bookingId);
         verify(bookingRepository, never()).save(any());
+        verify(waitlistService).promoteNext(flight, fixedNow, seatInventory);
+        verify(eventPublisher).publishEvent(new BookingCancelledEvent(bookingId, flight.getId(), fixedNow));
         verifyNoInteractions(passengerRepository);
         verifyNoInteractions(flightRepository);
     }
@@ -316,4 +485,97 @@ class BookingServiceTest {
         verifyNoMoreInteractions(bookingRepository);
         verifyNoInteractions(passengerRepository, flightRepository);
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the callback and then fails like a commit whose flush lost an optimistic locking race.
+     */
+    private static class CommitConflictTransactionOperations implements TransactionOperations {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            action.doInTransaction(null);
+            throw new OptimisticLockingFailureException("Flight was modified concurrently.");
+        }
+    }
+
+    @Test
+    @DisplayName("Should return a cursor to the next page when more bookings match than the limit")
+    void shouldReturnNextCursor_whenMoreBookingsMatchThanTheLimit() {
+        // Given
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+        BookingFilter filter = new BookingFilter(BookingStatus.CONFIRMED, null, null);
+        List<Booking> matching = List.of(aBooking(11L, fixedNow), aBooking(12L, fixedNow), aBooking(13L, fixedNow));
+
+        when(bookingRepository.findPage(filter, 10L, 3)).thenReturn(matching);
+
+        // When
+        BookingPage page = bookingService.findBookings(filter, 10L, 2);
+
+        // Then
+        assertEquals(List.of(11L, 12L), page.bookings().stream().map(Booking::getId).toList());
+        assertEquals(12L, page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should return no cursor on the last page")
+    void shouldReturnNoCursor_whenLastPageIsReached() {
+        // Given
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(bookingRepository.findPage(BookingFilter.none(), null, 3))
+                .thenReturn(List.of(aBooking(1L, fixedNow)));
+
+        // When
+        BookingPage page = bookingService.findBookings(BookingFilter.none(), null, 2);
+
+        // Then
+        assertEquals(1, page.bookings().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a page limit outside the allowed range")
+    void shouldRejectPageLimit_whenOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.findBookings(BookingFilter.none(), null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.findBookings(BookingFilter.none(), null, BookingService.MAX_PAGE_SIZE + 1));
+
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should page through the bookings of an existing passenger")
+    void shouldReturnPassengerBookingPage_whenPassengerExists() {
+        // Given
+        LocalDateTime fixedNow = LocalDateTime.of(2026, 1, 1, 10, 0);
+        Passenger passenger = Passenger.fromPersistence(467L, "John Doe", "john.doe@example.com");
+
+        when(passengerRepository.findById(467L)).thenReturn(Optional.of(passenger));
+        when(bookingRepository.findByPassengerId(467L, 10L, 3))
+                .thenReturn(List.of(aBooking(11L, fixedNow), aBooking(12L, fixedNow), aBooking(13L, fixedNow)));
+
+        // When
+        BookingPage page = bookingService.findPassengerBookings(467L, 10L, 2);
+
+        // Then
+        assertEquals(List.of(11L, 12L), page.bookings().stream().map(Booking::getId).toList());
+        assertEquals(12L, page.nextCursor());
+        verify(bookingRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw PassengerNotFoundException when listing the bookings of a missing passenger")
+    void shouldThrowPassengerNotFoundException_whenListingBookingsOfMissingPassenger() {
+        when(passengerRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(PassengerNotFoundException.class,
+                () -> bookingService.findPassengerBookings(999L, null, 50));
+
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private static Booking aBooking(Long bookingId, LocalDateTime createdAt) {
+        Passenger passenger = Passenger.fromPersistence(467L, "John Doe", "john.doe@example.com");
+        Flight flight = Flight.fromPersistence(101L, "BUE", "MAD", 100, 1, createdAt.plusDays(5));
+        return Booking.fromPersistence(bookingId, passenger, flight, BookingStatus.CONFIRMED, createdAt);
+    }
+}
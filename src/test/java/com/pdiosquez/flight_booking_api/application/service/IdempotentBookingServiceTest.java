@@ -0,0 +1,112 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyInProgressException;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotent Booking Service Application Tests")
+class IdempotentBookingServiceTest {
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+    private static final Long BOOKING_ID = 1L;
+
+    @Mock
+    private BookingService bookingService;
+
+    private InMemoryIdempotencyStore idempotencyStore;
+    private IdempotentBookingService idempotentBookingService;
+    private LocalDateTime now;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties(
+                "memory", Duration.ofHours(1), 100, Duration.ofMillis(100), Duration.ofMillis(10));
+        idempotencyStore = new InMemoryIdempotencyStore(properties);
+        idempotentBookingService = new IdempotentBookingService(bookingService, idempotencyStore, properties);
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+        Passenger passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+        Flight flight = Flight.fromPersistence(FLIGHT_ID, "BUE", "MAD", 100, 1, now.plusDays(5));
+        booking = Booking.fromPersistence(BOOKING_ID, passenger, flight, BookingStatus.CONFIRMED, now);
+    }
+
+    @Test
+    @DisplayName("Should create the booking once and return it again for a retried key")
+    void shouldReturnOriginalBooking_whenKeyIsRetried() {
+        // Given
+        when(bookingService.createBooking(PASSENGER_ID, FLIGHT_ID, now)).thenReturn(booking);
+        when(bookingService.findById(BOOKING_ID)).thenReturn(booking);
+
+        // When
+        Booking first = idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now);
+        Booking retried = idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now);
+
+        // Then
+        assertEquals(BOOKING_ID, first.getId());
+        assertEquals(BOOKING_ID, retried.getId());
+        verify(bookingService, times(1)).createBooking(PASSENGER_ID, FLIGHT_ID, now);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the booking fails so a retry runs again")
+    void shouldRunAgain_whenFirstAttemptFailed() {
+        // Given
+        when(bookingService.createBooking(PASSENGER_ID, FLIGHT_ID, now))
+                .thenThrow(new FlightOverbookedException(FLIGHT_ID))
+                .thenReturn(booking);
+
+        // When
+        assertThrows(FlightOverbookedException.class,
+                () -> idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now));
+        Booking retried = idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now);
+
+        // Then
+        assertEquals(BOOKING_ID, retried.getId());
+        verify(bookingService, times(2)).createBooking(PASSENGER_ID, FLIGHT_ID, now);
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate when the original is still running after the wait timeout")
+    void shouldThrowInProgress_whenOriginalDoesNotFinishInTime() {
+        // Given
+        idempotencyStore.claim("key-1", PASSENGER_ID + ":" + FLIGHT_ID, now);
+
+        // When / Then
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("Should reject a key replayed for another flight")
+    void shouldThrowReused_whenKeyBelongsToAnotherRequest() {
+        // Given
+        when(bookingService.createBooking(PASSENGER_ID, FLIGHT_ID, now)).thenReturn(booking);
+        idempotentBookingService.createBooking("key-1", PASSENGER_ID, FLIGHT_ID, now);
+
+        // When / Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> idempotentBookingService.createBooking("key-1", PASSENGER_ID, 999L, now));
+    }
+}
@@ -0,0 +1,58 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Passenger Service Application Tests")
+class PassengerServiceTest {
+    @Mock
+    private PassengerRepository passengerRepository;
+
+    @InjectMocks
+    private PassengerService passengerService;
+
+    @Test
+    @DisplayName("Should save the passenger with a normalized email when the email is free")
+    void shouldCreatePassenger_whenEmailIsFree() {
+        // Given
+        when(passengerRepository.findByEmail("John.Doe@Example.com")).thenReturn(Optional.empty());
+        when(passengerRepository.save(any(Passenger.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Passenger created = passengerService.create("John Doe", "John.Doe@Example.com");
+
+        // Then
+        assertEquals("john.doe@example.com", created.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should throw PassengerEmailAlreadyExistsException without writing when the email is taken")
+    void shouldThrowPassengerEmailAlreadyExistsException_whenEmailIsTaken() {
+        // Given
+        when(passengerRepository.findByEmail("john.doe@example.com"))
+                .thenReturn(Optional.of(Passenger.fromPersistence(1L, "John Doe", "john.doe@example.com")));
+
+        // When / Then
+        assertThrows(PassengerEmailAlreadyExistsException.class,
+                () -> passengerService.create("Johnny Doe", "john.doe@example.com"));
+
+        verify(passengerRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,302 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.SeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Seat Hold Service Application Tests")
+class SeatHoldServiceTest {
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+    private static final Long HOLD_ID = 7L;
+
+    @Mock
+    private SeatHoldRepository seatHoldRepository;
+    @Mock
+    private PassengerRepository passengerRepository;
+    @Mock
+    private FlightRepository flightRepository;
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private SeatInventory seatInventory;
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldService seatHoldService;
+    private LocalDateTime now;
+    private Passenger passenger;
+
+    @BeforeEach
+    void setUp() {
+        seatInventory = new AtomicSeatInventory();
+        meterRegistry = new SimpleMeterRegistry();
+        seatHoldService = new SeatHoldService(
+                seatHoldRepository,
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                seatInventory,
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                new SeatHoldProperties(Duration.ofMinutes(30), Duration.ofSeconds(1), 64, Duration.ofMinutes(1)),
+                event -> { },
+                meterRegistry
+        );
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+    }
+
+    private Flight flight(int occupiedSeats, int heldSeats) {
+        return Flight.fromPersistence(FLIGHT_ID, "BUE", "MAD", 10, occupiedSeats, heldSeats, now.plusDays(5), 0L);
+    }
+
+    private SeatHold persistedHold(Flight flight) {
+        return SeatHold.fromPersistence(HOLD_ID, passenger, flight, SeatHoldStatus.HELD, now, now.plusMinutes(10), 0L);
+    }
+
+    @Test
+    @DisplayName("Should hold a seat through the guarded update and schedule its expiration")
+    void shouldHoldSeatAndScheduleExpiration_whenFlightHasSeats() {
+        // Given
+        Flight flight = flight(0, 0);
+        when(passengerRepository.findById(PASSENGER_ID)).thenReturn(Optional.of(passenger));
+        when(flightRepository.findById(FLIGHT_ID)).thenReturn(Optional.of(flight));
+        when(flightRepository.holdSeat(FLIGHT_ID, now)).thenReturn(true);
+        when(seatHoldRepository.save(any(SeatHold.class))).thenAnswer(invocation -> {
+            SeatHold held = invocation.getArgument(0);
+            return SeatHold.fromPersistence(HOLD_ID, held.getPassenger(), held.getFlight(),
+                    held.getStatus(), held.getCreatedAt(), held.getExpiresAt(), 0L);
+        });
+
+        // When
+        SeatHold result = seatHoldService.holdSeat(PASSENGER_ID, FLIGHT_ID, Duration.ofMinutes(10), now);
+
+        // Then
+        assertAll(
+                () -> assertEquals(HOLD_ID, result.getId()),
+                () -> assertEquals(SeatHoldStatus.HELD, result.getStatus()),
+                () -> assertEquals(now.plusMinutes(10), result.getExpiresAt()),
+                () -> assertEquals(9, flight.availableSeats()),
+                () -> assertEquals(1, seatHoldService.pendingExpirations())
+        );
+        verify(flightRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw FlightOverbookedException and schedule nothing when the guarded hold update fails")
+    void shouldThrowFlightOverbookedException_whenGuardedHoldUpdateFails() {
+        // Given
+        when(passengerRepository.findById(PASSENGER_ID)).thenReturn(Optional.of(passenger));
+        when(flightRepository.findById(FLIGHT_ID)).thenReturn(Optional.of(flight(0, 0)));
+        when(flightRepository.holdSeat(FLIGHT_ID, now)).thenReturn(false);
+
+        // When / Then
+        assertThrows(FlightOverbookedException.class,
+                () -> seatHoldService.holdSeat(PASSENGER_ID, FLIGHT_ID, Duration.ofMinutes(10), now));
+
+        assertEquals(0, seatHoldService.pendingExpirations());
+        verifyNoInteractions(seatHoldRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject hold durations longer than the configured maximum")
+    void shouldThrowIllegalArgumentException_whenDurationExceedsMaximum() {
+        assertThrows(IllegalArgumentException.class,
+                () -> seatHoldService.holdSeat(PASSENGER_ID, FLIGHT_ID, Duration.ofHours(2), now));
+
+        verifyNoInteractions(passengerRepository, flightRepository, seatHoldRepository);
+    }
+
+    @Test
+    @DisplayName("Should confirm an active hold into a booking and cancel its expiration")
+    void shouldConfirmHoldAndCancelExpiration_whenHoldIsActive() {
+        // Given
+        Flight flight = flight(0, 0);
+        when(passengerRepository.findById(PASSENGER_ID)).thenReturn(Optional.of(passenger));
+        when(flightRepository.findById(FLIGHT_ID)).thenReturn(Optional.of(flight));
+        when(flightRepository.holdSeat(FLIGHT_ID, now)).thenReturn(true);
+        when(seatHoldRepository.save(any(SeatHold.class))).thenAnswer(invocation -> {
+            SeatHold held = invocation.getArgument(0);
+            return held.getId() == null ? persistedHold(flight(0, 1)) : held;
+        });
+        seatHoldService.holdSeat(PASSENGER_ID, FLIGHT_ID, Duration.ofMinutes(10), now);
+
+        when(seatHoldRepository.findById(HOLD_ID)).thenReturn(Optional.of(persistedHold(flight(0, 1))));
+        when(flightRepository.confirmHeldSeat(FLIGHT_ID)).thenReturn(true);
+        when(flightRepository.assignSeat(FLIGHT_ID, now.plusMinutes(5))).thenReturn(1);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Booking booking = seatHoldService.confirmHold(HOLD_ID, now.plusMinutes(5));
+
+        // Then
+        assertEquals(1, booking.getFlight().getOccupiedSeats());
+        assertEquals(1, booking.getSeatNumber());
+        assertEquals(0, seatHoldService.pendingExpirations());
+        verify(seatHoldRepository).save(argThat(held -> held.getStatus() == SeatHoldStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("Should release the held seat when the expiration wheel passes the hold deadline")
+    void shouldExpireHold_whenDeadlinePasses() {
+        // Given
+        Flight heldFlight = flight(0, 1);
+        when(seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD)).thenReturn(List.of(persistedHold(heldFlight)));
+        seatHoldService.scheduleActiveHolds();
+        seatHoldService.expireDueHolds(now);
+
+        when(seatHoldRepository.findById(HOLD_ID)).thenReturn(Optional.of(persistedHold(heldFlight)));
+        when(flightRepository.releaseHeldSeat(FLIGHT_ID)).thenReturn(true);
+
+        // When
+        seatHoldService.expireDueHolds(now.plusMinutes(5));
+        verify(seatHoldRepository, never()).findById(any());
+        seatHoldService.expireDueHolds(now.plusMinutes(10));
+
+        // Then
+        verify(flightRepository).releaseHeldSeat(FLIGHT_ID);
+        verify(seatHoldRepository).save(argThat(held -> held.getStatus() == SeatHoldStatus.EXPIRED));
+        assertEquals(0, heldFlight.getHeldSeats());
+        assertEquals(0, seatHoldService.pendingExpirations());
+    }
+
+    @Test
+    @DisplayName("Should count a failed expiration and retry it on the next tick")
+    void shouldRescheduleExpiration_whenExpireFails() {
+        // Given
+        Flight heldFlight = flight(0, 1);
+        when(seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD)).thenReturn(List.of(persistedHold(heldFlight)));
+        seatHoldService.scheduleActiveHolds();
+        seatHoldService.expireDueHolds(now);
+
+        when(seatHoldRepository.findById(HOLD_ID))
+                .thenThrow(new IllegalStateException("Store unavailable."))
+                .thenReturn(Optional.of(persistedHold(heldFlight)));
+        when(flightRepository.releaseHeldSeat(FLIGHT_ID)).thenReturn(true);
+
+        // When
+        seatHoldService.expireDueHolds(now.plusMinutes(10));
+
+        // Then
+        assertEquals(1, seatHoldService.pendingExpirations());
+        assertEquals(1.0, meterRegistry.get("booking.holds.expire.failures").counter().count());
+
+        seatHoldService.expireDueHolds(now.plusMinutes(10).plusSeconds(2));
+
+        verify(flightRepository).releaseHeldSeat(FLIGHT_ID);
+        verify(seatHoldRepository).save(argThat(held -> held.getStatus() == SeatHoldStatus.EXPIRED));
+        assertEquals(0, seatHoldService.pendingExpirations());
+    }
+
+    @Test
+    @DisplayName("Should drop the seat counter and expire the hold without a release when the guarded release update fails")
+    void shouldExpireHoldWithoutRelease_whenGuardedReleaseUpdateFails() {
+        // Given
+        Flight heldFlight = flight(0, 1);
+        SeatInventory inventory = spy(seatInventory);
+        SeatHoldService service = new SeatHoldService(
+                seatHoldRepository,
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                inventory,
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                new SeatHoldProperties(Duration.ofMinutes(30), Duration.ofSeconds(1), 64, Duration.ofMinutes(1)),
+                event -> { },
+                meterRegistry
+        );
+        when(seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD)).thenReturn(List.of(persistedHold(heldFlight)));
+        when(seatHoldRepository.findById(HOLD_ID)).thenAnswer(invocation -> Optional.of(persistedHold(flight(0, 1))));
+        when(flightRepository.releaseHeldSeat(FLIGHT_ID)).thenReturn(false);
+        service.scheduleActiveHolds();
+        service.expireDueHolds(now);
+
+        // When
+        service.expireDueHolds(now.plusMinutes(10));
+
+        // Then
+        verify(inventory).invalidate(FLIGHT_ID);
+        verify(flightRepository).releaseHeldSeat(FLIGHT_ID);
+        verify(seatHoldRepository).save(argThat(held -> held.getStatus() == SeatHoldStatus.EXPIRED));
+        assertEquals(0, service.pendingExpirations());
+        assertEquals(0.0, meterRegistry.get("booking.holds.expire.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should wait twice as long before each new try of an expiration that keeps failing")
+    void shouldBackOffExponentially_whenExpireKeepsFailing() {
+        // Given
+        Flight heldFlight = flight(0, 1);
+        when(seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD)).thenReturn(List.of(persistedHold(heldFlight)));
+        seatHoldService.scheduleActiveHolds();
+        seatHoldService.expireDueHolds(now);
+
+        when(seatHoldRepository.findById(HOLD_ID))
+                .thenThrow(new IllegalStateException("Store unavailable."))
+                .thenThrow(new IllegalStateException("Store unavailable."))
+                .thenReturn(Optional.of(persistedHold(heldFlight)));
+        when(flightRepository.releaseHeldSeat(FLIGHT_ID)).thenReturn(true);
+        LocalDateTime deadline = now.plusMinutes(10);
+
+        // When
+        seatHoldService.expireDueHolds(deadline);
+        seatHoldService.expireDueHolds(deadline.plusSeconds(1));
+        seatHoldService.expireDueHolds(deadline.plusSeconds(2));
+
+        // Then
+        verify(seatHoldRepository, times(2)).findById(HOLD_ID);
+        assertEquals(2.0, meterRegistry.get("booking.holds.expire.failures").counter().count());
+
+        seatHoldService.expireDueHolds(deadline.plusSeconds(3));
+
+        verify(seatHoldRepository).save(argThat(held -> held.getStatus() == SeatHoldStatus.EXPIRED));
+        assertEquals(0, seatHoldService.pendingExpirations());
+    }
+
+    @Test
+    @DisplayName("Should throw SeatHoldNotFoundException when confirming an unknown hold")
+    void shouldThrowSeatHoldNotFoundException_whenHoldDoesNotExist() {
+        when(seatHoldRepository.findById(HOLD_ID)).thenReturn(Optional.empty());
+
+        assertThrows(SeatHoldNotFoundException.class, () -> seatHoldService.confirmHold(HOLD_ID, now));
+
+        verifyNoInteractions(bookingRepository);
+    }
+}
@@ -0,0 +1,169 @@
+package com.pdiosquez.flight_booking_api.application.service;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightHasAvailableSeatsException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.WaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Waitlist Service Application Tests")
+class WaitlistServiceTest {
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+    private static final Long ENTRY_ID = 7L;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+    @Mock
+    private PassengerRepository passengerRepository;
+    @Mock
+    private FlightRepository flightRepository;
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WaitlistService waitlistService;
+    private LocalDateTime now;
+    private Passenger passenger;
+
+    @BeforeEach
+    void setUp() {
+        waitlistService = new WaitlistService(
+                waitlistRepository,
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        new SimpleMeterRegistry()
+                ),
+                eventPublisher
+        );
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+    }
+
+    private Flight flight(int occupiedSeats) {
+        return Flight.fromPersistence(FLIGHT_ID, "BUE", "MAD", 2, occupiedSeats, now.plusDays(5));
+    }
+
+    private WaitlistEntry waitingEntry() {
+        return WaitlistEntry.fromPersistence(ENTRY_ID, passenger, FLIGHT_ID, 0, WaitlistStatus.WAITING, now, 0L);
+    }
+
+    @Test
+    @DisplayName("Should put the passenger on the waitlist when the flight is full")
+    void shouldJoinWaitlist_whenFlightIsFull() {
+        when(passengerRepository.findById(PASSENGER_ID)).thenReturn(Optional.of(passenger));
+        when(flightRepository.findById(FLIGHT_ID)).thenReturn(Optional.of(flight(2)));
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WaitlistEntry entry = waitlistService.join(PASSENGER_ID, FLIGHT_ID, 1, now);
+
+        assertAll(
+                () -> assertEquals(WaitlistStatus.WAITING, entry.getStatus()),
+                () -> assertEquals(1, entry.getPriority()),
+                () -> assertEquals(FLIGHT_ID, entry.getFlightId())
+        );
+    }
+
+    @Test
+    @DisplayName("Should refuse to waitlist a flight that can still be booked")
+    void shouldRefuseToJoin_whenFlightHasAvailableSeats() {
+        when(passengerRepository.findById(PASSENGER_ID)).thenReturn(Optional.of(passenger));
+        when(flightRepository.findById(FLIGHT_ID)).thenReturn(Optional.of(flight(1)));
+
+        assertThrows(FlightHasAvailableSeatsException.class,
+                () -> waitlistService.join(PASSENGER_ID, FLIGHT_ID, 0, now));
+        verify(waitlistRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should give the freed seat to the next entry and publish the promotion")
+    void shouldPromoteNextEntry_whenSeatIsFreed() {
+        SeatInventory seatInventory = new AtomicSeatInventory();
+        Flight flight = flight(1);
+        WaitlistEntry entry = waitingEntry();
+        when(waitlistRepository.findNextWaiting(FLIGHT_ID)).thenReturn(Optional.of(entry));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            return Booking.fromPersistence(42L, booking.getPassenger(), booking.getFlight(), booking.getStatus(),
+                    booking.getCreatedAt(), booking.getSeatNumber());
+        });
+
+        Optional<Booking> promoted = waitlistService.promoteNext(flight, now, seatInventory);
+
+        assertAll(
+                () -> assertEquals(42L, promoted.orElseThrow().getId()),
+                () -> assertEquals(BookingStatus.CONFIRMED, promoted.orElseThrow().getStatus()),
+                () -> assertEquals(1, promoted.orElseThrow().getSeatNumber()),
+                () -> assertEquals(WaitlistStatus.PROMOTED, entry.getStatus()),
+                () -> assertEquals(2, flight.getOccupiedSeats())
+        );
+        verify(waitlistRepository).save(entry);
+        verify(eventPublisher).publishEvent(new WaitlistPromotedEvent(ENTRY_ID, PASSENGER_ID, FLIGHT_ID, 42L, now));
+    }
+
+    @Test
+    @DisplayName("Should leave the seat free when nobody is waiting")
+    void shouldNotPromote_whenWaitlistIsEmpty() {
+        Flight flight = flight(1);
+        when(waitlistRepository.findNextWaiting(FLIGHT_ID)).thenReturn(Optional.empty());
+
+        assertTrue(waitlistService.promoteNext(flight, now).isEmpty());
+        assertEquals(1, flight.getOccupiedSeats());
+        verifyNoInteractions(bookingRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should withdraw the entry when the passenger leaves the waitlist")
+    void shouldWithdrawEntry_whenLeaving() {
+        WaitlistEntry entry = waitingEntry();
+        when(waitlistRepository.findById(ENTRY_ID)).thenReturn(Optional.of(entry));
+
+        waitlistService.leave(ENTRY_ID);
+
+        assertEquals(WaitlistStatus.WITHDRAWN, entry.getStatus());
+        verify(waitlistRepository).save(entry);
+    }
+
+    @Test
+    @DisplayName("Should throw a WaitlistEntryNotFoundException when the entry does not exist")
+    void shouldThrowNotFound_whenEntryDoesNotExist() {
+        when(waitlistRepository.findById(ENTRY_ID)).thenReturn(Optional.empty());
+
+        assertThrows(WaitlistEntryNotFoundException.class, () -> waitlistService.leave(ENTRY_ID));
+    }
+}
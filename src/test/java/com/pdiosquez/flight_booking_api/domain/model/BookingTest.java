@@ -2,6 +2,7 @@ package com.pdiosquez.flight_booking_api.domain.model;
 
 import com.pdiosquez.flight_booking_api.domain.exception.BookingAlreadyCancelledException;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingCancellationWindowClosedException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingSeatNotAssignedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +128,40 @@ class BookingTest {
         );
     }
 
+    @Test
+    @DisplayName("Should give the assigned seat back to the seat map when the booking is cancelled")
+    void shouldReleaseAssignedSeat_whenCancelled() {
+
+        Flight flight = futureFlight(100, 99);
+        Booking booking = Booking.create(passenger(), flight, now());
+        booking.assignSeat(flight.assignSeats(1, now())[0]);
+
+        booking.cancel(now());
+
+        assertAll(
+                () -> assertNull(booking.getSeatNumber()),
+                () -> assertEquals(0, flight.getSeatMap().assignedSeatNumbers().length)
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep the booking confirmed when only its seat is released, and refuse a second release")
+    void shouldReleaseSeatAssignmentOnce() {
+
+        Flight flight = futureFlight(100, 99);
+        Booking booking = Booking.create(passenger(), flight, now());
+        booking.assignSeat(flight.assignSeats(1, now())[0]);
+
+        booking.releaseSeatAssignment();
+
+        assertAll(
+                () -> assertEquals(BookingStatus.CONFIRMED, booking.getStatus()),
+                () -> assertNull(booking.getSeatNumber()),
+                () -> assertEquals(0, flight.getSeatMap().assignedSeatNumbers().length),
+                () -> assertThrows(BookingSeatNotAssignedException.class, booking::releaseSeatAssignment)
+        );
+    }
+
     @Test
     @DisplayName("Should throw when cancelling already cancelled booking")
     void shouldThrowWhenAlreadyCancelled() {
@@ -1,8 +1,12 @@
 package com.pdiosquez.flight_booking_api.domain.model;
 
+import com.pdiosquez.flight_booking_api.domain.exception.AdjacentSeatsUnavailableException;
 import com.pdiosquez.flight_booking_api.domain.exception.EmptyFlightSeatReleaseException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightAlreadyDepartedException;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
+import com.pdiosquez.flight_booking_api.domain.exception.NoHeldSeatException;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -385,4 +389,164 @@ class FlightTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Given the shared inventory has no seats left, when reserveSeat() is called with it, then it should throw a FlightOverbookedException")
+    void givenExhaustedInventory_whenReserveSeatWithInventory_thenThrowsException() {
+        Long id                     = 101L;
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+
+        Flight flight = Flight.fromPersistence(id, "BUE", "MAD", 100, 50, departureTime);
+
+        assertThrows(
+                FlightOverbookedException.class,
+                () -> flight.reserveSeat(departureTime.minusDays(5), new FixedSeatInventory(false))
+        );
+
+        assertEquals(50, flight.getOccupiedSeats(), "Occupied seats should not increment if the inventory rejects the reservation");
+    }
+
+    @Test
+    @DisplayName("Given the shared inventory accepts the reservation, when reserveSeat() is called with it, then a seat is occupied")
+    void givenAvailableInventory_whenReserveSeatWithInventory_thenSeatIsOccupied() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+
+        Flight flight = Flight.fromPersistence(101L, "BUE", "MAD", 100, 50, departureTime);
+
+        flight.reserveSeat(departureTime.minusDays(5), new FixedSeatInventory(true));
+
+        assertEquals(51, flight.getOccupiedSeats());
+    }
+
+    @Test
+    @DisplayName("Given the shared inventory has nothing to release, when releaseSeat() is called with it, then it should throw an EmptyFlightSeatReleaseException")
+    void givenEmptyInventory_whenReleaseSeatWithInventory_thenThrowsException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+
+        Flight flight = Flight.fromPersistence(101L, "BUE", "MAD", 100, 1, departureTime);
+
+        assertThrows(
+                EmptyFlightSeatReleaseException.class,
+                () -> flight.releaseSeat(departureTime.minusDays(5), new FixedSeatInventory(false))
+        );
+
+        assertEquals(1, flight.getOccupiedSeats(), "Occupied seats should not decrement if the inventory rejects the release");
+    }
+
+    @Test
+    @DisplayName("Given a held seat, when availableSeats() is called, then the held seat is not available")
+    void givenHeldSeat_whenAvailableSeats_thenHeldSeatIsExcluded() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, departureTime);
+
+        flight.holdSeat(departureTime.minusDays(1), new FixedSeatInventory(true));
+
+        assertAll(
+                () -> assertEquals(1, flight.getHeldSeats()),
+                () -> assertEquals(1, flight.getOccupiedSeats()),
+                () -> assertEquals(1, flight.availableSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("Given the remaining seats are held, when reserveSeat() is called, then it should throw FlightOverbookedException")
+    void givenRemainingSeatsHeld_whenReserveSeat_thenThrowOverbooked() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 2, 1, 1, departureTime, 0L);
+
+        assertThrows(FlightOverbookedException.class, () -> flight.reserveSeat(departureTime.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Given a held seat, when confirmHeldSeat() is called, then the seat moves from held to occupied")
+    void givenHeldSeat_whenConfirmHeldSeat_thenSeatBecomesOccupied() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, 1, departureTime, 0L);
+
+        flight.confirmHeldSeat();
+
+        assertAll(
+                () -> assertEquals(0, flight.getHeldSeats()),
+                () -> assertEquals(2, flight.getOccupiedSeats()),
+                () -> assertEquals(1, flight.availableSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("Given no held seats, when releaseHeldSeat() is called, then it should throw NoHeldSeatException")
+    void givenNoHeldSeats_whenReleaseHeldSeat_thenThrowException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, departureTime);
+
+        assertThrows(NoHeldSeatException.class, () -> flight.releaseHeldSeat(new FixedSeatInventory(true)));
+    }
+
+    @Test
+    @DisplayName("Given a partly assigned seat map, when assignSeats() is called, then the lowest adjacent free seats are assigned")
+    void givenPartlyAssignedSeatMap_whenAssignSeats_thenLowestAdjacentSeatsAssigned() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        SeatMap seatMap = SeatMap.empty(10);
+        seatMap.tryAssign(2);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 10, 0, 0, departureTime, 0L, seatMap);
+
+        int[] seats = flight.assignSeats(3, departureTime.minusDays(1));
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{3, 4, 5}, seats),
+                () -> assertEquals(4, flight.getSeatMap().assignedSeats()),
+                () -> assertEquals(0, flight.getOccupiedSeats(), "Seat assignment does not change occupancy")
+        );
+    }
+
+    @Test
+    @DisplayName("Given no run of free seats is long enough, when assignSeats() is called, then it should throw AdjacentSeatsUnavailableException")
+    void givenNoAdjacentSeats_whenAssignSeats_thenThrowException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 4, 0, departureTime);
+        flight.assignSeats(1, departureTime.minusDays(1));
+        flight.getSeatMap().tryAssign(3);
+
+        assertThrows(AdjacentSeatsUnavailableException.class, () -> flight.assignSeats(2, departureTime.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Given a departed flight, when assignSeats() is called, then it should throw FlightAlreadyDepartedException")
+    void givenDepartedFlight_whenAssignSeats_thenThrowException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 4, 0, departureTime);
+
+        assertThrows(FlightAlreadyDepartedException.class, () -> flight.assignSeats(1, departureTime.plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Given a free seat, when releaseSeatAssignment() is called, then it should throw SeatNotAssignedException")
+    void givenFreeSeat_whenReleaseSeatAssignment_thenThrowException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 4, 0, departureTime);
+        flight.assignSeats(1, departureTime.minusDays(1));
+
+        flight.releaseSeatAssignment(1);
+
+        assertThrows(SeatNotAssignedException.class, () -> flight.releaseSeatAssignment(1));
+    }
+
+    @Test
+    @DisplayName("Given a seat map of another size, when fromPersistence() is called, then it should throw IllegalArgumentException")
+    void givenMismatchedSeatMap_whenFromPersistence_thenThrowException() {
+        LocalDateTime departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Flight.fromPersistence(1L, "BUE", "MAD", 4, 0, 0, departureTime, 0L, SeatMap.empty(5)));
+    }
+
+    private record FixedSeatInventory(boolean accepts) implements SeatInventory {
+        @Override
+        public boolean tryReserve(Flight flight) {
+            return accepts;
+        }
+
+        @Override
+        public boolean tryRelease(Flight flight) {
+            return accepts;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.inventory.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Seat Hold Domain Entity Tests")
+class SeatHoldTest {
+
+    private static final Long HOLD_ID = 7L;
+    private static final SeatInventory ALWAYS_ACCEPTS = new SeatInventory() {
+        @Override
+        public boolean tryReserve(Flight flight) {
+            return true;
+        }
+
+        @Override
+        public boolean tryRelease(Flight flight) {
+            return true;
+        }
+    };
+
+    private LocalDateTime now() {
+        return LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    private Passenger passenger() {
+        return Passenger.fromPersistence(467L, "John Doe", "john.doe@example.com");
+    }
+
+    private SeatHold persistedHold(Flight flight, SeatHoldStatus status) {
+        return SeatHold.fromPersistence(HOLD_ID, passenger(), flight, status, now(), now().plusMinutes(10), 0L);
+    }
+
+    private Flight flightWithOneHeldSeat() {
+        return Flight.fromPersistence(101L, "BUE", "MAD", 10, 0, 1, now().plusDays(5), 0L);
+    }
+
+    @Test
+    @DisplayName("Given an available flight, when create() is called, then the seat is held until now plus the duration")
+    void givenAvailableFlight_whenCreate_thenSeatIsHeld() {
+        Flight flight = Flight.fromPersistence(101L, "BUE", "MAD", 10, 0, now().plusDays(5));
+
+        SeatHold seatHold = SeatHold.create(passenger(), flight, now(), Duration.ofMinutes(15), ALWAYS_ACCEPTS);
+
+        assertAll(
+                () -> assertNull(seatHold.getId()),
+                () -> assertEquals(SeatHoldStatus.HELD, seatHold.getStatus()),
+                () -> assertEquals(now().plusMinutes(15), seatHold.getExpiresAt()),
+                () -> assertEquals(1, flight.getHeldSeats()),
+                () -> assertEquals(9, flight.availableSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("Given an active hold, when confirm() is called, then a confirmed booking takes the held seat")
+    void givenActiveHold_whenConfirm_thenBookingIsCreated() {
+        Flight flight = flightWithOneHeldSeat();
+        SeatHold seatHold = persistedHold(flight, SeatHoldStatus.HELD);
+
+        Booking booking = seatHold.confirm(now().plusMinutes(5));
+
+        assertAll(
+                () -> assertEquals(SeatHoldStatus.CONFIRMED, seatHold.getStatus()),
+                () -> assertEquals(BookingStatus.CONFIRMED, booking.getStatus()),
+                () -> assertEquals(0, flight.getHeldSeats()),
+                () -> assertEquals(1, flight.getOccupiedSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("Given a hold past its deadline, when confirm() is called, then it should throw SeatHoldNotActiveException")
+    void givenExpiredHold_whenConfirm_thenThrowException() {
+        Flight flight = flightWithOneHeldSeat();
+        SeatHold seatHold = persistedHold(flight, SeatHoldStatus.HELD);
+
+        assertThrows(SeatHoldNotActiveException.class, () -> seatHold.confirm(now().plusMinutes(10)));
+        assertEquals(1, flight.getHeldSeats(), "The seat stays held until the hold is expired");
+    }
+
+    @Test
+    @DisplayName("Given an active hold, when expire() is called, then the held seat is released")
+    void givenActiveHold_whenExpire_thenSeatIsReleased() {
+        Flight flight = flightWithOneHeldSeat();
+        SeatHold seatHold = persistedHold(flight, SeatHoldStatus.HELD);
+
+        assertTrue(seatHold.expire(ALWAYS_ACCEPTS));
+        assertEquals(SeatHoldStatus.EXPIRED, seatHold.getStatus());
+        assertEquals(0, flight.getHeldSeats());
+    }
+
+    @Test
+    @DisplayName("Given a confirmed hold, when expire() is called, then nothing changes")
+    void givenConfirmedHold_whenExpire_thenNothingChanges() {
+        Flight flight = Flight.fromPersistence(101L, "BUE", "MAD", 10, 1, now().plusDays(5));
+        SeatHold seatHold = persistedHold(flight, SeatHoldStatus.CONFIRMED);
+
+        assertFalse(seatHold.expire(ALWAYS_ACCEPTS));
+        assertEquals(SeatHoldStatus.CONFIRMED, seatHold.getStatus());
+        assertEquals(1, flight.getOccupiedSeats());
+    }
+
+    @Test
+    @DisplayName("Given an active hold, when expireWithoutRelease() is called, then the hold expires and the flight is untouched")
+    void givenActiveHold_whenExpireWithoutRelease_thenFlightIsUntouched() {
+        Flight flight = flightWithOneHeldSeat();
+        SeatHold seatHold = persistedHold(flight, SeatHoldStatus.HELD);
+
+        assertTrue(seatHold.expireWithoutRelease());
+        assertEquals(SeatHoldStatus.EXPIRED, seatHold.getStatus());
+        assertEquals(1, flight.getHeldSeats());
+        assertFalse(seatHold.expireWithoutRelease());
+    }
+}
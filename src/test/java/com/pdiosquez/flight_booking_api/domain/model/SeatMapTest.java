@@ -0,0 +1,154 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Seat Map Tests")
+class SeatMapTest {
+
+    @Test
+    @DisplayName("Given assigned seats, when firstFreeSeat() is called, then the lowest free seat is returned")
+    void givenAssignedSeats_whenFirstFreeSeat_thenLowestFreeSeatReturned() {
+        SeatMap seatMap = SeatMap.empty(130);
+        for (int seat = 1; seat <= 70; seat++) {
+            assertTrue(seatMap.tryAssign(seat));
+        }
+
+        assertAll(
+                () -> assertEquals(OptionalInt.of(71), seatMap.firstFreeSeat()),
+                () -> assertEquals(70, seatMap.assignedSeats()),
+                () -> assertFalse(seatMap.tryAssign(70), "An assigned seat cannot be assigned twice")
+        );
+    }
+
+    @Test
+    @DisplayName("Given a full map, when searching for free seats, then nothing is found")
+    void givenFullMap_whenSearching_thenNothingFound() {
+        SeatMap seatMap = SeatMap.empty(65);
+        assertTrue(seatMap.tryAssign(1, 65));
+
+        assertAll(
+                () -> assertTrue(seatMap.firstFreeSeat().isEmpty()),
+                () -> assertTrue(seatMap.firstFreeSeats(1).isEmpty()),
+                () -> assertTrue(SeatMap.empty(3).firstFreeSeats(4).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Given gaps that are too small, when firstFreeSeats() is called, then the first run long enough is returned even across words")
+    void givenSmallGaps_whenFirstFreeSeats_thenRunAcrossWordsReturned() {
+        SeatMap seatMap = SeatMap.empty(200);
+        assertTrue(seatMap.tryAssign(1, 10));
+        assertTrue(seatMap.tryAssign(13, 48));
+        assertTrue(seatMap.tryAssign(100));
+
+        assertAll(
+                () -> assertEquals(OptionalInt.of(11), seatMap.firstFreeSeats(2)),
+                () -> assertEquals(OptionalInt.of(61), seatMap.firstFreeSeats(3)),
+                () -> assertEquals(OptionalInt.of(61), seatMap.firstFreeSeats(39)),
+                () -> assertEquals(OptionalInt.of(101), seatMap.firstFreeSeats(40)),
+                () -> assertTrue(seatMap.firstFreeSeats(101).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Given one seat of a run is taken, when tryAssign() is called for the run, then no seat is assigned")
+    void givenTakenSeatInRun_whenTryAssign_thenNothingAssigned() {
+        SeatMap seatMap = SeatMap.empty(150);
+        assertTrue(seatMap.tryAssign(130));
+
+        assertFalse(seatMap.tryAssign(60, 80));
+
+        assertAll(
+                () -> assertEquals(1, seatMap.assignedSeats()),
+                () -> assertArrayEquals(new int[]{130}, seatMap.assignedSeatNumbers())
+        );
+    }
+
+    @Test
+    @DisplayName("Given seats out of range, when tryAssign() is called, then it should throw IllegalArgumentException")
+    void givenSeatOutOfRange_whenTryAssign_thenThrowException() {
+        SeatMap seatMap = SeatMap.empty(10);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> seatMap.tryAssign(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> seatMap.tryAssign(11)),
+                () -> assertThrows(IllegalArgumentException.class, () -> seatMap.tryAssign(9, 3))
+        );
+    }
+
+    @Test
+    @DisplayName("Given an assigned seat, when release() is called, then the seat is free again and a second release is refused")
+    void givenAssignedSeat_whenRelease_thenSeatIsFree() {
+        SeatMap seatMap = SeatMap.empty(10);
+        seatMap.tryAssign(4);
+
+        assertAll(
+                () -> assertTrue(seatMap.release(4)),
+                () -> assertFalse(seatMap.isAssigned(4)),
+                () -> assertFalse(seatMap.release(4))
+        );
+    }
+
+    @Test
+    @DisplayName("Given a map, when it is written to bytes and read back, then the same seats are assigned")
+    void givenMap_whenRoundTripThroughBytes_thenSameSeatsAssigned() {
+        SeatMap seatMap = SeatMap.empty(75);
+        seatMap.tryAssign(1);
+        seatMap.tryAssign(64, 3);
+        seatMap.tryAssign(75);
+
+        byte[] bytes = seatMap.toBytes();
+        SeatMap restored = SeatMap.fromBytes(75, bytes);
+
+        assertAll(
+                () -> assertEquals(10, bytes.length, "One bit per seat"),
+                () -> assertEquals(seatMap, restored),
+                () -> assertArrayEquals(new int[]{1, 64, 65, 66, 75}, restored.assignedSeatNumbers()),
+                () -> assertEquals(0, SeatMap.fromBytes(75, null).assignedSeats())
+        );
+    }
+
+    @Test
+    @DisplayName("Given many threads racing for the same seats, when they assign pairs, then every seat is assigned exactly once")
+    void givenConcurrentAssignments_whenAssigningPairs_thenNoSeatAssignedTwice() throws InterruptedException {
+        int capacity = 1_000;
+        SeatMap seatMap = SeatMap.empty(capacity);
+        AtomicInteger assigned = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                OptionalInt first;
+                while ((first = seatMap.firstFreeSeats(2)).isPresent()) {
+                    if (seatMap.tryAssign(first.getAsInt(), 2)) {
+                        assigned.addAndGet(2);
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertAll(
+                () -> assertEquals(capacity, assigned.get()),
+                () -> assertEquals(capacity, seatMap.assignedSeats())
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.pdiosquez.flight_booking_api.domain.model;
+
+import com.pdiosquez.flight_booking_api.domain.exception.FlightAlreadyDepartedException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightHasAvailableSeatsException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotActiveException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Waitlist Entry Domain Entity Tests")
+class WaitlistEntryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final Passenger passenger = Passenger.fromPersistence(101L, "John Doe", "john.doe@example.com");
+
+    @Test
+    @DisplayName("Given a full flight, when create() is called, then a waiting entry is instantiated")
+    void givenFullFlight_whenCreate_thenWaitingEntryInstantiated() {
+        WaitlistEntry entry = WaitlistEntry.create(passenger, flight(2), 1, NOW);
+
+        assertAll(
+                () -> assertNull(entry.getId()),
+                () -> assertEquals(WaitlistStatus.WAITING, entry.getStatus()),
+                () -> assertEquals(467L, entry.getFlightId()),
+                () -> assertEquals(1, entry.getPriority()),
+                () -> assertEquals(NOW, entry.getJoinedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("Given a flight with free seats or already departed, when create() is called, then it should throw")
+    void givenBookableOrDepartedFlight_whenCreate_thenThrowException() {
+        assertAll(
+                () -> assertThrows(FlightHasAvailableSeatsException.class,
+                        () -> WaitlistEntry.create(passenger, flight(1), 0, NOW)),
+                () -> assertThrows(FlightAlreadyDepartedException.class,
+                        () -> WaitlistEntry.create(passenger, flight(2), 0, NOW.plusDays(6))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> WaitlistEntry.create(passenger, flight(2), -1, NOW))
+        );
+    }
+
+    @Test
+    @DisplayName("Given a waiting entry, when promote() is called, then it takes the freed seat and becomes a booking")
+    void givenWaitingEntry_whenPromote_thenTakesSeatAndBooks() {
+        Flight flight = flight(1);
+        WaitlistEntry entry = entry(1L, 0, NOW);
+
+        Booking booking = entry.promote(flight, NOW);
+
+        assertAll(
+                () -> assertEquals(WaitlistStatus.PROMOTED, entry.getStatus()),
+                () -> assertEquals(2, flight.getOccupiedSeats()),
+                () -> assertEquals(passenger, booking.getPassenger()),
+                () -> assertEquals(BookingStatus.CONFIRMED, booking.getStatus()),
+                () -> assertThrows(WaitlistEntryNotActiveException.class, () -> entry.promote(flight, NOW))
+        );
+    }
+
+    @Test
+    @DisplayName("Given an entry for another flight, when promote() is called, then it should throw IllegalArgumentException")
+    void givenOtherFlight_whenPromote_thenThrowException() {
+        Flight otherFlight = Flight.fromPersistence(468L, "BUE", "MAD", 2, 1, NOW.plusDays(5));
+
+        assertThrows(IllegalArgumentException.class, () -> entry(1L, 0, NOW).promote(otherFlight, NOW));
+    }
+
+    @Test
+    @DisplayName("Given a withdrawn entry, when withdraw() is called again, then it should throw WaitlistEntryNotActiveException")
+    void givenWithdrawnEntry_whenWithdraw_thenThrowException() {
+        WaitlistEntry entry = entry(1L, 0, NOW);
+
+        entry.withdraw();
+
+        assertAll(
+                () -> assertEquals(WaitlistStatus.WITHDRAWN, entry.getStatus()),
+                () -> assertThrows(WaitlistEntryNotActiveException.class, entry::withdraw)
+        );
+    }
+
+    @Test
+    @DisplayName("Given entries of several tiers, when sorted in promotion order, then higher tiers come first and ties go to the earliest join")
+    void givenSeveralTiers_whenSorted_thenHigherTierThenEarliestJoinFirst() {
+        WaitlistEntry early = entry(1L, 0, NOW);
+        WaitlistEntry late = entry(2L, 0, NOW.plusMinutes(5));
+        WaitlistEntry premium = entry(3L, 2, NOW.plusMinutes(10));
+        WaitlistEntry sameTime = entry(4L, 0, NOW);
+
+        List<WaitlistEntry> sorted = Stream.of(late, sameTime, early, premium)
+                .sorted(WaitlistEntry.PROMOTION_ORDER)
+                .toList();
+
+        assertEquals(List.of(premium, early, sameTime, late), sorted);
+    }
+
+    private Flight flight(int occupiedSeats) {
+        return Flight.fromPersistence(467L, "BUE", "MAD", 2, occupiedSeats, NOW.plusDays(5));
+    }
+
+    private WaitlistEntry entry(Long id, int priority, LocalDateTime joinedAt) {
+        return WaitlistEntry.fromPersistence(id, passenger, 467L, priority, WaitlistStatus.WAITING, joinedAt, 0L);
+    }
+}
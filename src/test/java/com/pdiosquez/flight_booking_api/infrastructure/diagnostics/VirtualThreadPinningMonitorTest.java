@@ -0,0 +1,78 @@
+package com.pdiosquez.flight_booking_api.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(
+                meterRegistry, new PinningMonitorProperties(true, Duration.ofMillis(10), 8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("onPinned should tag the pin with the first application frame on the stack")
+    void onPinned_shouldTagFirstApplicationFrame() {
+        monitor.onPinned(Duration.ofMillis(30), List.of(
+                "java.lang.Object.wait0:-1",
+                "org.h2.jdbc.JdbcConnection.lock:120",
+                "com.pdiosquez.flight_booking_api.application.service.BookingService.createBooking:64"
+        ));
+
+        Timer timer = meterRegistry.find("booking.virtual.pinned")
+                .tag("site", "com.pdiosquez.flight_booking_api.application.service.BookingService.createBooking:64")
+                .timer();
+
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(monitor.pinCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("The monitor should report a virtual thread that sleeps inside a synchronized block")
+    void shouldReportPin_whenVirtualThreadBlocksInsideSynchronized() throws Exception {
+        Object monitorLock = new Object();
+
+        Thread pinned = Thread.ofVirtual().start(() -> {
+            synchronized (monitorLock) {
+                sleepQuietly(100);
+            }
+        });
+        pinned.join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (monitor.pinCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(monitor.pinCount()).isPositive();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
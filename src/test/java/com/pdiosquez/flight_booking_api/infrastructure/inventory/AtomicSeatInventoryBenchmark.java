@@ -0,0 +1,91 @@
+package com.pdiosquez.flight_booking_api.infrastructure.inventory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark for {@link AtomicSeatInventory}.
+ * Not part of the regular test run, execute it with {@code ./mvnw test -Pbenchmark}.
+ */
+@DisplayName("Atomic Seat Inventory Contention Benchmark")
+class AtomicSeatInventoryBenchmark {
+
+    private static final long RUN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Test
+    @DisplayName("Reserve/release throughput on one hot flight and on one flight per thread")
+    void measureThroughput() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%-8s %-22s %-22s%n", "threads", "hot flight (ops/s)", "flight per thread (ops/s)");
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            int capacity = Math.max(1, threads / 2);
+
+            long hot = run(threads, capacity, thread -> 1L);
+            long spread = run(threads, capacity, thread -> (long) thread + 1);
+
+            System.out.printf("%-8d %-22d %-22d%n", threads, hot, spread);
+        }
+    }
+
+    private long run(int threads, int capacity, IntFunction<Long> flightIdForThread) throws Exception {
+        AtomicSeatInventory seatInventory = new AtomicSeatInventory();
+        AtomicInteger[] held = new AtomicInteger[threads + 2];
+        for (int i = 0; i < held.length; i++) {
+            held[i] = new AtomicInteger();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long flightId = flightIdForThread.apply(t);
+            Flight flight = Flight.fromPersistence(flightId, "BUE", "MAD", capacity, 0, DEPARTURE);
+            AtomicInteger heldSeats = held[(int) flightId];
+
+            results.add(executor.submit(() -> {
+                start.await();
+                long operations = 0;
+                long deadline = System.nanoTime() + RUN_NANOS;
+
+                while (System.nanoTime() < deadline) {
+                    if (seatInventory.tryReserve(flight)) {
+                        assertThat(heldSeats.incrementAndGet()).isLessThanOrEqualTo(capacity);
+                        heldSeats.decrementAndGet();
+                        seatInventory.tryRelease(flight);
+                    }
+                    operations++;
+                }
+                return operations;
+            }));
+        }
+
+        start.countDown();
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get();
+        }
+        executor.shutdown();
+
+        for (int flightId = 1; flightId < held.length; flightId++) {
+            assertThat(seatInventory.occupiedSeats((long) flightId)).isZero();
+        }
+        return total * TimeUnit.SECONDS.toNanos(1) / RUN_NANOS;
+    }
+}
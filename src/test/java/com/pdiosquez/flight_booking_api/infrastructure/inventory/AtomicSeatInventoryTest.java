@@ -0,0 +1,137 @@
+package com.pdiosquez.flight_booking_api.infrastructure.inventory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Atomic Seat Inventory Tests")
+class AtomicSeatInventoryTest {
+
+    private AtomicSeatInventory seatInventory;
+    private LocalDateTime departureTime;
+
+    @BeforeEach
+    void setUp() {
+        seatInventory = new AtomicSeatInventory();
+        departureTime = LocalDateTime.of(2026, 1, 1, 1, 10, 0);
+    }
+
+    @Test
+    @DisplayName("tryReserve should seed the counter from the first flight copy and stop at capacity")
+    void tryReserve_shouldStopAtCapacity_whenSeededFromFlight() {
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, departureTime);
+
+        assertThat(seatInventory.tryReserve(flight)).isTrue();
+        assertThat(seatInventory.tryReserve(flight)).isTrue();
+        assertThat(seatInventory.tryReserve(flight)).isFalse();
+        assertThat(seatInventory.occupiedSeats(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("tryReserve should share the counter between different copies of the same flight")
+    void tryReserve_shouldShareCounter_whenFlightCopiesHaveSameId() {
+        Flight firstCopy = Flight.fromPersistence(1L, "BUE", "MAD", 1, 0, departureTime);
+        Flight secondCopy = Flight.fromPersistence(1L, "BUE", "MAD", 1, 0, departureTime);
+
+        assertThat(seatInventory.tryReserve(firstCopy)).isTrue();
+        assertThat(seatInventory.tryReserve(secondCopy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryRelease should refuse to go below zero occupied seats")
+    void tryRelease_shouldReturnFalse_whenNoSeatIsTaken() {
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, departureTime);
+
+        assertThat(seatInventory.tryRelease(flight)).isTrue();
+        assertThat(seatInventory.tryRelease(flight)).isFalse();
+        assertThat(seatInventory.occupiedSeats(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("tryReserve should reject transient flights")
+    void tryReserve_shouldThrowException_whenFlightIsTransient() {
+        Flight transientFlight = Flight.create("BUE", "MAD", 3, departureTime);
+
+        assertThatThrownBy(() -> seatInventory.tryReserve(transientFlight))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("persisted flights");
+    }
+
+    @Test
+    @DisplayName("tryReserve should never oversell a flight under concurrent callers")
+    void tryReserve_shouldNeverOversell_whenCalledConcurrently() throws InterruptedException {
+        int capacity = 150;
+        int threads = 16;
+        int attemptsPerThread = 100;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                Flight copy = Flight.fromPersistence(1L, "BUE", "MAD", capacity, 0, departureTime);
+                awaitQuietly(start);
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (seatInventory.tryReserve(copy)) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(capacity);
+        assertThat(seatInventory.occupiedSeats(1L)).isEqualTo(capacity);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("invalidate should drop the counter so the next call seeds it from the copy it is given")
+    void invalidate_shouldReseedFromNextFlightCopy() {
+        Flight stale = Flight.fromPersistence(1L, "BUE", "MAD", 2, 2, departureTime);
+        Flight current = Flight.fromPersistence(1L, "BUE", "MAD", 2, 0, departureTime);
+
+        assertThat(seatInventory.tryReserve(stale)).isFalse();
+        seatInventory.invalidate(1L);
+
+        assertThat(seatInventory.tryReserve(current)).isTrue();
+        assertThat(seatInventory.occupiedSeats(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onFlightWritten should keep a counter that matches the written flight and drop one that does not")
+    void onFlightWritten_shouldDropCounter_whenWrittenStateDisagrees() {
+        Flight flight = Flight.fromPersistence(1L, "BUE", "MAD", 3, 1, departureTime);
+        assertThat(seatInventory.tryReserve(flight)).isTrue();
+
+        seatInventory.onFlightWritten(new FlightWrittenEvent(Flight.fromPersistence(1L, "BUE", "MAD", 3, 2, departureTime)));
+        assertThat(seatInventory.occupiedSeats(1L)).isEqualTo(2);
+
+        seatInventory.onFlightWritten(new FlightWrittenEvent(Flight.fromPersistence(1L, "BUE", "MAD", 3, 0, departureTime)));
+        assertThat(seatInventory.occupiedSeats(1L)).isZero();
+        assertThat(seatInventory.tryReserve(Flight.fromPersistence(1L, "BUE", "MAD", 3, 0, departureTime))).isTrue();
+        assertThat(seatInventory.occupiedSeats(1L)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("In-Memory Booking Repository Tests")
+class InMemoryBookingRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final UnitOfWork unitOfWork = new UnitOfWork();
+    private final InMemoryFlightRepository flightRepository = new InMemoryFlightRepository(unitOfWork);
+    private final InMemoryBookingRepository repository = new InMemoryBookingRepository(flightRepository, unitOfWork);
+
+    private final Passenger john = Passenger.fromPersistence(101L, "John Doe", "john.doe@example.com");
+    private final Passenger jane = Passenger.fromPersistence(102L, "Jane Doe", "jane.doe@example.com");
+    private final Flight madrid = Flight.fromPersistence(467L, "BUE", "MAD", 100, 10, NOW.plusDays(5));
+    private final Flight rome = Flight.fromPersistence(468L, "BUE", "FCO", 100, 10, NOW.plusDays(5));
+
+    @Test
+    @DisplayName("findPage should return matching bookings in ID order starting after the cursor")
+    void findPage_shouldReturnMatchingBookingsAfterCursor() {
+        Booking first = repository.save(Booking.create(john, madrid, NOW));
+        Booking second = repository.save(Booking.create(jane, madrid, NOW));
+        Booking third = repository.save(Booking.create(john, rome, NOW));
+        Booking fourth = repository.save(Booking.create(john, madrid, NOW));
+
+        assertThat(repository.findPage(new BookingFilter(null, madrid.getId(), john.getId()), null, 10))
+                .extracting(Booking::getId)
+                .containsExactly(first.getId(), fourth.getId());
+        assertThat(repository.findPage(BookingFilter.none(), first.getId(), 2))
+                .extracting(Booking::getId)
+                .containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("findPage should follow status changes of saved bookings")
+    void findPage_shouldFollowStatusChanges() {
+        Booking kept = repository.save(Booking.create(john, madrid, NOW));
+        Booking cancelled = repository.save(Booking.create(jane, madrid, NOW));
+
+        cancelled.cancel(NOW);
+        repository.save(cancelled);
+
+        assertThat(repository.findPage(new BookingFilter(BookingStatus.CONFIRMED, null, null), null, 10))
+                .extracting(Booking::getId)
+                .containsExactly(kept.getId());
+        assertThat(repository.findPage(new BookingFilter(BookingStatus.CANCELLED, madrid.getId(), null), null, 10))
+                .extracting(Booking::getId)
+                .containsExactly(cancelled.getId());
+    }
+
+    @Test
+    @DisplayName("forEachAfter should hand over every booking after the given ID in ID order")
+    void forEachAfter_shouldVisitBookingsAfterIdInOrder() {
+        Booking first = repository.save(Booking.create(john, madrid, NOW));
+        Booking second = repository.save(Booking.create(jane, madrid, NOW));
+        Booking third = repository.save(Booking.create(john, rome, NOW));
+
+        List<Long> all = new ArrayList<>();
+        repository.forEachAfter(null, booking -> all.add(booking.getId()));
+        List<Long> resumed = new ArrayList<>();
+        repository.forEachAfter(first.getId(), booking -> resumed.add(booking.getId()));
+
+        assertThat(all).containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(resumed).containsExactly(second.getId(), third.getId());
+    }
+
+    @Test
+    @DisplayName("findByPassengerId should return only the bookings of the passenger, in ID order after the cursor")
+    void findByPassengerId_shouldReturnPassengerBookingsAfterCursor() {
+        Booking first = repository.save(Booking.create(john, madrid, NOW));
+        repository.save(Booking.create(jane, madrid, NOW));
+        Booking third = repository.save(Booking.create(john, rome, NOW));
+        Booking fourth = repository.save(Booking.create(john, madrid, NOW));
+
+        assertThat(repository.findByPassengerId(john.getId(), null, 2))
+                .extracting(Booking::getId)
+                .containsExactly(first.getId(), third.getId());
+        assertThat(repository.findByPassengerId(john.getId(), third.getId(), 2))
+                .extracting(Booking::getId)
+                .containsExactly(fourth.getId());
+        assertThat(repository.findByPassengerId(999L, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("forEachConfirmedOnFlight should hand over only the confirmed bookings of the flight in ID order")
+    void forEachConfirmedOnFlight_shouldVisitConfirmedBookingsOfFlight() {
+        Booking first = repository.save(Booking.create(john, madrid, NOW));
+        Booking cancelled = repository.save(Booking.create(jane, madrid, NOW));
+        repository.save(Booking.create(john, rome, NOW));
+        Booking fourth = repository.save(Booking.create(jane, madrid, NOW));
+
+        cancelled.cancel(NOW);
+        repository.save(cancelled);
+
+        List<Long> manifest = new ArrayList<>();
+        repository.forEachConfirmedOnFlight(madrid.getId(), booking -> manifest.add(booking.getId()));
+        List<Long> unknown = new ArrayList<>();
+        repository.forEachConfirmedOnFlight(999L, booking -> unknown.add(booking.getId()));
+
+        assertThat(manifest).containsExactly(first.getId(), fourth.getId());
+        assertThat(unknown).isEmpty();
+    }
+}
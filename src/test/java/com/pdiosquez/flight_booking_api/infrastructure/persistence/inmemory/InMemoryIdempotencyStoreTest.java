@@ -0,0 +1,95 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("In-Memory Idempotency Store Tests")
+class InMemoryIdempotencyStoreTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private InMemoryIdempotencyStore store;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(
+                new IdempotencyProperties("memory", Duration.ofMinutes(10), 3, WAIT, Duration.ofMillis(10)));
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    @Test
+    @DisplayName("claim should let only the first caller own a key")
+    void claim_shouldSucceedOnlyOnce_forTheSameKey() {
+        assertThat(store.claim("key-1", "1:2", now)).isTrue();
+        assertThat(store.claim("key-1", "1:2", now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("awaitResult should block a duplicate until the original request completes")
+    void awaitResult_shouldReturnResult_whenOriginalCompletes() throws Exception {
+        store.claim("key-1", "1:2", now);
+
+        CompletableFuture<Optional<Long>> duplicate =
+                CompletableFuture.supplyAsync(() -> store.awaitResult("key-1", "1:2", now, WAIT));
+        store.complete("key-1", 42L);
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).contains(42L);
+    }
+
+    @Test
+    @DisplayName("release should wake duplicates with no result and free the key")
+    void release_shouldFreeKey_andWakeDuplicates() throws Exception {
+        store.claim("key-1", "1:2", now);
+
+        CompletableFuture<Optional<Long>> duplicate =
+                CompletableFuture.supplyAsync(() -> store.awaitResult("key-1", "1:2", now, WAIT));
+        store.release("key-1");
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(store.claim("key-1", "1:2", now)).isTrue();
+    }
+
+    @Test
+    @DisplayName("awaitResult should reject a key replayed for a different request")
+    void awaitResult_shouldThrowException_whenFingerprintDiffers() {
+        store.claim("key-1", "1:2", now);
+
+        assertThatThrownBy(() -> store.awaitResult("key-1", "1:3", now, WAIT))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("claim should reuse a key once its time to live has passed")
+    void claim_shouldSucceed_whenPreviousKeyExpired() {
+        store.claim("key-1", "1:2", now);
+        store.complete("key-1", 42L);
+
+        assertThat(store.claim("key-1", "1:2", now.plusMinutes(11))).isTrue();
+    }
+
+    @Test
+    @DisplayName("claim should drop the oldest keys when the store is full")
+    void claim_shouldEvictOldestKey_whenStoreIsFull() {
+        store.claim("key-1", "1:2", now);
+        store.claim("key-2", "1:2", now);
+        store.claim("key-3", "1:2", now);
+        store.claim("key-4", "1:2", now);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.awaitResult("key-1", "1:2", now, WAIT)).isEmpty();
+        assertThat(store.claim("key-4", "1:2", now)).isFalse();
+    }
+}
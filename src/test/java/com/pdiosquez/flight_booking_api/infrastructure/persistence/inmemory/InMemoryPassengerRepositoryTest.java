@@ -0,0 +1,40 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("In-Memory Passenger Repository Tests")
+class InMemoryPassengerRepositoryTest {
+
+    private final InMemoryPassengerRepository repository = new InMemoryPassengerRepository();
+
+    @Test
+    @DisplayName("findByEmail should find saved and loaded passengers by their normalized email")
+    void findByEmail_shouldMatchNormalizedEmail() {
+        Passenger saved = repository.save(Passenger.create("John Doe", "John.Doe@Example.com"));
+        repository.load(List.of(Passenger.fromPersistence(50L, "Jane Doe", "jane.doe@example.com")));
+
+        assertThat(repository.findByEmail(" john.doe@EXAMPLE.com")).contains(saved);
+        assertThat(repository.findByEmail("jane.doe@example.com")).map(Passenger::getId).contains(50L);
+        assertThat(repository.findByEmail("nobody@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save should reject a new passenger whose email is taken and keep the existing one")
+    void save_shouldThrowPassengerEmailAlreadyExistsException_whenEmailIsTaken() {
+        Passenger existing = repository.save(Passenger.create("John Doe", "john.doe@example.com"));
+
+        assertThatThrownBy(() -> repository.save(Passenger.create("Johnny Doe", "JOHN.DOE@example.com")))
+                .isInstanceOf(PassengerEmailAlreadyExistsException.class);
+
+        assertThat(repository.findAll()).containsExactly(existing);
+        assertThat(repository.save(existing)).isEqualTo(existing);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("In-Memory Waitlist Repository Tests")
+class InMemoryWaitlistRepositoryTest {
+
+    private static final Long FLIGHT_ID = 467L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final InMemoryWaitlistRepository repository = new InMemoryWaitlistRepository();
+    private final Passenger passenger = Passenger.fromPersistence(101L, "John Doe", "john.doe@example.com");
+
+    @Test
+    @DisplayName("findNextWaiting should follow the promotion order and skip entries that stopped waiting")
+    void findNextWaiting_shouldFollowPromotionOrder() {
+        WaitlistEntry first = repository.save(waiting(0, NOW));
+        WaitlistEntry second = repository.save(waiting(0, NOW.plusMinutes(1)));
+        WaitlistEntry premium = repository.save(waiting(1, NOW.plusMinutes(2)));
+        repository.save(waiting(468L, 5, NOW));
+
+        assertThat(repository.findNextWaiting(FLIGHT_ID)).get().extracting(WaitlistEntry::getId).isEqualTo(premium.getId());
+
+        WaitlistEntry head = repository.findNextWaiting(FLIGHT_ID).orElseThrow();
+        head.withdraw();
+        repository.save(head);
+        assertThat(repository.findNextWaiting(FLIGHT_ID)).get().extracting(WaitlistEntry::getId).isEqualTo(first.getId());
+
+        WaitlistEntry withdrawn = repository.findById(first.getId()).orElseThrow();
+        withdrawn.withdraw();
+        repository.save(withdrawn);
+        assertThat(repository.findNextWaiting(FLIGHT_ID)).get().extracting(WaitlistEntry::getId).isEqualTo(second.getId());
+        assertThat(repository.findNextWaiting(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save should throw an optimistic locking exception when the entry was changed concurrently")
+    void save_shouldThrowOptimisticLockingException_whenEntryIsStale() {
+        WaitlistEntry saved = repository.save(waiting(0, NOW));
+        WaitlistEntry first = repository.findById(saved.getId()).orElseThrow();
+        WaitlistEntry second = repository.findById(saved.getId()).orElseThrow();
+
+        first.withdraw();
+        repository.save(first);
+        second.withdraw();
+
+        assertThatThrownBy(() -> repository.save(second)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(repository.findNextWaiting(FLIGHT_ID)).isEmpty();
+    }
+
+    private WaitlistEntry waiting(int priority, LocalDateTime joinedAt) {
+        return waiting(FLIGHT_ID, priority, joinedAt);
+    }
+
+    private WaitlistEntry waiting(Long flightId, int priority, LocalDateTime joinedAt) {
+        Flight fullFlight = Flight.fromPersistence(flightId, "BUE", "MAD", 1, 1, NOW.plusDays(5));
+        return WaitlistEntry.create(passenger, fullFlight, priority, joinedAt);
+    }
+}
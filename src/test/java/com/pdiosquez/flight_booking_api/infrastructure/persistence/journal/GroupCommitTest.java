@@ -0,0 +1,43 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupCommitTest {
+
+    @Test
+    @DisplayName("A failed force should be counted and the next scheduled force should still run")
+    void failedForce_shouldNotStopLaterForces() throws InterruptedException {
+        Counter failures = new SimpleMeterRegistry().counter("booking.journal.fsync.failures");
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch synced = new CountDownLatch(1);
+        GroupCommit groupCommit = new GroupCommit(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UncheckedIOException(new IOException("Disk is gone."));
+            }
+            synced.countDown();
+        }, failures);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            scheduler.scheduleWithFixedDelay(groupCommit, 0, 1, TimeUnit.MILLISECONDS);
+
+            assertThat(synced.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            scheduler.shutdownNow();
+        }
+        assertThat(failures.count()).isEqualTo(1.0);
+    }
+}
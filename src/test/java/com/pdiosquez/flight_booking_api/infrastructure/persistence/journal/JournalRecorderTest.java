@@ -0,0 +1,225 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldProperties;
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldService;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemorySeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalRecorderTest {
+
+    @TempDir
+    private Path directory;
+
+    private InMemoryPassengerRepository passengers;
+    private InMemoryFlightRepository flights;
+    private InMemoryBookingRepository bookings;
+    private InMemoryWaitlistRepository waitlist;
+    private InMemorySeatHoldRepository seatHolds;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    private JournalRecorder start(FsyncPolicy fsync) {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        passengers = new InMemoryPassengerRepository();
+        flights = new InMemoryFlightRepository(unitOfWork);
+        bookings = new InMemoryBookingRepository(flights, unitOfWork);
+        waitlist = new InMemoryWaitlistRepository();
+        seatHolds = new InMemorySeatHoldRepository(flights);
+
+        return new JournalRecorder(
+                passengers,
+                flights,
+                bookings,
+                waitlist,
+                seatHolds,
+                new JournalProperties(directory, DataSize.ofKilobytes(4), fsync, Duration.ofMillis(10), Duration.ofHours(1)),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("A restart should rebuild the stores with the last state of every aggregate")
+    void restart_shouldReplayJournal() {
+        JournalRecorder recorder = start(FsyncPolicy.PER_WRITE);
+        Passenger passenger = passengers.save(Passenger.create("John Doe", "john.doe@example.com"));
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        flights.reserveSeat(flight.getId(), now);
+        flights.reserveSeat(flight.getId(), now);
+        Booking booking = bookings.save(Booking.create(passenger, flight, now));
+        Booking stored = bookings.findById(booking.getId()).orElseThrow();
+        stored.cancel(now);
+        bookings.save(stored);
+        recorder.stop();
+
+        recorder = start(FsyncPolicy.PER_WRITE);
+
+        assertThat(passengers.findById(passenger.getId())).get()
+                .extracting(Passenger::getEmail)
+                .isEqualTo("john.doe@example.com");
+        assertThat(flights.findById(flight.getId())).get()
+                .extracting(Flight::getOccupiedSeats)
+                .isEqualTo(2);
+        assertThat(bookings.findById(booking.getId())).get()
+                .extracting(Booking::getStatus)
+                .isEqualTo(BookingStatus.CANCELLED);
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("A restart should keep promoted waitlist entries out of the waitlist and waiting ones in order")
+    void restart_shouldReplayWaitlist() {
+        JournalRecorder recorder = start(FsyncPolicy.OS);
+        Passenger first = passengers.save(Passenger.create("John Doe", "john.doe@example.com"));
+        Passenger second = passengers.save(Passenger.create("Jane Roe", "jane.roe@example.com"));
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 1, now.plusDays(5)));
+        flights.reserveSeat(flight.getId(), now);
+        Flight full = flights.findById(flight.getId()).orElseThrow();
+        WaitlistEntry promoted = waitlist.save(WaitlistEntry.create(first, full, 0, now));
+        WaitlistEntry waiting = waitlist.save(WaitlistEntry.create(second, full, 0, now.plusMinutes(1)));
+        recorder.snapshot();
+        WaitlistEntry head = waitlist.findById(promoted.getId()).orElseThrow();
+        head.promote(Flight.fromPersistence(flight.getId(), "BUE", "MAD", 1, 0, now.plusDays(5)), now);
+        waitlist.save(head);
+        recorder.stop();
+
+        recorder = start(FsyncPolicy.OS);
+
+        assertThat(waitlist.findById(promoted.getId())).get()
+                .extracting(WaitlistEntry::getStatus)
+                .isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(waitlist.findNextWaiting(flight.getId())).get()
+                .extracting(WaitlistEntry::getId)
+                .isEqualTo(waiting.getId());
+        assertThat(waitlist.save(WaitlistEntry.create(first, full, 0, now)).getId())
+                .isGreaterThan(waiting.getId());
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("A restart should load the active holds from the snapshot and the journal, and release their seats when they expire")
+    void restart_shouldExpireReplayedHolds() {
+        JournalRecorder recorder = start(FsyncPolicy.OS);
+        Passenger passenger = passengers.save(Passenger.create("John Doe", "john.doe@example.com"));
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 10, now.plusDays(5)));
+        SeatHold snapshotted = seatHoldService().holdSeat(passenger.getId(), flight.getId(), Duration.ofMinutes(10), now);
+        recorder.snapshot();
+        SeatHold journaled = seatHoldService().holdSeat(passenger.getId(), flight.getId(), Duration.ofMinutes(10), now);
+        recorder.stop();
+
+        recorder = start(FsyncPolicy.OS);
+        SeatHoldService seatHoldService = seatHoldService();
+        seatHoldService.scheduleActiveHolds();
+        assertThat(flights.findById(flight.getId())).get().extracting(Flight::getHeldSeats).isEqualTo(2);
+
+        seatHoldService.expireDueHolds(now.plusMinutes(10));
+
+        assertThat(flights.findById(flight.getId())).get().extracting(Flight::getHeldSeats).isEqualTo(0);
+        assertThat(seatHolds.findAllByStatus(SeatHoldStatus.EXPIRED))
+                .extracting(SeatHold::getId)
+                .containsExactlyInAnyOrder(snapshotted.getId(), journaled.getId());
+        assertThat(seatHoldService().holdSeat(passenger.getId(), flight.getId(), Duration.ofMinutes(10), now).getId())
+                .isGreaterThan(journaled.getId());
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("A restart should keep handing out IDs after the replayed ones")
+    void restart_shouldContinueIds() {
+        JournalRecorder recorder = start(FsyncPolicy.GROUP);
+        Flight first = flights.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        recorder.stop();
+
+        recorder = start(FsyncPolicy.OS);
+        Flight second = flights.save(Flight.create("MAD", "BUE", 100, now.plusDays(6)));
+        recorder.stop();
+
+        assertThat(second.getId()).isGreaterThan(first.getId());
+    }
+
+    @Test
+    @DisplayName("A restart after a snapshot should load it, replay only the records after it and drop older segments")
+    void restart_shouldLoadSnapshotAndJournalTail() throws IOException {
+        JournalRecorder recorder = start(FsyncPolicy.OS);
+        Passenger passenger = passengers.save(Passenger.create("John Doe", "john.doe@example.com"));
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 500, now.plusDays(5)));
+        for (int i = 0; i < 200; i++) {
+            flights.reserveSeat(flight.getId(), now);
+        }
+        recorder.snapshot();
+        flights.reserveSeat(flight.getId(), now);
+        Booking booking = bookings.save(Booking.create(passenger, flight, now));
+        recorder.stop();
+
+        assertThat(segmentFiles()).doesNotContain("journal-0000000000000001.log");
+
+        recorder = start(FsyncPolicy.OS);
+
+        assertThat(flights.findById(flight.getId())).get()
+                .extracting(Flight::getOccupiedSeats)
+                .isEqualTo(201);
+        assertThat(bookings.findById(booking.getId())).isPresent();
+        assertThat(bookings.save(Booking.create(passenger, flight, now)).getId()).isGreaterThan(booking.getId());
+        recorder.stop();
+    }
+
+    private SeatHoldService seatHoldService() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new SeatHoldService(
+                seatHolds,
+                passengers,
+                flights,
+                bookings,
+                new AtomicSeatInventory(),
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        meterRegistry
+                ),
+                new SeatHoldProperties(Duration.ofMinutes(30), Duration.ofSeconds(1), 64, Duration.ofMinutes(1)),
+                event -> { },
+                meterRegistry
+        );
+    }
+
+    private List<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemorySeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Startup time of the journal persistence mode, replaying the whole journal against loading a snapshot
+ * plus a short journal tail. The booking volumes can be changed with {@code -Dbenchmark.bookings=1000000,...};
+ * the larger ones need a heap of several gigabytes.
+ * Not part of the regular test run, execute it with {@code ./mvnw test -Pbenchmark}.
+ */
+@DisplayName("Journal Startup Benchmark")
+class JournalStartupBenchmark {
+
+    private static final int FLIGHTS = 1_000;
+    private static final int PASSENGERS = 1_000;
+    private static final int TAIL_BOOKINGS = 10_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @TempDir
+    private Path root;
+
+    @Test
+    @DisplayName("Startup time from the full journal and from a snapshot plus its tail")
+    void measureStartup() throws IOException {
+        List<Integer> volumes = Arrays.stream(System.getProperty("benchmark.bookings", "1000000,10000000").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList();
+
+        System.out.printf("%-12s %-20s %-24s %-16s%n", "bookings", "full journal (ms)", "snapshot + tail (ms)", "snapshot (MB)");
+        for (int volume : volumes) {
+            Path directory = Files.createDirectories(root.resolve(String.valueOf(volume)));
+
+            Stores stores = start(directory);
+            populate(stores, volume);
+            stores.recorder().stop();
+            stores = null;
+
+            long fullJournal = timeStartup(directory, volume);
+
+            stores = start(directory);
+            stores.recorder().snapshot();
+            populate(stores, TAIL_BOOKINGS);
+            stores.recorder().stop();
+            stores = null;
+
+            long snapshotAndTail = timeStartup(directory, volume + TAIL_BOOKINGS);
+            long snapshotBytes = Files.size(directory.resolve("snapshot.bin"));
+
+            System.out.printf("%-12d %-20d %-24d %-16d%n", volume, fullJournal, snapshotAndTail, snapshotBytes >> 20);
+        }
+    }
+
+    private long timeStartup(Path directory, int expectedBookings) {
+        System.gc();
+        long start = System.nanoTime();
+        Stores stores = start(directory);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(stores.bookings().nextId()).isGreaterThan(expectedBookings);
+        stores.recorder().stop();
+        return elapsed;
+    }
+
+    private void populate(Stores stores, int volume) {
+        List<Passenger> passengers = new ArrayList<>();
+        List<Flight> flights = new ArrayList<>();
+        for (int i = 0; i < PASSENGERS; i++) {
+            passengers.add(stores.passengers().save(Passenger.create("Passenger " + i, "passenger" + i + "@example.com")));
+        }
+        for (int i = 0; i < FLIGHTS; i++) {
+            flights.add(stores.flights().save(Flight.create("BUE", "MAD", Integer.MAX_VALUE, NOW.plusDays(30))));
+        }
+        for (int i = 0; i < volume; i++) {
+            stores.bookings().save(Booking.create(passengers.get(i % PASSENGERS), flights.get(i % FLIGHTS), NOW));
+        }
+    }
+
+    private Stores start(Path directory) {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        InMemoryPassengerRepository passengers = new InMemoryPassengerRepository();
+        InMemoryFlightRepository flights = new InMemoryFlightRepository(unitOfWork);
+        InMemoryBookingRepository bookings = new InMemoryBookingRepository(flights, unitOfWork);
+
+        JournalRecorder recorder = new JournalRecorder(
+                passengers,
+                flights,
+                bookings,
+                new InMemoryWaitlistRepository(),
+                new InMemorySeatHoldRepository(flights),
+                new JournalProperties(directory, DataSize.ofMegabytes(64), FsyncPolicy.OS, Duration.ofMillis(10), Duration.ofDays(1)),
+                new SimpleMeterRegistry());
+        return new Stores(passengers, flights, bookings, recorder);
+    }
+
+    private record Stores(InMemoryPassengerRepository passengers,
+                          InMemoryFlightRepository flights,
+                          InMemoryBookingRepository bookings,
+                          JournalRecorder recorder) {}
+}
@@ -0,0 +1,98 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("open should replay the records appended before, in order")
+    void open_shouldReplayAppendedRecords() {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, record -> {})) {
+            journal.append(bytes("first"));
+            journal.append(bytes("second"));
+        }
+
+        assertThat(replay()).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("append should start a new segment when the record does not fit in the current one")
+    void append_shouldRollSegment_whenFull() throws IOException {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, record -> {})) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(bytes("record-%02d-payload".formatted(i)));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+        assertThat(replay()).hasSize(5).last().isEqualTo("record-04-payload");
+    }
+
+    @Test
+    @DisplayName("open should stop at a torn record and append over it")
+    void open_shouldDropTornRecord() throws IOException {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, record -> {})) {
+            journal.append(bytes("kept"));
+            journal.append(bytes("torn"));
+        }
+        corruptLastByteOf("torn", directory.resolve("journal-0000000000000001.log"));
+
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, record -> {})) {
+            journal.append(bytes("after"));
+        }
+
+        assertThat(replay()).containsExactly("kept", "after");
+    }
+
+    @Test
+    @DisplayName("append should reject a record larger than a segment")
+    void append_shouldThrowException_whenRecordTooLarge() {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE, record -> {})) {
+            assertThatThrownBy(() -> journal.append(new byte[SEGMENT_SIZE]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private List<String> replay() {
+        List<String> records = new ArrayList<>();
+        MappedJournal.open(directory, SEGMENT_SIZE, record -> records.add(StandardCharsets.UTF_8.decode(record).toString()))
+                .close();
+        return records;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void corruptLastByteOf(String payload, Path segment) throws IOException {
+        byte[] content = Files.readAllBytes(segment);
+        int offset = new String(content, StandardCharsets.ISO_8859_1).indexOf(payload) + payload.length() - 1;
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), offset);
+        }
+    }
+}
@@ -4,12 +4,14 @@ import com.pdiosquez.flight_booking_api.domain.model.Booking;
 import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
 import com.pdiosquez.flight_booking_api.domain.repository.BookingRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
 import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,7 +37,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
         JpaPassengerRepositoryAdapter.class,
         PassengerMapper.class,
         JpaFlightRepositoryAdapter.class,
-        FlightMapper.class
+        FlightMapper.class,
+        UnitOfWork.class
 })
 class JpaBookingRepositoryAdapterTest {
 
@@ -196,4 +201,101 @@ class JpaBookingRepositoryAdapterTest {
         assertThat(count).isEqualTo(1L);
         assertThat(saved.getId()).isEqualTo(idBefore);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findPage should return matching bookings in ID order starting after the cursor")
+    void findPage_shouldReturnMatchingBookingsAfterCursor() {
+        Passenger other = passengerRepository.save(Passenger.create("Jane Doe", "jane.doe@gmail.com"));
+        Booking first = bookingRepository.save(aBooking(passenger, flight, now));
+        Booking second = bookingRepository.save(aBooking(other, flight, now));
+        Booking third = bookingRepository.save(aBooking(passenger, flight, now));
+        Booking fourth = bookingRepository.save(aBooking(passenger, flight, now));
+
+        fourth.getFlight().reserveSeat(now);
+        fourth.cancel(now);
+        bookingRepository.save(fourth);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        BookingFilter confirmedForPassenger = new BookingFilter(BookingStatus.CONFIRMED, flight.getId(), passenger.getId());
+
+        assertThat(bookingRepository.findPage(confirmedForPassenger, null, 10))
+                .extracting(Booking::getId)
+                .containsExactly(first.getId(), third.getId());
+        assertThat(bookingRepository.findPage(BookingFilter.none(), first.getId(), 2))
+                .extracting(Booking::getId)
+                .containsExactly(second.getId(), third.getId());
+        assertThat(bookingRepository.findPage(new BookingFilter(BookingStatus.CANCELLED, null, null), null, 10))
+                .extracting(Booking::getId)
+                .containsExactly(fourth.getId());
+    }
+
+    @Test
+    @DisplayName("forEachAfter should hand over every booking after the given ID in ID order across persistence context clears")
+    void forEachAfter_shouldVisitBookingsAfterIdInOrder() {
+        int total = JpaBookingRepositoryAdapter.EXPORT_CLEAR_INTERVAL + 3;
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            savedIds.add(bookingRepository.save(aBooking(passenger, flight, now)).getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Booking> exported = new ArrayList<>();
+        bookingRepository.forEachAfter(savedIds.getFirst(), exported::add);
+
+        assertThat(exported).extracting(Booking::getId).containsExactlyElementsOf(savedIds.subList(1, total));
+        assertThat(exported.getLast().getPassenger()).isEqualTo(passenger);
+        assertThat(exported.getLast().getFlight().getId()).isEqualTo(flight.getId());
+    }
+
+    @Test
+    @DisplayName("findByPassengerId should return only the bookings of the passenger, in ID order after the cursor")
+    void findByPassengerId_shouldReturnPassengerBookingsAfterCursor() {
+        Passenger other = passengerRepository.save(Passenger.create("Jane Doe", "jane.doe@gmail.com"));
+        Booking first = bookingRepository.save(aBooking(passenger, flight, now));
+        bookingRepository.save(aBooking(other, flight, now));
+        Booking third = bookingRepository.save(aBooking(passenger, flight, now));
+        Booking fourth = bookingRepository.save(aBooking(passenger, flight, now));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(bookingRepository.findByPassengerId(passenger.getId(), null, 2))
+                .extracting(Booking::getId)
+                .containsExactly(first.getId(), third.getId());
+        assertThat(bookingRepository.findByPassengerId(passenger.getId(), third.getId(), 2))
+                .singleElement()
+                .satisfies(booking -> {
+                    assertThat(booking.getId()).isEqualTo(fourth.getId());
+                    assertThat(booking.getPassenger()).isEqualTo(passenger);
+                    assertThat(booking.getFlight().getId()).isEqualTo(flight.getId());
+                });
+        assertThat(bookingRepository.findByPassengerId(-1L, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("forEachConfirmedOnFlight should hand over only the confirmed bookings of the flight in ID order")
+    void forEachConfirmedOnFlight_shouldVisitConfirmedBookingsOfFlight() {
+        Passenger other = passengerRepository.save(Passenger.create("Jane Doe", "jane.doe@gmail.com"));
+        Booking first = bookingRepository.save(aBooking(passenger, flight, now));
+        Booking cancelled = bookingRepository.save(aBooking(other, flight, now));
+        Booking third = bookingRepository.save(aBooking(other, flight, now));
+
+        cancelled.getFlight().reserveSeat(now);
+        cancelled.cancel(now);
+        bookingRepository.save(cancelled);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Booking> manifest = new ArrayList<>();
+        bookingRepository.forEachConfirmedOnFlight(flight.getId(), manifest::add);
+
+        assertThat(manifest).extracting(Booking::getId).containsExactly(first.getId(), third.getId());
+        assertThat(manifest.getLast().getPassenger()).isEqualTo(other);
+        assertThat(manifest.getLast().getFlight().getId()).isEqualTo(flight.getId());
+    }
+}
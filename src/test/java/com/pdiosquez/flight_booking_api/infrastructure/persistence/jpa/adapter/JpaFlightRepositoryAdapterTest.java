@@ -2,8 +2,11 @@ package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
 
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.FlightEntity;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightSeatsChangedEvent;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,15 +15,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
-@Import({JpaFlightRepositoryAdapter.class, FlightMapper.class})
+@RecordApplicationEvents
+@Import({JpaFlightRepositoryAdapter.class, FlightMapper.class, UnitOfWork.class})
 class JpaFlightRepositoryAdapterTest {
 
     @Autowired
@@ -30,6 +38,9 @@ class JpaFlightRepositoryAdapterTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private ApplicationEvents events;
+
     private Flight flight;
     private LocalDateTime departureTime;
 
@@ -123,4 +134,226 @@ class JpaFlightRepositoryAdapterTest {
 
         assertThat(rehydrated.availableSeats()).isEqualTo(80);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("save should carry the version and increment it when the flight is updated")
+    void save_shouldIncrementVersion_whenFlightIsUpdated() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        Flight loaded = flightRepository.findById(saved.getId()).orElseThrow();
+        loaded.reserveSeat(departureTime.minusDays(1));
+        flightRepository.save(loaded);
+        entityManager.flush();
+        entityManager.clear();
+
+        Flight reloaded = flightRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(loaded.getVersion()).isEqualTo(0L);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+        assertThat(reloaded.getOccupiedSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("save should throw an optimistic locking exception when the flight was modified concurrently")
+    void save_shouldThrowOptimisticLockingFailure_whenFlightCopyIsStale() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        Flight firstCopy = flightRepository.findById(saved.getId()).orElseThrow();
+        Flight staleCopy = flightRepository.findById(saved.getId()).orElseThrow();
+
+        firstCopy.reserveSeat(departureTime.minusDays(1));
+        flightRepository.save(firstCopy);
+        entityManager.flush();
+        entityManager.clear();
+
+        staleCopy.reserveSeat(departureTime.minusDays(1));
+
+        assertThatThrownBy(() -> {
+            flightRepository.save(staleCopy);
+            entityManager.flush();
+        }).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("reserveSeat should take a seat with a single guarded update when the flight has room")
+    void reserveSeat_shouldIncrementOccupiedSeats_whenFlightHasRoom() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        boolean reserved = flightRepository.reserveSeat(saved.getId(), departureTime.minusDays(1));
+        entityManager.clear();
+
+        Flight reloaded = flightRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(reserved).isTrue();
+        assertThat(reloaded.getOccupiedSeats()).isEqualTo(1);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("guarded updates should publish the version each one gives the row")
+    void guardedUpdates_shouldPublishTheResultingVersion() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        flightRepository.holdSeat(saved.getId(), departureTime.minusDays(1));
+        flightRepository.confirmHeldSeat(saved.getId());
+
+        assertThat(events.stream(FlightSeatsChangedEvent.class)).containsExactly(
+                new FlightSeatsChangedEvent(saved.getId(), 0, 1, 1L),
+                new FlightSeatsChangedEvent(saved.getId(), 1, -1, 2L));
+    }
+
+    @Test
+    @DisplayName("reserveSeat should leave the flight untouched when it is full")
+    void reserveSeat_shouldReturnFalse_whenFlightIsFull() {
+        FlightEntity full = FlightEntity.of("BUE", "MAD", 2, 2, departureTime);
+        entityManager.persist(full);
+        entityManager.flush();
+        entityManager.clear();
+
+        boolean reserved = flightRepository.reserveSeat(full.getId(), departureTime.minusDays(1));
+        entityManager.clear();
+
+        assertThat(reserved).isFalse();
+        assertThat(flightRepository.findById(full.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("reserveSeat should leave the flight untouched when it has already departed")
+    void reserveSeat_shouldReturnFalse_whenFlightHasDeparted() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        boolean reserved = flightRepository.reserveSeat(saved.getId(), departureTime.plusMinutes(1));
+
+        assertThat(reserved).isFalse();
+    }
+
+    @Test
+    @DisplayName("reserveSeats should take every seat or none with a single guarded update")
+    void reserveSeats_shouldBeAllOrNothing() {
+        FlightEntity entity = FlightEntity.of("BUE", "MAD", 5, 2, departureTime);
+        entityManager.persist(entity);
+        entityManager.flush();
+        entityManager.clear();
+
+        boolean tooMany = flightRepository.reserveSeats(entity.getId(), 4, departureTime.minusDays(1));
+        boolean exact = flightRepository.reserveSeats(entity.getId(), 3, departureTime.minusDays(1));
+        entityManager.clear();
+
+        assertThat(tooMany).isFalse();
+        assertThat(exact).isTrue();
+        assertThat(flightRepository.findById(entity.getId()).orElseThrow().getOccupiedSeats()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("reserveSeat should return false when the flight does not exist")
+    void reserveSeat_shouldReturnFalse_whenFlightDoesNotExist() {
+        assertThat(flightRepository.reserveSeat(999L, departureTime)).isFalse();
+    }
+
+    @Test
+    @DisplayName("holdSeat should take the last seat so that reserveSeat can no longer use it")
+    void holdSeat_shouldBlockReserveSeat_whenLastSeatIsHeld() {
+        FlightEntity almostFull = FlightEntity.of("BUE", "MAD", 2, 1, departureTime);
+        entityManager.persist(almostFull);
+        entityManager.flush();
+        entityManager.clear();
+
+        boolean held = flightRepository.holdSeat(almostFull.getId(), departureTime.minusDays(1));
+        boolean reserved = flightRepository.reserveSeat(almostFull.getId(), departureTime.minusDays(1));
+        entityManager.clear();
+
+        Flight reloaded = flightRepository.findById(almostFull.getId()).orElseThrow();
+
+        assertThat(held).isTrue();
+        assertThat(reserved).isFalse();
+        assertThat(reloaded.getHeldSeats()).isEqualTo(1);
+        assertThat(reloaded.availableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("confirmHeldSeat should turn a held seat into an occupied one, and releaseHeldSeat should refuse when none is held")
+    void confirmHeldSeat_shouldMoveSeatFromHeldToOccupied() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        entityManager.clear();
+
+        flightRepository.holdSeat(saved.getId(), departureTime.minusDays(1));
+        boolean confirmed = flightRepository.confirmHeldSeat(saved.getId());
+        boolean released = flightRepository.releaseHeldSeat(saved.getId());
+        entityManager.clear();
+
+        Flight reloaded = flightRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(confirmed).isTrue();
+        assertThat(released).isFalse();
+        assertThat(reloaded.getOccupiedSeats()).isEqualTo(1);
+        assertThat(reloaded.getHeldSeats()).isZero();
+        assertThat(reloaded.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("save should persist the seat map so assigned seats survive a reload")
+    void save_shouldPersistSeatMap_whenSeatsAreAssigned() {
+        flight.assignSeats(3, departureTime.minusDays(1));
+        Flight saved = flightRepository.save(flight);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Flight found = flightRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(found.getSeatMap().assignedSeatNumbers()).containsExactly(1, 2, 3);
+        assertThat(found.getSeatMap()).isEqualTo(flight.getSeatMap());
+    }
+
+    @Test
+    @DisplayName("assignSeat should take the lowest free seat on the row a seat counter update just changed")
+    void assignSeat_shouldWriteSeatMap_afterReserveSeatInSameTransaction() {
+        Flight saved = flightRepository.save(flight);
+        entityManager.flush();
+        flightRepository.findById(saved.getId());
+
+        flightRepository.reserveSeat(saved.getId(), departureTime.minusDays(1));
+        int first = flightRepository.assignSeat(saved.getId(), departureTime.minusDays(1));
+        flightRepository.reserveSeat(saved.getId(), departureTime.minusDays(1));
+        int second = flightRepository.assignSeat(saved.getId(), departureTime.minusDays(1));
+        entityManager.clear();
+
+        Flight reloaded = flightRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(reloaded.getOccupiedSeats()).isEqualTo(2);
+        assertThat(reloaded.getSeatMap().assignedSeatNumbers()).containsExactly(1, 2);
+        assertThat(reloaded.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("search should return the flights of the route in the departure window with enough seats, ordered by departure")
+    void search_shouldReturnMatchingFlightsOrderedByDeparture() {
+        Flight later = flightRepository.save(Flight.create("BUE", "MAD", 100, departureTime.plusDays(2)));
+        Flight earlier = flightRepository.save(Flight.create("BUE", "MAD", 100, departureTime.plusDays(1)));
+        Flight full = flightRepository.save(Flight.create("BUE", "MAD", 1, departureTime.plusDays(1)));
+        flightRepository.save(Flight.create("BUE", "FCO", 100, departureTime.plusDays(1)));
+        flightRepository.save(Flight.create("BUE", "MAD", 100, departureTime.plusDays(10)));
+        flightRepository.reserveSeat(full.getId(), departureTime);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Flight> found = flightRepository.search(new FlightSearchCriteria(
+                "BUE", "MAD", departureTime, departureTime.plusDays(3), 1));
+
+        assertThat(found).extracting(Flight::getId).containsExactly(earlier.getId(), later.getId());
+    }
+}
@@ -0,0 +1,111 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.application.idempotency.IdempotencyProperties;
+import com.pdiosquez.flight_booking_api.domain.exception.IdempotencyKeyReusedException;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataIdempotencyKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without the test transaction, since each store call commits on its own like it does in production.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaIdempotencyStoreAdapterTest {
+
+    @Autowired
+    private SpringDataIdempotencyKeyRepository springDataRepository;
+
+    private JpaIdempotencyStoreAdapter store;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaIdempotencyStoreAdapter(
+                springDataRepository,
+                new IdempotencyProperties("jpa", Duration.ofMinutes(10), 100, Duration.ofSeconds(1), Duration.ofMillis(10)));
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        springDataRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("claim should insert the key once and fail for a duplicate")
+    void claim_shouldSucceedOnlyOnce_forTheSameKey() {
+        assertThat(store.claim("key-1", "1:2", now)).isTrue();
+        assertThat(store.claim("key-1", "1:2", now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("awaitResult should return the recorded result of the original request")
+    void awaitResult_shouldReturnResult_whenCompleted() {
+        store.claim("key-1", "1:2", now);
+        store.complete("key-1", 42L);
+
+        assertThat(store.awaitResult("key-1", "1:2", now, Duration.ofMillis(100))).contains(42L);
+    }
+
+    @Test
+    @DisplayName("awaitResult should give up with no result while the original request is still running")
+    void awaitResult_shouldReturnEmpty_whenStillInFlight() {
+        store.claim("key-1", "1:2", now);
+
+        assertThat(store.awaitResult("key-1", "1:2", now, Duration.ofMillis(50))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("awaitResult should reject a key replayed for a different request")
+    void awaitResult_shouldThrowException_whenFingerprintDiffers() {
+        store.claim("key-1", "1:2", now);
+
+        assertThatThrownBy(() -> store.awaitResult("key-1", "9:9", now, Duration.ofMillis(50)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("claim should succeed again after the key was released or has expired")
+    void claim_shouldSucceed_whenKeyWasReleasedOrExpired() {
+        store.claim("key-1", "1:2", now);
+        store.release("key-1");
+        assertThat(store.claim("key-1", "1:2", now)).isTrue();
+
+        store.complete("key-1", 42L);
+        assertThat(store.claim("key-1", "1:2", now.plusMinutes(11))).isTrue();
+    }
+
+    @Test
+    @DisplayName("claim should take over a key whose owner left it without a result past the lease")
+    void claim_shouldTakeOver_whenLeaseExpiredWithoutResult() {
+        store.claim("key-1", "1:2", now);
+
+        assertThat(store.claim("key-1", "1:2", now.plusSeconds(1))).isFalse();
+        assertThat(store.awaitResult("key-1", "1:2", now.plusSeconds(2), Duration.ofMillis(50))).isEmpty();
+        assertThat(store.claim("key-1", "1:2", now.plusSeconds(2))).isTrue();
+        assertThat(store.claim("key-1", "1:2", now.plusSeconds(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("claim should keep a completed key past the lease until it expires")
+    void claim_shouldNotTakeOver_whenKeyHasResult() {
+        store.claim("key-1", "1:2", now);
+        store.complete("key-1", 42L);
+
+        assertThat(store.claim("key-1", "1:2", now.plusMinutes(5))).isFalse();
+        assertThat(store.awaitResult("key-1", "1:2", now.plusMinutes(5), Duration.ofMillis(50))).contains(42L);
+    }
+}
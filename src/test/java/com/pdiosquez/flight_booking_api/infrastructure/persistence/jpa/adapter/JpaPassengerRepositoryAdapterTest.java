@@ -1,5 +1,6 @@
 package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
 
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.PassengerEntity;
 import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.context.annotation.Import;
 
 import java.util.Optional;
@@ -76,4 +78,39 @@ class JpaPassengerRepositoryAdapterTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid email format");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findByEmail should find the passenger whatever the case and surrounding spaces of the email")
+    void findByEmail_shouldMatchNormalizedEmail() {
+        Passenger saved = passengerRepository.save(Passenger.create("John Doe", " John.Doe@Example.com "));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(saved.getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(passengerRepository.findByEmail("JOHN.DOE@example.com"))
+                .map(Passenger::getId)
+                .contains(saved.getId());
+        assertThat(passengerRepository.findByEmail("jane.doe@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save should throw PassengerEmailAlreadyExistsException when the email is taken")
+    void save_shouldThrowPassengerEmailAlreadyExistsException_whenEmailIsTaken() {
+        passengerRepository.save(passenger);
+        entityManager.flush();
+
+        assertThatThrownBy(() -> passengerRepository.save(Passenger.create("Johnny Doe", "john.doe@example.com")))
+                .isInstanceOf(PassengerEmailAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("save should rethrow integrity violations that are not about the email")
+    void save_shouldRethrowOtherIntegrityViolations() {
+        Passenger tooLong = Passenger.create("J".repeat(300), "john.doe@example.com");
+
+        assertThatThrownBy(() -> passengerRepository.save(tooLong))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(PassengerEmailAlreadyExistsException.class);
+    }
+}
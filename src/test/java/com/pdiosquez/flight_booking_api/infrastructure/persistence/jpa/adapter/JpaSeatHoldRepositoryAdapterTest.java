@@ -0,0 +1,120 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.SeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.SeatHoldMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({
+        JpaSeatHoldRepositoryAdapter.class,
+        SeatHoldMapper.class,
+        JpaPassengerRepositoryAdapter.class,
+        PassengerMapper.class,
+        JpaFlightRepositoryAdapter.class,
+        FlightMapper.class,
+        UnitOfWork.class
+})
+class JpaSeatHoldRepositoryAdapterTest {
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @Qualifier("flightAdapter")
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Qualifier("passengerAdapter")
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SeatHold seatHold;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2026, 1, 1, 1, 10);
+        Passenger passenger = passengerRepository.save(Passenger.create("John Doe", "john.doe@gmail.com"));
+        Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        seatHold = SeatHold.create(passenger, flight, now, Duration.ofMinutes(10), new AtomicSeatInventory());
+        flightRepository.save(flight);
+    }
+
+    @Test
+    @DisplayName("save should persist the hold with its deadline and findById should read it back")
+    void save_shouldPersistHold_whenHoldIsValid() {
+        SeatHold saved = seatHoldRepository.save(seatHold);
+        entityManager.flush();
+        entityManager.clear();
+
+        SeatHold found = seatHoldRepository.findById(saved.getId()).orElseThrow();
+
+        assertThat(found.getStatus()).isEqualTo(SeatHoldStatus.HELD);
+        assertThat(found.getExpiresAt()).isEqualTo(now.plusMinutes(10));
+        assertThat(found.getFlight().getId()).isEqualTo(seatHold.getFlight().getId());
+        assertThat(found.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("findAllByStatus should only return holds in the given status")
+    void findAllByStatus_shouldFilterByStatus() {
+        SeatHold saved = seatHoldRepository.save(seatHold);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(seatHoldRepository.findAllByStatus(SeatHoldStatus.HELD))
+                .extracting(SeatHold::getId)
+                .containsExactly(saved.getId());
+        assertThat(seatHoldRepository.findAllByStatus(SeatHoldStatus.EXPIRED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save should throw an optimistic locking exception when the hold was changed concurrently")
+    void save_shouldThrowOptimisticLockingException_whenHoldIsStale() {
+        SeatHold saved = seatHoldRepository.save(seatHold);
+        entityManager.flush();
+        entityManager.clear();
+
+        SeatHold first = seatHoldRepository.findById(saved.getId()).orElseThrow();
+        SeatHold second = seatHoldRepository.findById(saved.getId()).orElseThrow();
+        entityManager.clear();
+
+        first.confirm(now.plusMinutes(1));
+        seatHoldRepository.save(first);
+        entityManager.flush();
+        entityManager.clear();
+
+        second.expire(new AtomicSeatInventory());
+
+        assertThatThrownBy(() -> {
+            seatHoldRepository.save(second);
+            entityManager.flush();
+        }).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
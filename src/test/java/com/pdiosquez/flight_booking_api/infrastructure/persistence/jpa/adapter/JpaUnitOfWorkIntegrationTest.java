@@ -0,0 +1,128 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        JpaBookingRepositoryAdapter.class,
+        BookingMapper.class,
+        JpaPassengerRepositoryAdapter.class,
+        PassengerMapper.class,
+        JpaFlightRepositoryAdapter.class,
+        FlightMapper.class,
+        UnitOfWork.class
+})
+class JpaUnitOfWorkIntegrationTest {
+
+    @Autowired
+    private JpaBookingRepositoryAdapter bookingRepository;
+
+    @Autowired
+    private JpaFlightRepositoryAdapter flightRepository;
+
+    @Autowired
+    private JpaPassengerRepositoryAdapter passengerRepository;
+
+    @Autowired
+    private SpringDataBookingRepository springDataBookingRepository;
+
+    @Autowired
+    private SpringDataFlightRepository springDataFlightRepository;
+
+    @Autowired
+    private SpringDataPassengerRepository springDataPassengerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            springDataBookingRepository.deleteAll();
+            springDataFlightRepository.deleteAll();
+            springDataPassengerRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("commit should persist booking status and released seat of a cancelled booking without an explicit save")
+    void commit_shouldFlushCancellation_whenBookingWasLoadedInTransaction() {
+        Long bookingId = transactionTemplate.execute(status -> {
+            Passenger passenger = passengerRepository.save(Passenger.create("Jane Doe", "jane.uow@example.com"));
+            Flight flight = flightRepository.save(Flight.create("BUE", "MAD", 10, now.plusDays(5)));
+            flightRepository.reserveSeat(flight.getId(), now);
+            return bookingRepository.save(Booking.create(passenger, flight, now)).getId();
+        });
+
+        transactionTemplate.executeWithoutResult(status ->
+                bookingRepository.findById(bookingId).orElseThrow().cancel(now));
+
+        Booking reloaded = transactionTemplate.execute(status ->
+                bookingRepository.findById(bookingId).orElseThrow());
+
+        assertThat(reloaded.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(reloaded.getFlight().getOccupiedSeats()).isZero();
+        assertThat(reloaded.getFlight().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("commit should not write aggregates that were only read")
+    void commit_shouldNotWriteFlight_whenItWasOnlyRead() {
+        Long flightId = transactionTemplate.execute(status ->
+                flightRepository.save(Flight.create("BUE", "MAD", 10, now.plusDays(5))).getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                flightRepository.findById(flightId).orElseThrow());
+
+        Flight reloaded = transactionTemplate.execute(status ->
+                flightRepository.findById(flightId).orElseThrow());
+
+        assertThat(reloaded.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("findById should return the same flight instance within one transaction")
+    void findById_shouldReturnSameInstance_whenLoadedTwiceInTransaction() {
+        Long flightId = transactionTemplate.execute(status ->
+                flightRepository.save(Flight.create("BUE", "MAD", 10, now.plusDays(5))).getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(flightRepository.findById(flightId).orElseThrow())
+                        .isSameAs(flightRepository.findById(flightId).orElseThrow()));
+    }
+}
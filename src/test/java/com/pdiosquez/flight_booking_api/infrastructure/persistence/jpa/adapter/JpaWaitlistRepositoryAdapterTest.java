@@ -0,0 +1,114 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.adapter;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.PassengerRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.WaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.WaitlistEntryMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({
+        JpaWaitlistRepositoryAdapter.class,
+        WaitlistEntryMapper.class,
+        JpaPassengerRepositoryAdapter.class,
+        PassengerMapper.class,
+        JpaFlightRepositoryAdapter.class,
+        FlightMapper.class,
+        UnitOfWork.class
+})
+class JpaWaitlistRepositoryAdapterTest {
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Qualifier("flightAdapter")
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Qualifier("passengerAdapter")
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Passenger passenger;
+    private Flight flight;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2026, 1, 1, 1, 10);
+        passenger = passengerRepository.save(Passenger.create("John Doe", "john.doe@gmail.com"));
+        Long flightId = flightRepository.save(Flight.create("BUE", "MAD", 1, now.plusDays(5))).getId();
+        flight = Flight.fromPersistence(flightId, "BUE", "MAD", 1, 1, now.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("findNextWaiting should return the highest tier first, then the earliest join, ignoring entries no longer waiting")
+    void findNextWaiting_shouldFollowPromotionOrder() {
+        WaitlistEntry early = waitlistRepository.save(WaitlistEntry.create(passenger, flight, 0, now));
+        waitlistRepository.save(WaitlistEntry.create(passenger, flight, 0, now.plusMinutes(1)));
+        WaitlistEntry premium = waitlistRepository.save(WaitlistEntry.create(passenger, flight, 3, now.plusMinutes(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(waitlistRepository.findNextWaiting(flight.getId()))
+                .get().extracting(WaitlistEntry::getId).isEqualTo(premium.getId());
+
+        WaitlistEntry head = waitlistRepository.findById(premium.getId()).orElseThrow();
+        head.withdraw();
+        waitlistRepository.save(head);
+        entityManager.flush();
+        entityManager.clear();
+
+        WaitlistEntry next = waitlistRepository.findNextWaiting(flight.getId()).orElseThrow();
+        assertThat(next.getId()).isEqualTo(early.getId());
+        assertThat(next.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(next.getPassenger().getId()).isEqualTo(passenger.getId());
+        assertThat(waitlistRepository.findNextWaiting(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save should throw an optimistic locking exception when the entry was changed concurrently")
+    void save_shouldThrowOptimisticLockingException_whenEntryIsStale() {
+        WaitlistEntry saved = waitlistRepository.save(WaitlistEntry.create(passenger, flight, 0, now));
+        entityManager.flush();
+        entityManager.clear();
+
+        WaitlistEntry first = waitlistRepository.findById(saved.getId()).orElseThrow();
+        WaitlistEntry second = waitlistRepository.findById(saved.getId()).orElseThrow();
+        entityManager.clear();
+
+        first.withdraw();
+        waitlistRepository.save(first);
+        entityManager.flush();
+        entityManager.clear();
+
+        second.withdraw();
+        assertThatThrownBy(() -> {
+            waitlistRepository.save(second);
+            entityManager.flush();
+        }).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
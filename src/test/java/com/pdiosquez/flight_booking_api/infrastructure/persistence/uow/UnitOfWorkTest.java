@@ -0,0 +1,135 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.uow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Of Work Tests")
+class UnitOfWorkTest {
+
+    private UnitOfWork unitOfWork;
+    private RecordingWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        unitOfWork = new UnitOfWork();
+        writer = new RecordingWriter();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("track should return the instance already tracked for the same ID")
+    void track_shouldReturnTrackedInstance_whenSameIdIsLoadedTwice() {
+        Counter first = new Counter(1L, 0);
+        Counter second = new Counter(1L, 0);
+
+        assertThat(unitOfWork.track(first, writer)).isSameAs(first);
+        assertThat(unitOfWork.track(second, writer)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("commit should write only the aggregates whose state changed, in a single batch")
+    void beforeCommit_shouldWriteOnlyDirtyAggregates() {
+        Counter changed = unitOfWork.track(new Counter(1L, 0), writer);
+        Counter otherChanged = unitOfWork.track(new Counter(2L, 0), writer);
+        unitOfWork.track(new Counter(3L, 0), writer);
+
+        changed.value++;
+        otherChanged.value++;
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        assertThat(writer.batches).hasSize(1);
+        assertThat(writer.batches.getFirst()).containsExactly(changed, otherChanged);
+    }
+
+    @Test
+    @DisplayName("commit should skip aggregates evicted after being persisted another way")
+    void beforeCommit_shouldSkipAggregate_whenEvicted() {
+        Counter counter = unitOfWork.track(new Counter(1L, 0), writer);
+
+        counter.value++;
+        unitOfWork.evict(writer, 1L);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        assertThat(writer.batches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("track should accept a fresh instance after the previous one was evicted")
+    void track_shouldReturnFreshInstance_whenPreviousWasEvicted() {
+        Counter stale = unitOfWork.track(new Counter(1L, 0), writer);
+        Counter fresh = new Counter(1L, 1);
+
+        unitOfWork.evict(writer, 1L);
+
+        assertThat(unitOfWork.track(fresh, writer)).isSameAs(fresh).isNotSameAs(stale);
+    }
+
+    @Test
+    @DisplayName("commit should not write anything for read-only transactions")
+    void beforeCommit_shouldNotWrite_whenTransactionIsReadOnly() {
+        Counter counter = unitOfWork.track(new Counter(1L, 0), writer);
+
+        counter.value++;
+        TransactionSynchronizationUtils.triggerBeforeCommit(true);
+
+        assertThat(writer.batches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("track should not keep anything when no transaction is active")
+    void track_shouldReturnAggregate_whenNoTransactionIsActive() {
+        TransactionSynchronizationManager.clearSynchronization();
+        Counter first = new Counter(1L, 0);
+        Counter second = new Counter(1L, 0);
+
+        assertThat(unitOfWork.track(first, writer)).isSameAs(first);
+        assertThat(unitOfWork.track(second, writer)).isSameAs(second);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static final class Counter {
+        private final Long id;
+        private int value;
+
+        private Counter(Long id, int value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    private static final class RecordingWriter implements AggregateWriter<Counter> {
+        private final List<List<Counter>> batches = new ArrayList<>();
+
+        @Override
+        public Long idOf(Counter counter) {
+            return counter.id;
+        }
+
+        @Override
+        public Object stateOf(Counter counter) {
+            return counter.value;
+        }
+
+        @Override
+        public void writeAll(List<Counter> counters) {
+            batches.add(counters);
+        }
+    }
+}
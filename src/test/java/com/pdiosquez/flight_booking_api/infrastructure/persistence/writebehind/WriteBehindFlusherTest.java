@@ -0,0 +1,290 @@
+package com.pdiosquez.flight_booking_api.infrastructure.persistence.writebehind;
+
+import com.pdiosquez.flight_booking_api.application.concurrency.BookingRetryProperties;
+import com.pdiosquez.flight_booking_api.application.concurrency.OptimisticLockRetryExecutor;
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldProperties;
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldService;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.inventory.AtomicSeatInventory;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemorySeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.inmemory.InMemoryWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.BookingEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.FlightEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.PassengerEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.SeatHoldEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.entity.WaitlistEntryEntity;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.SeatHoldMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.mapper.WaitlistEntryMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataBookingRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataFlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataPassengerRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataSeatHoldRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.jpa.repository.SpringDataWaitlistRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.persistence.uow.UnitOfWork;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without the test transaction, since every flush commits on its own like it does in production.
+ * The maximum lag is long enough for the background flush never to run during a test.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindFlusherTest {
+
+    @Autowired
+    private SpringDataFlightRepository flightRepository;
+
+    @Autowired
+    private SpringDataBookingRepository bookingRepository;
+
+    @Autowired
+    private SpringDataPassengerRepository passengerRepository;
+
+    @Autowired
+    private SpringDataWaitlistRepository waitlistRepository;
+
+    @Autowired
+    private SpringDataSeatHoldRepository seatHoldRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryPassengerRepository passengers;
+    private InMemoryFlightRepository flights;
+    private InMemoryBookingRepository bookings;
+    private InMemoryWaitlistRepository waitlist;
+    private InMemorySeatHoldRepository seatHolds;
+    private WriteBehindFlusher flusher;
+    private SimpleMeterRegistry meterRegistry;
+    private Passenger passenger;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        PassengerEntity passengerEntity = passengerRepository.save(PassengerEntity.of("John Doe", "john.doe@example.com"));
+        passenger = Passenger.fromPersistence(passengerEntity.getId(), passengerEntity.getName(), passengerEntity.getEmail());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (flusher != null) {
+            flusher.stop();
+        }
+        seatHoldRepository.deleteAllInBatch();
+        waitlistRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        flightRepository.deleteAllInBatch();
+        passengerRepository.deleteAllInBatch();
+    }
+
+    private void start() {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        PassengerMapper passengerMapper = new PassengerMapper();
+        FlightMapper flightMapper = new FlightMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        passengers = new InMemoryPassengerRepository();
+        flights = new InMemoryFlightRepository(unitOfWork);
+        bookings = new InMemoryBookingRepository(flights, unitOfWork);
+        waitlist = new InMemoryWaitlistRepository();
+        seatHolds = new InMemorySeatHoldRepository(flights);
+        flusher = new WriteBehindFlusher(
+                passengers,
+                flights,
+                bookings,
+                waitlist,
+                seatHolds,
+                passengerRepository,
+                flightRepository,
+                bookingRepository,
+                waitlistRepository,
+                seatHoldRepository,
+                passengerMapper,
+                flightMapper,
+                new BookingMapper(passengerMapper, flightMapper),
+                new WaitlistEntryMapper(passengerMapper),
+                new SeatHoldMapper(passengerMapper, flightMapper),
+                new TransactionTemplate(transactionManager),
+                new WriteBehindProperties(Duration.ofHours(1), 100),
+                meterRegistry
+        );
+    }
+
+    private SeatHoldService seatHoldService() {
+        return new SeatHoldService(
+                seatHolds,
+                passengers,
+                flights,
+                bookings,
+                new AtomicSeatInventory(),
+                new OptimisticLockRetryExecutor(
+                        TransactionOperations.withoutTransaction(),
+                        new BookingRetryProperties(3, Duration.ZERO, Duration.ZERO),
+                        meterRegistry
+                ),
+                new SeatHoldProperties(Duration.ofMinutes(30), Duration.ofSeconds(1), 64, Duration.ofMinutes(1)),
+                event -> { },
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("flush should write the latest state of each changed aggregate once, keeping its ID")
+    void flush_shouldCoalesceChanges_andKeepIds() {
+        start();
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        flights.reserveSeat(flight.getId(), now);
+        flights.reserveSeat(flight.getId(), now);
+        flights.reserveSeat(flight.getId(), now);
+        Booking booking = bookings.save(Booking.create(passenger, flight, now));
+
+        assertThat(flusher.backlog()).isEqualTo(2);
+        assertThat(flusher.flush()).isEqualTo(2);
+
+        assertThat(flusher.backlog()).isZero();
+        assertThat(flightRepository.findById(flight.getId()))
+                .get()
+                .extracting(FlightEntity::getOccupiedSeats)
+                .isEqualTo(3);
+        assertThat(bookingRepository.findById(booking.getId())).isPresent();
+        assertThat(meterRegistry.get("booking.writebehind.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("start should load the stored aggregates and hand out IDs after theirs")
+    void start_shouldLoadStoredAggregates() {
+        FlightEntity stored = flightRepository.save(FlightEntity.of("BUE", "MAD", 100, 7, now.plusDays(5)));
+
+        start();
+
+        assertThat(flights.findById(stored.getId()))
+                .get()
+                .extracting(Flight::getOccupiedSeats)
+                .isEqualTo(7);
+        assertThat(flights.save(Flight.create("MAD", "BUE", 100, now.plusDays(6))).getId())
+                .isGreaterThan(stored.getId());
+        assertThat(flusher.backlog()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush should write waitlist entries with their status, and start should load them back in promotion order")
+    void flush_shouldPersistWaitlistEntries() {
+        start();
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 1, now.plusDays(5)));
+        flights.reserveSeat(flight.getId(), now);
+        Flight full = flights.findById(flight.getId()).orElseThrow();
+        WaitlistEntry promoted = waitlist.save(WaitlistEntry.create(passenger, full, 1, now));
+        WaitlistEntry waiting = waitlist.save(WaitlistEntry.create(passenger, full, 0, now));
+        WaitlistEntry head = waitlist.findById(promoted.getId()).orElseThrow();
+        head.promote(Flight.fromPersistence(flight.getId(), "BUE", "MAD", 1, 0, now.plusDays(5)), now);
+        waitlist.save(head);
+
+        flusher.stop();
+        assertThat(waitlistRepository.findById(promoted.getId()))
+                .get()
+                .extracting(WaitlistEntryEntity::getStatus)
+                .isEqualTo(WaitlistStatus.PROMOTED);
+
+        start();
+
+        assertThat(waitlist.findNextWaiting(flight.getId()))
+                .get()
+                .extracting(WaitlistEntry::getId)
+                .isEqualTo(waiting.getId());
+    }
+
+    @Test
+    @DisplayName("flush should write the rest of a failed transaction row by row and keep only the failing row pending")
+    void flush_shouldIsolateFailingRows() {
+        start();
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        Booking booking = bookings.save(Booking.create(passenger, flight, now));
+        Passenger unknown = Passenger.fromPersistence(passenger.getId() + 1000, "Jane Roe", "jane.roe@example.com");
+        Booking orphan = bookings.save(Booking.create(unknown, flight, now));
+
+        assertThatThrownBy(flusher::flush).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(flightRepository.findById(flight.getId())).isPresent();
+        assertThat(bookingRepository.findById(booking.getId())).isPresent();
+        assertThat(bookingRepository.findById(orphan.getId())).isEmpty();
+        assertThat(flusher.backlog()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.writebehind.failures").counter().count()).isEqualTo(2.0);
+
+        // The orphan can never be written, so stopping fails too; the flusher is already stopped by then.
+        assertThatThrownBy(flusher::stop).isInstanceOf(DataIntegrityViolationException.class);
+        flusher = null;
+    }
+
+    @Test
+    @DisplayName("A hold active at shutdown should be loaded back on restart and release its seat when it expires")
+    void restart_shouldExpireHoldsLoadedFromTheDatabase() {
+        start();
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 10, now.plusDays(5)));
+        SeatHold hold = seatHoldService().holdSeat(passenger.getId(), flight.getId(), Duration.ofMinutes(10), now);
+        flusher.stop();
+
+        start();
+        SeatHoldService seatHoldService = seatHoldService();
+        seatHoldService.scheduleActiveHolds();
+        seatHoldService.expireDueHolds(now);
+        assertThat(flights.findById(flight.getId())).get().extracting(Flight::getHeldSeats).isEqualTo(1);
+
+        seatHoldService.expireDueHolds(now.plusMinutes(10));
+        flusher.flush();
+
+        assertThat(flightRepository.findById(flight.getId()))
+                .get()
+                .extracting(FlightEntity::getHeldSeats)
+                .isEqualTo(0);
+        assertThat(seatHoldRepository.findById(hold.getId()))
+                .get()
+                .extracting(SeatHoldEntity::getStatus)
+                .isEqualTo(SeatHoldStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("stop should write whatever is still pending")
+    void stop_shouldFlushPendingChanges() {
+        start();
+        Flight flight = flights.save(Flight.create("BUE", "MAD", 100, now.plusDays(5)));
+        Booking booking = bookings.save(Booking.create(passenger, flight, now));
+
+        flusher.stop();
+
+        assertThat(bookingRepository.findById(booking.getId()))
+                .get()
+                .extracting(BookingEntity::getStatus)
+                .isEqualTo(BookingStatus.CONFIRMED);
+    }
+}
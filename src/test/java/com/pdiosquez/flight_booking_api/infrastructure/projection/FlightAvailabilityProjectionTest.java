@@ -0,0 +1,115 @@
+package com.pdiosquez.flight_booking_api.infrastructure.projection;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingCancelledEvent;
+import com.pdiosquez.flight_booking_api.application.service.BookingCreatedEvent;
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailability;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Flight Availability Projection Tests")
+class FlightAvailabilityProjectionTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private final FlightRepository flightRepository = mock(FlightRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FlightAvailabilityProjection projection = new FlightAvailabilityProjection(flightRepository, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        projection.shutdown();
+    }
+
+    @Test
+    @DisplayName("load should project the seats left of every stored flight")
+    void load_shouldProjectStoredFlights() throws InterruptedException {
+        when(flightRepository.findAll()).thenReturn(List.of(flight(1L, 4), flight(2L, 10)));
+
+        projection.load();
+        awaitApplied();
+
+        assertThat(projection.find(1L)).contains(new FlightAvailability(1L, "BUE", "MAD", DEPARTURE, 10, 6));
+        assertThat(projection.find(2L)).map(FlightAvailability::seatsLeft).contains(0);
+        assertThat(projection.find(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("booking events should take and give back seats of a projected flight")
+    void bookingEvents_shouldAdjustSeatsLeft() throws InterruptedException {
+        projection.onFlightWritten(new FlightWrittenEvent(flight(1L, 0)));
+
+        projection.onBookingCreated(new BookingCreatedEvent(10L, 1L, DEPARTURE.minusDays(1)));
+        projection.onBookingCreated(new BookingCreatedEvent(11L, 1L, DEPARTURE.minusDays(1)));
+        projection.onBookingCancelled(new BookingCancelledEvent(10L, 1L, DEPARTURE.minusDays(1)));
+        projection.onBookingCreated(new BookingCreatedEvent(12L, 2L, DEPARTURE.minusDays(1)));
+        awaitApplied();
+
+        assertThat(projection.find(1L)).map(FlightAvailability::seatsLeft).contains(9);
+        assertThat(projection.find(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onFlightWritten should not overwrite a flight the view already tracks")
+    void onFlightWritten_shouldKeepProjectedState() throws InterruptedException {
+        projection.onFlightWritten(new FlightWrittenEvent(flight(1L, 0)));
+        projection.onBookingCreated(new BookingCreatedEvent(10L, 1L, DEPARTURE.minusDays(1)));
+        projection.onFlightWritten(new FlightWrittenEvent(flight(1L, 0)));
+        awaitApplied();
+
+        assertThat(projection.find(1L)).map(FlightAvailability::seatsLeft).contains(9);
+    }
+
+    @Test
+    @DisplayName("lag should report the age of the oldest change not applied yet")
+    void lag_shouldGrow_whileChangesArePending() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(flightRepository.findAll()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(flight(1L, 0));
+        });
+
+        projection.load();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        projection.onBookingCreated(new BookingCreatedEvent(10L, 1L, DEPARTURE.minusDays(1)));
+        Thread.sleep(20);
+
+        assertThat(projection.pending()).isEqualTo(2);
+        assertThat(projection.lag()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        assertThat(meterRegistry.get("booking.availability.pending").gauge().value()).isEqualTo(2);
+
+        release.countDown();
+        awaitApplied();
+
+        assertThat(projection.lag()).isEqualTo(Duration.ZERO);
+        assertThat(projection.find(1L)).map(FlightAvailability::seatsLeft).contains(9);
+    }
+
+    private void awaitApplied() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (projection.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(projection.pending()).isZero();
+    }
+
+    private static Flight flight(Long id, int occupied) {
+        return Flight.fromPersistence(id, "BUE", "MAD", 10, occupied, 0, DEPARTURE, 0L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.cache;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightSeatsChangedEvent;
+import com.pdiosquez.flight_booking_api.infrastructure.search.FlightWrittenEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Flight Response Cache Tests")
+class FlightResponseCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FlightResponseCache cache = new FlightResponseCache(
+            new FlightCacheProperties(2, Duration.ofSeconds(30)), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("get should load a flight once and serve it from the cache until it expires")
+    void get_shouldServeCachedResponseUntilTtl() {
+        FlightResponse first = cache.get(1L, NOW, () -> load(1L, 10));
+        FlightResponse second = cache.get(1L, NOW.plusSeconds(30), () -> load(1L, 9));
+        FlightResponse expired = cache.get(1L, NOW.plusSeconds(31), () -> load(1L, 8));
+
+        assertThat(second).isSameAs(first);
+        assertThat(expired.availableSeats()).isEqualTo(8);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("booking.flight.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("booking.flight.cache").tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("get should drop the oldest entry when the cache is full")
+    void get_shouldEvictOldestEntry_whenFull() {
+        cache.get(1L, NOW, () -> load(1L, 10));
+        cache.get(2L, NOW, () -> load(2L, 10));
+        cache.get(3L, NOW, () -> load(3L, 10));
+
+        cache.get(2L, NOW, () -> load(2L, 10));
+        cache.get(1L, NOW, () -> load(1L, 10));
+
+        assertThat(loads).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("booking.flight.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("flight events should invalidate the cached entry")
+    void events_shouldInvalidateEntry() {
+        cache.get(1L, NOW, () -> load(1L, 10));
+        cache.onSeatsChanged(new FlightSeatsChangedEvent(1L, 1, 0, 1L));
+        assertThat(cache.get(1L, NOW, () -> load(1L, 9)).availableSeats()).isEqualTo(9);
+
+        cache.onWritten(new FlightWrittenEvent(Flight.fromPersistence(1L, "BUE", "MAD", 10, 2, NOW.plusDays(1))));
+        assertThat(cache.get(1L, NOW, () -> load(1L, 8)).availableSeats()).isEqualTo(8);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("get should not cache a response loaded while the flight was being invalidated")
+    void get_shouldNotCacheLoad_whenInvalidatedDuringLoad() {
+        FlightResponse raced = cache.get(1L, NOW, () -> {
+            FlightResponse stale = load(1L, 10);
+            cache.invalidate(1L);
+            return stale;
+        });
+
+        assertThat(raced.availableSeats()).isEqualTo(10);
+        assertThat(cache.get(1L, NOW, () -> load(1L, 9)).availableSeats()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("get should cache a response loaded while another flight was being invalidated")
+    void get_shouldCacheLoad_whenOtherFlightIsInvalidatedDuringLoad() {
+        cache.get(2L, NOW, () -> load(2L, 10));
+
+        cache.get(1L, NOW, () -> {
+            FlightResponse loaded = load(1L, 10);
+            cache.invalidate(2L);
+            return loaded;
+        });
+
+        assertThat(cache.get(1L, NOW, () -> load(1L, 9)).availableSeats()).isEqualTo(10);
+        assertThat(loads).hasValue(2);
+    }
+
+    private FlightResponse load(Long flightId, int availableSeats) {
+        loads.incrementAndGet();
+        return new FlightResponse(flightId, "BUE", "MAD", 10, 10 - availableSeats, 0, availableSeats, NOW.plusDays(1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.AsyncBookingService;
+import com.pdiosquez.flight_booking_api.application.service.BookingAttempt;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingAttemptNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingQueueFullException;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BookingRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.GlobalExceptionHandler;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingAttemptMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AsyncBookingController.class)
+@Import({
+        BookingAttemptMapper.class,
+        BookingMapper.class,
+        PassengerMapper.class,
+        FlightMapper.class,
+        GlobalExceptionHandler.class
+})
+class AsyncBookingControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/bookings";
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AsyncBookingService asyncBookingService;
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/async - returns 202 Accepted with the attempt location")
+    void givenValidPayload_whenSubmit_thenReturns202() throws Exception {
+        BookingAttempt attempt = new BookingAttempt(PASSENGER_ID, FLIGHT_ID, LocalDateTime.now());
+        when(asyncBookingService.submit(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class))).thenReturn(attempt);
+
+        mockMvc.perform(post(BASE_PATH + "/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(PASSENGER_ID, FLIGHT_ID))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", BASE_PATH + "/attempts/" + attempt.getId()))
+                .andExpect(jsonPath("$.attemptId").value(attempt.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/async - returns 503 Service Unavailable when the queue is full")
+    void givenFullQueue_whenSubmit_thenReturns503() throws Exception {
+        when(asyncBookingService.submit(eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class)))
+                .thenThrow(new BookingQueueFullException(10));
+
+        mockMvc.perform(post(BASE_PATH + "/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingRequest(PASSENGER_ID, FLIGHT_ID))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("BOOKING_QUEUE_FULL"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/attempts/{id} - returns 200 OK with the attempt once the poll completes")
+    void givenExistingAttempt_whenPoll_thenReturns200() throws Exception {
+        BookingAttempt attempt = new BookingAttempt(PASSENGER_ID, FLIGHT_ID, LocalDateTime.now());
+        when(asyncBookingService.awaitAttempt(attempt.getId(), Duration.ofSeconds(2)))
+                .thenReturn(CompletableFuture.completedFuture(attempt));
+
+        MvcResult pending = mockMvc.perform(get(BASE_PATH + "/attempts/{id}", attempt.getId())
+                        .param("waitSeconds", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attemptId").value(attempt.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/attempts/{id} - returns 404 Not Found when the attempt does not exist")
+    void givenUnknownAttempt_whenPoll_thenReturns404() throws Exception {
+        when(asyncBookingService.awaitAttempt(eq("missing"), any(Duration.class)))
+                .thenThrow(new BookingAttemptNotFoundException("missing"));
+
+        mockMvc.perform(get(BASE_PATH + "/attempts/{id}", "missing")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("BOOKING_ATTEMPT_NOT_FOUND"));
+    }
+}
@@ -1,15 +1,25 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingResult;
+import com.pdiosquez.flight_booking_api.application.service.BatchBookingService;
+import com.pdiosquez.flight_booking_api.application.service.BookingPage;
 import com.pdiosquez.flight_booking_api.application.service.BookingService;
+import com.pdiosquez.flight_booking_api.application.service.IdempotentBookingService;
 import com.pdiosquez.flight_booking_api.domain.exception.BookingNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.exception.BookingSeatNotAssignedException;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightOverbookedException;
 import com.pdiosquez.flight_booking_api.domain.model.Booking;
 import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.BookingFilter;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BatchBookingRequest;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.BookingRequest;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.error.GlobalExceptionHandler;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BatchBookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.NdjsonWriter;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,33 +27,50 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import tools.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BookingController.class)
 @Import({
         BookingMapper.class,
+        BatchBookingMapper.class,
         PassengerMapper.class,
         FlightMapper.class,
+        NdjsonWriter.class,
         GlobalExceptionHandler.class
 })
+@EnableConfigurationProperties(BookingExportProperties.class)
 class BookingControllerTest {
 
     private static final String BASE_PATH = "/api/v1/bookings";
@@ -61,6 +88,12 @@ class BookingControllerTest {
     @MockitoBean
     private BookingService bookingService;
 
+    @MockitoBean
+    private BatchBookingService batchBookingService;
+
+    @MockitoBean
+    private IdempotentBookingService idempotentBookingService;
+
     private Booking booking;
     private BookingRequest validRequest;
 
@@ -119,6 +152,23 @@ class BookingControllerTest {
         verifyNoMoreInteractions(bookingService);
     }
 
+    @Test
+    @DisplayName("POST /api/v1/bookings - creates the booking through the idempotency key when the header is present")
+    void givenIdempotencyKey_whenCreate_thenUsesIdempotentService() throws Exception {
+        when(idempotentBookingService.createBooking(eq("key-1"), eq(PASSENGER_ID), eq(FLIGHT_ID), any(LocalDateTime.class)))
+                .thenReturn(booking);
+
+        mockMvc.perform(post(BASE_PATH)
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingId").value(BOOKING_ID));
+
+        verifyNoInteractions(bookingService);
+    }
+
     @Test
     @DisplayName("GET /api/v1/bookings/{id} - returns 200 OK with booking data when ID exists")
     void givenValidId_whenFindById_thenReturns200() throws Exception {
@@ -198,4 +248,172 @@ class BookingControllerTest {
         verify(bookingService).cancelBooking(eq(nonExistingId), any(LocalDateTime.class));
         verifyNoMoreInteractions(bookingService);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("DELETE /api/v1/bookings/{id}/seat - returns 204 No Content when the seat is released")
+    void givenSeatedBooking_whenReleaseSeat_thenReturns204() throws Exception {
+        mockMvc.perform(delete(BASE_PATH + "/{id}/seat", BOOKING_ID))
+                .andExpect(status().isNoContent());
+
+        verify(bookingService).releaseSeat(BOOKING_ID);
+        verifyNoMoreInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/bookings/{id}/seat - returns 409 Conflict when the booking has no seat")
+    void givenBookingWithoutSeat_whenReleaseSeat_thenReturns409() throws Exception {
+        doThrow(new BookingSeatNotAssignedException(BOOKING_ID))
+                .when(bookingService).releaseSeat(BOOKING_ID);
+
+        mockMvc.perform(delete(BASE_PATH + "/{id}/seat", BOOKING_ID))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SEAT_NOT_ASSIGNED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/batch - returns 200 OK with one result per item when some items fail")
+    void givenBatch_whenCreateBatch_thenReturnsPerItemResults() throws Exception {
+        when(batchBookingService.createBookings(any(), any(LocalDateTime.class))).thenReturn(List.of(
+                new BatchBookingResult(0, PASSENGER_ID, FLIGHT_ID, booking, null),
+                new BatchBookingResult(1, PASSENGER_ID, FLIGHT_ID, null, new FlightOverbookedException(FLIGHT_ID))
+        ));
+
+        BatchBookingRequest request = new BatchBookingRequest(List.of(validRequest, validRequest));
+
+        mockMvc.perform(post(BASE_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].booking.bookingId").value(BOOKING_ID))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].error.code").value("FLIGHT_OVERBOOKED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/batch - returns 400 Bad Request when the batch is empty")
+    void givenEmptyBatch_whenCreateBatch_thenReturns400() throws Exception {
+        mockMvc.perform(post(BASE_PATH + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchBookingRequest(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST_VALIDATION_ERROR"));
+
+        verifyNoInteractions(batchBookingService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings - returns 200 OK with one page of filtered bookings and the next cursor")
+    void givenFilters_whenFindAll_thenReturnsPage() throws Exception {
+        BookingFilter filter = new BookingFilter(BookingStatus.CONFIRMED, FLIGHT_ID, null);
+        when(bookingService.findBookings(filter, 10L, 1))
+                .thenReturn(new BookingPage(List.of(booking), BOOKING_ID));
+
+        mockMvc.perform(get(BASE_PATH)
+                        .param("status", "CONFIRMED")
+                        .param("flightId", FLIGHT_ID.toString())
+                        .param("after", "10")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[0].bookingId").value(BOOKING_ID))
+                .andExpect(jsonPath("$.bookings.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(BOOKING_ID));
+
+        verify(bookingService).findBookings(filter, 10L, 1);
+        verifyNoMoreInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings - returns 400 Bad Request when the status is unknown")
+    void givenUnknownStatus_whenFindAll_thenReturns400() throws Exception {
+        mockMvc.perform(get(BASE_PATH)
+                        .param("status", "BOARDED")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/export - streams one JSON booking per line starting after the given ID")
+    void givenAfter_whenExport_thenStreamsNdjson() throws Exception {
+        stubExport(5L);
+
+        MvcResult started = mockMvc.perform(get(BASE_PATH + "/export").param("after", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines().toList()).hasSize(2);
+        assertThat(objectMapper.readTree(body.lines().toList().get(1)).get("bookingId").asLong()).isEqualTo(BOOKING_ID);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/export - gzips the stream when the client accepts it")
+    void givenGzipAccepted_whenExport_thenStreamsGzippedNdjson() throws Exception {
+        stubExport(null);
+
+        MvcResult started = mockMvc.perform(get(BASE_PATH + "/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()).hasSize(2);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/export - does not gzip the stream when the client gives gzip a zero q-value")
+    void givenGzipRefused_whenExport_thenStreamsPlainNdjson() throws Exception {
+        stubExport(null);
+
+        MvcResult started = mockMvc.perform(get(BASE_PATH + "/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/export - streams under the export timeout instead of the default async timeout")
+    void whenExport_thenUsesExportTimeout() throws Exception {
+        stubExport(null);
+
+        MvcResult started = mockMvc.perform(get(BASE_PATH + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubExport(Long after) {
+        doAnswer(invocation -> {
+            Consumer<Booking> action = invocation.getArgument(1);
+            action.accept(booking);
+            action.accept(booking);
+            return null;
+        }).when(bookingService).exportBookings(eq(after), any(Consumer.class));
+    }
+}
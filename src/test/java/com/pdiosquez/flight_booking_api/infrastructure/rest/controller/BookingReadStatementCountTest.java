@@ -0,0 +1,118 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
+import com.pdiosquez.flight_booking_api.application.service.FlightService;
+import com.pdiosquez.flight_booking_api.application.service.PassengerService;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each booking read endpoint sends, so a read that starts loading
+ * the passenger or flight of every booking on its own fails the build.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Booking Read Statement Count Tests")
+class BookingReadStatementCountTest {
+
+    private static final int BOOKINGS = 6;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private PassengerService passengerService;
+    @Autowired private FlightService flightService;
+    @Autowired private BookingService bookingService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Passenger passenger;
+    private Flight flight;
+    private List<Booking> bookings;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        LocalDateTime now = LocalDateTime.now();
+        String run = UUID.randomUUID().toString();
+        flight = flightService.create("BUE", "MAD", 100, now.plusDays(5));
+        Flight otherFlight = flightService.create("BUE", "FCO", 100, now.plusDays(5));
+        bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            Passenger booked = passengerService.create("Passenger " + i, "passenger-%d-%s@example.com".formatted(i, run));
+            bookings.add(bookingService.createBooking(booked.getId(), (i % 2 == 0 ? flight : otherFlight).getId(), now));
+            passenger = booked;
+        }
+        bookings.add(bookingService.createBooking(passenger.getId(), flight.getId(), now));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/{id} - loads the booking with its passenger and flight in one statement")
+    void findById_shouldUseOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/v1/bookings/{id}", bookings.getFirst().getId()))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings - loads a page of bookings with their passengers and flights in one statement")
+    void findPage_shouldUseOneStatement() throws Exception {
+        assertThat(statementsFor(get("/api/v1/bookings").param("after", String.valueOf(bookings.getFirst().getId() - 1))))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/passengers/{id}/bookings - checks the passenger and loads its bookings in two statements")
+    void findPassengerBookings_shouldUseTwoStatements() throws Exception {
+        assertThat(statementsFor(get("/api/v1/passengers/{id}/bookings", passenger.getId()))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bookings/export - streams every booking with its passenger and flight in one statement")
+    void export_shouldUseOneStatement() throws Exception {
+        assertThat(streamedStatementsFor(get("/api/v1/bookings/export")
+                .param("after", String.valueOf(bookings.getFirst().getId() - 1)))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/manifest - checks the flight and streams its bookings in at most two statements")
+    void manifest_shouldUseAtMostTwoStatements() throws Exception {
+        assertThat(streamedStatementsFor(get("/api/v1/flights/{id}/manifest", flight.getId()))).isLessThanOrEqualTo(2);
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long streamedStatementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        MvcResult started = mockMvc.perform(request).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
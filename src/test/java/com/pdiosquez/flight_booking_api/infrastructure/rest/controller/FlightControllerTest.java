@@ -1,10 +1,21 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
 import com.pdiosquez.flight_booking_api.application.service.FlightService;
+import com.pdiosquez.flight_booking_api.domain.availability.FlightAvailability;
 import com.pdiosquez.flight_booking_api.domain.exception.FlightNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
 import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.cache.FlightResponseCache;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.FlightRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.response.FlightResponse;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.NdjsonWriter;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,18 +25,30 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(FlightController.class)
-@Import(FlightMapper.class)
+@Import({FlightMapper.class, BookingMapper.class, PassengerMapper.class, NdjsonWriter.class})
 class FlightControllerTest {
 
     private static final String BASE_PATH = "/api/v1/flights";
@@ -34,6 +57,8 @@ class FlightControllerTest {
     @Autowired private ObjectMapper objectMapper;
 
     @MockitoBean private FlightService flightService;
+    @MockitoBean private FlightResponseCache flightCache;
+    @MockitoBean private BookingService bookingService;
 
     private LocalDateTime departureTime;
     private Flight flight;
@@ -41,6 +66,9 @@ class FlightControllerTest {
 
     @BeforeEach
     void setUp() {
+        when(flightCache.get(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<FlightResponse>>getArgument(2).get());
+
         LocalDateTime now = LocalDateTime.now();
         departureTime = now.plusDays(5);
 
@@ -139,4 +167,122 @@ class FlightControllerTest {
 
         verifyNoInteractions(flightService);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/seats - returns 200 OK with the assigned seats and the first free one")
+    void givenAssignedSeats_whenFindSeatMap_thenReturns200() throws Exception {
+        flight.getSeatMap().tryAssign(1, 2);
+        when(flightService.findById(467L)).thenReturn(flight);
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/seats", 467L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flightId").value(467L))
+                .andExpect(jsonPath("$.capacity").value(100))
+                .andExpect(jsonPath("$.assignedSeats[1]").value(2))
+                .andExpect(jsonPath("$.firstFreeSeat").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights - returns 200 OK with the flights of the route in the departure window")
+    void givenRouteAndWindow_whenSearch_thenReturn200() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 3, 31, 23, 59);
+        FlightSearchCriteria criteria = new FlightSearchCriteria("BUE", "MAD", from, to, 2);
+        when(flightService.search(criteria)).thenReturn(List.of(flight));
+
+        mockMvc.perform(get(BASE_PATH)
+                        .param("origin", "BUE")
+                        .param("destination", "MAD")
+                        .param("from", "2026-03-01T00:00:00")
+                        .param("to", "2026-03-31T23:59:00")
+                        .param("minSeats", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(467))
+                .andExpect(jsonPath("$[0].availableSeats").value(1));
+
+        verify(flightService).search(criteria);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights - returns 400 Bad Request when the destination is missing")
+    void givenMissingDestination_whenSearch_thenReturn400() throws Exception {
+        mockMvc.perform(get(BASE_PATH)
+                        .param("origin", "BUE")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(flightService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/availability - returns 200 OK with the seats left and the lag of the read model")
+    void givenProjectedFlight_whenFindAvailability_thenReturn200() throws Exception {
+        when(flightService.findAvailability(467L))
+                .thenReturn(new FlightAvailability(467L, "BUE", "MAD", departureTime, 100, 1));
+        when(flightService.availabilityLag()).thenReturn(Duration.ofMillis(15));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/availability", 467L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flightId").value(467))
+                .andExpect(jsonPath("$.capacity").value(100))
+                .andExpect(jsonPath("$.seatsLeft").value(1))
+                .andExpect(jsonPath("$.lagMillis").value(15));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/availability - returns 404 Not Found when ID does not exist")
+    void givenNonExistingId_whenFindAvailability_thenReturn404() throws Exception {
+        when(flightService.findAvailability(999L))
+                .thenThrow(new FlightNotFoundException(999L));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/availability", 999L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("FLIGHT_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/manifest - streams one JSON line per confirmed booking in booking order")
+    @SuppressWarnings("unchecked")
+    void givenConfirmedBookings_whenFindManifest_thenStreamsNdjson() throws Exception {
+        Passenger john = Passenger.fromPersistence(1L, "John Doe", "john.doe@example.com");
+        Passenger jane = Passenger.fromPersistence(2L, "Jane Roe", "jane.roe@example.com");
+        when(flightService.findById(467L)).thenReturn(flight);
+        doAnswer(invocation -> {
+            Consumer<Booking> action = invocation.getArgument(1);
+            action.accept(Booking.fromPersistence(10L, john, flight, BookingStatus.CONFIRMED, departureTime.minusDays(2)));
+            action.accept(Booking.fromPersistence(12L, jane, flight, BookingStatus.CONFIRMED, departureTime.minusDays(1)));
+            return null;
+        }).when(bookingService).forEachOnManifest(eq(467L), any(Consumer.class));
+
+        MvcResult started = mockMvc.perform(get(BASE_PATH + "/{id}/manifest", 467L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("bookingId").asLong()).isEqualTo(10L);
+        assertThat(objectMapper.readTree(lines.get(1)).get("passenger").get("name").asString()).isEqualTo("Jane Roe");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/flights/{id}/manifest - returns 404 Not Found when ID does not exist")
+    void givenNonExistingId_whenFindManifest_thenReturn404() throws Exception {
+        when(flightService.findById(999L)).thenThrow(new FlightNotFoundException(999L));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/manifest", 999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("FLIGHT_NOT_FOUND"));
+
+        verifyNoInteractions(bookingService);
+    }
+}
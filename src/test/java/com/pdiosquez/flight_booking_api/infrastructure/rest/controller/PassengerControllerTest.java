@@ -1,10 +1,18 @@
 package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
 
 
+import com.pdiosquez.flight_booking_api.application.service.BookingPage;
+import com.pdiosquez.flight_booking_api.application.service.BookingService;
 import com.pdiosquez.flight_booking_api.application.service.PassengerService;
+import com.pdiosquez.flight_booking_api.domain.exception.PassengerEmailAlreadyExistsException;
 import com.pdiosquez.flight_booking_api.domain.exception.PassengerNotFoundException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
 import com.pdiosquez.flight_booking_api.domain.model.Passenger;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.PassengerRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
 import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +26,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -27,7 +38,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(PassengerController.class)
-@Import({PassengerMapper.class})
+@Import({PassengerMapper.class, BookingMapper.class, FlightMapper.class})
 class PassengerControllerTest {
 
     private static final String BASE_PATH = "/api/v1/passengers";
@@ -41,6 +52,9 @@ class PassengerControllerTest {
     @MockitoBean
     private PassengerService passengerService;
 
+    @MockitoBean
+    private BookingService bookingService;
+
     private Passenger passenger;
     private PassengerRequest validRequest;
 
@@ -76,6 +90,22 @@ class PassengerControllerTest {
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"));
     }
 
+    @Test
+    @DisplayName("Given a taken email when create is called then returns 409 Conflict")
+    void givenTakenEmail_whenCreate_thenReturns409() throws Exception {
+
+        when(passengerService.create(
+                eq("John Doe"),
+                eq("john.doe@example.com")
+        )).thenThrow(new PassengerEmailAlreadyExistsException("john.doe@example.com"));
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("PASSENGER_EMAIL_ALREADY_EXISTS"));
+    }
+
     @Test
     @DisplayName("Given existing ID when findById is called then returns 200 OK with passenger data")
     void givenExistingId_whenFindById_thenReturns200() throws Exception {
@@ -127,4 +157,38 @@ class PassengerControllerTest {
         Mockito.verify(passengerService, never())
                 .create(anyString(), anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Given a passenger with bookings when findBookings is called then returns 200 OK with one page and the next cursor")
+    void givenPassengerWithBookings_whenFindBookings_thenReturns200() throws Exception {
+
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        Flight flight = Flight.fromPersistence(467L, "BUE", "MAD", 100, 1, createdAt.plusDays(5));
+        Booking booking = Booking.fromPersistence(23L, passenger, flight, BookingStatus.CONFIRMED, createdAt);
+
+        when(bookingService.findPassengerBookings(1L, 10L, 1))
+                .thenReturn(new BookingPage(List.of(booking), 23L));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/bookings", 1L)
+                        .param("after", "10")
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings[0].bookingId").value(23))
+                .andExpect(jsonPath("$.bookings[0].passenger.id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(23));
+    }
+
+    @Test
+    @DisplayName("Given non existing ID when findBookings is called then returns 404 Not Found")
+    void givenNonExistingId_whenFindBookings_thenReturns404() throws Exception {
+
+        when(bookingService.findPassengerBookings(999L, null, 50))
+                .thenThrow(new PassengerNotFoundException(999L));
+
+        mockMvc.perform(get(BASE_PATH + "/{id}/bookings", 999L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("PASSENGER_NOT_FOUND"));
+    }
+}
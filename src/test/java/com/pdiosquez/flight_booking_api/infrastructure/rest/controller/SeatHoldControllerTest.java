@@ -0,0 +1,139 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.SeatHoldService;
+import com.pdiosquez.flight_booking_api.domain.exception.SeatHoldNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.model.Booking;
+import com.pdiosquez.flight_booking_api.domain.model.BookingStatus;
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHold;
+import com.pdiosquez.flight_booking_api.domain.model.SeatHoldStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.SeatHoldRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.GlobalExceptionHandler;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.BookingMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.FlightMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.SeatHoldMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SeatHoldController.class)
+@Import({
+        SeatHoldMapper.class,
+        BookingMapper.class,
+        PassengerMapper.class,
+        FlightMapper.class,
+        GlobalExceptionHandler.class
+})
+class SeatHoldControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/bookings/holds";
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+    private static final Long HOLD_ID = 7L;
+    private static final Long BOOKING_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private SeatHoldService seatHoldService;
+
+    private Passenger passenger;
+    private Flight flight;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+
+        passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+        flight = Flight.fromPersistence(FLIGHT_ID, "BUE", "MAD", 100, 98, 1, now.plusDays(5), 0L);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/holds - returns 201 Created with the hold and its deadline")
+    void givenValidPayload_whenHold_thenReturns201() throws Exception {
+        SeatHold seatHold = SeatHold.fromPersistence(
+                HOLD_ID, passenger, flight, SeatHoldStatus.HELD, now, now.plusMinutes(10), 0L);
+
+        when(seatHoldService.holdSeat(eq(PASSENGER_ID), eq(FLIGHT_ID), eq(Duration.ofMinutes(10)), any(LocalDateTime.class)))
+                .thenReturn(seatHold);
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(PASSENGER_ID, FLIGHT_ID, 10))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value(HOLD_ID))
+                .andExpect(jsonPath("$.status").value("HELD"))
+                .andExpect(jsonPath("$.expiresAt").exists())
+                .andExpect(jsonPath("$.flight.heldSeats").value(1))
+                .andExpect(jsonPath("$.flight.availableSeats").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/holds - returns 400 Bad Request when the duration is not positive")
+    void givenNonPositiveDuration_whenHold_thenReturns400() throws Exception {
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(PASSENGER_ID, FLIGHT_ID, 0))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST_VALIDATION_ERROR"));
+
+        verifyNoInteractions(seatHoldService);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/holds/{id}/confirm - returns 201 Created with the booking")
+    void givenActiveHold_whenConfirm_thenReturns201() throws Exception {
+        Booking booking = Booking.fromPersistence(BOOKING_ID, passenger, flight, BookingStatus.CONFIRMED, now);
+
+        when(seatHoldService.confirmHold(eq(HOLD_ID), any(LocalDateTime.class))).thenReturn(booking);
+
+        mockMvc.perform(post(BASE_PATH + "/{id}/confirm", HOLD_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingId").value(BOOKING_ID))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bookings/holds/{id}/confirm - returns 409 Conflict when the hold has expired")
+    void givenExpiredHold_whenConfirm_thenReturns409() throws Exception {
+        when(seatHoldService.confirmHold(eq(HOLD_ID), any(LocalDateTime.class)))
+                .thenThrow(new SeatHoldNotActiveException(HOLD_ID, SeatHoldStatus.EXPIRED));
+
+        mockMvc.perform(post(BASE_PATH + "/{id}/confirm", HOLD_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SEAT_HOLD_NOT_ACTIVE"));
+    }
+}
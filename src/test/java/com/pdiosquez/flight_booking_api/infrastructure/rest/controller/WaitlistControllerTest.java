@@ -0,0 +1,101 @@
+package com.pdiosquez.flight_booking_api.infrastructure.rest.controller;
+
+import com.pdiosquez.flight_booking_api.application.service.WaitlistService;
+import com.pdiosquez.flight_booking_api.domain.exception.FlightHasAvailableSeatsException;
+import com.pdiosquez.flight_booking_api.domain.exception.WaitlistEntryNotActiveException;
+import com.pdiosquez.flight_booking_api.domain.model.Passenger;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistEntry;
+import com.pdiosquez.flight_booking_api.domain.model.WaitlistStatus;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.dtos.request.WaitlistRequest;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.error.GlobalExceptionHandler;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.PassengerMapper;
+import com.pdiosquez.flight_booking_api.infrastructure.rest.mapper.WaitlistEntryMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WaitlistController.class)
+@Import({
+        WaitlistEntryMapper.class,
+        PassengerMapper.class,
+        GlobalExceptionHandler.class
+})
+class WaitlistControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/waitlist";
+
+    private static final Long PASSENGER_ID = 101L;
+    private static final Long FLIGHT_ID = 467L;
+    private static final Long ENTRY_ID = 7L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    @Test
+    @DisplayName("POST /api/v1/waitlist - returns 201 Created with the waiting entry")
+    void givenFullFlight_whenJoin_thenReturns201() throws Exception {
+        Passenger passenger = Passenger.fromPersistence(PASSENGER_ID, "John Doe", "john.doe@example.com");
+        WaitlistEntry entry = WaitlistEntry.fromPersistence(
+                ENTRY_ID, passenger, FLIGHT_ID, 2, WaitlistStatus.WAITING, LocalDateTime.of(2026, 1, 1, 10, 0), 0L);
+        when(waitlistService.join(eq(PASSENGER_ID), eq(FLIGHT_ID), eq(2), any(LocalDateTime.class)))
+                .thenReturn(entry);
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WaitlistRequest(PASSENGER_ID, FLIGHT_ID, 2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.entryId").value(ENTRY_ID))
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andExpect(jsonPath("$.priority").value(2))
+                .andExpect(jsonPath("$.flightId").value(FLIGHT_ID))
+                .andExpect(jsonPath("$.passenger.id").value(PASSENGER_ID));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/waitlist - returns 409 Conflict when the flight still has seats")
+    void givenBookableFlight_whenJoin_thenReturns409() throws Exception {
+        when(waitlistService.join(eq(PASSENGER_ID), eq(FLIGHT_ID), eq(0), any(LocalDateTime.class)))
+                .thenThrow(new FlightHasAvailableSeatsException(FLIGHT_ID));
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WaitlistRequest(PASSENGER_ID, FLIGHT_ID, 0))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("FLIGHT_HAS_AVAILABLE_SEATS"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/waitlist/{id} - returns 204 No Content, or 409 Conflict once the entry was promoted")
+    void givenEntry_whenLeave_thenReturns204Or409() throws Exception {
+        mockMvc.perform(delete(BASE_PATH + "/{id}", ENTRY_ID))
+                .andExpect(status().isNoContent());
+
+        doThrow(new WaitlistEntryNotActiveException(ENTRY_ID, WaitlistStatus.PROMOTED))
+                .when(waitlistService).leave(ENTRY_ID);
+
+        mockMvc.perform(delete(BASE_PATH + "/{id}", ENTRY_ID))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("WAITLIST_ENTRY_NOT_ACTIVE"));
+    }
+}
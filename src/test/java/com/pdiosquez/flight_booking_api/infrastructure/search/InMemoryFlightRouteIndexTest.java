@@ -0,0 +1,108 @@
+package com.pdiosquez.flight_booking_api.infrastructure.search;
+
+import com.pdiosquez.flight_booking_api.domain.model.Flight;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightRepository;
+import com.pdiosquez.flight_booking_api.domain.repository.FlightSearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("In-Memory Flight Route Index Tests")
+class InMemoryFlightRouteIndexTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private final FlightRepository flightRepository = mock(FlightRepository.class);
+    private final InMemoryFlightRouteIndex index = new InMemoryFlightRouteIndex(flightRepository);
+
+    @Test
+    @DisplayName("search should return the flights of the route inside the window with enough seats, ordered by departure and ID")
+    void search_shouldReturnMatchingFlightsInDepartureOrder() {
+        index.load(List.of(
+                flight(1L, "MAD", DEPARTURE.plusHours(2), 0, 0L),
+                flight(2L, "MAD", DEPARTURE, 0, 0L),
+                flight(3L, "MAD", DEPARTURE, 0, 0L),
+                flight(4L, "MAD", DEPARTURE.plusHours(1), 10, 0L),
+                flight(5L, "FCO", DEPARTURE, 0, 0L),
+                flight(6L, "MAD", DEPARTURE.plusDays(2), 0, 0L)
+        ));
+
+        List<Flight> found = index.search(new FlightSearchCriteria("BUE", "MAD", DEPARTURE, DEPARTURE.plusDays(1), 1));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(found).extracting(Flight::getId).containsExactly(2L, 3L, 1L);
+        assertThat(index.search(new FlightSearchCriteria("BUE", "LIS", null, null, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("onSeatsChanged should apply the next version of an indexed flight and drop versions it already has")
+    void onSeatsChanged_shouldApplyTheNextVersion() {
+        index.load(List.of(flight(1L, "MAD", DEPARTURE, 8, 0L)));
+        FlightSearchCriteria twoSeats = new FlightSearchCriteria("BUE", "MAD", null, null, 2);
+
+        index.onSeatsChanged(new FlightSeatsChangedEvent(1L, 1, 0, 1L));
+        assertThat(index.search(twoSeats)).isEmpty();
+
+        index.onSeatsChanged(new FlightSeatsChangedEvent(1L, 1, 0, 1L));
+        index.onSeatsChanged(new FlightSeatsChangedEvent(1L, -1, 0, 2L));
+        assertThat(index.search(twoSeats)).extracting(Flight::getVersion).containsExactly(2L);
+        verifyNoInteractions(flightRepository);
+    }
+
+    @Test
+    @DisplayName("onSeatsChanged should read the flight again after a missed version")
+    void onSeatsChanged_shouldReload_whenAVersionWasMissed() {
+        index.load(List.of(flight(1L, "MAD", DEPARTURE, 8, 0L)));
+        when(flightRepository.findById(1L)).thenReturn(Optional.of(flight(1L, "MAD", DEPARTURE, 4, 2L)));
+
+        index.onSeatsChanged(new FlightSeatsChangedEvent(1L, -1, 0, 2L));
+
+        assertThat(index.search(new FlightSearchCriteria("BUE", "MAD", null, null, 0)))
+                .extracting(Flight::availableSeats, Flight::getVersion)
+                .containsExactly(tuple(6, 2L));
+    }
+
+    @Test
+    @DisplayName("onSeatsChanged should read the flight again instead of applying a change that breaks its seat counts")
+    void onSeatsChanged_shouldReload_whenTheChangeDoesNotFit() {
+        index.load(List.of(flight(1L, "MAD", DEPARTURE, 8, 0L)));
+        when(flightRepository.findById(1L)).thenReturn(Optional.of(flight(1L, "MAD", DEPARTURE, 8, 1L)));
+
+        index.onSeatsChanged(new FlightSeatsChangedEvent(1L, 0, -1, 1L));
+
+        verify(flightRepository).findById(1L);
+        assertThat(index.search(new FlightSearchCriteria("BUE", "MAD", null, null, 0)))
+                .extracting(Flight::availableSeats, Flight::getVersion)
+                .containsExactly(tuple(2, 1L));
+    }
+
+    @Test
+    @DisplayName("onWritten should keep the newest version of a flight")
+    void onWritten_shouldIgnoreStaleVersions() {
+        index.onWritten(new FlightWrittenEvent(flight(1L, "MAD", DEPARTURE, 10, 3L)));
+        index.onWritten(new FlightWrittenEvent(flight(1L, "MAD", DEPARTURE, 0, 2L)));
+        index.load(List.of(flight(1L, "MAD", DEPARTURE, 0, 1L)));
+
+        assertThat(index.search(new FlightSearchCriteria("BUE", "MAD", null, null, 1))).isEmpty();
+
+        index.onWritten(new FlightWrittenEvent(flight(1L, "MAD", DEPARTURE, 4, 4L)));
+
+        assertThat(index.search(new FlightSearchCriteria("BUE", "MAD", null, null, 1)))
+                .extracting(Flight::availableSeats)
+                .containsExactly(6);
+    }
+
+    private static Flight flight(Long id, String destination, LocalDateTime departure, int occupied, Long version) {
+        return Flight.fromPersistence(id, "BUE", destination, 10, occupied, 0, departure, version);
+    }
+}